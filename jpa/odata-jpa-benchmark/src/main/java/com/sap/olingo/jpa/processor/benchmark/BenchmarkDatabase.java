@@ -0,0 +1,105 @@
+package com.sap.olingo.jpa.processor.benchmark;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ServiceMetadata;
+
+import com.sap.olingo.jpa.metadata.api.JPAEdmProvider;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
+import com.sap.olingo.jpa.processor.core.api.JPAODataServiceContext;
+import com.sap.olingo.jpa.processor.core.api.JPAODataSessionContextAccess;
+import com.sap.olingo.jpa.processor.core.testmodel.DataSourceHelper;
+import com.sap.olingo.jpa.processor.core.testmodel.TestDataGenerator;
+
+/**
+ * In-memory HSQLDB filled by the Flyway scripts of odata-jpa-test and a synthetic data set created by
+ * {@link TestDataGenerator}, together with the service context of the test model. The database is created once per
+ * JVM, so all benchmarks of a fork share it. The size of the synthetic data set can be changed via the system
+ * properties {@value #SEED}, {@value #PARTNERS}, {@value #DIVISION_LEVELS} and {@value #MAX_CHILDREN}, e.g.
+ * {@code -jvmArgs -Dbenchmark.partners=100000}.
+ */
+public final class BenchmarkDatabase {
+  public static final String PUNIT_NAME = "com.sap.olingo.jpa";
+  public static final String[] ENUM_PACKAGES = { "com.sap.olingo.jpa.processor.core.testmodel" };
+  public static final String SEED = "benchmark.seed";
+  public static final String PARTNERS = "benchmark.partners";
+  public static final String DIVISION_LEVELS = "benchmark.divisionLevels";
+  public static final String MAX_CHILDREN = "benchmark.maxChildren";
+
+  private static BenchmarkDatabase instance;
+
+  private final DataSource dataSource;
+  private final JPAODataSessionContextAccess serviceContext;
+  private final EntityManagerFactory emf;
+  private final JPAEdmProvider edmProvider;
+  private final OData odata;
+  private final ServiceMetadata serviceMetadata;
+
+  public static synchronized BenchmarkDatabase get() throws ODataException {
+    if (instance == null)
+      instance = new BenchmarkDatabase();
+    return instance;
+  }
+
+  private BenchmarkDatabase() throws ODataException {
+    dataSource = DataSourceHelper.createDataSource(DataSourceHelper.DB_HSQLDB);
+    try {
+      TestDataGenerator.with()
+          .setSeed(Long.getLong(SEED, 42L))
+          .setBusinessPartners(Integer.getInteger(PARTNERS, 10_000))
+          .setDivisionLevels(Integer.getInteger(DIVISION_LEVELS, 4))
+          .setMaxChildrenPerDivision(Integer.getInteger(MAX_CHILDREN, 20))
+          .build()
+          .generate(dataSource);
+    } catch (final SQLException e) {
+      throw new IllegalStateException("Generation of benchmark data failed", e);
+    }
+    serviceContext = JPAODataServiceContext.with()
+        .setPUnit(PUNIT_NAME)
+        .setDataSource(dataSource)
+        .setTypePackage(ENUM_PACKAGES)
+        .build();
+    emf = serviceContext.getEntityManagerFactory()
+        .orElseThrow(() -> new IllegalStateException("No entity manager factory created"));
+    edmProvider = serviceContext.getEdmProvider();
+    odata = OData.newInstance();
+    serviceMetadata = odata.createServiceMetadata(edmProvider, edmProvider.getReferences());
+  }
+
+  public DataSource getDataSource() {
+    return dataSource;
+  }
+
+  public JPAODataSessionContextAccess getServiceContext() {
+    return serviceContext;
+  }
+
+  /**
+   * Entity manager factory wrapped by the criteria builder of odata-jpa-processor-cb
+   */
+  public EntityManagerFactory getEntityManagerFactory() {
+    return emf;
+  }
+
+  public JPAEdmProvider getEdmProvider() {
+    return edmProvider;
+  }
+
+  public JPAServiceDocument getServiceDocument() throws ODataException {
+    return edmProvider.getServiceDocument();
+  }
+
+  public OData getOData() {
+    return odata;
+  }
+
+  public ServiceMetadata getServiceMetadata() {
+    return serviceMetadata;
+  }
+}
@@ -0,0 +1,86 @@
+package com.sap.olingo.jpa.processor.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.core.uri.parser.Parser;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContext;
+import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAIllegalAccessException;
+import com.sap.olingo.jpa.processor.core.processor.JPAODataInternalRequestContext;
+import com.sap.olingo.jpa.processor.core.query.JPAExpandItemInfo;
+import com.sap.olingo.jpa.processor.core.query.JPAExpandItemInfoFactory;
+import com.sap.olingo.jpa.processor.core.query.JPAExpandQueryResult;
+import com.sap.olingo.jpa.processor.core.query.JPAExpandSubQuery;
+import com.sap.olingo.jpa.processor.core.query.JPANavigationPropertyInfo;
+
+/**
+ * A parsed OData request together with the request context the queries need. The entity manager is created on
+ * construction and has to be closed via {@link #close()}.
+ */
+public final class BenchmarkRequest implements AutoCloseable {
+  private static final String BASE_URI = "http://localhost:8080/Test/Olingo.svc";
+
+  private final BenchmarkDatabase database;
+  private final EntityManager em;
+  private final UriInfo uriInfo;
+
+  public BenchmarkRequest(final BenchmarkDatabase database, final String path, final String query)
+      throws ODataException {
+    this.database = database;
+    this.uriInfo = new Parser(database.getServiceMetadata().getEdm(), database.getOData())
+        .parseUri(path, query, null, BASE_URI);
+    this.em = database.getEntityManagerFactory().createEntityManager();
+  }
+
+  public UriInfo getUriInfo() {
+    return uriInfo;
+  }
+
+  public EntityManager getEntityManager() {
+    return em;
+  }
+
+  /**
+   * Creates a new request context, as it would be created by the request handler for each request
+   */
+  public JPAODataInternalRequestContext createRequestContext() throws ODataJPAIllegalAccessException {
+    final JPAODataInternalRequestContext requestContext = new JPAODataInternalRequestContext(JPAODataRequestContext
+        .with()
+        .setEntityManager(em)
+        .build(), database.getServiceContext());
+    requestContext.setUriInfo(uriInfo);
+    return requestContext;
+  }
+
+  /**
+   * Reads the $expand levels below the given hops one by one, like the navigation request processor does, but without
+   * key boundaries and watch dogs.
+   */
+  public Map<JPAAssociationPath, JPAExpandResult> readExpand(final JPAODataInternalRequestContext requestContext,
+      final UriInfoResource uriResourceInfo, final List<JPANavigationPropertyInfo> hops) throws ODataException {
+
+    final Map<JPAAssociationPath, JPAExpandResult> results = new HashMap<>();
+    for (final JPAExpandItemInfo item : new JPAExpandItemInfoFactory().buildExpandItemInfo(database
+        .getServiceDocument(), uriResourceInfo, hops)) {
+      final JPAExpandQueryResult result = new JPAExpandSubQuery(database.getOData(), item, requestContext).execute();
+      if (result.getNoResults() > 0)
+        result.putChildren(readExpand(requestContext, item.getUriInfo(), item.getHops()));
+      results.put(item.getExpandAssociation(), result);
+    }
+    return results;
+  }
+
+  @Override
+  public void close() {
+    em.close();
+  }
+}
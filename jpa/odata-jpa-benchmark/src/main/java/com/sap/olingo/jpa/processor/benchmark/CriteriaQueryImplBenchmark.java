@@ -0,0 +1,95 @@
+package com.sap.olingo.jpa.processor.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Selection;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.olingo.jpa.processor.cb.joiner.SqlConvertible;
+import com.sap.olingo.jpa.processor.core.testmodel.AdministrativeDivision;
+
+/**
+ * Creation of a criteria query with the processor criteria builder and its conversion into a SQL statement. The
+ * query has the shape the join query creates for AdministrativeDivisions: a selection, a LEFT JOIN per expand level,
+ * a where condition with literals and an order by.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CriteriaQueryImplBenchmark {
+  private static final String[] ATTRIBUTES = { "codePublisher", "codeID", "divisionCode", "countryCode",
+      "parentCodeID", "parentDivisionCode", "alternativeCode", "area", "population" };
+  private static final String CHILDREN = "children";
+
+  @State(Scope.Benchmark)
+  public static class QueryState {
+    @Param({ "1", "3", "9" })
+    public int selectWidth;
+
+    @Param({ "0", "1", "2" })
+    public int expandDepth;
+
+    private EntityManager em;
+
+    @Setup(Level.Trial)
+    public void createEntityManager() throws ODataException {
+      em = BenchmarkDatabase.get().getEntityManagerFactory().createEntityManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeEntityManager() {
+      em.close();
+    }
+  }
+
+  @Benchmark
+  public StringBuilder asSQL(final QueryState state) {
+    final CriteriaBuilder cb = state.em.getCriteriaBuilder();
+    final CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+    final From<?, ?> root = cq.from(AdministrativeDivision.class);
+    final List<Selection<?>> selections = new ArrayList<>();
+    addSelection(root, "", state.selectWidth, selections);
+
+    From<?, ?> from = root;
+    for (int level = 1; level <= state.expandDepth; level++) {
+      from = from.join(CHILDREN, JoinType.LEFT);
+      addSelection(from, CHILDREN + level + "/", state.selectWidth, selections);
+    }
+    cq.multiselect(selections);
+    cq.where(cb.and(
+        cb.equal(root.get("codePublisher"), "Eurostat"),
+        cb.equal(root.get("codeID"), "NUTS2")));
+    cq.orderBy(cb.asc(root.get("codePublisher")), cb.asc(root.get("codeID")), cb.asc(root.get("divisionCode")));
+    return ((SqlConvertible) cq).asSQL(new StringBuilder());
+  }
+
+  private static void addSelection(final From<?, ?> from, final String prefix, final int width,
+      final List<Selection<?>> selections) {
+    for (int i = 0; i < Math.min(width, ATTRIBUTES.length); i++)
+      selections.add(from.get(ATTRIBUTES[i]).alias(prefix + ATTRIBUTES[i]));
+  }
+}
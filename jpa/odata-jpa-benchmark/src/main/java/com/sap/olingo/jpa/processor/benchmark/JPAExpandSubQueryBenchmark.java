@@ -0,0 +1,53 @@
+package com.sap.olingo.jpa.processor.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
+import com.sap.olingo.jpa.processor.core.processor.JPAODataInternalRequestContext;
+import com.sap.olingo.jpa.processor.core.query.JPAExpandSubQuery;
+import com.sap.olingo.jpa.processor.core.query.JPAJoinQuery;
+import com.sap.olingo.jpa.processor.core.query.JPANavigationPropertyInfo;
+
+/**
+ * Reading of all $expand levels via {@link JPAExpandSubQuery}. The root query is executed once per trial, as the
+ * expand queries need its navigation information.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JPAExpandSubQueryBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class ExpandState extends RequestShape {
+    private JPAODataInternalRequestContext requestContext;
+    private List<JPANavigationPropertyInfo> hops;
+
+    @Override
+    protected void setupState() throws Exception {
+      requestContext = request.createRequestContext();
+      final JPAJoinQuery query = new JPAJoinQuery(database.getOData(), requestContext);
+      query.execute();
+      hops = query.getNavigationInfo();
+    }
+  }
+
+  @Benchmark
+  public Map<JPAAssociationPath, JPAExpandResult> readExpand(final ExpandState state) throws Exception {
+    return state.request.readExpand(state.requestContext, state.request.getUriInfo(), state.hops);
+  }
+}
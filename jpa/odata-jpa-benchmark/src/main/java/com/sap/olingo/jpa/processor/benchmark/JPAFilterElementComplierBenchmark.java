@@ -0,0 +1,104 @@
+package com.sap.olingo.jpa.processor.benchmark;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Expression;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAIllegalAccessException;
+import com.sap.olingo.jpa.processor.core.filter.JPAFilterElementComplier;
+import com.sap.olingo.jpa.processor.core.filter.JPAOperationConverter;
+import com.sap.olingo.jpa.processor.core.processor.JPAODataInternalRequestContext;
+import com.sap.olingo.jpa.processor.core.query.JPAJoinQuery;
+
+/**
+ * Compilation of a $filter expression into a JPA criteria expression. The parent query, which provides the root, is
+ * created once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JPAFilterElementComplierBenchmark {
+
+  public enum FilterShape {
+    SIMPLE("CodeID eq 'NUTS2'"),
+    CONJUNCTION("CodeID eq 'NUTS2' and (Population gt 100000 or Area lt 5000) and CountryCode ne 'DEU'"),
+    FUNCTION("startswith(DivisionCode,'BE') and length(AlternativeCode) gt 2"),
+    NAVIGATION("Parent/CodeID eq 'NUTS1'"),
+    LAMBDA("Children/any(d:d/Population gt 100000)");
+
+    private final String filter;
+
+    FilterShape(final String filter) {
+      this.filter = filter;
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class FilterState {
+    @Param
+    public FilterShape filter;
+
+    private BenchmarkRequest request;
+    private JPAODataInternalRequestContext requestContext;
+    private FilterParentQuery parent;
+
+    @Setup(Level.Trial)
+    public void setupQuery() throws ODataException, ODataJPAIllegalAccessException {
+      request = new BenchmarkRequest(BenchmarkDatabase.get(), RequestShape.ENTITY_SET, "$filter=" + filter.filter);
+      requestContext = request.createRequestContext();
+      parent = new FilterParentQuery(BenchmarkDatabase.get().getOData(), requestContext);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeRequest() {
+      request.close();
+    }
+  }
+
+  @Benchmark
+  public Expression<Boolean> compile(final FilterState state) throws Exception {
+    final BenchmarkDatabase database = BenchmarkDatabase.get();
+    final EntityManager em = state.request.getEntityManager();
+    final UriInfo uriInfo = state.request.getUriInfo();
+    return new JPAFilterElementComplier(database.getOData(), database.getServiceDocument(), em,
+        state.parent.getJpaEntity(), new JPAOperationConverter(em.getCriteriaBuilder(), state.requestContext
+            .getOperationConverter()), uriInfo.getUriResourceParts(), state.parent, uriInfo.getFilterOption()
+                .getExpression(), null, Collections.emptyList())
+        .compile();
+  }
+
+  /**
+   * A join query that only provides its root, like the query a filter is compiled for.
+   */
+  private static class FilterParentQuery extends JPAJoinQuery {
+
+    FilterParentQuery(final OData odata, final JPAODataRequestContextAccess requestContext) throws ODataException {
+      super(odata, requestContext);
+      createFromClauseRoot(cq, new HashMap<>());
+      target = root;
+    }
+  }
+}
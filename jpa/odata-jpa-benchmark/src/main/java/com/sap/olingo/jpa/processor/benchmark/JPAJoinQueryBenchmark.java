@@ -0,0 +1,31 @@
+package com.sap.olingo.jpa.processor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.olingo.jpa.processor.core.query.JPAConvertibleResult;
+import com.sap.olingo.jpa.processor.core.query.JPAJoinQuery;
+
+/**
+ * Creation and execution of the root query: selection planning, criteria query build, SQL execution and grouping of
+ * the result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JPAJoinQueryBenchmark {
+
+  @Benchmark
+  public JPAConvertibleResult execute(final RequestShape state) throws Exception {
+    return new JPAJoinQuery(state.database.getOData(), state.request.createRequestContext()).execute();
+  }
+}
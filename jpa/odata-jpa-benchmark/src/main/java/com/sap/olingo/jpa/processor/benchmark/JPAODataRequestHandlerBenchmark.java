@@ -0,0 +1,33 @@
+package com.sap.olingo.jpa.processor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.olingo.jpa.processor.benchmark.ServletDoubles.CountingOutputStream;
+import com.sap.olingo.jpa.processor.core.api.JPAODataRequestHandler;
+
+/**
+ * Processing of a complete GET request: URI parsing, query execution, conversion and serialization into JSON.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JPAODataRequestHandlerBenchmark {
+
+  @Benchmark
+  public long process(final RequestShape state) throws Exception {
+    final CountingOutputStream body = new CountingOutputStream();
+    new JPAODataRequestHandler(state.database.getServiceContext()).process(
+        ServletDoubles.createGetRequest(state.getPath(), state.getQuery()), ServletDoubles.createResponse(body));
+    return body.getCount();
+  }
+}
@@ -0,0 +1,56 @@
+package com.sap.olingo.jpa.processor.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.olingo.commons.api.data.EntityCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
+import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
+import com.sap.olingo.jpa.processor.core.processor.JPAODataInternalRequestContext;
+import com.sap.olingo.jpa.processor.core.query.JPAConvertibleResult;
+import com.sap.olingo.jpa.processor.core.query.JPAJoinQuery;
+
+/**
+ * Conversion of the tuple result of the root query and its $expand results into OData entities. The converter
+ * releases the rows it has converted, so the queries are executed before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JPATupleChildConverterBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class ConverterState extends RequestShape {
+    private JPAConvertibleResult result;
+    private JPATupleChildConverter converter;
+
+    @Setup(Level.Invocation)
+    public void executeQueries() throws Exception {
+      final JPAODataInternalRequestContext requestContext = request.createRequestContext();
+      final JPAJoinQuery query = new JPAJoinQuery(database.getOData(), requestContext);
+      result = query.execute();
+      result.putChildren(request.readExpand(requestContext, request.getUriInfo(), query.getNavigationInfo()));
+      converter = new JPATupleChildConverter(database.getServiceDocument(), database.getOData().createUriHelper(),
+          database.getServiceMetadata(), requestContext);
+    }
+  }
+
+  @Benchmark
+  public Map<JPAResultKey, EntityCollection> getResult(final ConverterState state) throws Exception {
+    return state.result.asEntityCollection(state.converter);
+  }
+}
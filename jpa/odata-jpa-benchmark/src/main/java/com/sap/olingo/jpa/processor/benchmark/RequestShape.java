@@ -0,0 +1,84 @@
+package com.sap.olingo.jpa.processor.benchmark;
+
+import java.util.Arrays;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Parameters of the benchmarks that execute a request on AdministrativeDivisions:
+ * <ul>
+ * <li><b>rows</b>: Number of root entities requested via $top</li>
+ * <li><b>selectWidth</b>: Number of properties requested via $select. 0 means no $select, so all properties are
+ * returned</li>
+ * <li><b>expandDepth</b>: Number of nested $expand=Children</li>
+ * </ul>
+ * The request is parsed once per trial. Subclasses add the state specific for a benchmark. State that has to be
+ * created once per trial is created in {@link #setupState()}, as JMH does not define the order of trial setups.
+ */
+@State(Scope.Benchmark)
+public class RequestShape {
+  public static final String ENTITY_SET = "AdministrativeDivisions";
+  static final String[] PROPERTIES = { "CodePublisher", "CodeID", "DivisionCode", "CountryCode", "ParentCodeID",
+      "ParentDivisionCode", "AlternativeCode", "Area", "Population" };
+  private static final String EXPAND = "Children";
+
+  @Param({ "10", "100", "1000" })
+  public int rows;
+
+  @Param({ "0", "3", "9" })
+  public int selectWidth;
+
+  @Param({ "0", "1", "2" })
+  public int expandDepth;
+
+  protected BenchmarkDatabase database;
+  protected BenchmarkRequest request;
+
+  @Setup(Level.Trial)
+  public void setupRequest() throws Exception {
+    database = BenchmarkDatabase.get();
+    request = new BenchmarkRequest(database, getPath(), getQuery());
+    setupState();
+  }
+
+  @TearDown(Level.Trial)
+  public void closeRequest() {
+    request.close();
+  }
+
+  /**
+   * Called once per trial after the request has been parsed
+   */
+  protected void setupState() throws Exception {
+    // Nothing to do by default
+  }
+
+  /**
+   * Returns the query options, e.g.
+   * {@code $top=10&$select=CodePublisher,CodeID,DivisionCode&$expand=Children($expand=Children)}
+   */
+  public String getQuery() {
+    final StringBuilder query = new StringBuilder("$top=").append(rows);
+    if (selectWidth > 0)
+      query.append("&$select=").append(String.join(",", Arrays.copyOf(PROPERTIES, Math.min(selectWidth,
+          PROPERTIES.length))));
+    if (expandDepth > 0)
+      query.append("&$expand=").append(buildExpand(expandDepth));
+    return query.toString();
+  }
+
+  public String getPath() {
+    return ENTITY_SET;
+  }
+
+  private String buildExpand(final int depth) {
+    if (depth == 1)
+      return EXPAND;
+    return EXPAND + "($expand=" + buildExpand(depth - 1) + ")";
+  }
+}
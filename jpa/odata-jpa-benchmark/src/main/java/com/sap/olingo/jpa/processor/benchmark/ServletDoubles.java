@@ -0,0 +1,110 @@
+package com.sap.olingo.jpa.processor.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Locale;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Minimal servlet request and response, which provide only what the request handler needs to process a GET request.
+ * The response body is counted, but not kept.
+ */
+final class ServletDoubles {
+  private static final String SERVLET_PATH = "/Olingo.svc";
+  private static final String HOST = "http://localhost:8080";
+
+  private ServletDoubles() {}
+
+  static HttpServletRequest createGetRequest(final String path, final String query) {
+    final String uri = SERVLET_PATH + "/" + path;
+    return (HttpServletRequest) Proxy.newProxyInstance(ServletDoubles.class.getClassLoader(),
+        new Class<?>[] { HttpServletRequest.class }, (proxy, method, args) -> switch (method.getName()) {
+          case "getMethod" -> "GET";
+          case "getProtocol" -> "HTTP/1.1";
+          case "getServletPath" -> SERVLET_PATH;
+          case "getContextPath" -> "";
+          case "getRequestURI" -> uri;
+          case "getRequestURL" -> new StringBuffer(HOST).append(uri);
+          case "getQueryString" -> query;
+          case "getHeaderNames", "getHeaders" -> Collections.emptyEnumeration();
+          case "getLocales" -> Collections.enumeration(Collections.singletonList(Locale.ENGLISH));
+          case "getInputStream" -> new EmptyInputStream();
+          default -> defaultValue(method.getReturnType());
+        });
+  }
+
+  static HttpServletResponse createResponse(final CountingOutputStream body) {
+    return (HttpServletResponse) Proxy.newProxyInstance(ServletDoubles.class.getClassLoader(),
+        new Class<?>[] { HttpServletResponse.class }, (proxy, method, args) -> {
+          if ("getOutputStream".equals(method.getName()))
+            return body;
+          return defaultValue(method.getReturnType());
+        });
+  }
+
+  private static Object defaultValue(final Class<?> type) {
+    if (type == boolean.class)
+      return Boolean.FALSE;
+    if (type == int.class)
+      return 0;
+    if (type == long.class)
+      return 0L;
+    return null;
+  }
+
+  static final class CountingOutputStream extends ServletOutputStream {
+    private long count;
+
+    @Override
+    public void write(final int b) {
+      count++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      count += len;
+    }
+
+    long getCount() {
+      return count;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(final WriteListener writeListener) {
+      // Not needed
+    }
+  }
+
+  private static final class EmptyInputStream extends ServletInputStream {
+    @Override
+    public int read() {
+      return -1;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return true;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setReadListener(final ReadListener readListener) {
+      // Not needed
+    }
+  }
+}
@@ -42,6 +42,7 @@ public class JPAEdmProvider extends CsdlAbstractEdmProvider {
 
   private final JPAEdmNameBuilder nameBuilder;
   private final JPAServiceDocument serviceDocument;
+  private volatile JPAEdmProviderIndex index;
 
   // http://docs.oasis-open.org/odata/odata/v4.0/errata02/os/complete/part3-csdl/odata-v4.0-errata02-os-part3-csdl-complete.html#_Toc406397930
   public JPAEdmProvider(@Nonnull final String namespace, @Nonnull final EntityManagerFactory emf,
@@ -81,13 +82,7 @@ public class JPAEdmProvider extends CsdlAbstractEdmProvider {
    */
   @Override
   public CsdlComplexType getComplexType(final FullQualifiedName complexTypeName) throws ODataException {
-    for (final CsdlSchema schema : serviceDocument.getAllSchemas()) {
-      if (schema.getNamespace().equals(complexTypeName.getNamespace())
-          || (schema.getAlias() != null && schema.getAlias().equals(complexTypeName.getNamespace()))) {
-        return schema.getComplexType(complexTypeName.getName());
-      }
-    }
-    return null;
+    return getIndex().getComplexType(complexTypeName);
   }
 
   /**
@@ -157,13 +152,7 @@ public class JPAEdmProvider extends CsdlAbstractEdmProvider {
    */
   @Override
   public CsdlEntityType getEntityType(final FullQualifiedName entityTypeName) throws ODataException {
-
-    for (final CsdlSchema schema : serviceDocument.getEdmSchemas()) {
-      if (schema.getNamespace().equals(entityTypeName.getNamespace())) {
-        return schema.getEntityType(entityTypeName.getName());
-      }
-    }
-    return null;
+    return getIndex().getEntityType(entityTypeName);
   }
 
   /**
@@ -194,13 +183,7 @@ public class JPAEdmProvider extends CsdlAbstractEdmProvider {
    */
   @Override
   public List<CsdlFunction> getFunctions(final FullQualifiedName functionName) throws ODataException {
-    for (final CsdlSchema schema : serviceDocument.getEdmSchemas()) {
-      if (schema.getNamespace().equals(functionName.getNamespace())) {
-        final List<CsdlFunction> functions = schema.getFunctions(functionName.getName());
-        return functions.isEmpty() ? null : functions;
-      }
-    }
-    return null; // NOSONAR see documentation
+    return getIndex().getFunctions(functionName); // NOSONAR see documentation
   }
 
   /**
@@ -214,12 +197,7 @@ public class JPAEdmProvider extends CsdlAbstractEdmProvider {
    */
   @Override
   public List<CsdlAction> getActions(final FullQualifiedName actionName) throws ODataException {
-    for (final CsdlSchema schema : serviceDocument.getEdmSchemas()) {
-      if (schema.getNamespace().equals(actionName.getNamespace())) {
-        return schema.getActions(actionName.getName());
-      }
-    }
-    return null; // NOSONAR see documentation
+    return getIndex().getActions(actionName); // NOSONAR see documentation
   }
 
   /**
@@ -249,13 +227,7 @@ public class JPAEdmProvider extends CsdlAbstractEdmProvider {
    */
   @Override
   public CsdlEnumType getEnumType(final FullQualifiedName enumTypeNameFQN) throws ODataException {
-
-    for (final CsdlSchema schema : serviceDocument.getEdmSchemas()) {
-      if (schema.getNamespace().equals(enumTypeNameFQN.getNamespace())) {
-        return schema.getEnumType(enumTypeNameFQN.getName());
-      }
-    }
-    return null;
+    return getIndex().getEnumType(enumTypeNameFQN);
   }
 
   /**
@@ -292,12 +264,7 @@ public class JPAEdmProvider extends CsdlAbstractEdmProvider {
    */
   @Override
   public CsdlTypeDefinition getTypeDefinition(final FullQualifiedName typeDefinitionName) throws ODataException {
-    for (final CsdlSchema schema : serviceDocument.getAllSchemas()) {
-      if (schema.getNamespace().equals(typeDefinitionName.getNamespace())) {
-        return schema.getTypeDefinition(typeDefinitionName.getName());
-      }
-    }
-    return null;
+    return getIndex().getTypeDefinition(typeDefinitionName);
   }
 
   /**
@@ -330,4 +297,17 @@ public class JPAEdmProvider extends CsdlAbstractEdmProvider {
   protected final FullQualifiedName buildFQN(final String name) {
     return new FullQualifiedName(nameBuilder.getNamespace(), name);
   }
+
+  /**
+   * The index is created on first use, so errors of the model still surface when Olingo asks for metadata. Concurrent
+   * first calls may create it twice, which is cheaper than locking each lookup.
+   */
+  private JPAEdmProviderIndex getIndex() throws ODataException {
+    JPAEdmProviderIndex result = index;
+    if (result == null) {
+      result = new JPAEdmProviderIndex(serviceDocument.getEdmSchemas(), serviceDocument.getAllSchemas());
+      index = result;
+    }
+    return result;
+  }
 }
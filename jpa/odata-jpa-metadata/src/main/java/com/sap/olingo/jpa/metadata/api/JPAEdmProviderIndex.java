@@ -0,0 +1,129 @@
+package com.sap.olingo.jpa.metadata.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.apache.olingo.commons.api.edm.provider.CsdlAction;
+import org.apache.olingo.commons.api.edm.provider.CsdlComplexType;
+import org.apache.olingo.commons.api.edm.provider.CsdlEntityType;
+import org.apache.olingo.commons.api.edm.provider.CsdlEnumType;
+import org.apache.olingo.commons.api.edm.provider.CsdlFunction;
+import org.apache.olingo.commons.api.edm.provider.CsdlSchema;
+import org.apache.olingo.commons.api.edm.provider.CsdlTypeDefinition;
+
+/**
+ * Immutable index of the schema elements an {@link JPAEdmProvider} is asked for by Olingo. The schemas of a service
+ * do not change after they have been build, so the elements are collected once and afterwards found by their full
+ * qualified name, instead of scanning the schemas and their element lists for each call.
+ * <p>
+ * Entity types, enum types, functions and actions are taken from the schemas of the service. Complex types and type
+ * definitions are also taken from the schemas of the referenced vocabularies, complex types can also be addressed via
+ * the alias of their schema.
+ */
+final class JPAEdmProviderIndex {
+  private final Set<String> edmNamespaces;
+  private final Map<FullQualifiedName, CsdlEntityType> entityTypes;
+  private final Map<FullQualifiedName, CsdlComplexType> complexTypes;
+  private final Map<FullQualifiedName, CsdlEnumType> enumTypes;
+  private final Map<FullQualifiedName, List<CsdlFunction>> functions;
+  private final Map<FullQualifiedName, List<CsdlAction>> actions;
+  private final Map<FullQualifiedName, CsdlTypeDefinition> typeDefinitions;
+
+  JPAEdmProviderIndex(@Nonnull final List<CsdlSchema> edmSchemas, @Nonnull final List<CsdlSchema> allSchemas) {
+    final Set<String> namespaces = new HashSet<>();
+    final Map<FullQualifiedName, CsdlEntityType> entityTypeMap = new HashMap<>();
+    final Map<FullQualifiedName, CsdlEnumType> enumTypeMap = new HashMap<>();
+    final Map<FullQualifiedName, List<CsdlFunction>> functionMap = new HashMap<>();
+    final Map<FullQualifiedName, List<CsdlAction>> actionMap = new HashMap<>();
+    for (final CsdlSchema schema : edmSchemas) {
+      // In case a namespace is used twice, only the first schema is taken into account
+      if (namespaces.add(schema.getNamespace())) {
+        final String namespace = schema.getNamespace();
+        schema.getEntityTypes().forEach(et -> entityTypeMap.put(new FullQualifiedName(namespace, et.getName()), et));
+        schema.getEnumTypes().forEach(et -> enumTypeMap.put(new FullQualifiedName(namespace, et.getName()), et));
+        schema.getFunctions().forEach(f -> functionMap.computeIfAbsent(new FullQualifiedName(namespace, f.getName()),
+            k -> new ArrayList<>()).add(f));
+        schema.getActions().forEach(a -> actionMap.computeIfAbsent(new FullQualifiedName(namespace, a.getName()),
+            k -> new ArrayList<>()).add(a));
+      }
+    }
+    final Map<FullQualifiedName, CsdlComplexType> complexTypeMap = new HashMap<>();
+    final Map<FullQualifiedName, CsdlTypeDefinition> typeDefinitionMap = new HashMap<>();
+    final Set<String> allNamespaces = new HashSet<>();
+    for (final CsdlSchema schema : allSchemas) {
+      if (allNamespaces.add(schema.getNamespace())) {
+        final String namespace = schema.getNamespace();
+        schema.getTypeDefinitions().forEach(td -> typeDefinitionMap.put(new FullQualifiedName(namespace, td
+            .getName()), td));
+        schema.getComplexTypes().forEach(ct -> putComplexType(complexTypeMap, namespace, schema.getAlias(), ct));
+      }
+    }
+    functionMap.replaceAll((name, list) -> Collections.unmodifiableList(list));
+    actionMap.replaceAll((name, list) -> Collections.unmodifiableList(list));
+    this.edmNamespaces = Collections.unmodifiableSet(namespaces);
+    this.entityTypes = Collections.unmodifiableMap(entityTypeMap);
+    this.complexTypes = Collections.unmodifiableMap(complexTypeMap);
+    this.enumTypes = Collections.unmodifiableMap(enumTypeMap);
+    this.functions = Collections.unmodifiableMap(functionMap);
+    this.actions = Collections.unmodifiableMap(actionMap);
+    this.typeDefinitions = Collections.unmodifiableMap(typeDefinitionMap);
+  }
+
+  @CheckForNull
+  CsdlEntityType getEntityType(@Nonnull final FullQualifiedName entityTypeName) {
+    return entityTypes.get(entityTypeName);
+  }
+
+  @CheckForNull
+  CsdlComplexType getComplexType(@Nonnull final FullQualifiedName complexTypeName) {
+    return complexTypes.get(complexTypeName);
+  }
+
+  @CheckForNull
+  CsdlEnumType getEnumType(@Nonnull final FullQualifiedName enumTypeName) {
+    return enumTypes.get(enumTypeName);
+  }
+
+  /**
+   * @param functionName
+   * @return Null if no function with the given name exists
+   */
+  @CheckForNull
+  List<CsdlFunction> getFunctions(@Nonnull final FullQualifiedName functionName) {
+    return functions.get(functionName);
+  }
+
+  /**
+   * @param actionName
+   * @return Null if the namespace is unknown and an empty list if the schema has no action with that name
+   */
+  @CheckForNull
+  List<CsdlAction> getActions(@Nonnull final FullQualifiedName actionName) {
+    final List<CsdlAction> result = actions.get(actionName);
+    if (result == null && edmNamespaces.contains(actionName.getNamespace()))
+      return Collections.emptyList();
+    return result;
+  }
+
+  @CheckForNull
+  CsdlTypeDefinition getTypeDefinition(@Nonnull final FullQualifiedName typeDefinitionName) {
+    return typeDefinitions.get(typeDefinitionName);
+  }
+
+  private static void putComplexType(final Map<FullQualifiedName, CsdlComplexType> complexTypeMap,
+      final String namespace, final String alias, final CsdlComplexType complexType) {
+
+    complexTypeMap.putIfAbsent(new FullQualifiedName(namespace, complexType.getName()), complexType);
+    if (alias != null)
+      complexTypeMap.putIfAbsent(new FullQualifiedName(alias, complexType.getName()), complexType);
+  }
+}
@@ -0,0 +1,144 @@
+package com.sap.olingo.jpa.metadata.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.sap.olingo.jpa.metadata.core.edm.annotation.EdmEnumeration;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataAction;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataFunction;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.impl.JPAMetadataSnapshot;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+
+/**
+ * Annotation processor that records the Java functions, actions and enumerations of the compiled classes in a
+ * {@link JPAMetadataSnapshot}. At runtime the snapshot replaces the classpath scan of the packages given to the
+ * {@link JPAEdmProvider}.
+ * <p>
+ * The processor is not registered as service, so it has to be added to the compiler configuration of the project that
+ * contains the model, e.g. via <code>annotationProcessorPaths</code> and <code>annotationProcessors</code> of the
+ * maven-compiler-plugin. As the snapshot contains only the classes of one compilation, it has to be created by a full
+ * build of the project.
+ * <p>
+ * The snapshot contains a hash of the class file of each recorded class, so it is written after javac has generated
+ * the class files. Other compilers and compilations that do not generate class files do not get a snapshot.
+ */
+@SupportedAnnotationTypes("*")
+public class JPAMetadataSnapshotProcessor extends AbstractProcessor {
+
+  private final Set<String> packages = new HashSet<>();
+  private final List<RecordedType> enumerations = new ArrayList<>();
+  private final List<RecordedType> functions = new ArrayList<>();
+  private final List<RecordedType> actions = new ArrayList<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public synchronized void init(final ProcessingEnvironment processingEnv) {
+    super.init(processingEnv);
+    try {
+      JavacTask.instance(processingEnv).addTaskListener(new TaskListener() {
+        @Override
+        public void finished(final TaskEvent event) {
+          if (event.getKind() == TaskEvent.Kind.COMPILATION && !packages.isEmpty())
+            writeSnapshot();
+        }
+      });
+    } catch (final IllegalArgumentException e) {
+      processingEnv.getMessager().printMessage(Kind.WARNING,
+          "Metadata snapshot can only be created by javac: " + e.getMessage());
+    }
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    if (!roundEnv.processingOver()) {
+      final TypeMirror functionType = getType(ODataFunction.class);
+      final TypeMirror actionType = getType(ODataAction.class);
+      for (final Element element : roundEnv.getRootElements()) {
+        if (element instanceof final TypeElement type)
+          processType(type, functionType, actionType);
+      }
+    }
+    // Other processors shall still see the annotations
+    return false;
+  }
+
+  private void processType(final TypeElement type, final TypeMirror functionType, final TypeMirror actionType) {
+    final RecordedType recorded = new RecordedType(processingEnv.getElementUtils().getPackageOf(type)
+        .getQualifiedName().toString(), processingEnv.getElementUtils().getBinaryName(type).toString());
+    packages.add(recorded.packageName());
+    if (type.getAnnotation(EdmEnumeration.class) != null)
+      enumerations.add(recorded);
+    if (isSubType(type, functionType))
+      functions.add(recorded);
+    if (isSubType(type, actionType))
+      actions.add(recorded);
+    for (final Element enclosed : type.getEnclosedElements()) {
+      if (enclosed instanceof final TypeElement nestedType)
+        processType(nestedType, functionType, actionType);
+    }
+  }
+
+  private boolean isSubType(final TypeElement type, final TypeMirror superType) {
+    final TypeMirror erasure = processingEnv.getTypeUtils().erasure(type.asType());
+    return !processingEnv.getTypeUtils().isSameType(erasure, superType)
+        && processingEnv.getTypeUtils().isAssignable(erasure, superType);
+  }
+
+  private TypeMirror getType(final Class<?> clazz) {
+    return processingEnv.getTypeUtils().erasure(processingEnv.getElementUtils().getTypeElement(clazz
+        .getCanonicalName()).asType());
+  }
+
+  private void writeSnapshot() {
+    try {
+      final JPAMetadataSnapshot snapshot = new JPAMetadataSnapshot(packages, hash(enumerations), hash(functions),
+          hash(actions));
+      final FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+          JPAMetadataSnapshot.RESOURCE_NAME);
+      try (Writer writer = resource.openWriter()) {
+        snapshot.write(writer);
+      }
+    } catch (final IOException e) {
+      processingEnv.getMessager().printMessage(Kind.WARNING, "Metadata snapshot could not be written: " + e
+          .getMessage());
+    }
+  }
+
+  private List<JPAMetadataSnapshot.Type> hash(final List<RecordedType> types) throws IOException {
+    final List<JPAMetadataSnapshot.Type> result = new ArrayList<>(types.size());
+    for (final RecordedType type : types) {
+      final FileObject classFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+          JPAMetadataSnapshot.toClassFileName(type.name()));
+      try (InputStream content = classFile.openInputStream()) {
+        result.add(new JPAMetadataSnapshot.Type(type.packageName(), type.name(), JPAMetadataSnapshot.hash(content
+            .readAllBytes())));
+      }
+    }
+    return result;
+  }
+
+  private record RecordedType(String packageName, String name) {}
+}
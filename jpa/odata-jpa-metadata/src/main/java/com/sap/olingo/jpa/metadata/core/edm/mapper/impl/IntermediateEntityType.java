@@ -59,8 +59,8 @@ final class IntermediateEntityType<T> extends IntermediateStructuredType<T> impl
     IntermediateEntityTypeAccess {
 
   private Optional<JPAPath> etagPath;
-  private Optional<Optional<JPAQueryExtension<EdmQueryExtensionProvider>>> extensionQueryProvider;
-  private List<JPAAttribute> keyAttributes;
+  private volatile Optional<Optional<JPAQueryExtension<EdmQueryExtensionProvider>>> extensionQueryProvider;
+  private volatile List<JPAAttribute> keyAttributes;
   private final boolean asTopLevelOnly;
   private final boolean asEntitySet;
   private final boolean asSingleton;
@@ -207,7 +207,9 @@ final class IntermediateEntityType<T> extends IntermediateStructuredType<T> impl
 
   @Override
   public Optional<JPAQueryExtension<EdmQueryExtensionProvider>> getQueryExtension() throws ODataJPAModelException {
-    return extensionQueryProvider.orElse(determineExtensionQueryProvide());
+    if (extensionQueryProvider.isPresent())
+      return extensionQueryProvider.get();
+    return determineExtensionQueryProvide();
   }
 
   @Override
@@ -400,6 +402,13 @@ final class IntermediateEntityType<T> extends IntermediateStructuredType<T> impl
     return (CsdlEntityType) edmStructuralType;
   }
 
+  @Override
+  void freeze() throws ODataJPAModelException {
+    super.freeze();
+    getKey();
+    getQueryExtension();
+  }
+
   List<MappedSuperclassType<? super T>> getMappedSuperType() {
     return mappedSuperclass;
   }
@@ -470,20 +479,21 @@ final class IntermediateEntityType<T> extends IntermediateStructuredType<T> impl
   @SuppressWarnings("unchecked")
   private Optional<JPAQueryExtension<EdmQueryExtensionProvider>> determineExtensionQueryProvide()
       throws ODataJPAModelException {
-    extensionQueryProvider = Optional.of(Optional.empty());
+    Optional<JPAQueryExtension<EdmQueryExtensionProvider>> queryExtension = Optional.empty();
     final Optional<EdmEntityType> jpaEntityType = getAnnotation(jpaJavaType, EdmEntityType.class);
     if (jpaEntityType.isPresent()) {
       final Class<EdmQueryExtensionProvider> provider = (Class<EdmQueryExtensionProvider>) jpaEntityType
           .get().extensionProvider();
       final Class<?> defaultProvider = EdmQueryExtensionProvider.class;
       if (provider != null && provider != defaultProvider)
-        extensionQueryProvider = Optional.of(Optional.of(new JPAQueryExtensionProvider<>(
-            provider)));
+        queryExtension = Optional.of(new JPAQueryExtensionProvider<>(provider));
     }
     final IntermediateStructuredType<?> baseType = getBaseType();
-    if (!extensionQueryProvider.get().isPresent() && baseType != null)
-      extensionQueryProvider = Optional.ofNullable(((IntermediateEntityType<?>) baseType).getQueryExtension());
-    return extensionQueryProvider.orElseGet(Optional::empty);
+    if (!queryExtension.isPresent() && baseType != null)
+      queryExtension = ((IntermediateEntityType<?>) baseType).getQueryExtension();
+    // Published only once it is complete, as readers do not synchronize
+    extensionQueryProvider = Optional.of(queryExtension);
+    return queryExtension;
   }
 
   private void determineHasEtag() throws ODataJPAModelException {
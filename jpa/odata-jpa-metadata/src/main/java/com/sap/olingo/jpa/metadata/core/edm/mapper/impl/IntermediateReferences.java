@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 
@@ -37,6 +38,11 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.vocabularies.CsdlDocumentRead
 import com.sap.olingo.jpa.metadata.core.edm.mapper.vocabularies.ODataJPAVocabulariesException;
 
 class IntermediateReferences implements IntermediateReferenceList, JPAReferences {
+  /**
+   * Parsed vocabularies by source. They are only read, so they are shared by all services of the JVM and a vocabulary
+   * is parsed only once, even if it is referenced by several services.
+   */
+  private static final Map<String, CsdlDocument> DOCUMENTS = new ConcurrentHashMap<>();
 
   final List<IntermediateReference> references = new ArrayList<>();
   private List<EdmxReference> edmxReferences = new ArrayList<>();
@@ -49,7 +55,12 @@ class IntermediateReferences implements IntermediateReferenceList, JPAReferences
 
     try {
       final URI sourceURI = new URI(uri);
-      final CsdlDocument vocabulary = new CsdlDocumentReader().readFromURI(sourceURI);
+      final String key = sourceURI.toString();
+      CsdlDocument vocabulary = DOCUMENTS.get(key);
+      if (vocabulary == null) {
+        vocabulary = new CsdlDocumentReader().readFromURI(sourceURI);
+        DOCUMENTS.putIfAbsent(key, vocabulary);
+      }
       return createReference(sourceURI, "", vocabulary);
     } catch (final URISyntaxException e) {
       throw new ODataJPAModelException(e);
@@ -71,7 +82,7 @@ class IntermediateReferences implements IntermediateReferenceList, JPAReferences
 
     try {
       final URI sourceURI = new URI(uri);
-      final CsdlDocument vocabulary = new CsdlDocumentReader().readFromResource(path, charset);
+      final CsdlDocument vocabulary = readFromResource(path, charset);
       if (vocabulary == null)
         // Path '%1$s' to read the file containing vocabulary '%2$s' is wrong
         throw new ODataJPAModelException(ANNOTATION_PATH_NOT_FOUND, path, uri);
@@ -170,6 +181,18 @@ class IntermediateReferences implements IntermediateReferenceList, JPAReferences
         .orElseGet(() -> schemas.get(convertAlias(namespace))));
   }
 
+  private static CsdlDocument readFromResource(final String path, final Charset charset) throws IOException,
+      ODataJPAVocabulariesException {
+    final String key = path + "@" + charset.name();
+    CsdlDocument vocabulary = DOCUMENTS.get(key);
+    if (vocabulary == null) {
+      vocabulary = new CsdlDocumentReader().readFromResource(path, charset);
+      if (vocabulary != null)
+        DOCUMENTS.putIfAbsent(key, vocabulary);
+    }
+    return vocabulary;
+  }
+
   private IntermediateReference createReference(final URI sourceURI, final String path, final CsdlDocument vocabulary) {
 
     final IntermediateReference reference = new IntermediateReference(sourceURI, path);
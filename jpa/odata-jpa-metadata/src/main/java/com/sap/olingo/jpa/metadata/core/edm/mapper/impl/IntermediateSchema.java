@@ -49,7 +49,11 @@ final class IntermediateSchema extends IntermediateModelElement {
   private final Map<String, IntermediateEnumerationType> enumTypeListInternalKey;
   private IntermediateEntityContainer container;
   private final Reflections reflections;
-  private CsdlSchema edmSchema;
+  private volatile CsdlSchema edmSchema;
+  // Created by freeze, as post processors may change external names while the schema is build
+  private volatile Map<String, IntermediateComplexType<?>> complexTypeListExternalKey;
+  private volatile Map<String, IntermediateEntityType<?>> entityTypeListExternalKey;
+  private volatile Map<String, IntermediateEnumerationType> enumTypeListExternalKey;
 
   IntermediateSchema(final JPAEdmNameBuilder nameBuilder, final Metamodel jpaMetamodel, final Reflections reflections,
       final IntermediateAnnotationInformation annotationInfo) throws ODataJPAModelException {
@@ -71,6 +75,12 @@ final class IntermediateSchema extends IntermediateModelElement {
   }
 
   public JPAEnumerationAttribute getEnumerationType(final EdmEnumType type) {
+    final Map<String, IntermediateEnumerationType> index = enumTypeListExternalKey;
+    if (index != null) {
+      final IntermediateEnumerationType enumeration = index.get(type.getName());
+      return enumeration != null && enumeration.getExternalFQN().equals(type.getFullQualifiedName())
+          ? enumeration : null;
+    }
     for (final Entry<String, IntermediateEnumerationType> enumeration : this.enumTypeListInternalKey.entrySet()) {
       if (enumeration.getValue().getExternalFQN().equals(type.getFullQualifiedName()))
         return enumeration.getValue();
@@ -79,6 +89,9 @@ final class IntermediateSchema extends IntermediateModelElement {
   }
 
   public IntermediateEnumerationType getEnumerationType(final String externalName) {
+    final Map<String, IntermediateEnumerationType> index = enumTypeListExternalKey;
+    if (index != null)
+      return index.get(externalName);
     for (final Entry<String, IntermediateEnumerationType> enumeration : this.enumTypeListInternalKey.entrySet()) {
       if (enumeration.getValue().getExternalName().equals(externalName))
         return enumeration.getValue();
@@ -89,20 +102,22 @@ final class IntermediateSchema extends IntermediateModelElement {
   @Override
   protected synchronized void lazyBuildEdmItem() throws ODataJPAModelException {
     try {
-      edmSchema = new CsdlSchema();
-      edmSchema.setNamespace(nameBuilder.getNamespace());
-      edmSchema.setEnumTypes(extractEdmModelElements(enumTypeListInternalKey));
-      edmSchema.setComplexTypes(extractEdmModelElements(complexTypeListInternalKey));
-      edmSchema.setEntityTypes(extractEdmModelElements(entityTypeListInternalKey));
-      edmSchema.setFunctions(extractEdmModelElements(functionListInternalKey));
-      edmSchema.setActions(extractEdmModelElements(actionListByKey));
+      // The schema is published only if it could be built completely
+      final CsdlSchema schema = new CsdlSchema();
+      schema.setNamespace(nameBuilder.getNamespace());
+      schema.setEnumTypes(extractEdmModelElements(enumTypeListInternalKey));
+      schema.setComplexTypes(extractEdmModelElements(complexTypeListInternalKey));
+      schema.setEntityTypes(extractEdmModelElements(entityTypeListInternalKey));
+      schema.setFunctions(extractEdmModelElements(functionListInternalKey));
+      schema.setActions(extractEdmModelElements(actionListByKey));
       // edm:Annotations
       // edm:Annotation
       // edm:Term
       // edm:TypeDefinition
       // MUST be the last thing that is done !!!!
       if (container != null)
-        edmSchema.setEntityContainer(container.getEdmItem());
+        schema.setEntityContainer(container.getEdmItem());
+      edmSchema = schema;
     } catch (final ODataJPAModelException e) {
       throw e;
     } catch (final Exception e) {
@@ -128,6 +143,9 @@ final class IntermediateSchema extends IntermediateModelElement {
   }
 
   JPAStructuredType getComplexType(final String externalName) {
+    final Map<String, IntermediateComplexType<?>> index = complexTypeListExternalKey;
+    if (index != null)
+      return index.get(externalName);
     for (final Map.Entry<String, IntermediateComplexType<?>> complexType : complexTypeListInternalKey.entrySet()) {
       if (complexType.getValue().getExternalName().equals(externalName))
         return complexType.getValue();
@@ -150,7 +168,9 @@ final class IntermediateSchema extends IntermediateModelElement {
   }
 
   JPAEntityType getEntityType(final String externalName) {
-
+    final Map<String, IntermediateEntityType<?>> index = entityTypeListExternalKey;
+    if (index != null)
+      return index.get(externalName);
     for (final Entry<String, IntermediateEntityType<?>> et : entityTypeListInternalKey.entrySet()) {
       if (et.getValue().getExternalName().equals(externalName))
         return et.getValue();
@@ -174,6 +194,26 @@ final class IntermediateSchema extends IntermediateModelElement {
     return entityTypes;
   }
 
+  /**
+   * Builds the schema and all lazily created structures of its structured types. Afterwards the types are found by
+   * their external name via a hash lookup.
+   * @throws ODataJPAModelException
+   */
+  void freeze() throws ODataJPAModelException {
+    getEdmItem();
+    for (final IntermediateComplexType<?> complexType : complexTypeListInternalKey.values()) {
+      if (!complexType.ignore())
+        complexType.freeze();
+    }
+    for (final IntermediateEntityType<?> entityType : entityTypeListInternalKey.values()) {
+      if (!entityType.ignore())
+        entityType.freeze();
+    }
+    enumTypeListExternalKey = buildExternalKeyIndex(enumTypeListInternalKey);
+    complexTypeListExternalKey = buildExternalKeyIndex(complexTypeListInternalKey);
+    entityTypeListExternalKey = buildExternalKeyIndex(entityTypeListInternalKey);
+  }
+
   JPAFunction getFunction(final String externalName) {
     for (final Entry<String, IntermediateFunction> func : functionListInternalKey.entrySet()) {
       if (func.getValue().getExternalName().equals(externalName)
@@ -225,6 +265,14 @@ final class IntermediateSchema extends IntermediateModelElement {
     this.container = container;
   }
 
+  private static <T extends IntermediateModelElement> Map<String, T> buildExternalKeyIndex(
+      final Map<String, T> elements) {
+    final Map<String, T> index = new HashMap<>(elements.size() * 2);
+    for (final T element : elements.values())
+      index.putIfAbsent(element.getExternalName(), element);
+    return Collections.unmodifiableMap(index);
+  }
+
   private Map<ODataActionKey, IntermediateJavaAction> buildActionList() throws ODataJPAModelException {
     final HashMap<ODataActionKey, IntermediateJavaAction> actionList = new HashMap<>();
     final IntermediateActionFactory factory = new IntermediateActionFactory();
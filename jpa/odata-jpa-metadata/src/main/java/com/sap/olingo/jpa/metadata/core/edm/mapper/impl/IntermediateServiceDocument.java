@@ -1,6 +1,7 @@
 package com.sap.olingo.jpa.metadata.core.edm.mapper.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -63,8 +64,9 @@ class IntermediateServiceDocument implements JPAServiceDocument {
   private final Map<String, IntermediateSchema> schemaListInternalKey;
   private final JPAEdmMetadataPostProcessor pP;
   private final Reflections reflections;
-  private Map<String, JPAProtectionInfo> claims;
+  private volatile Map<String, JPAProtectionInfo> claims;
   private final IntermediateAnnotationInformation annotationInfo;
+  private volatile boolean frozen;
 
   IntermediateServiceDocument(final String namespace, final Metamodel jpaMetamodel,
       final JPAEdmMetadataPostProcessor postProcessor, final String[] packageName,
@@ -363,13 +365,41 @@ class IntermediateServiceDocument implements JPAServiceDocument {
     return nameBuilder;
   }
 
+  /**
+   * Builds the complete model, which includes all lazily created structures. Afterwards the model is only read, so
+   * that concurrent requests do not need to acquire a lock.
+   * @throws ODataJPAModelException
+   */
+  void freeze() throws ODataJPAModelException {
+    for (final IntermediateSchema schema : schemaListInternalKey.values()) {
+      schema.freeze();
+    }
+    container.getEdmItem();
+    getClaims();
+    frozen = true;
+  }
+
+  /**
+   * @return True if the model has been built completely by {@link #freeze()}
+   */
+  boolean isFrozen() {
+    return frozen;
+  }
+
   private void buildIntermediateSchemas() throws ODataJPAModelException {
     final IntermediateSchema schema = new IntermediateSchema(nameBuilder, jpaMetamodel, reflections, annotationInfo);
     schemaListInternalKey.put(schema.internalName, schema);
   }
 
+  /**
+   * Java functions, actions and enumerations are taken from build time snapshots, if they cover the given packages and
+   * are up to date, otherwise the packages are scanned.
+   */
   private Reflections createReflections(final String... packageName) {
     if (packageName != null && packageName.length > 0) {
+      final Optional<Reflections> snapshot = JPAMetadataSnapshot.load(getClassLoader(), packageName);
+      if (snapshot.isPresent())
+        return snapshot.get();
       final ConfigurationBuilder configBuilder = new ConfigurationBuilder();
       configBuilder.setScanners(new SubTypesScanner(false), new TypeAnnotationsScanner());
       configBuilder.forPackages(packageName);
@@ -380,6 +410,11 @@ class IntermediateServiceDocument implements JPAServiceDocument {
     }
   }
 
+  private static ClassLoader getClassLoader() {
+    final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    return contextClassLoader != null ? contextClassLoader : IntermediateServiceDocument.class.getClassLoader();
+  }
+
   private List<CsdlSchema> extractEdmSchemas() throws ODataJPAModelException {
     final List<CsdlSchema> schemas = new ArrayList<>();
     try {
@@ -425,14 +460,15 @@ class IntermediateServiceDocument implements JPAServiceDocument {
   @Override
   public Map<String, JPAProtectionInfo> getClaims() throws ODataJPAModelException {
     if (claims == null) {
-      claims = new HashMap<>();
+      final Map<String, JPAProtectionInfo> claimMap = new HashMap<>();
       for (final IntermediateSchema schema : schemaListInternalKey.values()) {
         for (final IntermediateEntityType<?> et : schema.getEntityTypes()) {
           for (final JPAProtectionInfo protection : et.getProtections()) {
-            claims.put(protection.getClaimName(), protection);
+            claimMap.put(protection.getClaimName(), protection);
           }
         }
       }
+      claims = Collections.unmodifiableMap(claimMap);
     }
     return claims;
   }
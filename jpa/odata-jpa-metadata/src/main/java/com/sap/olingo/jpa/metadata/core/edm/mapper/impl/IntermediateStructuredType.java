@@ -91,10 +91,13 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
   protected final Class<T> jpaJavaType;
   protected final List<MappedSuperclassType<? super T>> mappedSuperclass;
   protected final IntermediateSchema schema;
-  protected List<JPAProtectionInfo> protectedAttributes;
+  protected volatile List<JPAProtectionInfo> protectedAttributes;
   protected CsdlStructuralType edmStructuralType;
   private Optional<List<IntermediateSimpleProperty>> streamProperty;
   private int buildState = 0;
+  // Set after the maps have been built completely. Afterwards the maps are only read, so readers need no lock
+  private volatile boolean pathMapBuilt;
+  private volatile boolean associationPathMapBuilt;
 
   IntermediateStructuredType(final JPAEdmNameBuilder nameBuilder, final ManagedType<T> jpaManagedType,
       final IntermediateSchema schema) {
@@ -477,7 +480,7 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
 
   Map<String, JPAPath> getIntermediatePathMap() throws ODataJPAModelException {
     lazyBuildCompletePathMap();
-    return intermediatePathMap;
+    return Collections.unmodifiableMap(intermediatePathMap);
   }
 
   List<IntermediateJoinColumn> getJoinColumns(final String relationshipName) throws ODataJPAModelException {
@@ -547,7 +550,18 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
 
   Map<String, JPAPathImpl> getResolvedPathMap() throws ODataJPAModelException {
     lazyBuildCompletePathMap();
-    return resolvedPathMap;
+    return Collections.unmodifiableMap(resolvedPathMap);
+  }
+
+  /**
+   * Builds all lazily created structures of the type. Afterwards the structures are only read, so that the read
+   * accessors do not need to acquire a lock.
+   * @throws ODataJPAModelException
+   */
+  void freeze() throws ODataJPAModelException {
+    getEdmItem();
+    lazyBuildCompleteAssociationPathMap();
+    lazyBuildCompleteProtectionList();
   }
 
   boolean hasBuildStepPerformed(final int step) {
@@ -635,7 +649,10 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
     }
   }
 
-  private String determineDBFieldName(final IntermediateModelElement property, final JPAPath jpaPath) {
+  private String determineDBFieldName(final IntermediateProperty property, final JPAPath jpaPath) {
+    if (property.isTransient())
+      // Transient attributes are not part of the JPA metamodel and can not be overridden
+      return jpaPath.getDBFieldName();
     final Attribute<?, ?> jpaAttribute = jpaManagedType.getAttribute(property.getInternalName());
     if (jpaAttribute.getJavaMember() instanceof AnnotatedElement) {
       final AnnotatedElement a = (AnnotatedElement) jpaAttribute.getJavaMember();
@@ -792,11 +809,16 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
     return null;
   }
 
-  private synchronized void lazyBuildCompleteAssociationPathMap() throws ODataJPAModelException {
+  private void lazyBuildCompleteAssociationPathMap() throws ODataJPAModelException {
+    if (!associationPathMapBuilt)
+      buildCompleteAssociationPathMap();
+  }
+
+  private synchronized void buildCompleteAssociationPathMap() throws ODataJPAModelException {
     JPAAssociationPathImpl associationPath;
     lazyBuildCompletePathMap();
     // TODO check if ignore has to be handled
-    if (resolvedAssociationPathMap.size() == 0) {
+    if (!associationPathMapBuilt && resolvedAssociationPathMap.size() == 0) {
       for (final JPAAttribute association : getAssociations()) {
         associationPath = new JPAAssociationPathImpl((IntermediateNavigationProperty<?>) association, this);
         resolvedAssociationPathMap.put(associationPath.getAlias(), associationPath);
@@ -815,14 +837,20 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
           }
         }
       }
+      associationPathMapBuilt = true;
     }
   }
 
-  private synchronized void lazyBuildCompletePathMap() throws ODataJPAModelException {
+  private void lazyBuildCompletePathMap() throws ODataJPAModelException {
+    if (!pathMapBuilt)
+      buildCompletePathMap();
+  }
+
+  private synchronized void buildCompletePathMap() throws ODataJPAModelException {
     ArrayList<JPAElement> pathList;
     if (edmStructuralType == null)
       lazyBuildEdmItem();
-    if (resolvedPathMap.size() == 0) {
+    if (!pathMapBuilt && resolvedPathMap.size() == 0) {
       for (final Entry<String, IntermediateProperty> propertyEntity : declaredPropertiesMap.entrySet()) {
         final IntermediateProperty property = propertyEntity.getValue();
         if (property.isComplex()) {
@@ -874,6 +902,7 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
         resolvedPathMap.putAll(baseType.getResolvedPathMap());
         intermediatePathMap.putAll(baseType.getIntermediatePathMap());
       }
+      pathMapBuilt = true;
     }
   }
 
@@ -881,7 +910,7 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
     if (protectedAttributes == null) {
       if (edmStructuralType == null)
         lazyBuildEdmItem();
-      this.protectedAttributes = new ArrayList<>();
+      final List<JPAProtectionInfo> protections = new ArrayList<>();
       for (final JPAAttribute attribute : getDeclaredAttributes()) {
         if (attribute.hasProtection()) {
           if (attribute.isComplex()) {
@@ -891,12 +920,12 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
                 if (path == null) // Annotation EdmProtectedBy found at '%2$s' of '%1$s', but the given 'path' '%3$s'...
                   throw new ODataJPAModelException(COMPLEX_PROPERTY_WRONG_PROTECTION_PATH, attribute.getInternalName(),
                       this.getTypeClass().getSimpleName(), pathName);
-                protectedAttributes.add(new ProtectionInfo(path, claimName, attribute));
+                protections.add(new ProtectionInfo(path, claimName, attribute));
               }
             }
           } else {
             for (final String claimName : attribute.getProtectionClaimNames()) {
-              protectedAttributes.add(new ProtectionInfo(this.getPath(attribute.getExternalName(), false), claimName,
+              protections.add(new ProtectionInfo(this.getPath(attribute.getExternalName(), false), claimName,
                   attribute));
             }
           }
@@ -905,10 +934,11 @@ abstract class IntermediateStructuredType<T> extends IntermediateModelElement im
             // Copy and extend path
             final String pathName = attribute.getExternalName() + JPAPath.PATH_SEPARATOR + info.getPath().getAlias();
             final JPAPath path = this.getPath(pathName, false);
-            protectedAttributes.add(new ProtectionInfo(path, info));
+            protections.add(new ProtectionInfo(path, info));
           }
         }
       }
+      this.protectedAttributes = Collections.unmodifiableList(protections);
     }
   }
 
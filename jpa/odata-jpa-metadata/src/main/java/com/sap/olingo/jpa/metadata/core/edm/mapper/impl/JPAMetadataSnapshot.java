@@ -0,0 +1,326 @@
+package com.sap.olingo.jpa.metadata.core.edm.mapper.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reflections8.Reflections;
+
+/**
+ * Result of a classpath scan for Java functions, actions and enumerations, created at build time by
+ * {@link com.sap.olingo.jpa.metadata.api.JPAMetadataSnapshotProcessor}. If the snapshots on the classpath cover all
+ * packages a service shall be built for, the classes are taken from the snapshots instead of scanning the packages at
+ * startup.
+ * <p>
+ * A snapshot is a text file with one entry per line. It starts with the format version and ends with a checksum over
+ * all entries, which detects damaged files. Besides the compiled packages, it contains for each recorded class its
+ * package, its binary name and a hash of its class file. A requested package is covered by a snapshot if the package
+ * or one of its sub packages has been compiled. The classes of the snapshot are filtered by the requested packages and
+ * their class files have to match the recorded hashes, so a snapshot of an outdated build is detected. Snapshots with
+ * an other version, a wrong checksum or an outdated class are ignored and the packages are scanned.
+ * <p>
+ * A snapshot only knows the classes of the compilation that created it. Classes of a requested package that are
+ * located in an other archive without snapshot are therefore not found.
+ * <p>
+ * The snapshot does not contain the intermediate model. It is still built at startup from the JPA metamodel.
+ */
+public final class JPAMetadataSnapshot {
+  public static final String RESOURCE_NAME = "META-INF/olingo-jpa/metadata-snapshot";
+  static final int VERSION = 2;
+  private static final Log LOGGER = LogFactory.getLog(JPAMetadataSnapshot.class);
+  private static final String VERSION_KEY = "version";
+  private static final String PACKAGE_KEY = "package";
+  private static final String ENUMERATION_KEY = "enumeration";
+  private static final String FUNCTION_KEY = "function";
+  private static final String ACTION_KEY = "action";
+  private static final String CHECKSUM_KEY = "checksum";
+  private static final String SEPARATOR = "=";
+  private static final String TYPE_SEPARATOR = ";";
+  private static final String COMMENT = "#";
+  private static final String CLASS_FILE_EXTENSION = ".class";
+
+  private final SortedSet<String> packages;
+  private final SortedSet<Type> enumerations;
+  private final SortedSet<Type> functions;
+  private final SortedSet<Type> actions;
+
+  /**
+   * @param packages Packages that have been compiled
+   * @param enumerations Enumerations found
+   * @param functions Classes implementing Java functions
+   * @param actions Classes implementing Java actions
+   */
+  public JPAMetadataSnapshot(@Nonnull final Collection<String> packages, @Nonnull final Collection<Type> enumerations,
+      @Nonnull final Collection<Type> functions, @Nonnull final Collection<Type> actions) {
+    this.packages = Collections.unmodifiableSortedSet(new TreeSet<>(packages));
+    this.enumerations = createTypeSet(enumerations);
+    this.functions = createTypeSet(functions);
+    this.actions = createTypeSet(actions);
+  }
+
+  /**
+   * Reads the snapshots visible to the class loader and returns the classes of the given packages and their sub
+   * packages, provided by a {@link Reflections} instance, so they can be processed like the result of a scan.
+   * @param classLoader
+   * @param packageName
+   * @return Empty if a package is not covered by a snapshot or a class file does not match its snapshot
+   */
+  static Optional<Reflections> load(@Nonnull final ClassLoader classLoader, @Nonnull final String... packageName) {
+    try {
+      final Set<String> requested = new HashSet<>(Arrays.asList(packageName));
+      final Set<String> covered = new HashSet<>();
+      final List<Type> types = new ArrayList<>();
+      final Enumeration<URL> resources = classLoader.getResources(RESOURCE_NAME);
+      while (resources.hasMoreElements()) {
+        final URL resource = resources.nextElement();
+        try (InputStream stream = resource.openStream()) {
+          final JPAMetadataSnapshot snapshot = read(stream);
+          final Set<String> coveredBySnapshot = requested.stream()
+              .filter(snapshot::covers)
+              .collect(Collectors.toSet());
+          covered.addAll(coveredBySnapshot);
+          types.addAll(snapshot.getTypes(coveredBySnapshot));
+        } catch (final IOException e) {
+          LOGGER.warn("Metadata snapshot " + resource + " ignored: " + e.getMessage());
+        }
+      }
+      if (!covered.containsAll(requested)) {
+        LOGGER.debug("No metadata snapshot for packages " + requested + ", scanning classpath");
+        return Optional.empty();
+      }
+      final Set<Class<?>> classes = new HashSet<>();
+      for (final Type type : types) {
+        if (!type.matches(classLoader)) {
+          LOGGER.info("Metadata snapshot is outdated as class " + type.name() + " has changed, scanning classpath");
+          return Optional.empty();
+        }
+        classes.add(Class.forName(type.name(), false, classLoader));
+      }
+      return Optional.of(new SnapshotReflections(classes));
+    } catch (final IOException | ClassNotFoundException | LinkageError e) {
+      LOGGER.warn("Metadata snapshots could not be used: " + e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  static JPAMetadataSnapshot read(@Nonnull final InputStream stream) throws IOException {
+    final BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    final MessageDigest digest = createDigest();
+    final Set<String> packages = new HashSet<>();
+    final Set<Type> enumerations = new HashSet<>();
+    final Set<Type> functions = new HashSet<>();
+    final Set<Type> actions = new HashSet<>();
+    String checksum = null;
+    String version = null;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.isBlank() || line.startsWith(COMMENT))
+        continue;
+      final int separator = line.indexOf(SEPARATOR);
+      if (separator < 0)
+        throw new IOException("Malformed entry '" + line + "'");
+      final String key = line.substring(0, separator);
+      final String value = line.substring(separator + 1);
+      if (CHECKSUM_KEY.equals(key)) {
+        checksum = value;
+        continue;
+      }
+      digest.update((line + "\n").getBytes(StandardCharsets.UTF_8));
+      switch (key) {
+        case VERSION_KEY -> version = value;
+        case PACKAGE_KEY -> packages.add(value);
+        case ENUMERATION_KEY -> enumerations.add(Type.parse(value));
+        case FUNCTION_KEY -> functions.add(Type.parse(value));
+        case ACTION_KEY -> actions.add(Type.parse(value));
+        default -> throw new IOException("Unknown entry '" + line + "'");
+      }
+    }
+    if (!String.valueOf(VERSION).equals(version))
+      throw new IOException("Unsupported version " + version);
+    if (!HexFormat.of().formatHex(digest.digest()).equals(checksum))
+      throw new IOException("Checksum does not match");
+    return new JPAMetadataSnapshot(packages, enumerations, functions, actions);
+  }
+
+  /**
+   * Writes the snapshot including the version and the checksum.
+   * @param writer
+   * @throws IOException
+   */
+  public void write(@Nonnull final Writer writer) throws IOException {
+    final MessageDigest digest = createDigest();
+    writer.write(COMMENT + " Generated at build time. Do not edit.\n");
+    writeEntry(writer, digest, VERSION_KEY, List.of(String.valueOf(VERSION)));
+    writeEntry(writer, digest, PACKAGE_KEY, packages);
+    writeEntry(writer, digest, ENUMERATION_KEY, asStrings(enumerations));
+    writeEntry(writer, digest, FUNCTION_KEY, asStrings(functions));
+    writeEntry(writer, digest, ACTION_KEY, asStrings(actions));
+    writer.write(CHECKSUM_KEY + SEPARATOR + HexFormat.of().formatHex(digest.digest()) + "\n");
+    writer.flush();
+  }
+
+  /**
+   * Creates the hash of a class file that is recorded in a snapshot.
+   * @param classFile Content of the class file
+   * @return Hex encoded SHA-256 hash
+   */
+  public static String hash(@Nonnull final byte[] classFile) {
+    return HexFormat.of().formatHex(createDigest().digest(classFile));
+  }
+
+  /**
+   * @param binaryName Binary name of a class
+   * @return Name of the class file resource of the class
+   */
+  public static String toClassFileName(@Nonnull final String binaryName) {
+    return binaryName.replace('.', '/') + CLASS_FILE_EXTENSION;
+  }
+
+  Set<String> getPackages() {
+    return packages;
+  }
+
+  Set<Type> getEnumerations() {
+    return enumerations;
+  }
+
+  Set<Type> getFunctions() {
+    return functions;
+  }
+
+  Set<Type> getActions() {
+    return actions;
+  }
+
+  /**
+   * A package is covered, if it or one of its sub packages has been compiled.
+   */
+  boolean covers(final String packageName) {
+    return packages.stream().anyMatch(compiled -> isWithin(compiled, packageName));
+  }
+
+  private List<Type> getTypes(final Set<String> packageNames) {
+    final List<Type> result = new ArrayList<>();
+    for (final Set<Type> types : List.of(enumerations, functions, actions)) {
+      types.stream()
+          .filter(type -> packageNames.stream().anyMatch(packageName -> isWithin(type.packageName(), packageName)))
+          .forEach(result::add);
+    }
+    return result;
+  }
+
+  private static boolean isWithin(final String packageName, final String parentPackageName) {
+    return packageName.equals(parentPackageName) || packageName.startsWith(parentPackageName + ".");
+  }
+
+  private static SortedSet<Type> createTypeSet(final Collection<Type> types) {
+    final SortedSet<Type> result = new TreeSet<>(Comparator.comparing(Type::name));
+    result.addAll(types);
+    return Collections.unmodifiableSortedSet(result);
+  }
+
+  private static List<String> asStrings(final Collection<Type> types) {
+    return types.stream().map(Type::asString).toList();
+  }
+
+  private static void writeEntry(final Writer writer, final MessageDigest digest, final String key,
+      final Collection<String> values) throws IOException {
+    for (final String value : values) {
+      final String line = key + SEPARATOR + value + "\n";
+      digest.update(line.getBytes(StandardCharsets.UTF_8));
+      writer.write(line);
+    }
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      // Every Java platform has to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * A class recorded in a snapshot.
+   * @param packageName Package of the class
+   * @param name Binary name of the class
+   * @param classHash Hash of the class file created by {@link JPAMetadataSnapshot#hash(byte[])}
+   */
+  public record Type(@Nonnull String packageName, @Nonnull String name, @Nonnull String classHash) {
+
+    static Type parse(final String value) throws IOException {
+      final String[] parts = value.split(TYPE_SEPARATOR, -1);
+      if (parts.length != 3)
+        throw new IOException("Malformed type '" + value + "'");
+      return new Type(parts[0], parts[1], parts[2]);
+    }
+
+    String asString() {
+      return packageName + TYPE_SEPARATOR + name + TYPE_SEPARATOR + classHash;
+    }
+
+    /**
+     * Checks that the class file visible to the class loader is the one the snapshot has been created from.
+     */
+    boolean matches(final ClassLoader classLoader) throws IOException {
+      try (InputStream classFile = classLoader.getResourceAsStream(toClassFileName(name))) {
+        return classFile != null && classHash.equals(hash(classFile.readAllBytes()));
+      }
+    }
+  }
+
+  /**
+   * Provides the classes of the snapshots to the model, which queries the result of a scan only for sub types and
+   * annotated types.
+   */
+  private static final class SnapshotReflections extends Reflections {
+    private final Set<Class<?>> types;
+
+    private SnapshotReflections(final Set<Class<?>> types) {
+      super();
+      this.types = types;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Set<Class<? extends T>> getSubTypesOf(final Class<T> type) {
+      return types.stream()
+          .filter(t -> t != type && type.isAssignableFrom(t))
+          .map(t -> (Class<? extends T>) t)
+          .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(final Class<? extends Annotation> annotation) {
+      return types.stream()
+          .filter(t -> t.isAnnotationPresent(annotation))
+          .collect(Collectors.toSet());
+    }
+  }
+}
@@ -4,6 +4,9 @@ import java.util.List;
 
 import jakarta.persistence.metamodel.Metamodel;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import com.sap.olingo.jpa.metadata.api.JPAEdmMetadataPostProcessor;
 import com.sap.olingo.jpa.metadata.core.edm.extension.vocabularies.AnnotationProvider;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEdmNameBuilder;
@@ -11,6 +14,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 
 public final class JPAServiceDocumentFactory {
+  private static final Log LOGGER = LogFactory.getLog(JPAServiceDocumentFactory.class);
 
   private final JPAEdmNameBuilder nameBuilder;
   private final Metamodel jpaMetamodel;
@@ -31,10 +35,21 @@ public final class JPAServiceDocumentFactory {
 
   /**
    * Late creation of the service document. A service document contains at least one schema and a container.
+   * <p>
+   * All parts of the model are built up front, so the service document can be read by concurrent requests without
+   * locking. In case the model contains errors, the remaining parts are built lazily and the errors are reported when
+   * the erroneous part is accessed.
    * @return
    * @throws ODataJPAModelException
    */
   public JPAServiceDocument getServiceDocument() throws ODataJPAModelException {
-    return new IntermediateServiceDocument(nameBuilder, jpaMetamodel, postProcessor, packageName, annotationProvider);
+    final IntermediateServiceDocument serviceDocument = new IntermediateServiceDocument(nameBuilder, jpaMetamodel,
+        postProcessor, packageName, annotationProvider);
+    try {
+      serviceDocument.freeze();
+    } catch (final ODataJPAModelException e) {
+      LOGGER.warn("Metadata could not be built completely", e);
+    }
+    return serviceDocument;
   }
 }
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -224,6 +225,12 @@ class JPAEdmProviderTest {
     assertTrue(act.isAbstract());
   }
 
+  @Test
+  void checkGetEntityTypeReturnsSameInstanceFromSchema() throws ODataException {
+    final CsdlEntityType act = cut.getEntityType(new FullQualifiedName(PUNIT_NAME, "Organization"));
+    assertSame(cut.getSchemas().get(0).getEntityType("Organization"), act);
+  }
+
   @Test
   void checkGetFunctionImportReturnsNullOnUnknownContainer() throws ODataException {
     final CsdlFunctionImport act = cut.getFunctionImport(new FullQualifiedName("Hello", "World"), "Hello");
@@ -296,6 +303,13 @@ class JPAEdmProviderTest {
     assertNull(act);
   }
 
+  @Test
+  void checkGetActionsReturnsEmptyListOnUnknownActionOfKnownSchema() throws ODataException {
+    final List<CsdlAction> act = cut.getActions(new FullQualifiedName(PUNIT_NAME, "World"));
+    assertNotNull(act);
+    assertTrue(act.isEmpty());
+  }
+
   @Test
   void checkGetActionsReturnsKnownAction() throws ODataException {
     final String[] operationPackages = { "com.sap.olingo.jpa.metadata.core.edm.mapper.testaction",
@@ -0,0 +1,104 @@
+package com.sap.olingo.jpa.metadata.api;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.impl.JPAMetadataSnapshot;
+
+class JPAMetadataSnapshotProcessorTest {
+  @TempDir
+  Path root;
+
+  @Test
+  void checkSnapshotContainsOperationsAndEnumerations() throws IOException {
+    writeSource("test/model/Status.java", """
+        package test.model;
+        @com.sap.olingo.jpa.metadata.core.edm.annotation.EdmEnumeration
+        public enum Status { ACTIVE, INACTIVE }
+        """);
+    writeSource("test/model/Operations.java", """
+        package test.model;
+        public class Operations implements com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataFunction {
+          public static class Actions implements com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataAction {}
+        }
+        """);
+    writeSource("test/model/other/Plain.java", """
+        package test.model.other;
+        public class Plain {}
+        """);
+
+    assertTrue(compile());
+    final String act = Files.readString(root.resolve("classes").resolve(JPAMetadataSnapshot.RESOURCE_NAME));
+
+    assertTrue(act.contains("package=test.model\n"));
+    assertTrue(act.contains("package=test.model.other\n"));
+    assertTrue(act.contains("enumeration=test.model;test.model.Status;" + hashOf("test.model.Status") + "\n"));
+    assertTrue(act.contains("function=test.model;test.model.Operations;" + hashOf("test.model.Operations") + "\n"));
+    assertTrue(act.contains("action=test.model;test.model.Operations$Actions;" + hashOf("test.model.Operations$Actions")
+        + "\n"));
+    assertFalse(act.contains("Plain"));
+  }
+
+  @Test
+  void checkNoSnapshotWithoutClassFiles() throws IOException {
+    writeSource("test/model/Status.java", """
+        package test.model;
+        @com.sap.olingo.jpa.metadata.core.edm.annotation.EdmEnumeration
+        public enum Status { ACTIVE, INACTIVE }
+        """);
+
+    assertTrue(compile("-proc:only"));
+    assertFalse(Files.exists(root.resolve("classes").resolve(JPAMetadataSnapshot.RESOURCE_NAME)));
+  }
+
+  @Test
+  void checkNoSnapshotWithoutTypes() throws IOException {
+    writeSource("test/model/package-info.java", """
+        package test.model;
+        """);
+
+    assertTrue(compile());
+    assertFalse(Files.exists(root.resolve("classes").resolve(JPAMetadataSnapshot.RESOURCE_NAME)));
+  }
+
+  private void writeSource(final String path, final String content) throws IOException {
+    final Path source = root.resolve("src").resolve(path);
+    Files.createDirectories(source.getParent());
+    Files.writeString(source, content, StandardCharsets.UTF_8);
+  }
+
+  private String hashOf(final String binaryName) throws IOException {
+    return JPAMetadataSnapshot.hash(Files.readAllBytes(root.resolve("classes").resolve(JPAMetadataSnapshot
+        .toClassFileName(binaryName))));
+  }
+
+  private boolean compile(final String... options) throws IOException {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final Path classes = Files.createDirectories(root.resolve("classes"));
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+        var sources = Files.walk(root.resolve("src"))) {
+      final List<Path> files = sources.filter(Files::isRegularFile).toList();
+      final List<String> allOptions = new ArrayList<>(List.of("-d", classes.toString(), "-classpath", System
+          .getProperty("java.class.path")));
+      allOptions.addAll(List.of(options));
+      final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, allOptions, null,
+          fileManager.getJavaFileObjectsFromPaths(files));
+      task.setProcessors(List.of(new JPAMetadataSnapshotProcessor()));
+      return task.call();
+    }
+  }
+}
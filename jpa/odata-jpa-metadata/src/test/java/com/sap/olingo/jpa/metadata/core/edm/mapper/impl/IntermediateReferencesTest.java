@@ -3,6 +3,7 @@ package com.sap.olingo.jpa.metadata.core.edm.mapper.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -148,6 +149,15 @@ class IntermediateReferencesTest extends TestMappingRoot {
     assertNotNull(cut.getTerm(fqn));
   }
 
+  @Test
+  void checkVocabularyParsedOnlyOnce() throws ODataJPAModelException {
+    final IntermediateReferences other = new IntermediateReferences();
+    cut.addReference(MEASURES_V1_URL, MEASURES_V1_PATH);
+    other.addReference(MEASURES_V1_URL, MEASURES_V1_PATH);
+    final FullQualifiedName fqn = new FullQualifiedName("Org.OData.Measures.V1", "ISOCurrency");
+    assertSame(cut.getTerm(fqn).get(), other.getTerm(fqn).get());
+  }
+
   @Test
   void checkGetTermByAlias() throws ODataJPAModelException {
     final String uri = MEASURES_V1_URL;
@@ -3,6 +3,7 @@ package com.sap.olingo.jpa.metadata.core.edm.mapper.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
@@ -24,6 +25,9 @@ import org.junit.jupiter.api.Test;
 import org.reflections8.Reflections;
 
 import com.sap.olingo.jpa.metadata.core.edm.annotation.EdmEnumeration;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEnumerationAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAStructuredType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 import com.sap.olingo.jpa.processor.core.errormodel.MissingCardinalityAnnotation;
 import com.sap.olingo.jpa.processor.core.testmodel.ABCClassification;
@@ -76,6 +80,26 @@ class IntermediateSchemaTest extends TestMappingRoot {
     assertEquals("BusinessPartner", schema.getEdmItem().getEntityType("BusinessPartner").getName());
   }
 
+  @Test
+  void checkSchemaFindsTypesByExternalNameAfterFreeze() throws ODataJPAModelException {
+    final EdmEnumType enumType = mock(EdmEnumType.class);
+    when(enumType.getName()).thenReturn("ABCClassification");
+    when(enumType.getFullQualifiedName()).thenReturn(new FullQualifiedName(PUNIT_NAME, "ABCClassification"));
+    final IntermediateSchema schema = new IntermediateSchema(new JPADefaultEdmNameBuilder(PUNIT_NAME), emf
+        .getMetamodel(), reflections, annotationInfo);
+    final JPAEntityType entityType = schema.getEntityType("BusinessPartner");
+    final JPAStructuredType complexType = schema.getComplexType("CommunicationData");
+    final JPAEnumerationAttribute enumeration = schema.getEnumerationType(enumType);
+    schema.freeze();
+
+    assertSame(entityType, schema.getEntityType("BusinessPartner"));
+    assertSame(complexType, schema.getComplexType("CommunicationData"));
+    assertSame(enumeration, schema.getEnumerationType(enumType));
+    assertSame(enumeration, schema.getEnumerationType("ABCClassification"));
+    assertNull(schema.getEntityType("Hello"));
+    assertNull(schema.getComplexType("Hello"));
+  }
+
   @Test
   void checkSchemaGetAllComplexTypes() throws ODataJPAModelException {
     final IntermediateSchema schema = new IntermediateSchema(new JPADefaultEdmNameBuilder(PUNIT_NAME), emf
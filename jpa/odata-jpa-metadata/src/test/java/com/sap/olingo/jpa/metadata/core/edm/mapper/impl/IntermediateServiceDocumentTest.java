@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
@@ -406,6 +407,46 @@ class IntermediateServiceDocumentTest extends TestMappingRoot {
       assertTrue(cut.getTopLevelEntity(esName).isPresent());
   }
 
+  @Test
+  void checkFreezeBuildsPathAndProtections() throws ODataJPAModelException {
+    ((IntermediateServiceDocument) cut).freeze();
+
+    final JPAEntityType act = cut.getEntity(new FullQualifiedName(PUNIT_NAME, "BusinessPartnerProtected"));
+    assertNotNull(act.getPath("Name1"));
+    assertNotNull(act.getAssociationPath("Roles"));
+    assertFalse(act.getProtections().isEmpty());
+    assertThrows(UnsupportedOperationException.class, () -> act.getProtections().clear());
+  }
+
+  @Test
+  void checkGetClaimsReturnsUnmodifiableMap() throws ODataJPAModelException {
+    final Map<String, JPAProtectionInfo> act = cut.getClaims();
+    assertThrows(UnsupportedOperationException.class, () -> act.remove("BuildingNumber"));
+  }
+
+  @Test
+  void checkFactoryReturnsFrozenServiceDocument() throws ODataJPAModelException {
+    final JPAServiceDocument act = new JPAServiceDocumentFactory(nameBuilder, emf.getMetamodel(), null,
+        new String[] { "com.sap.olingo.jpa.processor.core.testmodel" }, annotationProvider).getServiceDocument();
+
+    assertNotNull(act);
+    assertTrue(((IntermediateServiceDocument) act).isFrozen());
+    assertEquals(1, act.getEdmSchemas().size());
+    final JPAEntityType protectedType = act.getEntity(new FullQualifiedName(PUNIT_NAME, "BusinessPartnerProtected"));
+    assertThrows(UnsupportedOperationException.class, () -> protectedType.getProtections().clear());
+    assertThrows(UnsupportedOperationException.class, () -> act.getClaims().clear());
+  }
+
+  @Test
+  void checkFactoryReturnsServiceDocumentOnModelError() throws ODataJPAModelException {
+    final JPAServiceDocument act = new JPAServiceDocumentFactory(errorNameBuilder, errorEmf.getMetamodel(), null,
+        null, annotationProvider).getServiceDocument();
+
+    assertNotNull(act);
+    assertFalse(((IntermediateServiceDocument) act).isFrozen());
+    assertThrows(ODataJPAModelException.class, act::getEdmSchemas);
+  }
+
   private IntermediateServiceDocument createCutWithCustomNameBuilder() throws ODataJPAModelException {
     return new IntermediateServiceDocument(new CustomJPANameBuilder(), emf.getMetamodel(), null,
         new String[] { "com.sap.olingo.jpa.processor.core.testmodel",
@@ -0,0 +1,221 @@
+package com.sap.olingo.jpa.metadata.core.edm.mapper.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections8.Reflections;
+
+import com.sap.olingo.jpa.metadata.core.edm.annotation.EdmEnumeration;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataAction;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.ODataFunction;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.impl.JPAMetadataSnapshot.Type;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.testaction.Actions;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.testobjects.ExampleJavaOneAction;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.testobjects.ExampleJavaOneFunction;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.testobjects.FileAccess;
+
+class JPAMetadataSnapshotTest {
+  private static final String TEST_PACKAGE = "com.sap.olingo.jpa.metadata.core.edm.mapper.testobjects";
+  private static final String ACTION_PACKAGE = "com.sap.olingo.jpa.metadata.core.edm.mapper.testaction";
+  @TempDir
+  Path root;
+  private JPAMetadataSnapshot cut;
+
+  @BeforeEach
+  void setup() throws IOException {
+    cut = new JPAMetadataSnapshot(List.of(TEST_PACKAGE), List.of(type(FileAccess.class)),
+        List.of(type(ExampleJavaOneFunction.class)), List.of(type(ExampleJavaOneAction.class)));
+  }
+
+  @Test
+  void checkReadReturnsWrittenSnapshot() throws IOException {
+    final JPAMetadataSnapshot act = JPAMetadataSnapshot.read(toStream(write(cut)));
+
+    assertEquals(Set.of(TEST_PACKAGE), act.getPackages());
+    assertEquals(Set.of(type(FileAccess.class)), act.getEnumerations());
+    assertEquals(Set.of(type(ExampleJavaOneFunction.class)), act.getFunctions());
+    assertEquals(Set.of(type(ExampleJavaOneAction.class)), act.getActions());
+  }
+
+  @Test
+  void checkReadThrowsOnWrongChecksum() {
+    final String snapshot = write(cut).replace("action=", "function=");
+
+    assertThrows(IOException.class, () -> JPAMetadataSnapshot.read(toStream(snapshot)));
+  }
+
+  @Test
+  void checkReadThrowsOnOtherVersion() {
+    final String snapshot = write(cut).replace("version=" + JPAMetadataSnapshot.VERSION, "version=0");
+
+    assertThrows(IOException.class, () -> JPAMetadataSnapshot.read(toStream(snapshot)));
+  }
+
+  @Test
+  void checkReadThrowsOnMissingChecksum() {
+    final String snapshot = write(cut).replaceAll("checksum=.*\n", "");
+
+    assertThrows(IOException.class, () -> JPAMetadataSnapshot.read(toStream(snapshot)));
+  }
+
+  @Test
+  void checkReadThrowsOnMalformedType() {
+    final String snapshot = "version=" + JPAMetadataSnapshot.VERSION + "\nfunction=" + TEST_PACKAGE + "\n";
+
+    assertThrows(IOException.class, () -> JPAMetadataSnapshot.read(toStream(snapshot)));
+  }
+
+  @Test
+  void checkLoadReturnsEmptyWithoutSnapshot() throws IOException {
+    try (URLClassLoader loader = createClassLoader()) {
+      assertFalse(JPAMetadataSnapshot.load(loader, TEST_PACKAGE).isPresent());
+    }
+  }
+
+  @Test
+  void checkLoadProvidesClassesOfSnapshot() throws IOException {
+    createSnapshotResource(root, write(cut));
+    try (URLClassLoader loader = createClassLoader()) {
+      final Optional<Reflections> act = JPAMetadataSnapshot.load(loader, TEST_PACKAGE);
+
+      assertTrue(act.isPresent());
+      assertEquals(Set.of(FileAccess.class), act.get().getTypesAnnotatedWith(EdmEnumeration.class));
+      assertEquals(Set.of(ExampleJavaOneFunction.class), act.get().getSubTypesOf(ODataFunction.class));
+      assertEquals(Set.of(ExampleJavaOneAction.class), act.get().getSubTypesOf(ODataAction.class));
+    }
+  }
+
+  @Test
+  void checkLoadProvidesClassesOfSubPackages() throws IOException {
+    createSnapshotResource(root, write(new JPAMetadataSnapshot(List.of(TEST_PACKAGE, ACTION_PACKAGE, "com.example"),
+        List.of(), List.of(), List.of(type(ExampleJavaOneAction.class), type(Actions.class)))));
+    try (URLClassLoader loader = createClassLoader()) {
+      final Optional<Reflections> act = JPAMetadataSnapshot.load(loader, "com.sap.olingo.jpa.metadata.core");
+
+      assertTrue(act.isPresent());
+      assertEquals(Set.of(ExampleJavaOneAction.class, Actions.class), act.get().getSubTypesOf(ODataAction.class));
+    }
+  }
+
+  @Test
+  void checkLoadProvidesOnlyClassesOfRequestedPackages() throws IOException {
+    createSnapshotResource(root, write(new JPAMetadataSnapshot(List.of(TEST_PACKAGE, ACTION_PACKAGE), List.of(),
+        List.of(), List.of(type(ExampleJavaOneAction.class), type(Actions.class)))));
+    try (URLClassLoader loader = createClassLoader()) {
+      final Optional<Reflections> act = JPAMetadataSnapshot.load(loader, TEST_PACKAGE);
+
+      assertTrue(act.isPresent());
+      assertEquals(Set.of(ExampleJavaOneAction.class), act.get().getSubTypesOf(ODataAction.class));
+    }
+  }
+
+  @Test
+  void checkLoadCombinesSnapshotsOfPackages() throws IOException {
+    final Path other = Files.createDirectories(root.resolve("other"));
+    createSnapshotResource(root, write(cut));
+    createSnapshotResource(other, write(new JPAMetadataSnapshot(List.of(ACTION_PACKAGE), List.of(), List.of(),
+        List.of(type(Actions.class)))));
+    try (URLClassLoader loader = new URLClassLoader(new URL[] { root.toUri().toURL(), other.toUri().toURL() },
+        getClass().getClassLoader())) {
+      final Optional<Reflections> act = JPAMetadataSnapshot.load(loader, ACTION_PACKAGE, TEST_PACKAGE);
+
+      assertTrue(act.isPresent());
+      assertEquals(Set.of(ExampleJavaOneAction.class, Actions.class), act.get().getSubTypesOf(ODataAction.class));
+    }
+  }
+
+  @Test
+  void checkLoadReturnsEmptyIfOnlySiblingPackageCompiled() throws IOException {
+    createSnapshotResource(root, write(new JPAMetadataSnapshot(List.of(TEST_PACKAGE + ".sub"), List.of(), List.of(),
+        List.of())));
+    try (URLClassLoader loader = createClassLoader()) {
+      assertFalse(JPAMetadataSnapshot.load(loader, TEST_PACKAGE + ".other").isPresent());
+      assertTrue(JPAMetadataSnapshot.load(loader, TEST_PACKAGE + ".sub").isPresent());
+    }
+  }
+
+  @Test
+  void checkLoadReturnsEmptyIfPackageNotCovered() throws IOException {
+    createSnapshotResource(root, write(cut));
+    try (URLClassLoader loader = createClassLoader()) {
+      assertFalse(JPAMetadataSnapshot.load(loader, TEST_PACKAGE, "com.example").isPresent());
+      assertFalse(JPAMetadataSnapshot.load(loader, TEST_PACKAGE + "s").isPresent());
+    }
+  }
+
+  @Test
+  void checkLoadReturnsEmptyIfClassChanged() throws IOException {
+    final Type function = type(ExampleJavaOneFunction.class);
+    createSnapshotResource(root, write(new JPAMetadataSnapshot(List.of(TEST_PACKAGE), List.of(), List.of(new Type(
+        function.packageName(), function.name(), JPAMetadataSnapshot.hash(new byte[] { 1 }))), List.of())));
+    try (URLClassLoader loader = createClassLoader()) {
+      assertFalse(JPAMetadataSnapshot.load(loader, TEST_PACKAGE).isPresent());
+    }
+  }
+
+  @Test
+  void checkLoadReturnsEmptyOnInvalidSnapshot() throws IOException {
+    createSnapshotResource(root, write(cut).replace("action=", "function="));
+    try (URLClassLoader loader = createClassLoader()) {
+      assertFalse(JPAMetadataSnapshot.load(loader, TEST_PACKAGE).isPresent());
+    }
+  }
+
+  @Test
+  void checkLoadReturnsEmptyOnUnknownClass() throws IOException {
+    createSnapshotResource(root, write(new JPAMetadataSnapshot(List.of(TEST_PACKAGE), List.of(new Type(TEST_PACKAGE,
+        TEST_PACKAGE + ".Unknown", JPAMetadataSnapshot.hash(new byte[0]))), List.of(), List.of())));
+    try (URLClassLoader loader = createClassLoader()) {
+      assertFalse(JPAMetadataSnapshot.load(loader, TEST_PACKAGE).isPresent());
+    }
+  }
+
+  private void createSnapshotResource(final Path directory, final String snapshot) throws IOException {
+    final Path resource = directory.resolve(JPAMetadataSnapshot.RESOURCE_NAME);
+    Files.createDirectories(resource.getParent());
+    Files.writeString(resource, snapshot, StandardCharsets.UTF_8);
+  }
+
+  private URLClassLoader createClassLoader() throws IOException {
+    return new URLClassLoader(new URL[] { root.toUri().toURL() }, getClass().getClassLoader());
+  }
+
+  private static Type type(final Class<?> clazz) throws IOException {
+    try (InputStream classFile = clazz.getClassLoader().getResourceAsStream(JPAMetadataSnapshot.toClassFileName(
+        clazz.getName()))) {
+      return new Type(clazz.getPackageName(), clazz.getName(), JPAMetadataSnapshot.hash(classFile.readAllBytes()));
+    }
+  }
+
+  private static String write(final JPAMetadataSnapshot snapshot) {
+    final StringWriter writer = new StringWriter();
+    try {
+      snapshot.write(writer);
+    } catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return writer.toString();
+  }
+
+  private static ByteArrayInputStream toStream(final String snapshot) {
+    return new ByteArrayInputStream(snapshot.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -1695,6 +1695,14 @@ class CriteriaBuilderImpl implements ProcessorCriteriaBuilder { // NOSONAR
     return new ExpressionImpl.WindowFunctionExpression<>(SqlWindowFunctions.ROW_NUMBER);
   }
 
+  /**
+   * Creates an expression for a count window function.
+   */
+  @Override
+  public WindowFunction<Long> rowCount() {
+    return new ExpressionImpl.WindowFunctionExpression<>(SqlWindowFunctions.COUNT);
+  }
+
   public JPAServiceDocument getServiceDocument() {
     return sd;
   }
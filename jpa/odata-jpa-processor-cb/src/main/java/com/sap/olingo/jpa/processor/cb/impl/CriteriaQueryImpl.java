@@ -5,7 +5,7 @@ import static java.util.Collections.emptySet;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -40,7 +40,7 @@ import com.sap.olingo.jpa.processor.cb.joiner.StringBuilderCollector;
 
 class CriteriaQueryImpl<T> implements ProcessorCriteriaQuery<T>, SqlConvertible {
   private final Class<T> resultType;
-  private final Set<FromImpl<?, ?>> roots = new HashSet<>();
+  private final Set<FromImpl<?, ?>> roots = new LinkedHashSet<>();
   private final JPAServiceDocument sd;
   private SqlSelection<?> selection;
   private Optional<Expression<Boolean>> where;
@@ -502,6 +502,7 @@ abstract class ExpressionImpl<T> implements Expression<T>, SqlConvertible {
     public StringBuilder asSQL(final StringBuilder statement) {
       statement.append(function)
           .append(OPENING_BRACKET)
+          .append(function.getArgument())
           .append(CLOSING_BRACKET)
           .append(" OVER")
           .append(OPENING_BRACKET);
@@ -1,6 +1,6 @@
 package com.sap.olingo.jpa.processor.cb.impl;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -72,8 +72,8 @@ class FromImpl<Z, X> extends PathImpl<X> implements From<Z, X> {
 
   FromImpl(final JPAEntityType type, final JPAPath path, final AliasBuilder aliasBuilder, final CriteriaBuilder cb) {
     super(Optional.ofNullable(path), Optional.empty(), type, Optional.of(aliasBuilder.getNext()));
-    this.joins = new HashSet<>();
-    this.fetches = new HashSet<>();
+    this.joins = new LinkedHashSet<>();
+    this.fetches = new LinkedHashSet<>();
     this.aliasBuilder = aliasBuilder;
     this.cb = cb;
     this.inInfo = new InheritanceInfo(type);
@@ -16,11 +16,13 @@ import com.sap.olingo.jpa.processor.cb.impl.ExpressionImpl.ParameterExpression;
 class ParameterBuffer {
   private static final Log LOG = LogFactory.getLog(ParameterBuffer.class);
   private int index = 1;
-  private final Map<Integer, ParameterExpression<?, ?>> parameterByHash;
+  private final Map<Integer, ParameterExpression<?, ?>> parameterByPosition;
+  private final Map<ParameterExpression<?, ?>, ParameterExpression<?, ?>> parameterByValue;
 
   ParameterBuffer() {
     super();
-    parameterByHash = new HashMap<>();
+    parameterByPosition = new HashMap<>();
+    parameterByValue = new HashMap<>();
   }
 
   <T, S> ParameterExpression<T, S> addValue(@Nonnull final S value) {
@@ -31,18 +33,23 @@ class ParameterBuffer {
   <T, S> ParameterExpression<T, S> addValue(@Nonnull final S value, final Expression<?> expression) {
 
     ParameterExpression<T, S> param = new ParameterExpression<>(index, Objects.requireNonNull(value), expression);
-    if (!parameterByHash.containsKey(param.hashCode())) {
-      parameterByHash.put(param.hashCode(), param);
+    final ParameterExpression<?, ?> existing = parameterByValue.putIfAbsent(param, param);
+    if (existing == null) {
+      parameterByPosition.put(index, param);
       index++;
     } else {
       // Hibernate does not allow provisioning of parameter that are not used in a query
-      param = (ParameterExpression<T, S>) parameterByHash.get(param.hashCode());
+      param = (ParameterExpression<T, S>) existing;
       LOG.trace("Parameter found in buffer: " + param);
     }
     return param;
   }
 
+  /**
+   *
+   * @return parameter by position
+   */
   Map<Integer, ParameterExpression<?, ?>> getParameter() {
-    return parameterByHash;
+    return parameterByPosition;
   }
 }
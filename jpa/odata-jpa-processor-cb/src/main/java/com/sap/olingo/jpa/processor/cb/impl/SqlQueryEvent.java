@@ -0,0 +1,37 @@
+package com.sap.olingo.jpa.processor.cb.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder event for the execution of a SQL query created from a criteria query. The event covers the
+ * time spent in {@link TypedQueryImpl#getResultList()} or {@link TypedQueryImpl#getResultStream()}. For a stream only
+ * the execution of the statement is covered and the number of rows is not known. Like any JFR event it can be
+ * enabled, disabled or given a different threshold via the recording settings, e.g.
+ * <code>com.sap.olingo.jpa.SqlQuery#threshold=0 ms</code>.
+ */
+@Name(SqlQueryEvent.NAME)
+@Label("SQL Query")
+@Category({ "Olingo JPA", "Database" })
+@Description("SQL statement generated from a criteria query and executed via getResultList or getResultStream")
+@StackTrace(false)
+@Threshold("10 ms")
+final class SqlQueryEvent extends Event {
+  static final String NAME = "com.sap.olingo.jpa.SqlQuery";
+  static final int UNKNOWN = -1;
+
+  @Label("SQL")
+  String sql;
+
+  @Label("Parameter Count")
+  int parameterCount;
+
+  @Label("Rows Fetched")
+  @Description("Number of rows returned, -1 if not known, e.g. for streamed results")
+  int rowsFetched;
+}
@@ -0,0 +1,63 @@
+package com.sap.olingo.jpa.processor.cb.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+/**
+ * SQL statement with normalized parameter numbering.
+ * <p>
+ * A statement rendered from a criteria query contains positional parameters, which are numbered by the parameter
+ * buffer of the entity manager. So the same query shape gets different numbers depending on the queries created
+ * before with the same entity manager, and the numbers have gaps if a query does not use all buffered parameters. The
+ * normalized statement numbers the parameters in the order of their first occurrence. This way the same query shape
+ * always results in the same SQL text, which allows the JDBC driver and the database to reuse prepared statements.
+ * <p>
+ * The normalization is a single pass over the rendered statement, which is cheap compared to the rendering. So it is
+ * done for each query without a shared cache.
+ * @param sql Normalized SQL statement
+ * @param positions Position of the buffered parameter for each slot of the normalized statement. Slot n has index
+ * n - 1
+ */
+record SqlStatement(String sql, List<Integer> positions) {
+
+  /**
+   * Renumbers the positional parameters <code>?n</code> in the order of their first occurrence. Quoted identifiers and
+   * literals are not changed.
+   */
+  static SqlStatement of(@Nonnull final CharSequence renderedStatement) {
+    final StringBuilder sql = new StringBuilder(renderedStatement.length());
+    final Map<Integer, Integer> slotByPosition = new HashMap<>();
+    final List<Integer> positions = new ArrayList<>();
+    char quote = 0;
+    int i = 0;
+    while (i < renderedStatement.length()) {
+      final char c = renderedStatement.charAt(i);
+      if (quote != 0) {
+        if (c == quote)
+          quote = 0;
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+      } else if (c == '?' && i + 1 < renderedStatement.length() && Character.isDigit(renderedStatement.charAt(i + 1))) {
+        int end = i + 1;
+        while (end < renderedStatement.length() && Character.isDigit(renderedStatement.charAt(end)))
+          end++;
+        final Integer position = Integer.valueOf(renderedStatement.subSequence(i + 1, end).toString());
+        final Integer slot = slotByPosition.computeIfAbsent(position, key -> {
+          positions.add(key);
+          return positions.size();
+        });
+        sql.append('?').append(slot);
+        i = end;
+        continue;
+      }
+      sql.append(c);
+      i++;
+    }
+    return new SqlStatement(sql.toString(), Collections.unmodifiableList(positions));
+  }
+}
@@ -2,12 +2,19 @@ package com.sap.olingo.jpa.processor.cb.impl;
 
 enum SqlWindowFunctions {
 
-  ROW_NUMBER("ROW_NUMBER");
+  ROW_NUMBER("ROW_NUMBER", ""),
+  COUNT("COUNT", "*");
 
   private String keyWord;
+  private String argument;
 
-  private SqlWindowFunctions(final String keyWord) {
+  private SqlWindowFunctions(final String keyWord, final String argument) {
     this.keyWord = keyWord;
+    this.argument = argument;
+  }
+
+  String getArgument() {
+    return argument;
   }
 
   @Override
@@ -2,13 +2,15 @@ package com.sap.olingo.jpa.processor.cb.impl;
 
 import static com.sap.olingo.jpa.processor.cb.impl.TypeConverter.convert;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
 
+import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TupleElement;
 
@@ -23,6 +25,7 @@ class TupleImpl implements Tuple {
   private final Object[] values;
   private final List<Entry<String, JPAAttribute>> selection;
   private final Map<String, Integer> selectionIndex;
+  private final List<UnaryOperator<Object>> readers;
   private Optional<List<TupleElement<?>>> tupleElements;
 
   TupleImpl(final Object value, final List<Entry<String, JPAAttribute>> selection,
@@ -32,18 +35,61 @@ class TupleImpl implements Tuple {
 
   TupleImpl(final Object[] values, final List<Entry<String, JPAAttribute>> selPath,
       final Map<String, Integer> selectionIndex) {
+    this(values, selPath, selectionIndex, createReaders(selPath));
+  }
+
+  /**
+   * Creates a tuple that uses the given readers to convert the raw values. The readers are shared by all tuples of a
+   * result, see {@link #createReaders(List)}.
+   */
+  TupleImpl(final Object value, final List<Entry<String, JPAAttribute>> selection,
+      final Map<String, Integer> selectionIndex, final List<UnaryOperator<Object>> readers) {
+    this(new Object[] { value }, selection, selectionIndex, readers);
+  }
+
+  TupleImpl(final Object[] values, final List<Entry<String, JPAAttribute>> selPath,
+      final Map<String, Integer> selectionIndex, final List<UnaryOperator<Object>> readers) {
     super();
     this.values = values;
     this.selection = selPath;
     this.selectionIndex = selectionIndex;
+    this.readers = readers;
     this.tupleElements = Optional.empty();
   }
 
+  /**
+   * Creates for each selected attribute a function, that converts a raw database value into the value of the
+   * attribute. The function is determined once per result, so the check for enumerations and converter is not
+   * repeated for each row.
+   * @param selection
+   * @return
+   */
+  static List<UnaryOperator<Object>> createReaders(final List<Entry<String, JPAAttribute>> selection) {
+    final List<UnaryOperator<Object>> readers = new ArrayList<>(selection.size());
+    for (final Entry<String, JPAAttribute> entry : selection)
+      readers.add(createReader(entry.getValue()));
+    return readers;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static UnaryOperator<Object> createReader(final JPAAttribute attribute) {
+    if (attribute.isEnum() && attribute.getConverter() == null) {
+      final Object[] constants = attribute.getType().getEnumConstants();
+      return value -> constants[(Integer) convert(value, Integer.class)];
+    }
+    final Class<?> dbType = attribute.getDbType();
+    final AttributeConverter<Object, Object> converter = (AttributeConverter<Object, Object>) attribute
+        .getRawConverter();
+    if (converter != null)
+      return value -> converter.convertToEntityAttribute(convert(value, dbType));
+    return value -> convert(value, dbType);
+  }
+
   /**
    * Get the value of the element at the specified
    * position in the result tuple. The first position is 0.
    * <p>
-   * <b>Please note:</b> As of now <b>no</b> conversions are made.
+   * The value is converted the same way as by {@link #get(String)}.
    * @param i position in result tuple
    * @return value of the tuple element
    * @throws IllegalArgumentException if i exceeds
@@ -53,14 +99,14 @@ class TupleImpl implements Tuple {
   public Object get(final int index) {
     if (index >= values.length || index < 0)
       throw new IllegalArgumentException("Index out of bound");
-    return values[index];
+    if (values[index] == null)
+      return null;
+    return readers.get(index).apply(values[index]);
   }
 
   /**
    * Get the value of the element at the specified
    * position in the result tuple. The first position is 0.
-   * <p>
-   * <b>Please note:</b> As of now <b>no</b> conversions are made.
    * @param i position in result tuple
    * @param type type of the tuple element
    * @return value of the tuple element
@@ -86,22 +132,10 @@ class TupleImpl implements Tuple {
   @Override
   public Object get(final String alias) {
 
-    if (selectionIndex.containsKey(alias)) {
-      final int index = selectionIndex.get(alias);
-      final JPAAttribute attribute = selection.get(index).getValue();
-      if (values[index] == null)
-        return null;
-      if (attribute.isEnum() && attribute.getConverter() == null) {
-        final int value = (Integer) convert(values[index], Integer.class);
-        return attribute.getType().getEnumConstants()[value];
-      }
-      final Object value = convert(values[index], attribute.getDbType());
-      if (attribute.getRawConverter() != null)
-        return attribute.getRawConverter().convertToEntityAttribute(value);
-      return value;
-    } else {
-      throw new IllegalArgumentException("Unknown alias: " + alias);
-    }
+    final Integer index = selectionIndex.get(alias);
+    if (index != null)
+      return get(index.intValue());
+    throw new IllegalArgumentException("Unknown alias: " + alias);
   }
 
   /**
@@ -135,7 +169,7 @@ class TupleImpl implements Tuple {
   }
 
   /**
-   * Return the tuple elements.
+   * Return the tuple elements in the sequence of the values.
    * @return tuple elements
    */
   @Override
@@ -153,11 +187,10 @@ class TupleImpl implements Tuple {
   }
 
   private List<TupleElement<?>> asTupleElements() {
-    tupleElements = Optional.of(
-        selectionIndex.entrySet()
-            .stream()
-            .map(element -> new TupleElementImpl<>(element.getValue()))
-            .collect(Collectors.toList())); // NOSONAR
+    final List<TupleElement<?>> elements = new ArrayList<>(values.length);
+    for (int index = 0; index < values.length; index++)
+      elements.add(new TupleElementImpl<>(index));
+    tupleElements = Optional.of(elements);
     return tupleElements.orElseThrow(IllegalStateException::new);
   }
 
@@ -8,7 +8,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.FlushModeType;
@@ -37,6 +39,7 @@ class TypedQueryImpl<T> implements TypedQuery<T> {
   private final CriteriaQueryImpl<T> parent;
   private final Query query;
   private final ProcessorSelection<T> selection;
+  private final SqlStatement statement;
 
   TypedQueryImpl(final CriteriaQuery<T> criteriaQuery, final EntityManager em,
       final ParameterBuffer parameterBuffer) {
@@ -44,8 +47,9 @@ class TypedQueryImpl<T> implements TypedQuery<T> {
     this.parent = (CriteriaQueryImpl<T>) criteriaQuery;
     this.parent.getResultType();
     this.selection = (ProcessorSelection<T>) parent.getSelection();
-    this.query = em.createNativeQuery(parent.asSQL(sql).toString());
-    copyParameter(parameterBuffer.getParameter());
+    this.statement = SqlStatement.of(parent.asSQL(sql));
+    this.query = em.createNativeQuery(statement.sql());
+    copyParameter(parameterBuffer.getParameter(), statement.positions());
   }
 
   @Override
@@ -142,25 +146,65 @@ class TypedQueryImpl<T> implements TypedQuery<T> {
   @Override
   public List<T> getResultList() {
 
+    final SqlQueryEvent event = new SqlQueryEvent();
+    event.begin();
     final List<?> result = query.getResultList();
+    commitEvent(event, result.size());
     if (parent.getResultType().isAssignableFrom(Tuple.class)) {
       if (result.isEmpty())
         return Collections.emptyList();
       final List<Entry<String, JPAPath>> selectionPath = buildSelection();
       final Map<String, Integer> index = buildSelectionIndex(selectionPath);
       final List<Entry<String, JPAAttribute>> selectionAttributes = toAttributeList(selectionPath);
+      final List<UnaryOperator<Object>> readers = TupleImpl.createReaders(selectionAttributes);
       if (result.get(0).getClass().isArray()) {
         return (List<T>) ((List<Object[]>) result).stream()
-            .map(item -> new TupleImpl(item, selectionAttributes, index))
+            .map(item -> new TupleImpl(item, selectionAttributes, index, readers))
             .collect(Collectors.toList()); // NOSONAR
       }
       return (List<T>) ((List<Object>) result).stream()
-          .map(item -> new TupleImpl(item, selectionAttributes, index))
+          .map(item -> new TupleImpl(item, selectionAttributes, index, readers))
           .collect(Collectors.toList()); // NOSONAR
     }
     return (List<T>) result;
   }
 
+  /**
+   * Execute a SELECT query and return the query results as a typed stream. Other than {@link #getResultList()} the
+   * rows are converted into tuple while the stream is consumed.
+   * @return a stream of the results
+   * @see #getResultList()
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public Stream<T> getResultStream() {
+
+    final SqlQueryEvent event = new SqlQueryEvent();
+    event.begin();
+    final Stream<?> result = query.getResultStream();
+    commitEvent(event, SqlQueryEvent.UNKNOWN);
+    if (parent.getResultType().isAssignableFrom(Tuple.class)) {
+      final List<Entry<String, JPAPath>> selectionPath = buildSelection();
+      final Map<String, Integer> index = buildSelectionIndex(selectionPath);
+      final List<Entry<String, JPAAttribute>> selectionAttributes = toAttributeList(selectionPath);
+      final List<UnaryOperator<Object>> readers = TupleImpl.createReaders(selectionAttributes);
+      return (Stream<T>) result.map(item -> item instanceof final Object[] values
+          ? new TupleImpl(values, selectionAttributes, index, readers)
+          : new TupleImpl(item, selectionAttributes, index, readers));
+    }
+    return (Stream<T>) result;
+  }
+
+  private void commitEvent(final SqlQueryEvent event, final int rowsFetched) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.sql = statement.sql();
+      event.parameterCount = statement.positions().size();
+      event.rowsFetched = rowsFetched;
+      event.commit();
+    }
+  }
+
   /**
    * Execute a SELECT query that returns a single untyped result.
    * @return the result
@@ -297,9 +341,13 @@ class TypedQueryImpl<T> implements TypedQuery<T> {
         .collect(Collectors.toMap(Entry::getKey, path -> count[0]++));
   }
 
-  private void copyParameter(final Map<Integer, ParameterExpression<?, ?>> map) {
-    map.entrySet().stream().forEach(es -> this.query.setParameter(es.getValue().getPosition(), es.getValue()
-        .getValue()));
+  private void copyParameter(final Map<Integer, ParameterExpression<?, ?>> parameterByPosition,
+      final List<Integer> positions) {
+    for (int slot = 1; slot <= positions.size(); slot++) {
+      final ParameterExpression<?, ?> parameter = parameterByPosition.get(positions.get(slot - 1));
+      if (parameter != null)
+        this.query.setParameter(slot, parameter.getValue());
+    }
   }
 
   private List<Entry<String, JPAAttribute>> toAttributeList(final List<Entry<String, JPAPath>> selectionPath) {
@@ -865,6 +865,21 @@ class CriteriaBuilderImplTest extends BuilderBaseTest {
     assertEquals(exp, ((SqlConvertible) act).asSQL(statement).toString());
   }
 
+  @Test
+  void testCreateRowCount() {
+    final String exp = "COUNT(*) OVER()";
+    final Selection<Long> act = cut.rowCount();
+    assertEquals(exp, ((SqlConvertible) act).asSQL(statement).toString());
+  }
+
+  @Test
+  void testCreateRowCountWithPartitionBy() {
+    final String exp = "COUNT(*) OVER( PARTITION BY E0.\"CodeID\")";
+    final Root<?> administrativeDivision = query.from(AdministrativeDivision.class);
+    final Selection<Long> act = cut.rowCount().partitionBy(administrativeDivision.get("codeID"));
+    assertEquals(exp, ((SqlConvertible) act).asSQL(statement).toString());
+  }
+
   @Test
   void testCreateConcatExpression() {
     final String stringA = "A";
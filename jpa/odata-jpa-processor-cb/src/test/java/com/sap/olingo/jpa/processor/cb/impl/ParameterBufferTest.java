@@ -0,0 +1,50 @@
+package com.sap.olingo.jpa.processor.cb.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.cb.impl.ExpressionImpl.ParameterExpression;
+
+class ParameterBufferTest {
+  private ParameterBuffer cut;
+
+  @BeforeEach
+  void setup() {
+    cut = new ParameterBuffer();
+  }
+
+  @Test
+  void testAddValueReturnsSameParameterForSameValue() {
+    final ParameterExpression<Object, String> first = cut.addValue("Test");
+    assertSame(first, cut.addValue("Test"));
+    assertEquals(1, cut.getParameter().size());
+  }
+
+  @Test
+  void testAddValueCreatesNewParameterForNewValue() {
+    final ParameterExpression<Object, String> first = cut.addValue("Test");
+    final ParameterExpression<Object, String> second = cut.addValue("Other");
+    assertNotEquals(first.getPosition(), second.getPosition());
+    assertEquals(2, cut.getParameter().size());
+  }
+
+  @Test
+  void testGetParameterByPosition() {
+    cut.addValue("Test");
+    final ParameterExpression<Object, Integer> act = cut.addValue(10);
+    assertSame(act, cut.getParameter().get(act.getPosition()));
+  }
+
+  @Test
+  void testAddValueHashCollisionCreatesNewParameter() {
+    // "Aa" and "BB" have the same hash code
+    final ParameterExpression<Object, String> first = cut.addValue("Aa");
+    final ParameterExpression<Object, String> second = cut.addValue("BB");
+    assertNotEquals(first.getPosition(), second.getPosition());
+    assertEquals("BB", cut.getParameter().get(second.getPosition()).getValue());
+  }
+}
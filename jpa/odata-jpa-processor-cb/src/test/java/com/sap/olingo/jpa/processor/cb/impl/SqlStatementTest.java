@@ -0,0 +1,48 @@
+package com.sap.olingo.jpa.processor.cb.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class SqlStatementTest {
+
+  @Test
+  void testStatementWithoutParameterUnchanged() {
+    final SqlStatement act = SqlStatement.of("SELECT E0.\"ID\" S0 FROM \"OLINGO\".\"BusinessPartner\" E0");
+    assertEquals("SELECT E0.\"ID\" S0 FROM \"OLINGO\".\"BusinessPartner\" E0", act.sql());
+    assertTrue(act.positions().isEmpty());
+  }
+
+  @Test
+  void testParameterRenumberedByFirstOccurrence() {
+    final SqlStatement act = SqlStatement.of("SELECT * FROM T WHERE (A = ?12) AND ((B = ?7) OR (C = ?12))");
+    assertEquals("SELECT * FROM T WHERE (A = ?1) AND ((B = ?2) OR (C = ?1))", act.sql());
+    assertEquals(Arrays.asList(12, 7), act.positions());
+  }
+
+  @Test
+  void testSameShapeDifferentPositionsResultsInSameStatement() {
+    final SqlStatement first = SqlStatement.of("SELECT * FROM T WHERE (A = ?1) AND (B = ?2)");
+    final SqlStatement second = SqlStatement.of("SELECT * FROM T WHERE (A = ?5) AND (B = ?9)");
+    assertEquals(first.sql(), second.sql());
+    assertEquals(Arrays.asList(5, 9), second.positions());
+  }
+
+  @Test
+  void testQuotedTextNotChanged() {
+    final SqlStatement act = SqlStatement.of("SELECT \"?3\" FROM T WHERE (A = '?4') AND (B = ?5)");
+    assertEquals("SELECT \"?3\" FROM T WHERE (A = '?4') AND (B = ?1)", act.sql());
+    assertEquals(Collections.singletonList(5), act.positions());
+  }
+
+  @Test
+  void testQuestionMarkWithoutNumberNotChanged() {
+    final SqlStatement act = SqlStatement.of("SELECT * FROM T WHERE A = ?");
+    assertEquals("SELECT * FROM T WHERE A = ?", act.sql());
+    assertTrue(act.positions().isEmpty());
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -16,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.UnaryOperator;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Tuple;
@@ -166,4 +168,38 @@ class TupleImplTest {
     cut = new TupleImpl(values, selPath, selectionIndex);
     assertTrue(cut.get(TIME_VALUE) instanceof LocalDateTime);
   }
+
+  @Test
+  void testGetByIndexReturnsConvertedValue() {
+    assertTrue(cut.get(3) instanceof LocalDateTime);
+    assertEquals(cut.get(TIME_VALUE), cut.get(3));
+  }
+
+  @Test
+  void testGetTupleElementsInSequenceOfValues() {
+    final List<TupleElement<?>> act = cut.getElements();
+    assertEquals(FIRST_VALUE, act.get(0).getAlias());
+    assertEquals(SECOND_VALUE, act.get(1).getAlias());
+    assertEquals(THIRD_VALUE, act.get(2).getAlias());
+    assertEquals(TIME_VALUE, act.get(3).getAlias());
+  }
+
+  @Test
+  void testTuplesShareReaders() {
+    final List<UnaryOperator<Object>> readers = TupleImpl.createReaders(selPath);
+    final Object[] otherValues = { "Hi", "There", 4, Timestamp.valueOf("2020-02-26 15:01:26") };
+    final Tuple first = new TupleImpl(values, selPath, selectionIndex, readers);
+    final Tuple second = new TupleImpl(otherValues, selPath, selectionIndex, readers);
+    assertEquals(LocalDateTime.of(2019, 1, 25, 14, 0, 25), first.get(TIME_VALUE));
+    assertEquals(LocalDateTime.of(2020, 2, 26, 15, 1, 26), second.get(3));
+    assertEquals("There", second.get(SECOND_VALUE));
+  }
+
+  @Test
+  void testGetByIndexReturnsNullForNullValue() {
+    values[3] = null;
+    cut = new TupleImpl(values, selPath, selectionIndex);
+    assertNull(cut.get(3));
+    assertNull(cut.get(TIME_VALUE));
+  }
 }
@@ -2,14 +2,23 @@ package com.sap.olingo.jpa.processor.cb.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Date;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.FlushModeType;
@@ -17,10 +26,15 @@ import jakarta.persistence.LockModeType;
 import jakarta.persistence.Parameter;
 import jakarta.persistence.Query;
 import jakarta.persistence.TemporalType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.sap.olingo.jpa.processor.cb.impl.ExpressionImpl.ParameterExpression;
+
 class TypedQueryImplTest extends BuilderBaseTest {
   private TypedQueryImpl<Long> cut;
   private EntityManager em;
@@ -40,6 +54,21 @@ class TypedQueryImplTest extends BuilderBaseTest {
     cut = new TypedQueryImpl<>(cq, em, parameterBuffer);
   }
 
+  @Test
+  void testCreateUsesNormalizedStatementAndBindsUsedParameterOnly() {
+    final ParameterExpression<String, String> first = parameterBuffer.addValue("A");
+    parameterBuffer.addValue("B");
+    final ParameterExpression<String, String> third = parameterBuffer.addValue("C");
+    when(cq.asSQL(any())).thenReturn(new StringBuilder().append("SELECT * FROM T WHERE (A = ?")
+        .append(third.getPosition()).append(") AND (B = ?").append(first.getPosition()).append(")"));
+    when(em.createNativeQuery("SELECT * FROM T WHERE (A = ?1) AND (B = ?2)")).thenReturn(q);
+
+    cut = new TypedQueryImpl<>(cq, em, parameterBuffer);
+    verify(q).setParameter(1, "C");
+    verify(q).setParameter(2, "A");
+    verify(q, never()).setParameter(anyInt(), eq("B"));
+  }
+
   @Test
   void testExecuteUpdate() {
     cut.executeUpdate();
@@ -230,6 +259,53 @@ class TypedQueryImplTest extends BuilderBaseTest {
     verify(q).setParameter("Test", "Test");
   }
 
+  @Test
+  void testGetResultListRecordsSqlQueryEvent() throws IOException {
+    when(cq.getResultType()).thenReturn(Long.class);
+    when(q.getResultList()).thenReturn(List.of(1L, 2L));
+    final Path file = Files.createTempFile("SqlQuery", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(SqlQueryEvent.NAME).withThreshold(Duration.ZERO);
+      recording.start();
+      assertEquals(List.of(1L, 2L), cut.getResultList());
+      recording.stop();
+      recording.dump(file);
+
+      final List<RecordedEvent> act = RecordingFile.readAllEvents(file).stream()
+          .filter(event -> SqlQueryEvent.NAME.equals(event.getEventType().getName()))
+          .toList();
+      assertEquals(1, act.size());
+      assertEquals("Test", act.get(0).getString("sql"));
+      assertEquals(0, act.get(0).getInt("parameterCount"));
+      assertEquals(2, act.get(0).getInt("rowsFetched"));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  void testGetResultStreamRecordsSqlQueryEvent() throws IOException {
+    when(cq.getResultType()).thenReturn(Long.class);
+    when(q.getResultStream()).thenReturn(Stream.of(1L, 2L));
+    final Path file = Files.createTempFile("SqlQuery", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(SqlQueryEvent.NAME).withThreshold(Duration.ZERO);
+      recording.start();
+      assertEquals(List.of(1L, 2L), cut.getResultStream().toList());
+      recording.stop();
+      recording.dump(file);
+
+      final List<RecordedEvent> act = RecordingFile.readAllEvents(file).stream()
+          .filter(event -> SqlQueryEvent.NAME.equals(event.getEventType().getName()))
+          .toList();
+      assertEquals(1, act.size());
+      assertEquals("Test", act.get(0).getString("sql"));
+      assertEquals(SqlQueryEvent.UNKNOWN, act.get(0).getInt("rowsFetched"));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
   @Test
   void testUnwrap() {
     cut.unwrap(String.class);
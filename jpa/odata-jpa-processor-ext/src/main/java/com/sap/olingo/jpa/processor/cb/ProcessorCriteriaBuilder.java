@@ -22,6 +22,14 @@ public interface ProcessorCriteriaBuilder extends CriteriaBuilder {
 
   public WindowFunction<Long> rowNumber();
 
+  /**
+   * Creates the window function <code>COUNT(*) OVER()</code>, which adds the number of rows of the (partition of the)
+   * result to each row.
+   * @return count window function
+   * @since 2.1.0
+   */
+  public WindowFunction<Long> rowCount();
+
   /**
    * Create predicate to test whether given expression
    * is contained in a list of values.
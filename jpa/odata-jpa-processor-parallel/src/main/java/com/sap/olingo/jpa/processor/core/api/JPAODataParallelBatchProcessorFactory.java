@@ -1,16 +1,62 @@
 package com.sap.olingo.jpa.processor.core.api;
 
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 import javax.annotation.Nonnull;
 
 import com.sap.olingo.jpa.processor.core.processor.JPAODataParallelBatchProcessor;
 
+/**
+ * Factory for {@link JPAODataParallelBatchProcessor}. The GET requests of a batch request are executed on an executor.
+ * By default this is the common fork join pool. As the requests mainly wait for the database, it can be useful to
+ * provide an own executor, like a fixed thread pool sized according to the connection pool or, starting with Java 21,
+ * a virtual thread per task executor. In addition the number of requests executed in parallel can be restricted.
+ * <p>
+ * Each request gets its own entity manager, created by the entity manager factory of the session context. If no
+ * entity manager factory is available, the requests are executed one after the other.
+ */
 public class JPAODataParallelBatchProcessorFactory implements
     JPAODataBatchProcessorFactory<JPAODataParallelBatchProcessor> {
 
+  private final Executor executor;
+  private final int maxParallelism;
+
+  public JPAODataParallelBatchProcessorFactory() {
+    this(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param executor Executor the GET requests are executed on. The executor is not shut down by the processor.
+   */
+  public JPAODataParallelBatchProcessorFactory(@Nonnull final Executor executor) {
+    this(executor, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param maxParallelism Maximum number of GET requests of one batch request executed in parallel on the common fork
+   * join pool
+   */
+  public JPAODataParallelBatchProcessorFactory(final int maxParallelism) {
+    this(ForkJoinPool.commonPool(), maxParallelism);
+  }
+
+  /**
+   * @param executor Executor the GET requests are executed on. The executor is not shut down by the processor.
+   * @param maxParallelism Maximum number of GET requests of one batch request executed in parallel
+   */
+  public JPAODataParallelBatchProcessorFactory(@Nonnull final Executor executor, final int maxParallelism) {
+    if (maxParallelism < 1)
+      throw new IllegalArgumentException("Maximum parallelism must be at least 1");
+    this.executor = Objects.requireNonNull(executor);
+    this.maxParallelism = maxParallelism;
+  }
+
   @Override
   public JPAODataParallelBatchProcessor getBatchProcessor(@Nonnull final JPAODataSessionContextAccess serviceContext,
       @Nonnull final JPAODataRequestContextAccess requestContext) {
-    return new JPAODataParallelBatchProcessor(serviceContext, requestContext);
+    return new JPAODataParallelBatchProcessor(serviceContext, requestContext, executor, maxParallelism);
   }
 
 }
@@ -1,9 +1,16 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 
 import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.ODataHandler;
 import org.apache.olingo.server.api.ODataLibraryException;
@@ -12,9 +19,17 @@ import org.apache.olingo.server.api.deserializer.batch.BatchRequestPart;
 import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
 import org.apache.olingo.server.core.batchhandler.BatchFacadeImpl;
 
+import com.sap.olingo.jpa.processor.core.api.JPAODataAllocationAccount;
+import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestProcessor;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPABatchRuntimeException;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 
+/**
+ * Executes a group of GET requests in parallel on the executor of the processor. Each request gets its own entity
+ * manager, as entity managers are not thread safe. In case no entity manager factory is available, the requests are
+ * executed one after the other using the entity manager of the batch request.
+ */
 class JPAODataBatchParallelRequestGroup implements JPAODataBatchRequestGroup {
   private final List<BatchRequestPart> requestParts;
   private final JPAODataParallelBatchProcessor processor;
@@ -31,15 +46,24 @@ class JPAODataBatchParallelRequestGroup implements JPAODataBatchRequestGroup {
     try {
 
       processor.getRequestContext().getDebugger().debug(this, "Number of groups elements : %d", requestParts.size());
-
-      final List<CompletableFuture<ODataResponsePart>> requests = requestParts.stream()
-          .map(part -> startBatchPart(buildFacade(), part))
-          .toList();
+      final Optional<? extends EntityManagerFactory> emf = processor.getRequestContext().getEntityManagerFactory();
+      if (emf.isEmpty()) {
+        final BatchFacade facade = buildFacade(processor.getRequestContext());
+        return requestParts.stream()
+            .map(part -> executePart(facade, part))
+            .toList();
+      }
+      final Semaphore permits = new Semaphore(processor.getMaxParallelism());
+      final List<CompletableFuture<ODataResponsePart>> requests = new ArrayList<>(requestParts.size());
+      for (final BatchRequestPart part : requestParts)
+        requests.add(startBatchPart(emf.get(), part, permits));
 
       return CompletableFuture.allOf(requests.toArray(new CompletableFuture[requests.size()]))
           .thenApply(dummy -> requests.stream()
               .map(CompletableFuture::join)
               .toList()).join();
+    } catch (final ODataJPABatchRuntimeException e) {
+      throw e;
     } catch (final RuntimeException e) {
       // startBatchPart throws an runtime exception that wraps the original exception. This runtime exception gets is
       // wrapped into an CompletionException. The original exception has to be re-wrapped, so the caller can handle it.
@@ -47,20 +71,71 @@ class JPAODataBatchParallelRequestGroup implements JPAODataBatchRequestGroup {
     }
   }
 
-  private BatchFacade buildFacade() {
+  private BatchFacade buildFacade(final JPAODataRequestContextAccess requestContext) {
     final ODataHandler odataHandler = processor.getOdata().createRawHandler(processor.getServiceMetadata());
-    odataHandler.register(new JPAODataRequestProcessor(processor.getServiceContext(), processor.getRequestContext()));
+    odataHandler.register(new JPAODataRequestProcessor(processor.getServiceContext(), requestContext));
     return new BatchFacadeImpl(odataHandler, processor, true);
   }
 
-  private CompletableFuture<ODataResponsePart> startBatchPart(final BatchFacade facade,
-      final BatchRequestPart requestPart) {
-    return CompletableFuture.supplyAsync(() -> {
-      try {
-        return facade.handleBatchRequest(requestPart);
-      } catch (ODataApplicationException | ODataLibraryException e) {
-        throw new ODataJPABatchRuntimeException(e);
-      }
-    });
+  /**
+   * The number of parallel requests is restricted by the permits. A permit is taken before the request is handed
+   * over to the executor and given back after the request has been processed. The request context of the part is
+   * created by the calling thread, as the request context of the batch request is not thread safe.
+   */
+  private CompletableFuture<ODataResponsePart> startBatchPart(final EntityManagerFactory emf,
+      final BatchRequestPart requestPart, final Semaphore permits) {
+    acquire(permits);
+    final EntityManager em = emf.createEntityManager();
+    try {
+      final BatchFacade facade = buildFacade(new JPAODataInternalRequestContext(processor.getRequestContext(), em));
+      final Thread caller = Thread.currentThread();
+      return CompletableFuture.supplyAsync(() -> executePart(facade, requestPart, caller), processor.getExecutor())
+          .whenComplete((response, error) -> {
+            em.close();
+            permits.release();
+          });
+    } catch (final ODataJPAProcessorException e) {
+      em.close();
+      permits.release();
+      throw new ODataJPABatchRuntimeException(e);
+    } catch (final RuntimeException e) {
+      em.close();
+      permits.release();
+      throw e;
+    }
+  }
+
+  private ODataResponsePart executePart(final BatchFacade facade, final BatchRequestPart requestPart) {
+    try {
+      return facade.handleBatchRequest(requestPart);
+    } catch (ODataApplicationException | ODataLibraryException e) {
+      throw new ODataJPABatchRuntimeException(e);
+    }
+  }
+
+  /**
+   * The memory allocated by a part executed by another thread is added to the allocation account of the batch
+   * request. Allocations of the calling thread are counted by the caller itself.
+   */
+  private ODataResponsePart executePart(final BatchFacade facade, final BatchRequestPart requestPart,
+      final Thread caller) {
+    final long allocatedAtStart = Thread.currentThread() != caller
+        ? JPAODataAllocationAccount.currentThreadAllocatedBytes()
+        : -1L;
+    try {
+      return executePart(facade, requestPart);
+    } finally {
+      processor.getRequestContext().getAllocationAccount().ifPresent(account -> account.addSince(allocatedAtStart));
+    }
+  }
+
+  private void acquire(final Semaphore permits) {
+    try {
+      permits.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ODataJPABatchRuntimeException(new ODataJPAProcessorException(e,
+          HttpStatusCode.INTERNAL_SERVER_ERROR));
+    }
   }
 }
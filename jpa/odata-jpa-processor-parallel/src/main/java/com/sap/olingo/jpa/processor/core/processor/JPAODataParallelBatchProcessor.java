@@ -5,6 +5,8 @@ import static com.sap.olingo.jpa.processor.core.exception.ODataJPABatchException
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.annotation.Nonnull;
 
@@ -40,9 +42,19 @@ import com.sap.olingo.jpa.processor.core.exception.ODataJPABatchRuntimeException
  */
 public class JPAODataParallelBatchProcessor extends JPAODataBatchProcessor {
 
+  private final Executor executor;
+  private final int maxParallelism;
+
   public JPAODataParallelBatchProcessor(final JPAODataSessionContextAccess serviceContext,
       final JPAODataRequestContextAccess requestContext) {
+    this(serviceContext, requestContext, ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+  }
+
+  public JPAODataParallelBatchProcessor(final JPAODataSessionContextAccess serviceContext,
+      final JPAODataRequestContextAccess requestContext, @Nonnull final Executor executor, final int maxParallelism) {
     super(serviceContext, requestContext);
+    this.executor = executor;
+    this.maxParallelism = maxParallelism;
   }
 
   @Override
@@ -107,6 +119,14 @@ public class JPAODataParallelBatchProcessor extends JPAODataBatchProcessor {
     return serviceMetadata;
   }
 
+  Executor getExecutor() {
+    return executor;
+  }
+
+  int getMaxParallelism() {
+    return maxParallelism;
+  }
+
   private void addLastGroup(final List<JPAODataBatchRequestGroup> groups, final Boolean isGetGroup,
       final List<BatchRequestPart> groupElements) {
     if (Boolean.FALSE.equals(isGetGroup) || groupElements.size() == 1)
@@ -0,0 +1,37 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+class JPAODataParallelBatchProcessorFactoryTest {
+
+  @Test
+  void testDefaultFactoryReturnsProcessor() {
+    final JPAODataParallelBatchProcessorFactory cut = new JPAODataParallelBatchProcessorFactory();
+    assertNotNull(cut.getBatchProcessor(mock(JPAODataSessionContextAccess.class), mock(
+        JPAODataRequestContextAccess.class)));
+  }
+
+  @Test
+  void testFactoryWithExecutorReturnsProcessor() {
+    final JPAODataParallelBatchProcessorFactory cut = new JPAODataParallelBatchProcessorFactory(mock(Executor.class),
+        4);
+    assertNotNull(cut.getBatchProcessor(mock(JPAODataSessionContextAccess.class), mock(
+        JPAODataRequestContextAccess.class)));
+  }
+
+  @Test
+  void testFactoryThrowsExceptionOnMaxParallelismZero() {
+    assertThrows(IllegalArgumentException.class, () -> new JPAODataParallelBatchProcessorFactory(0));
+  }
+
+  @Test
+  void testFactoryThrowsExceptionOnExecutorNull() {
+    assertThrows(NullPointerException.class, () -> new JPAODataParallelBatchProcessorFactory(null, 1));
+  }
+}
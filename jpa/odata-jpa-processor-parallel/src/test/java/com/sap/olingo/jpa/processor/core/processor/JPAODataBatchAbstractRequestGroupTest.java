@@ -28,7 +28,7 @@ abstract class JPAODataBatchAbstractRequestGroupTest {
 
   protected JPAODataParallelBatchProcessor processor;
   protected ODataHandler odataHandler;
-  private JPAODataRequestContextAccess requestContext;
+  protected JPAODataRequestContextAccess requestContext;
   private JPAODataSessionContextAccess serviceContext;
   private OData odata;
   private ServiceMetadata serviceMetadata;
@@ -1,5 +1,9 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -7,6 +11,17 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 
 import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.commons.api.http.HttpMethod;
@@ -127,6 +142,101 @@ class JPAODataBatchParallelRequestGroupTest extends JPAODataBatchAbstractRequest
     Assertions.assertThrows(ODataJPABatchRuntimeException.class, cut::execute);
   }
 
+  @Test
+  void testPartsExecutedInParallelWithEntityManagerFactory() {
+    final EntityManagerFactory emf = mock(EntityManagerFactory.class);
+    final CountDownLatch allStarted = new CountDownLatch(2);
+    final AtomicBoolean sequential = new AtomicBoolean();
+    doReturn(Optional.of(emf)).when(requestContext).getEntityManagerFactory();
+    when(emf.createEntityManager()).thenAnswer(invocation -> mock(EntityManager.class));
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    doReturn(executor).when(processor).getExecutor();
+    final ODataRequest request1 = buildPart();
+    final ODataRequest request2 = buildPart();
+    final ODataResponse part1 = mock(ODataResponse.class);
+    final ODataResponse part2 = mock(ODataResponse.class);
+    // Each part waits until the other one has started, which only happens if both are executed at the same time
+    final Answer<ODataResponse> waitForOther = invocation -> {
+      allStarted.countDown();
+      if (!allStarted.await(5, TimeUnit.SECONDS))
+        sequential.set(true);
+      return invocation.getArgument(0) == request1 ? part1 : part2;
+    };
+    when(odataHandler.process(request1)).thenAnswer(waitForOther);
+    when(odataHandler.process(request2)).thenAnswer(waitForOther);
+    try {
+      final List<ODataResponsePart> act = cut.execute();
+      assertFalse(sequential.get());
+      assertEquals(2, act.size());
+      assertEquals(part1, act.get(0).getResponses().get(0));
+      assertEquals(part2, act.get(1).getResponses().get(0));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testEachPartGetsOwnEntityManager() {
+    final EntityManagerFactory emf = mock(EntityManagerFactory.class);
+    final EntityManager em1 = mock(EntityManager.class);
+    final EntityManager em2 = mock(EntityManager.class);
+    doReturn(Optional.of(emf)).when(requestContext).getEntityManagerFactory();
+    when(emf.createEntityManager()).thenReturn(em1, em2);
+    buildPart();
+    buildPart();
+
+    final List<ODataResponsePart> act = cut.execute();
+    assertEquals(2, act.size());
+    verify(emf, times(2)).createEntityManager();
+    verify(em1, times(1)).close();
+    verify(em2, times(1)).close();
+  }
+
+  @Test
+  void testPartsExecutedOnProvidedExecutor() {
+    final EntityManagerFactory emf = mock(EntityManagerFactory.class);
+    final AtomicInteger noTasks = new AtomicInteger();
+    doReturn(Optional.of(emf)).when(requestContext).getEntityManagerFactory();
+    when(emf.createEntityManager()).thenAnswer(invocation -> mock(EntityManager.class));
+    doReturn((Executor) task -> {
+      noTasks.incrementAndGet();
+      task.run();
+    }).when(processor).getExecutor();
+    buildPart();
+    buildPart();
+    buildPart();
+
+    assertEquals(3, cut.execute().size());
+    assertEquals(3, noTasks.get());
+  }
+
+  @Test
+  void testMaxParallelismRespected() {
+    final EntityManagerFactory emf = mock(EntityManagerFactory.class);
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    doReturn(Optional.of(emf)).when(requestContext).getEntityManagerFactory();
+    when(emf.createEntityManager()).thenAnswer(invocation -> mock(EntityManager.class));
+    doReturn(2).when(processor).getMaxParallelism();
+    final ExecutorService executor = Executors.newFixedThreadPool(5);
+    doReturn(executor).when(processor).getExecutor();
+    for (int i = 0; i < 6; i++) {
+      final ODataRequest request = buildPart();
+      when(odataHandler.process(request)).thenAnswer(invocation -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.sleep(20); // NOSONAR
+        running.decrementAndGet();
+        return mock(ODataResponse.class);
+      });
+    }
+    try {
+      assertEquals(6, cut.execute().size());
+      assertTrue(maxRunning.get() <= 2);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   private static class AnswerLate<T> implements Answer<T> {
     private final int millisDelay;
     private final T response;
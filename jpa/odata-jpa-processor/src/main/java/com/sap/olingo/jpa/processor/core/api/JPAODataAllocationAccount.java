@@ -0,0 +1,102 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Sums up the heap memory allocated by the threads that process a request. Besides the thread of the request, the
+ * threads that execute $expand queries or batch parts in parallel add their allocations to the account of the
+ * request.
+ * <p>
+ * The allocations are taken from {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}, so they are
+ * only available on JVMs that provide module jdk.management and support and have enabled the measurement of thread
+ * allocations, like HotSpot.
+ *
+ * @since 2.1.0
+ */
+public final class JPAODataAllocationAccount {
+  private static final LongSupplier ALLOCATION_METER = determineAllocationMeter();
+
+  private final LongAdder allocatedBytes = new LongAdder();
+  private final AtomicReference<Supplier<String>> target = new AtomicReference<>();
+
+  /**
+   * @return True if allocations can be measured on this JVM
+   */
+  public static boolean isSupported() {
+    return ALLOCATION_METER != null;
+  }
+
+  /**
+   * @return Bytes allocated by the current thread since it was started, -1 if allocations can not be measured
+   */
+  public static long currentThreadAllocatedBytes() {
+    return ALLOCATION_METER != null ? ALLOCATION_METER.getAsLong() : -1L;
+  }
+
+  /**
+   * Adds the bytes the current thread has allocated since <code>start</code>.
+   * @param start Result of {@link #currentThreadAllocatedBytes()} taken by the current thread at the beginning
+   */
+  public void addSince(final long start) {
+    if (start >= 0)
+      allocatedBytes.add(currentThreadAllocatedBytes() - start);
+  }
+
+  /**
+   * @return Bytes added to the account so far
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes.sum();
+  }
+
+  /**
+   * Sets the name under which the allocations of the request are reported, e.g. the shape of the request URI. Only
+   * the first target is taken, so a batch request keeps its target even though its parts try to set their own.
+   * @param target Supplier of the name. Only called if the allocations get reported
+   */
+  public void setTarget(@Nonnull final Supplier<String> target) {
+    this.target.compareAndSet(null, target);
+  }
+
+  public Optional<String> getTarget() {
+    return Optional.ofNullable(target.get()).map(Supplier::get);
+  }
+
+  /**
+   * Clears the account, so it can be used for the next request.
+   */
+  void reset() {
+    allocatedBytes.reset();
+    target.set(null);
+  }
+
+  private static LongSupplier determineAllocationMeter() {
+    try {
+      return ThreadBeanHolder.createMeter();
+    } catch (final LinkageError | UnsupportedOperationException | SecurityException e) {
+      // Allocations can not be measured, e.g. because module jdk.management is not available
+      return null;
+    }
+  }
+
+  /**
+   * Only class that references com.sun.management, so a missing jdk.management module fails on loading this class
+   * instead of {@link JPAODataAllocationAccount}.
+   */
+  private static final class ThreadBeanHolder {
+    private static LongSupplier createMeter() {
+      if (ManagementFactory.getThreadMXBean() instanceof final com.sun.management.ThreadMXBean bean
+          && bean.isThreadAllocatedMemorySupported()
+          && bean.isThreadAllocatedMemoryEnabled())
+        return bean::getCurrentThreadAllocatedBytes;
+      return null;
+    }
+  }
+}
@@ -64,6 +64,7 @@ public class JPAODataBatchProcessor implements BatchProcessor {
       throws ODataApplicationException, ODataLibraryException {
 
     try (JPARuntimeMeasurement measurement = requestContext.getDebugger().newMeasurement(this, "processBatch")) {
+      requestContext.getAllocationAccount().ifPresent(account -> account.setTarget(() -> "$batch"));
       final String boundary = facade.extractBoundaryFromContentType(request.getHeader(HttpHeader.CONTENT_TYPE));
       final BatchOptions options = BatchOptions.with()
           .rawBaseUri(request.getRawBaseUri())
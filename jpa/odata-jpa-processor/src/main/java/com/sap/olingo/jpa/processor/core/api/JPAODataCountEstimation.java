@@ -0,0 +1,62 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Opt-in approximate $count for very large entity sets, where a <code>SELECT COUNT(*)</code> dominates the request
+ * time. For the configured entity sets:
+ * <ul>
+ * <li>A count without $filter and $search is taken from the statistics of the database, see
+ * {@link com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseStatistics JPAODataDatabaseStatistics}.</li>
+ * <li>Otherwise, or if the database provides no statistics, the count is read once and afterwards taken from a cache,
+ * until it expires.</li>
+ * </ul>
+ * Counts of navigations, e.g. <code>Organizations('1')/Roles</code>, and of entity types that are protected by claims
+ * or have a query extension are always read, as they are restricted per request. A response that contains an estimated
+ * or cached count carries the header {@value #ESTIMATED_COUNT_HEADER}.
+ * <p>
+ * The approximate count is only used to answer $count. Paging providers always get the exact count, see
+ * {@link JPAODataPagingProvider#getFirstPage}, as they use it to determine the end of the list.
+ *
+ * @since 2.1.0
+ */
+public class JPAODataCountEstimation {
+  public static final String ESTIMATED_COUNT_HEADER = "X-Count-Estimated";
+  private static final int DEFAULT_BUFFER_SIZE = 1000;
+  private final Set<String> entitySets;
+  private final JPAODataPagingStateStore<Long> countCache;
+
+  /**
+   * @param entitySets Names of the entity sets that allow an approximate count
+   * @param timeToLive Time after which a cached count expires
+   */
+  public JPAODataCountEstimation(@Nonnull final Set<String> entitySets, @Nonnull final Duration timeToLive) {
+    this(entitySets, new JPAODataInMemoryPagingStateStore<>(DEFAULT_BUFFER_SIZE, timeToLive));
+  }
+
+  /**
+   * @param entitySets Names of the entity sets that allow an approximate count
+   * @param countCache Store for the counts read, identified by entity set, $filter and $search
+   */
+  public JPAODataCountEstimation(@Nonnull final Set<String> entitySets,
+      @Nonnull final JPAODataPagingStateStore<Long> countCache) {
+    this.entitySets = Set.copyOf(entitySets);
+    this.countCache = countCache;
+  }
+
+  public boolean isEstimated(@Nonnull final String entitySetName) {
+    return entitySets.contains(entitySetName);
+  }
+
+  public Optional<Long> getCachedCount(@Nonnull final String key) {
+    return countCache.get(key);
+  }
+
+  public void putCachedCount(@Nonnull final String key, final long count) {
+    countCache.put(key, count);
+  }
+}
@@ -1,6 +1,7 @@
 package com.sap.olingo.jpa.processor.core.api;
 
 import com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseSearch;
+import com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseStatistics;
 import com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseTableFunction;
 
 /**
@@ -8,6 +9,7 @@ import com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseTableFunction;
  * @author Oliver Grande
  *
  */
-public interface JPAODataDatabaseProcessor extends JPAODataDatabaseSearch, JPAODataDatabaseTableFunction {
+public interface JPAODataDatabaseProcessor extends JPAODataDatabaseSearch, JPAODataDatabaseTableFunction,
+    JPAODataDatabaseStatistics {
 
 }
@@ -0,0 +1,152 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Thread-safe, bounded in-memory implementation of {@link JPAODataPagingStateStore}.
+ * <p>
+ * The entries are distributed over several segments, each guarded by its own lock and evicting the least recently used
+ * entry once it is full. So for large stores the eviction is least recently used per segment, small stores use only
+ * one segment. An entry expires after the time to live, counted from the moment it was stored. Hits, misses,
+ * evictions and expirations are counted and can be retrieved via {@link #getStatistics()}.
+ * @param <T> Type of the state
+ *
+ * @since 2.1.0
+ */
+public class JPAODataInMemoryPagingStateStore<T> implements JPAODataPagingStateStore<T> {
+  static final int MAX_SEGMENTS = 16;
+  static final int MIN_SEGMENT_SIZE = 64;
+
+  private final Segment<T>[] segments;
+  private final long timeToLive;
+  private final LongSupplier clock;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder expirations = new LongAdder();
+
+  /**
+   * @param maxSize Maximum number of entries
+   * @param timeToLive Time after which an entry expires. Null if entries shall not expire
+   */
+  public JPAODataInMemoryPagingStateStore(final int maxSize, @Nullable final Duration timeToLive) {
+    this(maxSize, timeToLive, System::currentTimeMillis);
+  }
+
+  @SuppressWarnings("unchecked")
+  JPAODataInMemoryPagingStateStore(final int maxSize, @Nullable final Duration timeToLive,
+      @Nonnull final LongSupplier clock) {
+    if (maxSize < 1)
+      throw new IllegalArgumentException("maxSize must be positive");
+    final int noSegments = Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE));
+    this.segments = new Segment[noSegments];
+    for (int i = 0; i < noSegments; i++)
+      segments[i] = new Segment<>(maxSize / noSegments + (i < maxSize % noSegments ? 1 : 0));
+    this.timeToLive = timeToLive == null || timeToLive.isZero() || timeToLive.isNegative()
+        ? Long.MAX_VALUE
+        : timeToLive.toMillis();
+    this.clock = Objects.requireNonNull(clock);
+  }
+
+  @Override
+  public void put(@Nonnull final String key, @Nonnull final T state) {
+    final long now = clock.getAsLong();
+    final long expiresAt = timeToLive == Long.MAX_VALUE ? Long.MAX_VALUE : now + timeToLive;
+    final Segment<T> segment = segmentOf(key);
+    synchronized (segment) {
+      segment.put(key, new Entry<>(Objects.requireNonNull(state), expiresAt));
+      if (segment.evicted) {
+        segment.evicted = false;
+        evictions.increment();
+      }
+    }
+  }
+
+  @Override
+  public Optional<T> get(@Nonnull final String key) {
+    final Segment<T> segment = segmentOf(key);
+    synchronized (segment) {
+      final Entry<T> entry = segment.get(key);
+      if (entry == null) {
+        misses.increment();
+        return Optional.empty();
+      }
+      if (entry.expiresAt() <= clock.getAsLong()) {
+        segment.remove(key);
+        expirations.increment();
+        misses.increment();
+        return Optional.empty();
+      }
+      hits.increment();
+      return Optional.of(entry.state());
+    }
+  }
+
+  @Override
+  public void remove(@Nonnull final String key) {
+    final Segment<T> segment = segmentOf(key);
+    synchronized (segment) {
+      segment.remove(key);
+    }
+  }
+
+  /**
+   * @return Number of entries, including expired ones that have not been accessed since they expired
+   */
+  public int size() {
+    int size = 0;
+    for (final Segment<T> segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  public Statistics getStatistics() {
+    return new Statistics(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size());
+  }
+
+  private Segment<T> segmentOf(final String key) {
+    final int hash = key.hashCode();
+    return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+  }
+
+  /**
+   * Usage figures of the store since its creation.
+   * @param hits Number of successful lookups
+   * @param misses Number of lookups for unknown, evicted or expired entries
+   * @param evictions Number of entries removed to make room for new ones
+   * @param expirations Number of entries removed as their time to live was exceeded
+   * @param size Current number of entries
+   */
+  public record Statistics(long hits, long misses, long evictions, long expirations, int size) {}
+
+  private record Entry<T>(T state, long expiresAt) {}
+
+  private static class Segment<T> extends LinkedHashMap<String, Entry<T>> {
+    private static final long serialVersionUID = 1L;
+    private final int maxSize;
+    private boolean evicted;
+
+    Segment(final int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, Entry<T>> eldest) {
+      evicted = size() > maxSize;
+      return evicted;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Position of a page within a result that is read page by page, see {@link JPAODataKeysetPagingProvider}. The position
+ * is encoded in the skip token of the next link, so it is not necessary to buffer each page. A provider can sign the
+ * skip token to detect modified ones.
+ * <p>
+ * If <code>lastValues</code> is not empty, the page starts after the entity with these values. The values are given in
+ * their OData string representation: first the values of the $orderby properties, then the values of the key
+ * attributes not part of $orderby, in the order of the key attributes of the entity type.
+ * @param queryId Identifies the request the page belongs to
+ * @param skip Number of entities read by the previous pages, including the ones skipped via $skip
+ * @param lastValues Sort values of the last entity of the previous page. Empty for the first page
+ * @param signer Appends a signature to the skip token. Null if the skip token is not signed
+ *
+ * @since 2.1.0
+ */
+public record JPAODataKeyset(@Nonnull String queryId, int skip, @Nonnull List<String> lastValues,
+    @Nullable UnaryOperator<String> signer) {
+  private static final String SEPARATOR = ".";
+  private static final String SEPARATOR_REGEX = "\\.";
+  private static final String QUOTE = "'";
+
+  public JPAODataKeyset {
+    lastValues = List.copyOf(lastValues);
+  }
+
+  public JPAODataKeyset(@Nonnull final String queryId, final int skip, @Nonnull final List<String> lastValues) {
+    this(queryId, skip, lastValues, null);
+  }
+
+  /**
+   * Creates the position of the page that follows the one this position belongs to.
+   * @param top Number of entities read with the current page
+   * @param lastValues Sort values of the last entity of the current page
+   * @return
+   */
+  public JPAODataKeyset next(final int top, @Nonnull final List<String> lastValues) {
+    return new JPAODataKeyset(queryId, skip + top, lastValues, signer);
+  }
+
+  /**
+   * @return The position as skip token: query id, skip and the sort values each as url safe Base64 string, separated
+   * by dots. Followed by the signature, if a signer is given.
+   */
+  public String asSkipToken() {
+    final StringBuilder token = new StringBuilder(queryId).append(SEPARATOR).append(skip);
+    for (final String value : lastValues)
+      token.append(SEPARATOR).append(Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(
+          StandardCharsets.UTF_8)));
+    return signer == null ? token.toString() : signer.apply(token.toString());
+  }
+
+  /**
+   * Restores a position from a skip token created by {@link #asSkipToken()}. A signature has to be removed before.
+   * @param skipToken
+   * @return Empty if the skip token was not created from a position. The position has no signer
+   */
+  public static Optional<JPAODataKeyset> fromSkipToken(@Nonnull final String skipToken) {
+    final String[] parts = skipToken.replace(QUOTE, "").split(SEPARATOR_REGEX, -1);
+    if (parts.length < 2 || parts[0].isEmpty())
+      return Optional.empty();
+    try {
+      final int skip = Integer.parseInt(parts[1]);
+      final List<String> lastValues = new ArrayList<>(parts.length - 2);
+      for (int i = 2; i < parts.length; i++)
+        lastValues.add(new String(Base64.getUrlDecoder().decode(parts[i]), StandardCharsets.UTF_8));
+      return skip < 0 ? Optional.empty() : Optional.of(new JPAODataKeyset(parts[0], skip, lastValues));
+    } catch (final IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,328 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.persistence.EntityManager;
+
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriParameter;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceComplexProperty;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+import org.apache.olingo.server.api.uri.UriResourceNavigation;
+import org.apache.olingo.server.api.uri.UriResourcePrimitiveProperty;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.AliasQueryOption;
+import org.apache.olingo.server.api.uri.queryoption.CustomQueryOption;
+import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
+import org.apache.olingo.server.api.uri.queryoption.SelectItem;
+import org.apache.olingo.server.api.uri.queryoption.SelectOption;
+import org.apache.olingo.server.api.uri.queryoption.SystemQueryOption;
+import org.apache.olingo.server.api.uri.queryoption.SystemQueryOptionKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+import org.apache.olingo.server.core.uri.parser.Parser;
+import org.apache.olingo.server.core.uri.parser.UriParserException;
+import org.apache.olingo.server.core.uri.validator.UriValidationException;
+
+import com.sap.olingo.jpa.processor.core.query.JPACountQuery;
+
+/**
+ * Server driven paging based on the sort values of the last entity of a page (key set or seek paging). The next page is
+ * read with a condition <code>WHERE (o1, k1) > (?, ?)</code> instead of an OFFSET, so that a deep page costs the same
+ * as the first one. The end of the result is reached if a page is not full, so no count query is needed.
+ * <p>
+ * The result is sorted by the $orderby properties followed by the key, so the sort values identify an entity. Key set
+ * paging is used for entity sets, also in combination with $skip, as long as each $orderby property is a selected,
+ * not nullable primitive property, which may be part of a not nullable complex property. A NULL value can not be
+ * compared, so entities would be lost. Other requests of an entity set, as well as requests with $top, are paged via
+ * $skip and $top.
+ * <p>
+ * The provider keeps no state. The skip token contains the request of the first page, the page size and the position
+ * within the result, see {@link JPAODataKeyset}. It is signed with HMAC-SHA256, so a client can neither change the
+ * request nor the page size. A next link can be answered by each node of a service, as long as all nodes use the same
+ * secret.
+ *
+ * @since 2.1.0
+ */
+public class JPAODataKeysetPagingProvider implements JPAODataPagingProvider {
+  private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+  private static final int SECRET_LENGTH = 32;
+  private static final String SEPARATOR = ".";
+  private static final String STATE_SEPARATOR = "\n";
+  private static final String QUOTE = "'";
+  private final Map<String, Integer> maxPageSizes;
+  private final SecretKeySpec secret;
+
+  /**
+   * Creates a provider with a random secret. Skip tokens are only accepted by the provider instance that created
+   * them, so this is only suitable for a service running on a single node.
+   * @param pageSizes Maximum page size per entity set. Entity sets without a page size are not paged
+   */
+  public JPAODataKeysetPagingProvider(final Map<String, Integer> pageSizes) {
+    this(pageSizes, createRandomSecret());
+  }
+
+  /**
+   * @param pageSizes Maximum page size per entity set. Entity sets without a page size are not paged
+   * @param secret Key the skip tokens are signed with. All nodes of a service have to use the same secret
+   */
+  public JPAODataKeysetPagingProvider(final Map<String, Integer> pageSizes, @Nonnull final byte[] secret) {
+    maxPageSizes = Map.copyOf(pageSizes);
+    this.secret = new SecretKeySpec(secret, SIGNATURE_ALGORITHM);
+  }
+
+  /**
+   * The request is restored from the skip token, which requires the metadata, see
+   * {@link #getNextPage(String, OData, ServiceMetadata)}.
+   * @return Always null
+   */
+  @Override
+  public JPAODataPage getNextPage(final String skipToken) {
+    return null;
+  }
+
+  @Override
+  public JPAODataPage getNextPage(final String skipToken, final OData odata, final ServiceMetadata serviceMetadata) {
+    final Optional<JPAODataKeyset> position = verifySignature(skipToken.replace(QUOTE, ""))
+        .flatMap(JPAODataKeyset::fromSkipToken);
+    if (position.isPresent()) {
+      final String[] state = new String(Base64.getUrlDecoder().decode(position.get().queryId()),
+          StandardCharsets.UTF_8).split(STATE_SEPARATOR, -1);
+      try {
+        final int pageSize = Integer.parseInt(state[0]);
+        final UriInfo uriInfo = new Parser(serviceMetadata.getEdm(), odata).parseUri(state[1], state[2].isEmpty()
+            ? null : state[2], null, null);
+        if (isSeekPossible(uriInfo, uriInfo.getUriResourceParts()))
+          return new JPAODataPage(uriInfo, 0, pageSize, null, new JPAODataKeyset(position.get().queryId(), position
+              .get().skip(), position.get().lastValues(), this::sign));
+        return createOffsetPage(uriInfo, pageSize, new JPAODataKeyset(position.get().queryId(), position.get()
+            .skip(), List.of(), this::sign));
+      } catch (final UriParserException | UriValidationException e) {
+        // The request does not fit to the metadata anymore => let JPA Processor handle this
+        return null;
+      }
+    }
+    // skip token not valid => let JPA Processor handle this
+    return null;
+  }
+
+  @Override
+  public JPAODataPage getFirstPage(final UriInfo uriInfo, final Integer preferredPageSize,
+      final JPACountQuery countQuery, final EntityManager em) throws ODataApplicationException {
+
+    final List<UriResource> resourceParts = uriInfo.getUriResourceParts();
+    // Paging will only be done for Entity Sets
+    if (resourceParts.get(0) instanceof final UriResourceEntitySet entitySet) {
+      final Integer maxSize = maxPageSizes.get(entitySet.getEntitySet().getName());
+      if (maxSize != null) {
+        final int size = preferredPageSize != null && preferredPageSize < maxSize ? preferredPageSize : maxSize;
+        final int skip = uriInfo.getSkipOption() != null ? uriInfo.getSkipOption().getValue() : 0;
+        final JPAODataKeyset position = new JPAODataKeyset(createQueryId(uriInfo, size), skip, List.of(),
+            this::sign);
+        if (isSeekPossible(uriInfo, resourceParts))
+          return new JPAODataPage(uriInfo, skip, size, null, position);
+        return createOffsetPage(uriInfo, size, position);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A page restricted by $top is the last one if it reaches the end given by $top. In this case no position is
+   * handed over, so no next link is created.
+   */
+  private JPAODataPage createOffsetPage(final UriInfo uriInfo, final int pageSize, final JPAODataKeyset position) {
+    if (uriInfo.getTopOption() != null) {
+      final int end = (uriInfo.getSkipOption() != null ? uriInfo.getSkipOption().getValue() : 0)
+          + uriInfo.getTopOption().getValue();
+      final int top = Math.min(pageSize, Math.max(end - position.skip(), 0));
+      return new JPAODataPage(uriInfo, position.skip(), top, null, position.skip() + top < end ? position : null);
+    }
+    return new JPAODataPage(uriInfo, position.skip(), pageSize, null, position);
+  }
+
+  /**
+   * With $top the end of the result is known upfront, which is handled by offset pages. $skip only moves the start of
+   * the first page.
+   */
+  private boolean isSeekPossible(final UriInfo uriInfo, final List<UriResource> resourceParts) {
+    return resourceParts.size() == 1
+        && uriInfo.getTopOption() == null
+        && (uriInfo.getOrderByOption() == null || isOrderBySeekable(uriInfo));
+  }
+
+  private boolean isOrderBySeekable(final UriInfo uriInfo) {
+    for (final OrderByItem item : uriInfo.getOrderByOption().getOrders()) {
+      if (!(item.getExpression() instanceof final Member member)
+          || member.getStartTypeFilter() != null
+          || !isSeekable(member.getResourcePath().getUriResourceParts())
+          || !isSelected(member.getResourcePath().getUriResourceParts(), uriInfo.getSelectOption()))
+        return false;
+    }
+    return true;
+  }
+
+  private boolean isSeekable(final List<UriResource> orderByParts) {
+    for (int i = 0; i < orderByParts.size(); i++) {
+      final UriResource part = orderByParts.get(i);
+      final boolean last = i == orderByParts.size() - 1;
+      if (!(last ? part instanceof UriResourcePrimitiveProperty : part instanceof UriResourceComplexProperty)
+          || ((UriResourceProperty) part).isCollection()
+          || ((UriResourceProperty) part).getProperty().isNullable())
+        return false;
+    }
+    return !orderByParts.isEmpty();
+  }
+
+  /**
+   * The sort values are taken from the last entity of a page, so the $orderby property has to be selected.
+   */
+  private boolean isSelected(final List<UriResource> orderByParts, final SelectOption selectOption) {
+    if (selectOption == null)
+      return true;
+    for (final SelectItem item : selectOption.getSelectItems()) {
+      if (item.isStar())
+        return true;
+      if (item.getResourcePath() != null && !item.isAllOperationsInSchema()
+          && isPrefix(item.getResourcePath().getUriResourceParts(), orderByParts))
+        return true;
+    }
+    return false;
+  }
+
+  private boolean isPrefix(final List<UriResource> selectParts, final List<UriResource> orderByParts) {
+    if (selectParts.isEmpty() || selectParts.size() > orderByParts.size())
+      return false;
+    for (int i = 0; i < selectParts.size(); i++) {
+      if (!selectParts.get(i).getSegmentValue().equals(orderByParts.get(i).getSegmentValue()))
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * The query id contains all a next page is created from: the page size as well as path and query options of the
+   * request, so the request can be parsed again.
+   */
+  private String createQueryId(final UriInfo uriInfo, final int pageSize) {
+    final String state = pageSize + STATE_SEPARATOR + buildPath(uriInfo.getUriResourceParts()) + STATE_SEPARATOR
+        + buildQuery(uriInfo);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(state.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String buildPath(final List<UriResource> resourceParts) {
+    final List<String> segments = new ArrayList<>();
+    for (final UriResource part : resourceParts) {
+      if (part instanceof final UriResourceEntitySet entitySet) {
+        addSegments(segments, part.getSegmentValue(), entitySet.getTypeFilterOnCollection(), entitySet
+            .getKeyPredicates(), entitySet.getTypeFilterOnEntry());
+      } else if (part instanceof final UriResourceNavigation navigation) {
+        addSegments(segments, part.getSegmentValue(), navigation.getTypeFilterOnCollection(), navigation
+            .getKeyPredicates(), navigation.getTypeFilterOnEntry());
+      } else if (part instanceof final UriResourceComplexProperty complexProperty
+          && complexProperty.getComplexTypeFilter() != null) {
+        segments.add(part.getSegmentValue());
+        segments.add(complexProperty.getComplexTypeFilter().getFullQualifiedName().getFullQualifiedNameAsString());
+      } else {
+        segments.add(part.getSegmentValue());
+      }
+    }
+    return segments.stream()
+        .map(this::encode)
+        .collect(Collectors.joining("/"));
+  }
+
+  private void addSegments(final List<String> segments, final String name, final EdmType collectionTypeFilter,
+      final List<UriParameter> keyPredicates, final EdmType entryTypeFilter) {
+
+    segments.add(name);
+    if (collectionTypeFilter != null)
+      segments.add(collectionTypeFilter.getFullQualifiedName().getFullQualifiedNameAsString());
+    if (keyPredicates != null && !keyPredicates.isEmpty()) {
+      final int last = segments.size() - 1;
+      segments.set(last, segments.get(last) + keyPredicates.stream()
+          .map(key -> key.getName() + "=" + (key.getText() != null ? key.getText() : key.getAlias()))
+          .collect(Collectors.joining(",", "(", ")")));
+    }
+    if (entryTypeFilter != null)
+      segments.add(entryTypeFilter.getFullQualifiedName().getFullQualifiedNameAsString());
+  }
+
+  private String buildQuery(final UriInfo uriInfo) {
+    final List<String> options = new ArrayList<>();
+    for (final SystemQueryOption option : uriInfo.getSystemQueryOptions()) {
+      if (option.getKind() != SystemQueryOptionKind.SKIPTOKEN)
+        options.add(option.getKind().toString() + "=" + encode(option.getText()));
+    }
+    for (final CustomQueryOption option : uriInfo.getCustomQueryOptions())
+      options.add(encode(option.getName()) + "=" + encode(option.getText()));
+    for (final AliasQueryOption alias : uriInfo.getAliases())
+      options.add(encode(alias.getName()) + "=" + encode(alias.getText()));
+    return String.join("&", options);
+  }
+
+  /**
+   * The parser does not convert a plus into a blank, so blanks have to be percent-encoded.
+   */
+  private String encode(final String value) {
+    return value == null ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+  }
+
+  private String sign(final String content) {
+    return content + SEPARATOR + Base64.getUrlEncoder().withoutPadding().encodeToString(createSignature(content));
+  }
+
+  /**
+   * @return The skip token without signature. Empty if the signature is missing or does not match
+   */
+  private Optional<String> verifySignature(final String skipToken) {
+    final int index = skipToken.lastIndexOf(SEPARATOR);
+    if (index > 0) {
+      final String content = skipToken.substring(0, index);
+      try {
+        if (MessageDigest.isEqual(createSignature(content), Base64.getUrlDecoder().decode(skipToken.substring(
+            index + 1))))
+          return Optional.of(content);
+      } catch (final IllegalArgumentException e) {
+        // Signature is not Base64 encoded
+      }
+    }
+    return Optional.empty();
+  }
+
+  private byte[] createSignature(final String content) {
+    try {
+      final Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+      mac.init(secret);
+      return mac.doFinal(content.getBytes(StandardCharsets.UTF_8));
+    } catch (final NoSuchAlgorithmException | InvalidKeyException e) {
+      // Every Java platform has to support HmacSHA256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static byte[] createRandomSecret() {
+    final byte[] secret = new byte[SECRET_LENGTH];
+    new SecureRandom().nextBytes(secret);
+    return secret;
+  }
+}
@@ -0,0 +1,90 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds. Like an HDR histogram the values are counted in buckets, whose
+ * width grows with the magnitude of the value, so that each bucket has a relative width of at most 1/16. Recording a
+ * value is an atomic increment, percentiles are determined from a snapshot of the buckets.
+ * <p>
+ * The histogram is also used for allocated bytes. In this case all figures of a snapshot are given in bytes.
+ *
+ * @since 2.1.0
+ */
+public final class JPAODataLatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int NO_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(NO_BUCKETS);
+  private final LongAdder total = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * @param value Latency in nanoseconds. Negative values are counted as 0
+   */
+  public void record(final long value) {
+    final long latency = Math.max(value, 0L);
+    buckets.incrementAndGet(bucketOf(latency));
+    total.add(latency);
+    max.accumulateAndGet(latency, Math::max);
+  }
+
+  public Snapshot snapshot() {
+    final long[] counts = new long[NO_BUCKETS];
+    long count = 0;
+    for (int i = 0; i < NO_BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+      count += counts[i];
+    }
+    final long maxValue = max.get();
+    return new Snapshot(count, count == 0 ? 0.0 : (double) total.sum() / count, maxValue,
+        percentile(counts, count, 0.50, maxValue), percentile(counts, count, 0.90, maxValue),
+        percentile(counts, count, 0.99, maxValue));
+  }
+
+  static int bucketOf(final long value) {
+    if (value < SUB_BUCKETS)
+      return (int) value;
+    final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * @return The highest value that is counted in the bucket
+   */
+  static long highestValueOf(final int bucket) {
+    if (bucket < SUB_BUCKETS)
+      return bucket;
+    final int shift = bucket / SUB_BUCKETS - 1;
+    final long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  private static long percentile(final long[] counts, final long count, final double quantile, final long max) {
+    if (count == 0)
+      return 0;
+    final long rank = Math.max(1, (long) Math.ceil(quantile * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank)
+        return Math.min(highestValueOf(i), max);
+    }
+    return max;
+  }
+
+  /**
+   * Percentiles are given as the highest value of the bucket they fall into, limited by the maximum.
+   * @param count Number of recorded values
+   * @param mean Mean in nanoseconds
+   * @param max Maximum in nanoseconds
+   * @param p50 Median in nanoseconds
+   * @param p90 90th percentile in nanoseconds
+   * @param p99 99th percentile in nanoseconds
+   */
+  public record Snapshot(long count, double mean, long max, long p50, long p90, long p99) {}
+}
@@ -0,0 +1,92 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@link JPAODataMetricsSink} that collects the runtime of each phase per entity set in a
+ * {@link JPAODataLatencyHistogram}. The collected figures can be read via {@link #snapshot()}, e.g. to export them to a
+ * monitoring system. In the same way the allocated memory is collected per entity set and phase, see
+ * {@link #allocationSnapshot()}, and per request shape, see {@link #requestAllocationSnapshot()}.
+ *
+ * @since 2.1.0
+ */
+public class JPAODataLatencyMetrics implements JPAODataMetricsSink {
+  private final Map<String, Map<String, JPAODataLatencyHistogram>> histograms = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, JPAODataLatencyHistogram>> allocations = new ConcurrentHashMap<>();
+  private final Map<String, JPAODataLatencyHistogram> requestAllocations = new ConcurrentHashMap<>();
+
+  @Override
+  public void record(@Nonnull final String entitySet, @Nonnull final String phase, final long durationNanos) {
+    record(histograms, entitySet, phase, durationNanos);
+  }
+
+  @Override
+  public void recordAllocation(@Nonnull final String entitySet, @Nonnull final String phase,
+      final long allocatedBytes) {
+    record(allocations, entitySet, phase, allocatedBytes);
+  }
+
+  @Override
+  public void recordRequestAllocation(@Nonnull final String uriShape, final long allocatedBytes) {
+    requestAllocations.computeIfAbsent(uriShape, key -> new JPAODataLatencyHistogram())
+        .record(allocatedBytes);
+  }
+
+  /**
+   * @return Runtime per entity set and phase, both sorted by name
+   */
+  public Map<String, Map<String, JPAODataLatencyHistogram.Snapshot>> snapshot() {
+    return snapshot(histograms);
+  }
+
+  /**
+   * @return Allocated bytes per entity set and phase, both sorted by name
+   */
+  public Map<String, Map<String, JPAODataLatencyHistogram.Snapshot>> allocationSnapshot() {
+    return snapshot(allocations);
+  }
+
+  /**
+   * @return Allocated bytes per request shape, sorted by the shape
+   */
+  public Map<String, JPAODataLatencyHistogram.Snapshot> requestAllocationSnapshot() {
+    final Map<String, JPAODataLatencyHistogram.Snapshot> result = new TreeMap<>();
+    for (final Entry<String, JPAODataLatencyHistogram> request : requestAllocations.entrySet())
+      result.put(request.getKey(), request.getValue().snapshot());
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Removes all collected figures.
+   */
+  public void reset() {
+    histograms.clear();
+    allocations.clear();
+    requestAllocations.clear();
+  }
+
+  private static void record(final Map<String, Map<String, JPAODataLatencyHistogram>> histograms,
+      final String entitySet, final String phase, final long value) {
+    histograms.computeIfAbsent(entitySet, key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(phase, key -> new JPAODataLatencyHistogram())
+        .record(value);
+  }
+
+  private static Map<String, Map<String, JPAODataLatencyHistogram.Snapshot>> snapshot(
+      final Map<String, Map<String, JPAODataLatencyHistogram>> histograms) {
+    final Map<String, Map<String, JPAODataLatencyHistogram.Snapshot>> result = new TreeMap<>();
+    for (final Entry<String, Map<String, JPAODataLatencyHistogram>> entitySet : histograms.entrySet()) {
+      final Map<String, JPAODataLatencyHistogram.Snapshot> phases = new TreeMap<>();
+      for (final Entry<String, JPAODataLatencyHistogram> phase : entitySet.getValue().entrySet())
+        phases.put(phase.getKey(), phase.getValue().snapshot());
+      result.put(entitySet.getKey(), Collections.unmodifiableMap(phases));
+    }
+    return Collections.unmodifiableMap(result);
+  }
+}
@@ -0,0 +1,155 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import org.apache.olingo.commons.api.format.ContentType;
+import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.commons.api.http.HttpMethod;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataLibraryException;
+import org.apache.olingo.server.api.ODataRequest;
+import org.apache.olingo.server.api.ODataResponse;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.serializer.SerializerException;
+
+/**
+ * Service metadata of an EDM provider together with the serialized metadata document and service document. Both
+ * documents depend only on the EDM provider, so they are serialized once per content type and afterwards returned as
+ * bytes. Each serialized document gets a strong ETag derived from its content, which allows clients to revalidate
+ * them via <code>If-None-Match</code>.
+ * <p>
+ * The content type is reduced to the parts relevant for the serialization, so that the number of cached documents
+ * is bounded, whatever parameters a client sends. A service document with absolute context URLs depends on the
+ * request URI, which a client can choose freely, so it is not cached.
+ */
+final class JPAODataMetadataCache {
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  private final ServiceMetadata serviceMetadata;
+  private final Map<String, Document> metadataDocuments;
+  private final Map<String, Document> serviceDocuments;
+
+  JPAODataMetadataCache(final ServiceMetadata serviceMetadata) {
+    this.serviceMetadata = serviceMetadata;
+    this.metadataDocuments = new ConcurrentHashMap<>();
+    this.serviceDocuments = new ConcurrentHashMap<>();
+  }
+
+  ServiceMetadata getServiceMetadata() {
+    return serviceMetadata;
+  }
+
+  @Nonnull
+  Document getMetadataDocument(@Nonnull final OData odata, @Nonnull final ContentType contentType)
+      throws SerializerException {
+
+    final String key = buildKey(contentType);
+    Document document = metadataDocuments.get(key);
+    if (document == null) {
+      // Concurrent requests may serialize the document twice, which is cheaper than locking
+      document = Document.of(odata.createSerializer(contentType).metadataDocument(serviceMetadata).getContent());
+      metadataDocuments.putIfAbsent(key, document);
+    }
+    return document;
+  }
+
+  /**
+   * @param odata
+   * @param contentType
+   * @param uri Base URI in case absolute context URLs are requested, otherwise null. Only documents without base URI
+   * are cached.
+   * @return
+   * @throws SerializerException
+   */
+  @Nonnull
+  Document getServiceDocument(@Nonnull final OData odata, @Nonnull final ContentType contentType,
+      @CheckForNull final String uri) throws SerializerException {
+
+    if (uri != null)
+      return Document.of(odata.createSerializer(contentType).serviceDocument(serviceMetadata, uri).getContent());
+    final String key = buildKey(contentType);
+    Document document = serviceDocuments.get(key);
+    if (document == null) {
+      document = Document.of(odata.createSerializer(contentType).serviceDocument(serviceMetadata, null).getContent());
+      serviceDocuments.putIfAbsent(key, document);
+    }
+    return document;
+  }
+
+  private static String buildKey(final ContentType contentType) {
+    return contentType.getType() + "/" + contentType.getSubtype()
+        + ";" + ContentType.PARAMETER_ODATA_METADATA + "=" + contentType.getParameter(
+            ContentType.PARAMETER_ODATA_METADATA)
+        + ";" + ContentType.PARAMETER_IEEE754_COMPATIBLE + "=" + contentType.getParameter(
+            ContentType.PARAMETER_IEEE754_COMPATIBLE);
+  }
+
+  /**
+   * Writes a serialized document into the response. In case the document has not been modified according to the
+   * preconditions of the request, the response has status 304 and no content.
+   */
+  static void writeDocument(@Nonnull final OData odata, @Nonnull final ODataRequest request,
+      @Nonnull final ODataResponse response, @Nonnull final Document document, @Nonnull final ContentType contentType)
+      throws ODataLibraryException {
+
+    response.setHeader(HttpHeader.ETAG, document.getETag());
+    if (odata.createETagHelper().checkReadPreconditions(document.getETag(), request.getHeaders(HttpHeader.IF_MATCH),
+        request.getHeaders(HttpHeader.IF_NONE_MATCH))) {
+      response.setStatusCode(HttpStatusCode.NOT_MODIFIED.getStatusCode());
+    } else if (HttpMethod.HEAD == request.getMethod()) {
+      // HTTP HEAD requires no payload but a 200 OK response
+      response.setStatusCode(HttpStatusCode.OK.getStatusCode());
+    } else {
+      response.setContent(document.getContent());
+      response.setStatusCode(HttpStatusCode.OK.getStatusCode());
+      response.setHeader(HttpHeader.CONTENT_TYPE, contentType.toContentTypeString());
+    }
+  }
+
+  static final class Document {
+    private final byte[] content;
+    private final String eTag;
+
+    private Document(final byte[] content) {
+      this.content = content;
+      this.eTag = buildETag(content);
+    }
+
+    static Document of(final InputStream content) throws SerializerException {
+      try (InputStream stream = content) {
+        return new Document(stream.readAllBytes());
+      } catch (final IOException e) {
+        throw new SerializerException("Serialized document could not be read", e,
+            SerializerException.MessageKeys.IO_EXCEPTION);
+      }
+    }
+
+    InputStream getContent() {
+      return new ByteArrayInputStream(content);
+    }
+
+    String getETag() {
+      return eTag;
+    }
+
+    private static String buildETag(final byte[] content) {
+      try {
+        return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content)) + "\"";
+      } catch (final NoSuchAlgorithmException e) {
+        // Every Java platform has to support SHA-256
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
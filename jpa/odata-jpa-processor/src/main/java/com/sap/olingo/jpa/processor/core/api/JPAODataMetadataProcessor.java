@@ -0,0 +1,41 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import org.apache.olingo.commons.api.format.ContentType;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ODataLibraryException;
+import org.apache.olingo.server.api.ODataRequest;
+import org.apache.olingo.server.api.ODataResponse;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.processor.DefaultProcessor;
+import org.apache.olingo.server.api.processor.MetadataProcessor;
+import org.apache.olingo.server.api.uri.UriInfo;
+
+/**
+ * Returns the metadata document from the serialized documents of the service. In contrast to
+ * {@link DefaultProcessor#readMetadata(ODataRequest, ODataResponse, UriInfo, ContentType)} the document is not
+ * serialized per request and a request with a matching <code>If-None-Match</code> header gets a 304 response.
+ */
+class JPAODataMetadataProcessor implements MetadataProcessor {
+
+  private OData odata;
+  private final JPAODataMetadataCache metadataCache;
+
+  JPAODataMetadataProcessor(final JPAODataMetadataCache metadataCache) {
+    super();
+    this.metadataCache = metadataCache;
+  }
+
+  @Override
+  public void init(final OData odata, final ServiceMetadata serviceMetadata) {
+    this.odata = odata;
+  }
+
+  @Override
+  public void readMetadata(final ODataRequest request, final ODataResponse response, final UriInfo uriInfo,
+      final ContentType requestedContentType) throws ODataApplicationException, ODataLibraryException {
+
+    JPAODataMetadataCache.writeDocument(odata, request, response, metadataCache.getMetadataDocument(odata,
+        requestedContentType), requestedContentType);
+  }
+}
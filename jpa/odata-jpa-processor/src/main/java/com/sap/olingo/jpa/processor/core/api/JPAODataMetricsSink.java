@@ -0,0 +1,49 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Receives the runtime and the allocated memory of the main processing phases of a request. A sink can be provided via
+ * {@link JPAODataServiceContext.Builder#setMetricsSink(JPAODataMetricsSink)}. Without a sink the phases are not
+ * measured besides the measurements requested via $debug.
+ * <p>
+ * Implementations have to be thread-safe and fast, as they are called within the request processing.
+ *
+ * @since 2.1.0
+ */
+public interface JPAODataMetricsSink {
+  /**
+   * Names of the phases that are handed over to the sink.
+   */
+  Set<String> PHASES = Set.of("execute", "getResultList", "readExpandEntities", "convertResult", "serialize",
+      "countResults");
+
+  /**
+   * @param entitySet Name of the entity set, singleton or operation the request targets
+   * @param phase One of {@link #PHASES}
+   * @param durationNanos Runtime of the phase in nanoseconds
+   */
+  void record(@Nonnull final String entitySet, @Nonnull final String phase, final long durationNanos);
+
+  /**
+   * Receives the heap memory the processing thread allocated during a phase. Only called if the JVM supports the
+   * measurement of thread allocations, see {@link JPAODataAllocationAccount#isSupported()}.
+   * @param entitySet Name of the entity set, singleton or operation the request targets
+   * @param phase One of {@link #PHASES}
+   * @param allocatedBytes Bytes allocated during the phase
+   */
+  default void recordAllocation(@Nonnull final String entitySet, @Nonnull final String phase,
+      final long allocatedBytes) {}
+
+  /**
+   * Receives the heap memory allocated by all threads that processed a request, including the threads reading $expand
+   * results or batch parts in parallel. Only called for read and batch requests and if the JVM supports the
+   * measurement of thread allocations.
+   * @param uriShape Resource path of the request without key values, followed by the names of the system query
+   * options, e.g. <code>Organizations(...)/Roles?$filter&$expand</code>. <code>$batch</code> for batch requests
+   * @param allocatedBytes Bytes allocated while processing the request
+   */
+  default void recordRequestAllocation(@Nonnull final String uriShape, final long allocatedBytes) {}
+}
@@ -1,5 +1,22 @@
 package com.sap.olingo.jpa.processor.core.api;
 
+import javax.annotation.Nullable;
+
 import org.apache.olingo.server.api.uri.UriInfo;
 
-public record JPAODataPage(UriInfo uriInfo, int skip, int top, Object skipToken) {}
+/**
+ * A page of a server driven paging.
+ * @param uriInfo Request the page belongs to
+ * @param skip Number of entities to skip
+ * @param top Maximum number of entities of the page
+ * @param skipToken Skip token of the next page. Null if the page is the last one or the skip token is determined from
+ * the <code>keyset</code>
+ * @param keyset Position of the page in case the skip token of the next page shall be determined from the last entity
+ * of this page. See {@link JPAODataKeyset}
+ */
+public record JPAODataPage(UriInfo uriInfo, int skip, int top, Object skipToken, @Nullable JPAODataKeyset keyset) {
+
+  public JPAODataPage(final UriInfo uriInfo, final int skip, final int top, final Object skipToken) {
+    this(uriInfo, skip, top, skipToken, null);
+  }
+}
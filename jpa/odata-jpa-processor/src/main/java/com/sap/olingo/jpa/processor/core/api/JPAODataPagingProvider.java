@@ -2,7 +2,9 @@ package com.sap.olingo.jpa.processor.core.api;
 
 import jakarta.persistence.EntityManager;
 
+import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.uri.UriInfo;
 
 import com.sap.olingo.jpa.processor.core.query.JPACountQuery;
@@ -21,6 +23,20 @@ public interface JPAODataPagingProvider {
    */
   JPAODataPage getNextPage(final String skiptoken);
 
+  /**
+   * Returns the page related to a given skiptoken. Providers that restore the request from the skiptoken, like
+   * {@link JPAODataKeysetPagingProvider}, need the metadata to parse it. By default {@link #getNextPage(String)} is
+   * called.
+   * @param skiptoken
+   * @param odata
+   * @param serviceMetadata
+   * @return
+   * @since 2.1.0
+   */
+  default JPAODataPage getNextPage(final String skiptoken, final OData odata, final ServiceMetadata serviceMetadata) {
+    return getNextPage(skiptoken);
+  }
+
   /**
    * Based on the query the provider decides if a paging is required and return the first page.
    * @param uriInfo
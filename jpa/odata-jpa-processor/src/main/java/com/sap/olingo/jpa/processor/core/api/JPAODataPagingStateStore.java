@@ -0,0 +1,39 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Store for the state a {@link JPAODataPagingProvider} needs to answer a request with a skip token, e.g. the request
+ * of the first page. Implementations have to be thread-safe, as requests with skip tokens are processed in parallel.
+ * <p>
+ * The state of the {@link com.sap.olingo.jpa.processor.core.api.example.JPAExamplePagingProvider} contains the
+ * {@link org.apache.olingo.server.api.uri.UriInfo} of the first request, which is not serializable, so it can only be
+ * kept in memory. Services running on several nodes can use the {@link JPAODataKeysetPagingProvider}, which needs no
+ * store, as its skip tokens contain the request.
+ * @param <T> Type of the state
+ *
+ * @since 2.1.0
+ */
+public interface JPAODataPagingStateStore<T> {
+
+  /**
+   * Stores the state belonging to a skip token. An existing state is replaced.
+   * @param key Skip token or the part of it identifying the state
+   * @param state
+   */
+  void put(@Nonnull final String key, @Nonnull final T state);
+
+  /**
+   * @param key
+   * @return The state belonging to the key. Empty if the key is unknown or the state has been evicted or is expired.
+   */
+  Optional<T> get(@Nonnull final String key);
+
+  /**
+   * Removes the state belonging to the key, if present.
+   * @param key
+   */
+  void remove(@Nonnull final String key);
+}
@@ -0,0 +1,81 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+/**
+ * Service wide directives, which influence how the processor executes queries. Directives are set via
+ * {@link JPAODataServiceContext.Builder#useQueryDirectives()}.
+ *
+ * @param useStreaming Entity collections are read via {@link jakarta.persistence.TypedQuery#getResultStream()} and
+ * written row by row by the serializer, instead of buffering the complete result first. Streaming is only used if the
+ * result of the root query is not needed to restrict the $expand queries.
+ * @param useJoinForToOneExpand $expand of a to-one navigation without own query options like $filter or $top is read
+ * by the query of the parent via a LEFT JOIN, instead of an own query. The columns of the target are added to the
+ * parent query, so this saves a round trip per expanded navigation.
+ * @param countStrategy Determines how <code>$count=true</code> is answered for an entity collection, see
+ * {@link CountStrategy}.
+ */
+public record JPAODataQueryDirectives(boolean useStreaming, boolean useJoinForToOneExpand,
+    CountStrategy countStrategy) {
+
+  public static final JPAODataQueryDirectives DEFAULT = new JPAODataQueryDirectives(false, false,
+      CountStrategy.SEPARATE_QUERY);
+
+  public JPAODataQueryDirectives {
+    countStrategy = countStrategy == null ? CountStrategy.SEPARATE_QUERY : countStrategy;
+  }
+
+  public JPAODataQueryDirectives(final boolean useStreaming, final boolean useJoinForToOneExpand) {
+    this(useStreaming, useJoinForToOneExpand, CountStrategy.SEPARATE_QUERY);
+  }
+
+  /**
+   * Ways to determine the number of entities requested via <code>$count=true</code>.
+   */
+  public enum CountStrategy {
+    /**
+     * The count query is executed after the page was read.
+     */
+    SEPARATE_QUERY,
+    /**
+     * The count is added to the page query as window function <code>COUNT(*) OVER()</code>, so no additional round
+     * trip is needed. Requires the processor criteria builder. Falls back to a separate count query if the page query
+     * uses DISTINCT or GROUP BY, starts after a key set position, reads a collection property or the page is empty.
+     */
+    WINDOW_FUNCTION,
+    /**
+     * The count query is executed in parallel to the page query, using the expand executor and an own entity
+     * manager. Falls back to {@link #SEPARATE_QUERY} if no expand executor or entity manager factory is available.
+     */
+    PARALLEL_QUERY
+  }
+
+  public static class JPAODataQueryDirectivesBuilder {
+    private final JPAODataServiceContext.Builder parent;
+    private boolean useStreaming = DEFAULT.useStreaming();
+    private boolean useJoinForToOneExpand = DEFAULT.useJoinForToOneExpand();
+    private CountStrategy countStrategy = DEFAULT.countStrategy();
+
+    JPAODataQueryDirectivesBuilder(final JPAODataServiceContext.Builder parent) {
+      this.parent = parent;
+    }
+
+    public JPAODataQueryDirectivesBuilder useStreaming(final boolean useStreaming) {
+      this.useStreaming = useStreaming;
+      return this;
+    }
+
+    public JPAODataQueryDirectivesBuilder useJoinForToOneExpand(final boolean useJoinForToOneExpand) {
+      this.useJoinForToOneExpand = useJoinForToOneExpand;
+      return this;
+    }
+
+    public JPAODataQueryDirectivesBuilder useCountStrategy(final CountStrategy countStrategy) {
+      this.countStrategy = countStrategy;
+      return this;
+    }
+
+    public JPAODataServiceContext.Builder build() {
+      return parent.setQueryDirectives(new JPAODataQueryDirectives(useStreaming, useJoinForToOneExpand,
+          countStrategy));
+    }
+  }
+}
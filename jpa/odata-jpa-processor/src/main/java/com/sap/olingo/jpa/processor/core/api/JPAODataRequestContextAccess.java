@@ -3,11 +3,13 @@ package com.sap.olingo.jpa.processor.core.api;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 
 import org.apache.olingo.server.api.uri.UriInfoResource;
 
@@ -20,6 +22,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseOperations;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+import com.sap.olingo.jpa.processor.core.query.JPAQueryPlanCache;
 import com.sap.olingo.jpa.processor.core.serializer.JPASerializer;
 
 public interface JPAODataRequestContextAccess {
@@ -58,6 +61,20 @@ public interface JPAODataRequestContextAccess {
 
   public JPAODataDatabaseOperations getOperationConverter();
 
+  public @Nonnull JPAODataQueryDirectives getQueryDirectives();
+
+  /**
+   *
+   * @return executor to read sibling $expand and collection property queries in parallel
+   */
+  public Optional<Executor> getExpandExecutor();
+
+  /**
+   *
+   * @return factory to create additional entity managers, e.g. for queries executed in parallel
+   */
+  public Optional<? extends EntityManagerFactory> getEntityManagerFactory();
+
   /**
    *
    * @return most significant locale. Used e.g. for description properties
@@ -69,4 +86,28 @@ public interface JPAODataRequestContextAccess {
    * @return list of locale provided for this request
    */
   public List<Locale> getProvidedLocale();
+
+  /**
+   *
+   * @return account that sums up the memory allocated by all threads processing the request
+   */
+  public default Optional<JPAODataAllocationAccount> getAllocationAccount() {
+    return Optional.empty();
+  }
+
+  /**
+   *
+   * @return entity sets that allow an approximate $count
+   */
+  public default Optional<JPAODataCountEstimation> getCountEstimation() {
+    return Optional.empty();
+  }
+
+  /**
+   *
+   * @return cache of the query plans of the service document used by this request
+   */
+  public default Optional<JPAQueryPlanCache> getQueryPlanCache() {
+    return Optional.empty();
+  }
 }
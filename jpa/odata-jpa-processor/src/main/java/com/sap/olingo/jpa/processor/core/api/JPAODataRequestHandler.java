@@ -60,16 +60,46 @@ public class JPAODataRequestHandler {
   }
 
   public void process(final HttpServletRequest request, final HttpServletResponse response) throws ODataException {
-    if (emf.isPresent() && this.requestContext.getEntityManager() == null) {
-      final EntityManager em = emf.get().createEntityManager();
-      try {
-        this.requestContext.setEntityManager(em);
+    final long allocatedAtStart = startAllocationAccount();
+    try {
+      if (emf.isPresent() && this.requestContext.getEntityManager() == null) {
+        final EntityManager em = emf.get().createEntityManager();
+        try {
+          this.requestContext.setEntityManager(em);
+          processInternal(request, response);
+        } finally {
+          em.close();
+        }
+      } else {
         processInternal(request, response);
-      } finally {
-        em.close();
       }
-    } else {
-      processInternal(request, response);
+    } finally {
+      recordAllocation(allocatedAtStart);
+    }
+  }
+
+  /**
+   * Allocations are only measured if they can be reported to a metrics sink.
+   * @return Allocations of the current thread, -1 if they are not measured
+   */
+  private long startAllocationAccount() {
+    if (serviceContext.getMetricsSink().isEmpty())
+      return -1L;
+    requestContext.getAllocationAccount().ifPresent(JPAODataAllocationAccount::reset);
+    return JPAODataAllocationAccount.currentThreadAllocatedBytes();
+  }
+
+  /**
+   * The allocations of the threads that processed parts of the request in parallel have already been added to the
+   * account, so the allocations of the request thread are added and the total is reported.
+   */
+  private void recordAllocation(final long allocatedAtStart) {
+    final Optional<JPAODataAllocationAccount> account = requestContext.getAllocationAccount();
+    final Optional<JPAODataMetricsSink> sink = serviceContext.getMetricsSink();
+    if (allocatedAtStart >= 0 && account.isPresent() && sink.isPresent()) {
+      account.get().addSince(allocatedAtStart);
+      account.get().getTarget()
+          .ifPresent(target -> sink.get().recordRequestAllocation(target, account.get().getAllocatedBytes()));
     }
   }
 
@@ -77,7 +107,8 @@ public class JPAODataRequestHandler {
       throws ODataException {
 
     final JPAEdmProvider jpaEdm = requestContext.getEdmProvider();
-    final ODataHttpHandler handler = odata.createHandler(odata.createServiceMetadata(jpaEdm, jpaEdm.getReferences()));
+    final JPAODataMetadataCache metadataCache = serviceContext.getMetadataCache(odata, jpaEdm);
+    final ODataHttpHandler handler = odata.createHandler(metadataCache.getServiceMetadata());
     serviceContext.getEdmProvider().setRequestLocales(request.getLocales());
     final HttpServletRequest mappedRequest = prepareRequestMapping(request, serviceContext.getMappingPath());
     handler.register(requestContext.getDebugSupport());
@@ -85,7 +116,8 @@ public class JPAODataRequestHandler {
     handler.register(serviceContext.getBatchProcessorFactory().getBatchProcessor(serviceContext, requestContext));
     handler.register(serviceContext.getEdmProvider().getServiceDocument());
     handler.register(serviceContext.getErrorProcessor());
-    handler.register(new JPAODataServiceDocumentProcessor(serviceContext));
+    handler.register(new JPAODataServiceDocumentProcessor(serviceContext, metadataCache));
+    handler.register(new JPAODataMetadataProcessor(metadataCache));
     handler.process(new JakartaRequestMapper(mappedRequest), new JakartaResponseMapper(response));
   }
 
@@ -5,8 +5,11 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nonnull;
 import javax.sql.DataSource;
@@ -20,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.olingo.commons.api.edmx.EdmxReference;
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.processor.ErrorProcessor;
 
 import com.sap.olingo.jpa.metadata.api.JPAEdmMetadataPostProcessor;
@@ -33,6 +37,7 @@ import com.sap.olingo.jpa.processor.core.database.JPADefaultDatabaseProcessor;
 import com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseOperations;
 import com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseProcessorFactory;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAFilterException;
+import com.sap.olingo.jpa.processor.core.query.JPAQueryPlanCache;
 
 public final class JPAODataServiceContext implements JPAODataSessionContextAccess {
   /**
@@ -53,6 +58,12 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
   private final JPAODataBatchProcessorFactory<JPAODataBatchProcessor> batchProcessorFactory;
   private final boolean useAbsoluteContextURL;
   private final List<AnnotationProvider> annotationProvider;
+  private final JPAODataQueryDirectives queryDirectives;
+  private final Optional<Executor> expandExecutor;
+  private final Optional<JPAODataMetricsSink> metricsSink;
+  private final Optional<JPAODataCountEstimation> countEstimation;
+  private final Map<JPAEdmProvider, JPAODataMetadataCache> serviceMetadata;
+  private final Map<JPAEdmProvider, JPAQueryPlanCache> queryPlans;
 
   public static Builder with() {
     return new Builder();
@@ -75,6 +86,12 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
     batchProcessorFactory = (JPAODataBatchProcessorFactory<JPAODataBatchProcessor>) builder.batchProcessorFactory;
     useAbsoluteContextURL = builder.useAbsoluteContextURL;
     annotationProvider = Arrays.asList(builder.annotationProvider);
+    queryDirectives = builder.queryDirectives;
+    expandExecutor = builder.expandExecutor;
+    metricsSink = builder.metricsSink;
+    countEstimation = builder.countEstimation;
+    serviceMetadata = new ConcurrentHashMap<>();
+    queryPlans = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -145,6 +162,54 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
     return annotationProvider;
   }
 
+  @Override
+  public JPAODataQueryDirectives getQueryDirectives() {
+    return queryDirectives;
+  }
+
+  @Override
+  public Optional<Executor> getExpandExecutor() {
+    return expandExecutor;
+  }
+
+  @Override
+  public Optional<JPAODataMetricsSink> getMetricsSink() {
+    return metricsSink;
+  }
+
+  @Override
+  public Optional<JPAODataCountEstimation> getCountEstimation() {
+    return countEstimation;
+  }
+
+  @Override
+  public Optional<JPAQueryPlanCache> getQueryPlanCache(@Nonnull final JPAEdmProvider edmProvider) {
+    return Optional.of(queryPlans.computeIfAbsent(edmProvider, provider -> new JPAQueryPlanCache()));
+  }
+
+  /**
+   * Removes the cached service metadata, the serialized metadata document and service document as well as the cached
+   * query plans. The next request creates them again from the EDM provider. This is only needed in case the metadata
+   * provided by an EDM provider change.
+   */
+  public void invalidateServiceMetadata() {
+    serviceMetadata.clear();
+    queryPlans.clear();
+  }
+
+  /**
+   * Returns the Olingo service metadata of an EDM provider. They are created once per EDM provider and shared by all
+   * requests, so the Edm objects Olingo creates from the CSDL are only build once and not per request. The same
+   * holds for the serialized metadata document and service document.
+   * @param odata
+   * @param edmProvider
+   * @return
+   */
+  JPAODataMetadataCache getMetadataCache(@Nonnull final OData odata, @Nonnull final JPAEdmProvider edmProvider) {
+    return serviceMetadata.computeIfAbsent(edmProvider,
+        provider -> new JPAODataMetadataCache(odata.createServiceMetadata(provider, provider.getReferences())));
+  }
+
   public static class Builder {
 
     private String namespace;
@@ -163,6 +228,10 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
     private JPAODataBatchProcessorFactory<?> batchProcessorFactory;
     private boolean useAbsoluteContextURL = false;
     private AnnotationProvider[] annotationProvider;
+    private JPAODataQueryDirectives queryDirectives = JPAODataQueryDirectives.DEFAULT;
+    private Optional<Executor> expandExecutor = Optional.empty();
+    private Optional<JPAODataMetricsSink> metricsSink = Optional.empty();
+    private Optional<JPAODataCountEstimation> countEstimation = Optional.empty();
 
     private Builder() {
       super();
@@ -359,6 +428,55 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
       return this;
     }
 
+    /**
+     * Start the definition of query directives, see {@link JPAODataQueryDirectives}. The definition is finished by
+     * calling {@link JPAODataQueryDirectives.JPAODataQueryDirectivesBuilder#build()}, which returns this builder.
+     * @return
+     */
+    public JPAODataQueryDirectives.JPAODataQueryDirectivesBuilder useQueryDirectives() {
+      return new JPAODataQueryDirectives.JPAODataQueryDirectivesBuilder(this);
+    }
+
+    Builder setQueryDirectives(final JPAODataQueryDirectives queryDirectives) {
+      this.queryDirectives = queryDirectives;
+      return this;
+    }
+
+    /**
+     * Sibling $expand and collection property queries of a request are executed sequentially by default. Providing an
+     * executor, e.g. a fixed thread pool or a virtual thread per task executor, they are executed in parallel, each
+     * with its own entity manager created from the entity manager factory. The executor is not shut down by the
+     * processor.
+     * @param expandExecutor
+     * @return
+     */
+    public Builder setExpandExecutor(@Nonnull final Executor expandExecutor) {
+      this.expandExecutor = Optional.of(expandExecutor);
+      return this;
+    }
+
+    /**
+     * Hands over the runtime of the main processing phases of each request to the sink, e.g. a
+     * {@link JPAODataLatencyMetrics}. Without a sink no additional measurements are taken.
+     * @param metricsSink
+     * @return
+     */
+    public Builder setMetricsSink(@Nonnull final JPAODataMetricsSink metricsSink) {
+      this.metricsSink = Optional.of(metricsSink);
+      return this;
+    }
+
+    /**
+     * $count of the given entity sets may be answered by an estimate of the database or a cached count, instead of
+     * reading the exact count each time.
+     * @param countEstimation
+     * @return
+     */
+    public Builder setCountEstimation(@Nonnull final JPAODataCountEstimation countEstimation) {
+      this.countEstimation = Optional.of(countEstimation);
+      return this;
+    }
+
     @SuppressWarnings("unchecked")
     private void createEmfWrapper() {
       if (emf.isPresent()) {
@@ -383,4 +501,4 @@ public final class JPAODataServiceContext implements JPAODataSessionContextAcces
       }
     }
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
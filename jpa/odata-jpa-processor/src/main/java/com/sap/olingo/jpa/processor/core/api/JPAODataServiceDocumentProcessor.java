@@ -22,10 +22,22 @@ public class JPAODataServiceDocumentProcessor implements ServiceDocumentProcesso
   private OData odata;
   private ServiceMetadata serviceMetadata;
   private final JPAODataSessionContextAccess serviceContext;
+  private final JPAODataMetadataCache metadataCache;
 
   public JPAODataServiceDocumentProcessor(final JPAODataSessionContextAccess serviceContext) {
+    this(serviceContext, null);
+  }
+
+  /**
+   * @param serviceContext
+   * @param metadataCache Serialized documents of the service. If null, the service document is serialized per
+   * request.
+   */
+  JPAODataServiceDocumentProcessor(final JPAODataSessionContextAccess serviceContext,
+      final JPAODataMetadataCache metadataCache) {
     super();
     this.serviceContext = serviceContext;
+    this.metadataCache = metadataCache;
   }
 
   @Override
@@ -43,6 +55,11 @@ public class JPAODataServiceDocumentProcessor implements ServiceDocumentProcesso
   public void readServiceDocument(final ODataRequest request, final ODataResponse response, final UriInfo uriInfo,
       final ContentType requestedContentType) throws ODataApplicationException, ODataLibraryException {
     String uri = serviceContext.useAbsoluteContextURL() ? request.getRawBaseUri() : null;
+    if (metadataCache != null) {
+      JPAODataMetadataCache.writeDocument(odata, request, response, metadataCache.getServiceDocument(odata,
+          requestedContentType, uri), requestedContentType);
+      return;
+    }
     boolean isNotModified = false;
     ServiceMetadataETagSupport eTagSupport = serviceMetadata.getServiceMetadataETagSupport();
     if (eTagSupport != null && eTagSupport.getServiceDocumentETag() != null) {
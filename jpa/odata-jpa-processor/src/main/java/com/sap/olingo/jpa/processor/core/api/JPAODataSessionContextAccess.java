@@ -2,6 +2,9 @@ package com.sap.olingo.jpa.processor.core.api;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nonnull;
 
 import jakarta.persistence.EntityManagerFactory;
 
@@ -12,6 +15,7 @@ import org.apache.olingo.server.api.processor.ErrorProcessor;
 import com.sap.olingo.jpa.metadata.api.JPAEdmProvider;
 import com.sap.olingo.jpa.metadata.core.edm.extension.vocabularies.AnnotationProvider;
 import com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseOperations;
+import com.sap.olingo.jpa.processor.core.query.JPAQueryPlanCache;
 
 /**
  *
@@ -65,4 +69,43 @@ public interface JPAODataSessionContextAccess {
   }
 
   public List<AnnotationProvider> getAnnotationProvider();
+
+  public default JPAODataQueryDirectives getQueryDirectives() {
+    return JPAODataQueryDirectives.DEFAULT;
+  }
+
+  /**
+   * Executor used to read sibling $expand and collection property queries in parallel. If empty, these queries are
+   * executed sequentially.
+   * @return
+   */
+  public default Optional<Executor> getExpandExecutor() {
+    return Optional.empty();
+  }
+
+  /**
+   * Sink that receives the runtime of the main processing phases. If empty, the phases are not measured.
+   * @return
+   */
+  public default Optional<JPAODataMetricsSink> getMetricsSink() {
+    return Optional.empty();
+  }
+
+  /**
+   * Entity sets that allow an approximate $count. If empty, all counts are read from the database.
+   * @return
+   */
+  public default Optional<JPAODataCountEstimation> getCountEstimation() {
+    return Optional.empty();
+  }
+
+  /**
+   * Cache of the query plans created for the service document of an EDM provider. If empty, the plans are created for
+   * each query.
+   * @param edmProvider
+   * @return
+   */
+  public default Optional<JPAQueryPlanCache> getQueryPlanCache(@Nonnull final JPAEdmProvider edmProvider) {
+    return Optional.empty();
+  }
 }
@@ -1,9 +1,6 @@
 package com.sap.olingo.jpa.processor.core.api.example;
 
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
 import java.util.UUID;
 
 import jakarta.persistence.EntityManager;
@@ -13,32 +10,39 @@ import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.apache.olingo.server.api.uri.UriResourceEntitySet;
 
+import com.sap.olingo.jpa.processor.core.api.JPAODataInMemoryPagingStateStore;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPage;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPagingProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataPagingStateStore;
 import com.sap.olingo.jpa.processor.core.query.JPACountQuery;
 
 public class JPAExamplePagingProvider implements JPAODataPagingProvider {
 
   private static final int DEFAULT_BUFFER_SIZE = 100;
   private final Map<String, Integer> maxPageSizes;
-  private final Map<String, CacheEntry> pageCache;
-  private final int cacheSize;
-  private final Queue<String> index;
+  private final JPAODataPagingStateStore<PagingState> pageCache;
 
   public JPAExamplePagingProvider(final Map<String, Integer> pageSizes) {
     this(pageSizes, DEFAULT_BUFFER_SIZE);
   }
 
   public JPAExamplePagingProvider(final Map<String, Integer> pageSizes, final int bufferSize) {
+    this(pageSizes, new JPAODataInMemoryPagingStateStore<>(bufferSize, null));
+  }
+
+  /**
+   * @param pageSizes Maximum page size per entity set
+   * @param pageCache Store for the pages a skip token was handed out for
+   */
+  public JPAExamplePagingProvider(final Map<String, Integer> pageSizes,
+      final JPAODataPagingStateStore<PagingState> pageCache) {
     maxPageSizes = pageSizes;
-    pageCache = new HashMap<>(bufferSize);
-    cacheSize = bufferSize;
-    index = new LinkedList<>();
+    this.pageCache = pageCache;
   }
 
   @Override
   public JPAODataPage getNextPage(final String skipToken) {
-    final CacheEntry previousPage = pageCache.get(skipToken.replace("'", ""));
+    final PagingState previousPage = pageCache.get(skipToken.replace("'", "")).orElse(null);
     if (previousPage != null) {
       // Calculate next page
       final Integer skip = previousPage.getPage().skip() + previousPage.getPage().top();
@@ -92,14 +96,20 @@ public class JPAExamplePagingProvider implements JPAODataPagingProvider {
   }
 
   private void addToCache(final JPAODataPage page, final Long count) {
-    if (pageCache.size() == cacheSize)
-      pageCache.remove(index.poll());
-
     pageCache.put((String) page.skipToken(), new CacheEntry(count, page));
-    index.add((String) page.skipToken());
   }
 
-  private static class CacheEntry {
+  /**
+   * State of a paged request as kept in the {@link JPAODataPagingStateStore}: the page a skip token was handed out
+   * for and the end of the list.
+   */
+  public interface PagingState {
+    Long getMaxTop();
+
+    JPAODataPage getPage();
+  }
+
+  static class CacheEntry implements PagingState {
     private final Long maxTop;
     private final JPAODataPage page;
 
@@ -109,10 +119,12 @@ public class JPAExamplePagingProvider implements JPAODataPagingProvider {
       this.page = page;
     }
 
+    @Override
     public Long getMaxTop() {
       return maxTop;
     }
 
+    @Override
     public JPAODataPage getPage() {
       return page;
     }
@@ -15,7 +15,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 
 public interface JPAExpandResult { // NOSONAR
 
-  String ROOT_RESULT_KEY = "root";
+  JPAResultKey ROOT_RESULT_KEY = JPAResultKey.of("root");
 
   @CheckForNull
   JPAExpandResult getChild(final JPAAssociationPath associationPath);
@@ -23,14 +23,14 @@ public interface JPAExpandResult { // NOSONAR
   Map<JPAAssociationPath, JPAExpandResult> getChildren();
 
   @CheckForNull
-  Long getCount(final String string);
+  Long getCount(final JPAResultKey key);
 
   @Nonnull
   JPAEntityType getEntityType();
 
-  List<Tuple> getResult(final String key);
+  List<Tuple> getResult(final JPAResultKey key);
 
-  Map<String, List<Tuple>> getResults();
+  Map<JPAResultKey, List<Tuple>> getResults();
 
   boolean hasCount();
 
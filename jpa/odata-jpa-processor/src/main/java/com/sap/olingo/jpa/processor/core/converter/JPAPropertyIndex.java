@@ -0,0 +1,47 @@
+package com.sap.olingo.jpa.processor.core.converter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import org.apache.olingo.commons.api.data.Property;
+
+/**
+ * Index of a property list by the property names. Olingo's <code>getProperty(name)</code> scans the property list, so
+ * checking for each column whether it has already been converted is quadratic in the number of columns.
+ * <p>
+ * The index is meant to live as long as one row gets converted. Properties that have been added to the list in the
+ * meantime are taken over before each look-up. Other than adding properties the list must not be changed.
+ */
+public final class JPAPropertyIndex {
+
+  private final List<Property> properties;
+  private final Map<String, Property> index;
+  private int indexed;
+
+  public JPAPropertyIndex(@Nonnull final List<Property> properties) {
+    this.properties = properties;
+    this.index = new HashMap<>();
+  }
+
+  /**
+   * Returns the first property with the given name, like <code>Entity.getProperty(name)</code>
+   * @param name
+   * @return
+   */
+  @CheckForNull
+  public Property get(final String name) {
+    for (; indexed < properties.size(); indexed++) {
+      final Property property = properties.get(indexed);
+      index.putIfAbsent(property.getName(), property);
+    }
+    return index.get(name);
+  }
+
+  public boolean contains(final String name) {
+    return get(name) != null;
+  }
+}
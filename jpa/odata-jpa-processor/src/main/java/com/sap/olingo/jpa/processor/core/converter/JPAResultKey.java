@@ -0,0 +1,183 @@
+package com.sap.olingo.jpa.processor.core.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import jakarta.persistence.Tuple;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+
+/**
+ * Immutable key of a partial result. An expand result is grouped by the values of the join columns, which are known
+ * by the parent rows as well as by the child rows. The key keeps one value per column and caches its hash code, so no
+ * concatenated string needs to be built for each row.
+ * <p>
+ * The parent and the child may provide a join column with different Java types, e.g. an Integer at the parent and a
+ * Long or a BigDecimal at the child. Therefore integral numbers are kept as Long and other numbers as BigDecimal
+ * without trailing zeros. All other values are kept as they are; binary values are compared by their content. Only if
+ * the attributes of a join column differ in a way numbers can not bridge, e.g. a String at the parent and a Long at
+ * the child, the values of that column are compared by their string representation. This is decided once per
+ * column by a {@link Reader}.
+ */
+public final class JPAResultKey {
+  private static final int MAX_LONG_DIGITS = 19;
+
+  private final Object[] values;
+  private final int hash;
+
+  private JPAResultKey(final Object[] values) {
+    this.values = values;
+    this.hash = Arrays.deepHashCode(values);
+  }
+
+  /**
+   * Creates a key from the given values
+   * @param values
+   * @return
+   */
+  public static JPAResultKey of(@Nonnull final Object... values) {
+    final Object[] normalized = new Object[values.length];
+    for (int i = 0; i < values.length; i++)
+      normalized[i] = normalize(values[i]);
+    return new JPAResultKey(normalized);
+  }
+
+  /**
+   * Creates a reader for the keys of one result set.
+   * @param aliasPrefix Prefix of the aliases the columns have been selected with; empty if none
+   * @param columns Join columns read from the rows
+   * @param counterpartColumns Join columns of the other side of the association, in the same sequence as the columns
+   * @return
+   */
+  public static Reader reader(@Nonnull final String aliasPrefix, @Nonnull final List<JPAPath> columns,
+      @Nonnull final List<JPAPath> counterpartColumns) {
+    final String[] aliases = new String[columns.size()];
+    final boolean[] asString = new boolean[columns.size()];
+    for (int i = 0; i < aliases.length; i++) {
+      aliases[i] = aliasPrefix + columns.get(i).getAlias();
+      asString[i] = i < counterpartColumns.size() && requiresString(columns.get(i), counterpartColumns.get(i));
+    }
+    return new Reader(aliases, asString);
+  }
+
+  private static Object normalize(final Object value) {
+    if (value instanceof Long || !(value instanceof final Number number))
+      return value;
+    if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+      return Long.valueOf(number.longValue());
+    if (value instanceof final BigInteger integer)
+      return integer.bitLength() < Long.SIZE ? Long.valueOf(integer.longValue()) : new BigDecimal(integer);
+    if ((value instanceof Double || value instanceof Float) && !Double.isFinite(number.doubleValue()))
+      return value;
+    final BigDecimal decimal = (value instanceof final BigDecimal d ? d : new BigDecimal(number.toString()))
+        .stripTrailingZeros();
+    final int digits = decimal.precision() - decimal.scale();
+    if (decimal.scale() <= 0 && (digits < MAX_LONG_DIGITS
+        || digits == MAX_LONG_DIGITS && decimal.toBigInteger().bitLength() < Long.SIZE))
+      return Long.valueOf(decimal.longValue());
+    return decimal;
+  }
+
+  private static Object normalizeToString(final Object value) {
+    if (value == null || value instanceof String || value instanceof byte[])
+      return value;
+    final Object normalized = normalize(value);
+    return normalized instanceof final BigDecimal decimal ? decimal.toPlainString() : normalized.toString();
+  }
+
+  private static boolean requiresString(final JPAPath column, final JPAPath counterpartColumn) {
+    final Class<?> type = boxed(leafType(column));
+    final Class<?> counterpartType = boxed(leafType(counterpartColumn));
+    if (type == null || counterpartType == null || type == counterpartType)
+      return false;
+    return !(Number.class.isAssignableFrom(type) && Number.class.isAssignableFrom(counterpartType));
+  }
+
+  private static Class<?> leafType(final JPAPath column) {
+    return column.getLeaf() == null ? null : column.getLeaf().getType();
+  }
+
+  private static Class<?> boxed(final Class<?> type) {
+    if (type == null || !type.isPrimitive())
+      return type;
+    if (type == int.class)
+      return Integer.class;
+    if (type == long.class)
+      return Long.class;
+    if (type == short.class)
+      return Short.class;
+    if (type == byte.class)
+      return Byte.class;
+    if (type == double.class)
+      return Double.class;
+    if (type == float.class)
+      return Float.class;
+    if (type == boolean.class)
+      return Boolean.class;
+    return Character.class;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (this == object)
+      return true;
+    if (!(object instanceof final JPAResultKey other))
+      return false;
+    return hash == other.hash && Arrays.deepEquals(values, other.values);
+  }
+
+  /**
+   * Returns the values concatenated by {@value JPAPath#PATH_SEPARATOR}, e.g. <i>Eurostat/NUTS1/BE2</i>
+   */
+  @Override
+  public String toString() {
+    final StringBuilder buffer = new StringBuilder();
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0)
+        buffer.append(JPAPath.PATH_SEPARATOR);
+      buffer.append(values[i] instanceof final byte[] bytes ? Arrays.toString(bytes) : values[i]);
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Reads the keys from the rows of one result set. The conversion of each column is determined when the reader is
+   * created, the positions of the columns within the rows are determined from the first row. A reader is not thread
+   * safe.
+   */
+  public static final class Reader {
+    private final String[] aliases;
+    private final boolean[] asString;
+    private JPATupleAccessPlan accessPlan;
+
+    private Reader(final String[] aliases, final boolean[] asString) {
+      this.aliases = aliases;
+      this.asString = asString;
+    }
+
+    /**
+     * Creates the key from the values of the join columns of a row
+     * @param row
+     * @return
+     */
+    public JPAResultKey read(@Nonnull final Tuple row) {
+      if (accessPlan == null || !accessPlan.fits(row, aliases))
+        accessPlan = JPATupleAccessPlan.of(row, aliases, Arrays.asList(aliases));
+      final Object[] normalized = new Object[aliases.length];
+      for (int i = 0; i < normalized.length; i++) {
+        final Object value = accessPlan.get(row, i, aliases[i]);
+        normalized[i] = asString[i] ? normalizeToString(value) : normalize(value);
+      }
+      return new JPAResultKey(normalized);
+    }
+  }
+}
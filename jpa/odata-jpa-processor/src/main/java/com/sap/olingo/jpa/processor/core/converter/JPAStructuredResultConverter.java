@@ -1,8 +1,6 @@
 package com.sap.olingo.jpa.processor.core.converter;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -24,6 +22,8 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAStructuredType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.impl.JPADefaultEdmNameBuilder;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
+import com.sap.olingo.jpa.processor.core.processor.JPAAccessorPlan;
+import com.sap.olingo.jpa.processor.core.processor.JPAAccessorPlan.Getter;
 
 /**
  * Abstract super class to converts a list of JPA POJOs into Olingo format. The POJOs have to have
@@ -36,10 +36,9 @@ public abstract class JPAStructuredResultConverter {
   public static final String ACCESS_MODIFIER_GET = "get";
   public static final String ACCESS_MODIFIER_SET = "set";
   public static final String ACCESS_MODIFIER_IS = "is";
-  private static final Map<String, HashMap<String, Method>> METHOD_BUFFER =
-      new HashMap<>();
   protected final List<?> jpaQueryResult;
   protected final JPAStructuredType jpaTopLevelType;
+  private final Map<JPAStructuredType, List<AttributeGetter>> getterPlans = new HashMap<>();
 
   protected JPAStructuredResultConverter(final List<?> jpaQueryResult, final JPAStructuredType jpaStructuredType) {
 
@@ -50,38 +49,12 @@ public abstract class JPAStructuredResultConverter {
 
   public abstract Object getResult() throws ODataApplicationException, SerializerException, URISyntaxException;
 
-  protected Map<String, Method> getMethods(final Class<?> clazz) {
-    HashMap<String, Method> methods = METHOD_BUFFER.get(clazz.getName());
-    if (methods == null) {
-      methods = new HashMap<>();
-
-      final Method[] allMethods = clazz.getMethods();
-      for (final Method m : allMethods) {
-        if (!m.getReturnType().getName().equalsIgnoreCase("void")
-            && Modifier.isPublic(m.getModifiers()))
-          methods.put(m.getName(), m);
-      }
-      METHOD_BUFFER.put(clazz.getName(), methods);
-    }
-    return methods;
-  }
-
   protected void convertProperties(final Object row,
       final List<Property> properties, final JPAStructuredType jpaStructuredType) throws ODataJPAQueryException {
 
-    List<JPAAttribute> attributeList;
-    final Map<String, Method> methodMap = getMethods(jpaStructuredType.getTypeClass());
-    try {
-      attributeList = jpaStructuredType.getAttributes();
-    } catch (final ODataJPAModelException e) {
-      throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
-    }
-
-    for (final JPAAttribute attribute : attributeList) {
-      final String attributeName = attribute.getInternalName();
-      if (attribute.isTransient())
-        continue;
-      final Method getMethod = getGetter(attributeName, methodMap);
+    for (final AttributeGetter attributeGetter : getGetterPlan(jpaStructuredType)) {
+      final JPAAttribute attribute = attributeGetter.attribute();
+      final Getter getMethod = attributeGetter.getter();
       try {
         if (attribute.isCollection()) {
           convertCollectionProperty(row, properties, attribute, getMethod);
@@ -90,8 +63,7 @@ public abstract class JPAStructuredResultConverter {
         } else {
           convertPrimitiveProperty(row, properties, attribute, getMethod);
         }
-      } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException
-          | ODataJPAModelException e) {
+      } catch (IllegalArgumentException | InvocationTargetException | ODataJPAModelException e) {
         throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
       }
     }
@@ -99,9 +71,9 @@ public abstract class JPAStructuredResultConverter {
 
   @SuppressWarnings("unchecked")
   private <T, S> void convertPrimitiveProperty(final Object row, final List<Property> properties,
-      final JPAAttribute attribute, final Method getMethod) throws IllegalAccessException, InvocationTargetException {
+      final JPAAttribute attribute, final Getter getMethod) throws InvocationTargetException {
     if (row != null) {
-      Object odataValue = getMethod.invoke(row);
+      Object odataValue = getMethod.get(row);
       if (attribute.getConverter() != null) {
         final AttributeConverter<T, S> converter = attribute.getConverter();
         odataValue = converter.convertToDatabaseColumn((T) odataValue);
@@ -122,8 +94,7 @@ public abstract class JPAStructuredResultConverter {
   }
 
   private void convertComplexProperty(final Object row, final List<Property> properties, final JPAAttribute attribute,
-      final Method getMethod) throws ODataJPAModelException, ODataJPAQueryException, IllegalAccessException,
-      InvocationTargetException {
+      final Getter getMethod) throws ODataJPAModelException, ODataJPAQueryException, InvocationTargetException {
     final ComplexValue complexValue = new ComplexValue();
     properties.add(new Property(
         attribute.getStructuredType().getExternalFQN().getFullQualifiedNameAsString(),
@@ -131,13 +102,13 @@ public abstract class JPAStructuredResultConverter {
         ValueType.COMPLEX,
         complexValue));
     final List<Property> values = complexValue.getValue();
-    convertProperties(getMethod.invoke(row), values, attribute.getStructuredType());
+    convertProperties(getMethod.get(row), values, attribute.getStructuredType());
   }
 
   private void convertCollectionProperty(final Object row, final List<Property> properties,
-      final JPAAttribute attribute, final Method getMethod) throws IllegalAccessException, InvocationTargetException,
+      final JPAAttribute attribute, final Getter getMethod) throws InvocationTargetException,
       ODataJPAQueryException, ODataJPAModelException {
-    final Collection<?> odataValue = (Collection<?>) getMethod.invoke(row);
+    final Collection<?> odataValue = (Collection<?>) getMethod.get(row);
     final List<Object> collection = new ArrayList<>();
     if (attribute.isComplex() && odataValue != null) {
       for (final Object element : odataValue) {
@@ -155,16 +126,39 @@ public abstract class JPAStructuredResultConverter {
         collection));
   }
 
-  private Method getGetter(final String attributeName, final Map<String, Method> methodMap)
+  /**
+   * Resolves the getter of the not transient attributes of a structured type once per converter
+   */
+  private List<AttributeGetter> getGetterPlan(final JPAStructuredType jpaStructuredType)
       throws ODataJPAQueryException {
-    final String getterName = ACCESS_MODIFIER_GET + JPADefaultEdmNameBuilder.firstToUpper(attributeName);
 
-    if (methodMap.get(getterName) == null)
+    List<AttributeGetter> plan = getterPlans.get(jpaStructuredType);
+    if (plan == null) {
+      final JPAAccessorPlan accessors = JPAAccessorPlan.of(jpaStructuredType.getTypeClass());
+      plan = new ArrayList<>();
+      try {
+        for (final JPAAttribute attribute : jpaStructuredType.getAttributes()) {
+          if (!attribute.isTransient())
+            plan.add(new AttributeGetter(attribute, getGetter(attribute.getInternalName(), accessors)));
+        }
+      } catch (final ODataJPAModelException e) {
+        throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+      }
+      getterPlans.put(jpaStructuredType, plan);
+    }
+    return plan;
+  }
+
+  private Getter getGetter(final String attributeName, final JPAAccessorPlan accessors)
+      throws ODataJPAQueryException {
+    final Getter getMethod = accessors.getGetter(ACCESS_MODIFIER_GET + JPADefaultEdmNameBuilder.firstToUpper(
+        attributeName));
+    if (getMethod == null)
       throw new ODataJPAQueryException(ODataJPAQueryException.MessageKeys.QUERY_RESULT_ACCESS_NOT_FOUND,
           HttpStatusCode.INTERNAL_SERVER_ERROR, attributeName);
-    Method getMethod;
-    getMethod = methodMap.get(getterName);
     return getMethod;
   }
 
+  private static record AttributeGetter(JPAAttribute attribute, Getter getter) {}
+
 }
\ No newline at end of file
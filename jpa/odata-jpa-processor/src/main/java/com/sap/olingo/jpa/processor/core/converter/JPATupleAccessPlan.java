@@ -0,0 +1,50 @@
+package com.sap.olingo.jpa.processor.core.converter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+/**
+ * Positions of columns within the rows of a result set. Positional access is only used if the tuple provides its
+ * values in the sequence of its elements, which is not the case e.g. for {@link JPATuple}.
+ * @param tupleType Class of the rows the positions have been determined for
+ * @param columns Columns the positions have been determined for, compared by identity
+ * @param positions Position per column or -1, if the value has to be read via the alias
+ */
+record JPATupleAccessPlan(Class<?> tupleType, Object columns, int[] positions) {
+
+  static JPATupleAccessPlan of(final Tuple row, final Object columns, final List<String> aliases) {
+    final int[] positions = new int[aliases.size()];
+    Arrays.fill(positions, -1);
+    final Object[] values = row.toArray();
+    final List<TupleElement<?>> elements = row.getElements();
+    if (values != null && elements != null && !elements.isEmpty() && values.length == elements.size()) {
+      final Map<String, Integer> index = new HashMap<>(elements.size());
+      for (int i = 0; i < elements.size(); i++)
+        index.putIfAbsent(elements.get(i).getAlias(), i);
+      for (int column = 0; column < positions.length; column++)
+        positions[column] = index.getOrDefault(aliases.get(column), -1);
+    }
+    return new JPATupleAccessPlan(row.getClass(), columns, positions);
+  }
+
+  boolean fits(final Tuple row, final Object requestedColumns) {
+    return tupleType == row.getClass() && columns == requestedColumns;
+  }
+
+  /**
+   * Reads the value of a column from a row.
+   * @param row
+   * @param column Index of the column within the columns of the plan
+   * @param alias Alias of the column, used if the column has no position
+   * @return
+   */
+  Object get(final Tuple row, final int column, final String alias) {
+    final int position = positions[column];
+    return position >= 0 ? row.get(position) : row.get(alias);
+  }
+}
@@ -5,10 +5,13 @@ import java.net.URISyntaxException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
@@ -19,6 +22,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.olingo.commons.api.data.ComplexValue;
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.EntityIterator;
 import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.data.ValueType;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
@@ -66,7 +70,7 @@ public class JPATupleChildConverter extends JPATupleResultConverter {
     this(converter.sd, converter.uriHelper, converter.serviceMetadata, converter.requestContext);
   }
 
-  public Map<String, List<Object>> getCollectionResult(final JPACollectionResult jpaResult,
+  public Map<JPAResultKey, List<Object>> getCollectionResult(final JPACollectionResult jpaResult,
       final Collection<JPAPath> requestedSelection) throws ODataApplicationException {
 
     return new JPATupleCollectionConverter(sd, uriHelper, serviceMetadata, requestContext)
@@ -74,26 +78,25 @@ public class JPATupleChildConverter extends JPATupleResultConverter {
   }
 
   @Override
-  public Map<String, EntityCollection> getResult(@Nonnull final JPAExpandResult jpaResult,
+  public Map<JPAResultKey, EntityCollection> getResult(@Nonnull final JPAExpandResult jpaResult,
       @Nonnull final Collection<JPAPath> requestedSelection) throws ODataApplicationException {
 
     jpaQueryResult = jpaResult;
     this.setName = determineSetName(jpaQueryResult);
     this.jpaConversionTargetEntity = jpaQueryResult.getEntityType();
     this.edmType = determineEdmType();
-    final Map<String, List<Tuple>> childResult = jpaResult.getResults();
+    resetAccessPlan();
+    final Map<JPAResultKey, List<Tuple>> childResult = jpaResult.getResults();
 
-    final Map<String, EntityCollection> result = new HashMap<>(childResult.size());
-    for (final Entry<String, List<Tuple>> tuple : childResult.entrySet()) {
+    final Map<JPAResultKey, EntityCollection> result = new HashMap<>(childResult.size());
+    for (final Entry<JPAResultKey, List<Tuple>> tuple : childResult.entrySet()) {
       final EntityCollection entityCollection = new EntityCollection();
       final List<Entity> entities = entityCollection.getEntities();
       final List<Tuple> rows = tuple.getValue();
 
       for (int i = 0; i < rows.size(); i++) {
         final Tuple row = rows.set(i, null);
-        final Entity odataEntity = convertRow(jpaConversionTargetEntity, row, requestedSelection);
-        odataEntity.setMediaContentType(determineContentType(jpaConversionTargetEntity, row));
-        entities.add(odataEntity);
+        entities.add(convertRootRow(row, requestedSelection));
       }
       result.put(tuple.getKey(), entityCollection);
     }
@@ -101,6 +104,35 @@ public class JPATupleChildConverter extends JPATupleResultConverter {
     return result;
   }
 
+  /**
+   * Converts a streamed result. Other than {@link #getResult(JPAExpandResult, Collection)} the rows are converted
+   * lazily, when the next entity is requested from the returned iterator. The stream gets closed after the last row
+   * has been read.
+   * @param jpaResult Result providing the already converted children
+   * @param rows
+   * @param requestedSelection
+   * @return
+   * @throws ODataApplicationException
+   */
+  public EntityIterator getResult(@Nonnull final JPAExpandResult jpaResult, @Nonnull final Stream<Tuple> rows,
+      @Nonnull final Collection<JPAPath> requestedSelection) throws ODataApplicationException {
+
+    jpaQueryResult = jpaResult;
+    this.setName = determineSetName(jpaQueryResult);
+    this.jpaConversionTargetEntity = jpaQueryResult.getEntityType();
+    this.edmType = determineEdmType();
+    resetAccessPlan();
+    return new JPAStreamEntityIterator(rows, requestedSelection);
+  }
+
+  private Entity convertRootRow(final Tuple row, final Collection<JPAPath> requestedSelection)
+      throws ODataApplicationException {
+
+    final Entity odataEntity = convertRow(jpaConversionTargetEntity, row, requestedSelection);
+    odataEntity.setMediaContentType(determineContentType(jpaConversionTargetEntity, row));
+    return odataEntity;
+  }
+
   protected Entity convertRow(final JPAEntityType rowEntity, final Tuple row,
       final Collection<JPAPath> requestedSelection) throws ODataApplicationException {
 
@@ -126,12 +158,13 @@ public class JPATupleChildConverter extends JPATupleResultConverter {
   protected void createCollectionProperties(final JPAStructuredType jpaStructuredType, final Tuple row,
       final List<Property> properties) throws ODataJPAQueryException {
 
+    final Map<List<Property>, JPAPropertyIndex> indexes = new IdentityHashMap<>();
     List<Property> result;
     try {
       for (final JPAPath path : jpaStructuredType.getCollectionAttributesPath()) {
         result = properties;
         for (final JPAElement pathElement : path.getPath()) {
-          result = findOrCreateComplexProperty(result, pathElement);
+          result = findOrCreateComplexProperty(result, pathElement, indexes);
         }
         final JPACollectionAttribute collection = (JPACollectionAttribute) path.getLeaf();
         if (collection.isTransient()) {
@@ -172,7 +205,7 @@ public class JPATupleChildConverter extends JPATupleResultConverter {
       final JPAExpandResult child) throws ODataJPAModelException {
 
     final Collection<Object> collectionResult = ((JPACollectionResult) child).getPropertyCollection(
-        buildConcatenatedKey(row, collection.asAssociation().getLeftColumnsList()));
+        buildResultKey(row, collection.asAssociation()));
 
     result.add(new Property(
         null,
@@ -181,18 +214,14 @@ public class JPATupleChildConverter extends JPATupleResultConverter {
         collectionResult != null ? collectionResult : Collections.emptyList()));
   }
 
-  private List<Property> findOrCreateComplexProperty(List<Property> result, final JPAElement pathElement)
-      throws ODataJPAModelException {
-    boolean found = false;
-    for (final Property p : result) {
-      if (p.getName().equals(pathElement.getExternalName())) {
-        result = ((ComplexValue) p.getValue()).getValue();
-        found = true;
-        break;
-      }
-    }
-    if (!found
-        && pathElement instanceof final JPAAttribute attribute
+  private List<Property> findOrCreateComplexProperty(List<Property> result, final JPAElement pathElement,
+      final Map<List<Property>, JPAPropertyIndex> indexes) throws ODataJPAModelException {
+
+    final Property existing = indexes.computeIfAbsent(result, JPAPropertyIndex::new)
+        .get(pathElement.getExternalName());
+    if (existing != null) {
+      result = ((ComplexValue) existing.getValue()).getValue();
+    } else if (pathElement instanceof final JPAAttribute attribute
         && attribute.isComplex()
         && !attribute.isCollection()) {
       final Property path = new Property(
@@ -302,4 +331,34 @@ public class JPATupleChildConverter extends JPATupleResultConverter {
       throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
     }
   }
+
+  private class JPAStreamEntityIterator extends EntityIterator {
+    private final Stream<Tuple> rows;
+    private final Iterator<Tuple> iterator;
+    private final Collection<JPAPath> requestedSelection;
+
+    private JPAStreamEntityIterator(final Stream<Tuple> rows, final Collection<JPAPath> requestedSelection) {
+      this.rows = rows;
+      this.iterator = rows.iterator();
+      this.requestedSelection = requestedSelection;
+    }
+
+    @Override
+    public boolean hasNext() {
+      final boolean hasNext = iterator.hasNext();
+      if (!hasNext)
+        rows.close();
+      return hasNext;
+    }
+
+    @Override
+    public Entity next() {
+      try {
+        return convertRootRow(iterator.next(), requestedSelection);
+      } catch (final ODataApplicationException e) {
+        rows.close();
+        throw new ODataRuntimeException(e);
+      }
+    }
+  }
 }
@@ -39,23 +39,24 @@ public class JPATupleCollectionConverter extends JPATupleResultConverter {
   }
 
   @Override
-  public Map<String, List<Object>> getResult(final JPAExpandResult dbResult,
+  public Map<JPAResultKey, List<Object>> getResult(final JPAExpandResult dbResult,
       final Collection<JPAPath> requestedSelection) throws ODataApplicationException {
 
     jpaQueryResult = dbResult;
+    resetAccessPlan();
     final JPACollectionResult jpaResult = (JPACollectionResult) dbResult;
     final JPAAssociationAttribute attribute = jpaResult.getAssociation().getLeaf();
     final boolean isTransient = attribute.isTransient();
 
-    final Map<String, List<Tuple>> childResult = jpaResult.getResults();
-    final Map<String, List<Object>> result = new HashMap<>(childResult.size());
+    final Map<JPAResultKey, List<Tuple>> childResult = jpaResult.getResults();
+    final Map<JPAResultKey, List<Object>> result = new HashMap<>(childResult.size());
 
     try {
       final JPAStructuredType st = determineCollectionRoot(jpaResult.getEntityType(), jpaResult.getAssociation()
           .getPath());
       final String prefix = determinePrefix(jpaResult.getAssociation().getAlias());
 
-      for (final Entry<String, List<Tuple>> tuple : childResult.entrySet()) {
+      for (final Entry<JPAResultKey, List<Tuple>> tuple : childResult.entrySet()) {
         if (isTransient) {
           result.put(tuple.getKey(), convertTransientCollection(attribute, tuple));
         } else {
@@ -74,7 +75,7 @@ public class JPATupleCollectionConverter extends JPATupleResultConverter {
 
   private List<Object> convertPersistentCollection(final JPACollectionResult jpaResult,
       final JPAAssociationAttribute attribute, final JPAStructuredType st, final String prefix,
-      final Entry<String, List<Tuple>> tuple, final Collection<JPAPath> requestedSelection)
+      final Entry<JPAResultKey, List<Tuple>> tuple, final Collection<JPAPath> requestedSelection)
       throws ODataJPAModelException,
       ODataApplicationException {
 
@@ -116,7 +117,7 @@ public class JPATupleCollectionConverter extends JPATupleResultConverter {
 
   @SuppressWarnings("unchecked")
   private List<Object> convertTransientCollection(final JPAAssociationAttribute attribute,
-      final Entry<String, List<Tuple>> tuple) throws ODataJPAProcessorException {
+      final Entry<JPAResultKey, List<Tuple>> tuple) throws ODataJPAProcessorException {
 
     final Optional<EdmTransientPropertyCalculator<?>> calculator = requestContext.getCalculator(attribute);
     if (calculator.isPresent()) {
@@ -3,6 +3,7 @@ package com.sap.olingo.jpa.processor.core.converter;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -57,6 +58,8 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
   protected final ServiceMetadata serviceMetadata;
   protected EdmEntityType edmType;
   protected final JPAODataRequestContextAccess requestContext;
+  private JPATupleAccessPlan accessPlan;
+  private final Map<JPAAssociationPath, JPAResultKey.Reader> keyReaders = new HashMap<>();
 
   protected JPATupleResultConverter(final JPAServiceDocument sd, final UriHelper uriHelper,
       final ServiceMetadata serviceMetadata, final JPAODataRequestContextAccess requestContext) {
@@ -66,15 +69,17 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
     this.requestContext = requestContext;
   }
 
-  protected String buildConcatenatedKey(final Tuple row, final List<JPAPath> leftColumns) {
-    final StringBuilder buffer = new StringBuilder();
-    for (final JPAPath item : leftColumns) {
-      buffer.append(JPAPath.PATH_SEPARATOR);
-      // TODO Tuple returns the converted value in case a @Convert(converter = annotation is given
-      buffer.append(row.get(item.getAlias()));
+  protected JPAResultKey buildResultKey(final Tuple row, final JPAAssociationPath association)
+      throws ODataJPAModelException {
+    // TODO Tuple returns the converted value in case a @Convert(converter = annotation is given
+    JPAResultKey.Reader reader = keyReaders.get(association);
+    if (reader == null) {
+      final List<JPAPath> leftColumns = association.getLeftColumnsList();
+      reader = JPAResultKey.reader(EMPTY_PREFIX, leftColumns, association.hasJoinTable() ? leftColumns
+          : association.getRightColumnsList());
+      keyReaders.put(association, reader);
     }
-    buffer.deleteCharAt(0);
-    return buffer.toString();
+    return reader.read(row);
   }
 
   protected String buildPath(final String prefix, final JPAAssociationAttribute association) {
@@ -101,9 +106,10 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
   protected void convertRowWithOutSelection(final JPAEntityType rowEntity, final Tuple row,
       final Map<String, ComplexValue> complexValueBuffer, final Entity odataEntity, final List<Property> properties)
       throws ODataApplicationException {
+    final JPAPropertyIndex converted = new JPAPropertyIndex(odataEntity.getProperties());
     for (final TupleElement<?> element : row.getElements()) {
       try {
-        if (odataEntity.getProperty(element.getAlias()) == null) {
+        if (!converted.contains(element.getAlias())) {
           final JPAPath path = rowEntity.getPath(element.getAlias());
           convertAttribute(row.get(element.getAlias()), path, complexValueBuffer, properties, row, EMPTY_PREFIX,
               odataEntity);
@@ -118,10 +124,14 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
   protected void convertRowWithSelection(final Tuple row, final Collection<JPAPath> requestedSelection,
       final Map<String, ComplexValue> complexValueBuffer, final Entity odataEntity, final List<Property> properties)
       throws ODataApplicationException {
+    final JPATupleAccessPlan plan = determineAccessPlan(row, requestedSelection);
+    final JPAPropertyIndex converted = odataEntity == null ? null : new JPAPropertyIndex(odataEntity.getProperties());
+    int column = 0;
     for (final JPAPath p : requestedSelection) {
+      final int index = column++;
       try {
-        final Object value = p.isTransient() ? null : row.get(p.getAlias());
-        if (odataEntity == null || odataEntity.getProperty(p.getAlias()) == null)
+        final Object value = p.isTransient() ? null : plan.get(row, index, p.getAlias());
+        if (converted == null || !converted.contains(p.getAlias()))
           convertAttribute(value, p, complexValueBuffer, properties, row, EMPTY_PREFIX, odataEntity);
 
       } catch (final IllegalArgumentException e) {
@@ -141,6 +151,27 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
     }
   }
 
+  /**
+   * Forgets the column positions of the last result set. Has to be called before the rows of a new result set get
+   * converted.
+   */
+  protected void resetAccessPlan() {
+    accessPlan = null;
+    keyReaders.clear();
+  }
+
+  /**
+   * Returns the positions of the requested paths within the row. The positions are determined only once per result
+   * set, based on its first row.
+   */
+  private JPATupleAccessPlan determineAccessPlan(final Tuple row, final Collection<JPAPath> requestedSelection) {
+    if (accessPlan == null || !accessPlan.fits(row, requestedSelection))
+      accessPlan = JPATupleAccessPlan.of(row, requestedSelection, requestedSelection.stream()
+          .map(JPAPath::getAlias)
+          .toList());
+    return accessPlan;
+  }
+
   protected void createComplexValue(final Map<String, ComplexValue> complexValueBuffer, final List<Property> properties,
       final JPAAttribute attribute, final Tuple parentRow, final String bufferKey, final String rootURI)
       throws ODataJPAModelException, ODataApplicationException {
@@ -279,15 +310,9 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
     }
   }
 
-  Integer determineCount(final JPAAssociationPath association, final Tuple parentRow, final JPAExpandResult child)
-      throws ODataJPAQueryException {
-    try {
-      final Long count = child.getCount(buildConcatenatedKey(parentRow, association.getLeftColumnsList()));
-      return count != null ? count.intValue() : null;
-    } catch (final ODataJPAModelException e) {
-      throw new ODataJPAQueryException(ODataJPAQueryException.MessageKeys.QUERY_RESULT_CONV_ERROR,
-          HttpStatusCode.INTERNAL_SERVER_ERROR, e);
-    }
+  Integer determineCount(final JPAResultKey parentKey, final JPAExpandResult child) {
+    final Long count = child.getCount(parentKey);
+    return count != null ? count.intValue() : null;
   }
 
   private Link getLink(final JPAAssociationPath association, final String linkURI) {
@@ -306,10 +331,10 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
     link.setRel(Constants.NS_NAVIGATION_LINK_REL + link.getTitle());
     link.setType(Constants.ENTITY_NAVIGATION_LINK_TYPE);
     try {
-      final EntityCollection expandCollection = ((JPAConvertibleResult) child).getEntityCollection(
-          buildConcatenatedKey(parentRow, association.getLeftColumnsList()));
+      final JPAResultKey parentKey = buildResultKey(parentRow, association);
+      final EntityCollection expandCollection = ((JPAConvertibleResult) child).getEntityCollection(parentKey);
 
-      expandCollection.setCount(determineCount(association, parentRow, child));
+      expandCollection.setCount(determineCount(parentKey, child));
       if (association.getLeaf().isCollection()) {
         link.setInlineEntitySet(expandCollection);
         link.setHref(linkURI);
@@ -326,5 +351,4 @@ abstract class JPATupleResultConverter implements JPAResultConverter {
     }
     return link;
   }
-
-}
\ No newline at end of file
+}
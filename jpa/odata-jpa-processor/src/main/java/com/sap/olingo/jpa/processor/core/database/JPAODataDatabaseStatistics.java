@@ -0,0 +1,27 @@
+package com.sap.olingo.jpa.processor.core.database;
+
+import java.util.Optional;
+
+import jakarta.persistence.EntityManager;
+
+import org.apache.olingo.server.api.ODataApplicationException;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
+
+public interface JPAODataDatabaseStatistics {
+  /**
+   * Provides the number of rows of the table an entity type is stored in, as estimated by the statistics of the
+   * database, e.g. <code>pg_class.reltuples</code> of PostgreSQL. Reading the statistics is much cheaper than a
+   * <code>SELECT COUNT(*)</code> on a large table. It is used to answer unrestricted $count requests of entity sets
+   * that allow an approximate count, see {@link com.sap.olingo.jpa.processor.core.api.JPAODataCountEstimation
+   * JPAODataCountEstimation}.
+   * @param em Entity manager of the request
+   * @param entityType Metadata of the entity type to be counted
+   * @return Estimated number of rows. Empty if the database does not provide statistics for the table
+   * @throws ODataApplicationException
+   */
+  default Optional<Long> estimateRowCount(final EntityManager em, final JPAEntityType entityType)
+      throws ODataApplicationException {
+    return Optional.empty();
+  }
+}
@@ -4,8 +4,10 @@ import static com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorExcep
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
@@ -32,6 +34,8 @@ import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 public class JPA_POSTSQL_DatabaseProcessor extends JPAAbstractDatabaseProcessor { // NOSONAR
   private static final String SELECT_BASE_PATTERN = "SELECT * FROM $FUNCTIONNAME$($PARAMETER$)";
   private static final String SELECT_COUNT_PATTERN = "SELECT COUNT(*) FROM $FUNCTIONNAME$($PARAMETER$)";
+  private static final String SELECT_ESTIMATE =
+      "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(?1)";
 
   @Override
   public Expression<Boolean> createSearchWhereClause(final CriteriaBuilder cb, final CriteriaQuery<?> cq,
@@ -61,4 +65,18 @@ public class JPA_POSTSQL_DatabaseProcessor extends JPAAbstractDatabaseProcessor
       return executeQuery(uriResourceParts, jpaFunction, em, SELECT_BASE_PATTERN);
     throw new ODataJPAProcessorException(NOT_SUPPORTED_FUNC_WITH_NAVI, HttpStatusCode.NOT_IMPLEMENTED);
   }
+
+  /**
+   * Takes the estimate from <code>pg_class.reltuples</code>, which is maintained by VACUUM and ANALYZE. A table that
+   * has never been analyzed has no estimate.
+   */
+  @Override
+  public Optional<Long> estimateRowCount(final EntityManager em, final JPAEntityType entityType) {
+    final Query estimateQuery = em.createNativeQuery(SELECT_ESTIMATE);
+    estimateQuery.setParameter(1, entityType.getTableName());
+    final List<?> result = estimateQuery.getResultList();
+    if (result.isEmpty() || !(result.get(0) instanceof final Number estimate) || estimate.longValue() < 0)
+      return Optional.empty();
+    return Optional.of(estimate.longValue());
+  }
 }
@@ -9,6 +9,7 @@ import jakarta.persistence.Tuple;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 
 public abstract class JPAMapBaseResult extends JPACreateResult {
@@ -22,13 +23,13 @@ public abstract class JPAMapBaseResult extends JPACreateResult {
   }
 
   @Override
-  public List<Tuple> getResult(final String key) {
+  public List<Tuple> getResult(final JPAResultKey key) {
     return result;
   }
 
   @Override
-  public Map<String, List<Tuple>> getResults() {
-    final Map<String, List<Tuple>> results = new HashMap<>(1);
+  public Map<JPAResultKey, List<Tuple>> getResults() {
+    final Map<JPAResultKey, List<Tuple>> results = new HashMap<>(1);
     results.put(ROOT_RESULT_KEY, result);
     return results;
   }
@@ -43,6 +44,6 @@ public abstract class JPAMapBaseResult extends JPACreateResult {
       return (String) value;
     } else {
       return determineLocale((Map<String, Object>) value, localeAttribute, index + 1);
-    }
-  }
+    }
+  }
 }
\ No newline at end of file
@@ -16,12 +16,13 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 import com.sap.olingo.jpa.processor.core.converter.JPACollectionResult;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.converter.JPATuple;
 import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 
 class JPAMapCollectionResult extends JPAMapBaseResult implements JPACollectionResult {
-  private Map<String, List<Object>> converted;
+  private Map<JPAResultKey, List<Object>> converted;
   private final JPAAssociationPath path;
 
   public JPAMapCollectionResult(final JPAEntityType et, final Collection<?> values,
@@ -57,7 +58,7 @@ class JPAMapCollectionResult extends JPAMapBaseResult implements JPACollectionRe
   }
 
   @Override
-  public Collection<Object> getPropertyCollection(final String key) {
+  public Collection<Object> getPropertyCollection(final JPAResultKey key) {
     return converted.get(ROOT_RESULT_KEY);
   }
 
@@ -12,6 +12,7 @@ import org.apache.olingo.server.api.ODataApplicationException;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 import com.sap.olingo.jpa.processor.core.processor.JPARequestEntity;
@@ -34,13 +35,13 @@ final class JPAMapNavigationLinkResult extends JPACreateResult {
   }
 
   @Override
-  public List<Tuple> getResult(final String key) {
+  public List<Tuple> getResult(final JPAResultKey key) {
     return result;
   }
 
   @Override
-  public Map<String, List<Tuple>> getResults() {
-    final Map<String, List<Tuple>> results = new HashMap<>(1);
+  public Map<JPAResultKey, List<Tuple>> getResults() {
+    final Map<JPAResultKey, List<Tuple>> results = new HashMap<>(1);
     results.put(ROOT_RESULT_KEY, result);
     return results;
   }
@@ -0,0 +1,56 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+import org.apache.olingo.server.api.uri.UriInfoResource;
+
+/**
+ * Base of the Java Flight Recorder events of the request processing. An event is created when the processing step
+ * starts and committed on {@link #close()}. The entity set and further details are only determined if the event gets
+ * recorded, so the events have no noticeable costs if they are disabled via the recording settings.
+ */
+abstract class JPAAbstractProcessingEvent extends Event implements AutoCloseable {
+  static final int UNKNOWN = -1;
+
+  @Label("Entity Set")
+  String entitySet;
+
+  @Label("Row Count")
+  @Description("Number of entities, -1 if not known, e.g. for the request event of a streamed result")
+  int rowCount = UNKNOWN;
+
+  protected final transient UriInfoResource uriInfo;
+
+  JPAAbstractProcessingEvent(final UriInfoResource uriInfo) {
+    this.uriInfo = uriInfo;
+    begin();
+  }
+
+  @Override
+  public void close() {
+    end();
+    if (shouldCommit()) {
+      entitySet = targetOf(uriInfo);
+      collectDetails();
+      commit();
+    }
+  }
+
+  /**
+   * Fills additional fields of the event. Only called if the event gets recorded.
+   */
+  void collectDetails() {
+    // No details by default
+  }
+
+  /**
+   * @return The first segment of the resource path, which is the entity set, singleton or operation import
+   */
+  static String targetOf(final UriInfoResource uriInfo) {
+    if (uriInfo == null || uriInfo.getUriResourceParts().isEmpty())
+      return "";
+    return uriInfo.getUriResourceParts().get(0).getSegmentValue();
+  }
+}
@@ -0,0 +1,186 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Public getter and setter of a class, resolved once per class. The accessors are method handles adapted to
+ * <code>Object</code>, so calling them requires neither a lookup of the method nor the argument handling of
+ * {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * Plans are created on first use of a class and are immutable afterwards, so they can be shared between threads.
+ * They are kept per class and not per structured type, as an instance may be of a subclass of the type, e.g. an
+ * Organization for a BusinessPartner.
+ * <p>
+ * Method handles are used instead of generated lambdas, as a lambda class would be defined in the class loader of
+ * the processor, which does not necessarily see the entity classes.
+ */
+public final class JPAAccessorPlan {
+  private static final String SETTER_PREFIX = "set";
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final ClassValue<JPAAccessorPlan> PLANS = new ClassValue<>() {
+    @Override
+    protected JPAAccessorPlan computeValue(final Class<?> type) {
+      return new JPAAccessorPlan(type);
+    }
+  };
+
+  private final Map<String, Getter> getters;
+  private final Map<String, List<Setter>> setters;
+
+  public static JPAAccessorPlan of(@Nonnull final Class<?> type) {
+    return PLANS.get(type);
+  }
+
+  private JPAAccessorPlan(final Class<?> type) {
+    final Map<String, Getter> getterMap = new HashMap<>();
+    final Map<String, List<Setter>> setterMap = new HashMap<>();
+    final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    for (final Method method : type.getMethods()) {
+      if (Modifier.isStatic(method.getModifiers()))
+        continue;
+      try {
+        if (method.getParameterCount() == 0 && method.getReturnType() != void.class) {
+          getterMap.put(method.getName(), new Getter(method.getName(), lookup.unreflect(method).asType(GETTER_TYPE)));
+        } else if (method.getParameterCount() == 1 && isSetterName(method.getName())) {
+          setterMap.computeIfAbsent(toAttributeName(method.getName()), k -> new ArrayList<>(1))
+              .add(new Setter(method.getName(), method.getParameterTypes()[0], lookup.unreflect(method).asType(
+                  SETTER_TYPE)));
+        }
+      } catch (final IllegalAccessException e) {
+        // Not accessible from outside, so it can not be called via reflection either
+      }
+    }
+    setterMap.replaceAll((name, list) -> List.copyOf(list));
+    this.getters = Collections.unmodifiableMap(getterMap);
+    this.setters = Collections.unmodifiableMap(setterMap);
+  }
+
+  /**
+   * Returns the public, parameter less method with the given name, e.g. <code>getName</code>.
+   * @param methodName
+   * @return Null if no such method exists
+   */
+  @CheckForNull
+  public Getter getGetter(@Nonnull final String methodName) {
+    return getters.get(methodName);
+  }
+
+  /**
+   * Returns the public methods with one parameter that set the attribute. The attribute name is derived from the
+   * method name following the Java naming conventions: <code>setCodeID</code> sets <code>codeID</code>. Overloaded
+   * setter are all returned.
+   * @param attributeName
+   * @return
+   */
+  @Nonnull
+  public List<Setter> getSetters(@Nonnull final String attributeName) {
+    return setters.getOrDefault(attributeName, Collections.emptyList());
+  }
+
+  /**
+   * Returns the public method with the given name, that takes exactly the given type, e.g.
+   * <code>setName(String)</code>.
+   * @param methodName
+   * @param parameterType
+   * @return Null if no such method exists
+   */
+  @CheckForNull
+  public Setter getSetter(@Nonnull final String methodName, @Nonnull final Class<?> parameterType) {
+    if (!isSetterName(methodName))
+      return null;
+    for (final Setter setter : getSetters(toAttributeName(methodName))) {
+      if (setter.getName().equals(methodName) && setter.getParameterType() == parameterType)
+        return setter;
+    }
+    return null;
+  }
+
+  private static boolean isSetterName(final String methodName) {
+    return methodName.length() > SETTER_PREFIX.length() && methodName.startsWith(SETTER_PREFIX);
+  }
+
+  private static String toAttributeName(final String methodName) {
+    return methodName.substring(3, 4).toLowerCase(Locale.ENGLISH) + methodName.substring(4);
+  }
+
+  public static final class Getter {
+    private final String name;
+    private final MethodHandle handle;
+
+    private Getter(final String name, final MethodHandle handle) {
+      this.name = name;
+      this.handle = handle;
+    }
+
+    /**
+     * Calls the getter.
+     * @param instance
+     * @return
+     * @throws InvocationTargetException Wraps an exception thrown by the getter.
+     */
+    public Object get(@Nonnull final Object instance) throws InvocationTargetException {
+      try {
+        return handle.invokeExact(instance);
+      } catch (final Throwable e) {
+        throw new InvocationTargetException(e);
+      }
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  public static final class Setter {
+    private final String name;
+    private final Class<?> parameterType;
+    private final MethodHandle handle;
+
+    private Setter(final String name, final Class<?> parameterType, final MethodHandle handle) {
+      this.name = name;
+      this.parameterType = parameterType;
+      this.handle = handle;
+    }
+
+    /**
+     * Calls the setter. The caller has to ensure that the value fits to the parameter type.
+     * @param instance
+     * @param value
+     * @throws InvocationTargetException Wraps an exception thrown by the setter.
+     * @throws IllegalArgumentException In case null shall be set for a primitive parameter.
+     */
+    public void set(@Nonnull final Object instance, @CheckForNull final Object value)
+        throws InvocationTargetException {
+      if (value == null && parameterType.isPrimitive())
+        throw new IllegalArgumentException("Null can not be set via " + name);
+      try {
+        handle.invokeExact(instance, value);
+      } catch (final Throwable e) {
+        throw new InvocationTargetException(e);
+      }
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Class<?> getParameterType() {
+      return parameterType;
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import org.apache.olingo.server.api.uri.UriInfoResource;
+
+/**
+ * Java Flight Recorder event for the conversion of the query result into OData entities. See
+ * {@link JPAAbstractProcessingEvent}.
+ */
+@Name("com.sap.olingo.jpa.Conversion")
+@Label("OData Result Conversion")
+@Category({ "Olingo JPA", "Request" })
+@Description("Conversion of the query result into OData entities")
+@StackTrace(false)
+@Threshold("10 ms")
+final class JPAConversionEvent extends JPAAbstractProcessingEvent {
+
+  JPAConversionEvent(final UriInfoResource uriInfo) {
+    super(uriInfo);
+  }
+}
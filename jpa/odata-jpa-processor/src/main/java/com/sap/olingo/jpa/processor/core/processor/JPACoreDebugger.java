@@ -1,7 +1,5 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -10,16 +8,15 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.olingo.server.api.debug.RuntimeMeasurement;
 
+import com.sap.olingo.jpa.processor.core.api.JPAODataAllocationAccount;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
 
 class JPACoreDebugger implements JPAServiceDebugger {
   private final List<RuntimeMeasurement> runtimeInformation = new ArrayList<>();
   private final boolean isDebugMode;
-  private final MemoryReader memoryReader;
 
   JPACoreDebugger(final boolean isDebugMode) {
     this.isDebugMode = isDebugMode;
-    this.memoryReader = new MemoryReader();
   }
 
   @Override
@@ -46,7 +43,9 @@ class JPACoreDebugger implements JPAServiceDebugger {
 
   @Override
   public JPARuntimeMeasurement newMeasurement(final Object instance, final String methodName) {
-    final Measurement m = new Measurement(instance, methodName, memoryReader);
+    if (!isDebugMode && !LogFactory.getLog(instance.getClass().getCanonicalName()).isDebugEnabled())
+      return JPAEmptyDebugger.EMPTY_MEASUREMENT;
+    final Measurement m = new Measurement(instance, methodName);
     if (isDebugMode)
       runtimeInformation.add(m);
     return m;
@@ -61,7 +60,7 @@ class JPACoreDebugger implements JPAServiceDebugger {
   }
 
   public boolean hasMemoryInformation() {
-    return memoryReader.isSAPJvm;
+    return JPAODataAllocationAccount.isSupported();
   }
 
   private Object[] composeArguments(final Long threadID, final Object... arguments) {
@@ -77,81 +76,42 @@ class JPACoreDebugger implements JPAServiceDebugger {
     return String.format(log.toString(), composeArguments(threadID, arguments));
   }
 
-  private static class Measurement extends RuntimeMeasurement implements JPARuntimeMeasurement {
+  /**
+   * Besides the runtime the measurement takes the bytes allocated by the thread between creation and close. -1 if the
+   * JVM does not support the measurement of thread allocations.
+   */
+  static class Measurement extends RuntimeMeasurement implements JPARuntimeMeasurement {
 
-    private final MemoryReader memoryReader;
+    private final long allocatedAtStart;
+    private long allocatedBytes = -1;
 
-    public Measurement(final Object instance, final String methodName, final MemoryReader memoryReader) {
-      this.setTimeStarted(System.nanoTime());
+    Measurement(final Object instance, final String methodName) {
       this.setClassName(instance.getClass().getCanonicalName());
       this.setMethodName(methodName);
-      this.memoryReader = memoryReader;
+      this.allocatedAtStart = JPAODataAllocationAccount.currentThreadAllocatedBytes();
+      this.setTimeStarted(System.nanoTime());
     }
 
     @Override
     public void close() {
       this.setTimeStopped(System.nanoTime());
+      if (allocatedAtStart >= 0)
+        allocatedBytes = JPAODataAllocationAccount.currentThreadAllocatedBytes() - allocatedAtStart;
+      final Log logger = LogFactory.getLog(this.getClassName());
+      if (!logger.isDebugEnabled())
+        return;
       final long threadID = Thread.currentThread().getId();
       final long runtime = (this.getTimeStopped() - this.getTimeStarted()) / 1000;
-      final Long memory = memoryReader.getCurrentThreadMemoryConsumption() / 1000;
-      LogFactory.getLog(this.getClassName())
-          .debug(String.format("thread: %d, method: %s,  runtime [µs]: %d; memory [kb]: %d",
-              threadID,
-              this.getMethodName(),
-              runtime,
-              memory));
-    }
-  }
-
-  private static class MemoryReader {
-    private Object[] memoryInfoReader;
-    private boolean isSAPJvm = true;
-
-    public MemoryReader() {
-      super();
-      try {
-        memoryInfoReader = getMemoryInformation();
-      } catch (ClassNotFoundException | NoSuchMethodException | SecurityException | IllegalAccessException
-          | IllegalArgumentException | InvocationTargetException | InstantiationException e) {
-        memoryInfoReader = null;
-        isSAPJvm = false;
-      }
-    }
-
-    long getCurrentThreadMemoryConsumption() {
-      long result = 0;
-      if (!isSAPJvm) {
-        return result;
-      }
-      try {
-        result = getMemoryConsumption();
-      } catch (NoClassDefFoundError | Exception e) {
-        isSAPJvm = false;
-      }
-      return result;
+      final long memory = allocatedBytes / 1000;
+      logger.debug(String.format("thread: %d, method: %s,  runtime [µs]: %d; allocated [kb]: %d",
+          threadID,
+          this.getMethodName(),
+          runtime,
+          memory));
     }
 
-    private long getMemoryConsumption() {
-
-      try {
-
-        final Object memoryInfo = ((Method) memoryInfoReader[1]).invoke(memoryInfoReader[0], Thread.currentThread());
-        final Method getMemoryConsumption = memoryInfo.getClass().getMethod("getMemoryConsumption");
-        return (long) getMemoryConsumption.invoke(memoryInfo);
-      } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
-          | SecurityException e) {
-        return 0;
-      }
-    }
-
-    private Object[] getMemoryInformation() throws ClassNotFoundException, NoSuchMethodException,
-        IllegalAccessException, InvocationTargetException, InstantiationException {
-
-      final Class<?> info = Class.forName("com.sap.jvm.monitor.vm.VmInfo");
-      final Object vmInfo = info.getConstructor().newInstance();
-      final Method getMemoryInfo = info.getMethod("getThreadMemoryInfo", Thread.class);
-
-      return new Object[] { vmInfo, getMemoryInfo };
+    long getAllocatedBytes() {
+      return allocatedBytes;
     }
   }
 }
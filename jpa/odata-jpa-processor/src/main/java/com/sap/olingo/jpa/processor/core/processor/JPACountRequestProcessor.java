@@ -12,6 +12,7 @@ import org.apache.olingo.server.api.uri.UriResourceEntitySet;
 import org.apache.olingo.server.api.uri.UriResourceSingleton;
 
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.api.JPAODataCountEstimation;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 import com.sap.olingo.jpa.processor.core.query.JPAJoinQuery;
@@ -35,7 +36,7 @@ public final class JPACountRequestProcessor extends JPAAbstractGetRequestProcess
 
     if (uriResource instanceof UriResourceEntitySet
         || uriResource instanceof UriResourceSingleton) {
-      final EntityCollection result = countEntities();
+      final EntityCollection result = countEntities(response);
       createSuccessResponse(response, ContentType.TEXT_PLAIN, serializer.serialize(request, result));
     } else {
       throw new ODataJPAProcessorException(ODataJPAProcessorException.MessageKeys.NOT_SUPPORTED_RESOURCE_TYPE,
@@ -43,7 +44,7 @@ public final class JPACountRequestProcessor extends JPAAbstractGetRequestProcess
     }
   }
 
-  protected final EntityCollection countEntities()
+  protected final EntityCollection countEntities(final ODataResponse response)
       throws ODataException {
 
     JPAJoinQuery query = null;
@@ -56,6 +57,8 @@ public final class JPACountRequestProcessor extends JPAAbstractGetRequestProcess
 
     final EntityCollection entityCollection = new EntityCollection();
     entityCollection.setCount(query.countResults().intValue());
+    if (query.isCountEstimated())
+      response.setHeader(JPAODataCountEstimation.ESTIMATED_COUNT_HEADER, "true");
     return entityCollection;
   }
 }
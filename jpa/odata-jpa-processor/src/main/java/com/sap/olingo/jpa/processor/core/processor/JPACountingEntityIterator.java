@@ -0,0 +1,61 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.EntityIterator;
+
+/**
+ * Counts the entities of a streamed result while they are serialized. The rows of a streamed result are read and
+ * converted after the request has been processed, when the response content is written. So the conversion event of a
+ * streamed result is ended not before the last entity has been read, and only then gets the number of entities.
+ */
+final class JPACountingEntityIterator extends EntityIterator {
+  private final EntityIterator entities;
+  private final JPAConversionEvent conversionEvent;
+  private int rowCount;
+  private boolean finished;
+
+  JPACountingEntityIterator(final EntityIterator entities, final JPAConversionEvent conversionEvent) {
+    this.entities = entities;
+    this.conversionEvent = conversionEvent;
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      final boolean hasNext = entities.hasNext();
+      if (!hasNext)
+        finish(rowCount);
+      return hasNext;
+    } catch (final RuntimeException e) {
+      finish(JPAAbstractProcessingEvent.UNKNOWN);
+      throw e;
+    }
+  }
+
+  @Override
+  public Entity next() {
+    try {
+      final Entity entity = entities.next();
+      rowCount++;
+      return entity;
+    } catch (final RuntimeException e) {
+      finish(JPAAbstractProcessingEvent.UNKNOWN);
+      throw e;
+    }
+  }
+
+  /**
+   * @return Number of entities read so far
+   */
+  int getRowCount() {
+    return rowCount;
+  }
+
+  private void finish(final int count) {
+    if (!finished) {
+      finished = true;
+      conversionEvent.rowCount = count;
+      conversionEvent.close();
+    }
+  }
+}
@@ -71,9 +71,25 @@ public class JPADebugSupportWrapper implements DebugSupport {
             break;
           }
         }
-        olingoInfo.add(startIndex, m);
+        olingoInfo.add(startIndex, withAllocation(m));
         startIndex += 1;
       }
     }
   }
+
+  /**
+   * Olingo shows only class, method and runtime of a measurement, so the allocated memory is added to the method
+   * name.
+   */
+  private RuntimeMeasurement withAllocation(final RuntimeMeasurement m) {
+    if (m instanceof final JPACoreDebugger.Measurement measurement && measurement.getAllocatedBytes() >= 0) {
+      final RuntimeMeasurement result = new RuntimeMeasurement();
+      result.setClassName(m.getClassName());
+      result.setMethodName(m.getMethodName() + " [allocated kb: " + measurement.getAllocatedBytes() / 1000 + "]");
+      result.setTimeStarted(m.getTimeStarted());
+      result.setTimeStopped(m.getTimeStopped());
+      return result;
+    }
+    return m;
+  }
 }
@@ -8,6 +8,7 @@ import org.apache.olingo.server.api.debug.RuntimeMeasurement;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
 
 public final class JPAEmptyDebugger implements JPAServiceDebugger {
+  static final JPARuntimeMeasurement EMPTY_MEASUREMENT = new JPAEmptyMeasurement();
 
   @Override
   public List<RuntimeMeasurement> getRuntimeInformation() {
@@ -16,7 +17,7 @@ public final class JPAEmptyDebugger implements JPAServiceDebugger {
 
   @Override
   public JPARuntimeMeasurement newMeasurement(final Object instance, final String methodName) {
-    return new JPAEmptyMeasurement();
+    return EMPTY_MEASUREMENT;
   }
 
   public static class JPAEmptyMeasurement implements JPARuntimeMeasurement {
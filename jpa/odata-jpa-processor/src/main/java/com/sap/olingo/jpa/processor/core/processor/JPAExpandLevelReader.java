@@ -0,0 +1,162 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.OData;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.processor.core.api.JPAODataAllocationAccount;
+import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
+import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+import com.sap.olingo.jpa.processor.core.query.JPACollectionItemInfo;
+import com.sap.olingo.jpa.processor.core.query.JPACollectionJoinQuery;
+import com.sap.olingo.jpa.processor.core.query.JPAExpandItemInfo;
+import com.sap.olingo.jpa.processor.core.query.JPAExpandQueryFactory;
+import com.sap.olingo.jpa.processor.core.query.JPAKeyBoundary;
+
+/**
+ * Executes the $expand and collection property queries of one expand level. The queries of one level are independent
+ * of each other. In case an expand executor and an entity manager factory are available, they are executed in
+ * parallel, each with an own entity manager. Otherwise they are executed one after the other using the entity manager
+ * of the request.
+ */
+final class JPAExpandLevelReader {
+  private final OData odata;
+  private final JPAODataRequestContextAccess requestContext;
+  private final CriteriaBuilder cb;
+
+  JPAExpandLevelReader(final OData odata, final JPAODataRequestContextAccess requestContext,
+      final CriteriaBuilder cb) {
+    this.odata = odata;
+    this.requestContext = requestContext;
+    this.cb = cb;
+  }
+
+  Map<JPAAssociationPath, JPAExpandResult> read(final Map<String, List<String>> headers,
+      final List<JPAExpandItemInfo> expandItems, final List<JPACollectionItemInfo> collectionItems,
+      final Optional<JPAKeyBoundary> keyBoundary) throws ODataException {
+
+    final Optional<Executor> executor = requestContext.getExpandExecutor();
+    final Optional<? extends EntityManagerFactory> emf = requestContext.getEntityManagerFactory();
+    if (executor.isPresent() && emf.isPresent() && expandItems.size() + collectionItems.size() > 1)
+      return readParallel(headers, expandItems, collectionItems, keyBoundary, executor.get(), emf.get());
+    return readSequential(headers, expandItems, collectionItems, keyBoundary);
+  }
+
+  private Map<JPAAssociationPath, JPAExpandResult> readSequential(final Map<String, List<String>> headers,
+      final List<JPAExpandItemInfo> expandItems, final List<JPACollectionItemInfo> collectionItems,
+      final Optional<JPAKeyBoundary> keyBoundary) throws ODataException {
+
+    final Map<JPAAssociationPath, JPAExpandResult> allExpResults = new HashMap<>();
+    final JPAExpandQueryFactory factory = new JPAExpandQueryFactory(odata, requestContext, cb);
+    for (final JPAExpandItemInfo item : expandItems) {
+      allExpResults.put(item.getExpandAssociation(), factory.createQuery(item, keyBoundary).execute());
+    }
+    for (final JPACollectionItemInfo item : collectionItems) {
+      final JPACollectionJoinQuery collectionQuery = new JPACollectionJoinQuery(odata, item,
+          new JPAODataInternalRequestContext(item.getUriInfo(), requestContext, headers), keyBoundary);
+      allExpResults.put(item.getExpandAssociation(), collectionQuery.execute());
+    }
+    return allExpResults;
+  }
+
+  private Map<JPAAssociationPath, JPAExpandResult> readParallel(final Map<String, List<String>> headers,
+      final List<JPAExpandItemInfo> expandItems, final List<JPACollectionItemInfo> collectionItems,
+      final Optional<JPAKeyBoundary> keyBoundary, final Executor executor, final EntityManagerFactory emf)
+      throws ODataException {
+
+    final Thread caller = Thread.currentThread();
+    final Map<JPAAssociationPath, FutureTask<JPAExpandResult>> tasks = new LinkedHashMap<>();
+    for (final JPAExpandItemInfo item : expandItems) {
+      tasks.put(item.getExpandAssociation(), new FutureTask<>(() -> executeWithOwnEntityManager(emf, caller,
+          context -> new JPAExpandQueryFactory(odata, context, context.getEntityManager().getCriteriaBuilder())
+              .createQuery(item, keyBoundary)
+              .execute())));
+    }
+    for (final JPACollectionItemInfo item : collectionItems) {
+      tasks.put(item.getExpandAssociation(), new FutureTask<>(() -> executeWithOwnEntityManager(emf, caller,
+          context -> new JPACollectionJoinQuery(odata, item,
+              new JPAODataInternalRequestContext(item.getUriInfo(), context, headers), keyBoundary)
+              .execute())));
+    }
+    final List<FutureTask<JPAExpandResult>> started = new ArrayList<>(tasks.size());
+    try {
+      for (final FutureTask<JPAExpandResult> task : tasks.values()) {
+        start(executor, task);
+        started.add(task);
+      }
+      final Map<JPAAssociationPath, JPAExpandResult> allExpResults = new HashMap<>();
+      for (final Entry<JPAAssociationPath, FutureTask<JPAExpandResult>> task : tasks.entrySet()) {
+        allExpResults.put(task.getKey(), task.getValue().get());
+      }
+      return allExpResults;
+    } catch (final ExecutionException e) {
+      throw asODataException(e.getCause());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+    } finally {
+      started.forEach(task -> task.cancel(true));
+    }
+  }
+
+  /**
+   * In case the executor does not accept further tasks, the query is executed by the calling thread.
+   */
+  private void start(final Executor executor, final FutureTask<JPAExpandResult> task) {
+    try {
+      executor.execute(task);
+    } catch (final RejectedExecutionException e) {
+      task.run();
+    }
+  }
+
+  /**
+   * The memory allocated by a query executed by another thread is added to the allocation account of the request.
+   * Allocations of the calling thread are counted by the caller itself.
+   */
+  private JPAExpandResult executeWithOwnEntityManager(final EntityManagerFactory emf, final Thread caller,
+      final JPAExpandQuery query) throws ODataException {
+
+    final long allocatedAtStart = Thread.currentThread() != caller
+        ? JPAODataAllocationAccount.currentThreadAllocatedBytes()
+        : -1L;
+    final EntityManager em = emf.createEntityManager();
+    try {
+      return query.execute(new JPAODataInternalRequestContext(requestContext, em));
+    } finally {
+      em.close();
+      requestContext.getAllocationAccount().ifPresent(account -> account.addSince(allocatedAtStart));
+    }
+  }
+
+  private ODataException asODataException(final Throwable cause) {
+    if (cause instanceof final ODataException odataException)
+      return odataException;
+    if (cause instanceof final RuntimeException runtimeException)
+      throw runtimeException;
+    return new ODataJPAProcessorException(cause, HttpStatusCode.INTERNAL_SERVER_ERROR);
+  }
+
+  @FunctionalInterface
+  private interface JPAExpandQuery {
+    JPAExpandResult execute(final JPAODataRequestContextAccess context) throws ODataException;
+  }
+}
@@ -0,0 +1,85 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import org.apache.olingo.server.api.debug.RuntimeMeasurement;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataAllocationAccount;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetricsSink;
+import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
+
+/**
+ * Debugger that hands over the runtime and the allocated memory of the phases listed in
+ * {@link JPAODataMetricsSink#PHASES} to a metrics sink. All calls are forwarded to the debugger of the request, so
+ * $debug and logging work as before.
+ */
+final class JPAMetricsDebugger implements JPAServiceDebugger {
+  private final JPAServiceDebugger debugger;
+  private final JPAODataMetricsSink sink;
+  private final Supplier<String> target;
+
+  JPAMetricsDebugger(@Nonnull final JPAServiceDebugger debugger, @Nonnull final JPAODataMetricsSink sink,
+      @Nonnull final Supplier<String> target) {
+    this.debugger = debugger;
+    this.sink = sink;
+    this.target = target;
+  }
+
+  @Override
+  public List<RuntimeMeasurement> getRuntimeInformation() {
+    return debugger.getRuntimeInformation();
+  }
+
+  @Override
+  public void debug(final Object instance, final String pattern, final Object... arguments) {
+    debugger.debug(instance, pattern, arguments);
+  }
+
+  @Override
+  public void trace(final Object instance, final String pattern, final Object... arguments) {
+    debugger.trace(instance, pattern, arguments);
+  }
+
+  @Override
+  public void debug(final Object instance, final String log) {
+    debugger.debug(instance, log);
+  }
+
+  @Override
+  public JPARuntimeMeasurement newMeasurement(final Object instance, final String methodName) {
+    final JPARuntimeMeasurement measurement = debugger.newMeasurement(instance, methodName);
+    if (JPAODataMetricsSink.PHASES.contains(methodName))
+      return new PhaseMeasurement(measurement, methodName);
+    return measurement;
+  }
+
+  private class PhaseMeasurement implements JPARuntimeMeasurement {
+    private final JPARuntimeMeasurement measurement;
+    private final String phase;
+    private final long allocatedAtStart;
+    private final long started;
+
+    PhaseMeasurement(final JPARuntimeMeasurement measurement, final String phase) {
+      this.measurement = measurement;
+      this.phase = phase;
+      this.allocatedAtStart = JPAODataAllocationAccount.currentThreadAllocatedBytes();
+      this.started = System.nanoTime();
+    }
+
+    @Override
+    public void close() {
+      final long duration = System.nanoTime() - started;
+      final long allocated = allocatedAtStart >= 0
+          ? JPAODataAllocationAccount.currentThreadAllocatedBytes() - allocatedAtStart
+          : -1;
+      measurement.close();
+      final String entitySet = target.get();
+      sink.record(entitySet, phase, duration);
+      if (allocated >= 0)
+        sink.recordAllocation(entitySet, phase, allocated);
+    }
+  }
+}
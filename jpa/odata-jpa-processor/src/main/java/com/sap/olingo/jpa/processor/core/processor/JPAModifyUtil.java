@@ -4,13 +4,12 @@ import static com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorExcep
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import javax.annotation.Nonnull;
 
@@ -30,6 +29,8 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelExcept
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAInvocationTargetException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException.MessageKeys;
+import com.sap.olingo.jpa.processor.core.processor.JPAAccessorPlan.Getter;
+import com.sap.olingo.jpa.processor.core.processor.JPAAccessorPlan.Setter;
 
 /**
  * This class provides some primitive util methods to support modifying
@@ -62,18 +63,18 @@ public final class JPAModifyUtil {
    * @param pathItem
    * @return
    */
-  Map<JPAAttribute, Method> buildSetterList(@Nonnull final Class<?> type,
+  Map<JPAAttribute, Setter> buildSetterList(@Nonnull final Class<?> type,
       @Nonnull final List<JPAAttribute> attributes) {
 
-    final Map<JPAAttribute, Method> result = new HashMap<>(attributes.size());
+    final JPAAccessorPlan plan = JPAAccessorPlan.of(type);
+    final Map<JPAAttribute, Setter> result = new HashMap<>(attributes.size());
 
     for (final JPAAttribute attribute : attributes) {
-      try {
-        result.put(attribute, type.getMethod(buildSetterName(attribute), attribute.getJavaType()));
-      } catch (NoSuchMethodException | SecurityException e) {
-        LOGGER.warn("Exception thrown while building setter list: " + e.getLocalizedMessage());
-        result.put(attribute, null);
-      }
+      final Setter setter = plan.getSetter(buildSetterName(attribute), attribute.getJavaType());
+      if (setter == null)
+        LOGGER.warn("No setter found while building setter list: " + type.getName() + "." + buildSetterName(
+            attribute));
+      result.put(attribute, setter);
     }
     return result;
   }
@@ -168,31 +169,27 @@ public final class JPAModifyUtil {
    */
   public void setAttributes(final Map<String, Object> jpaAttributes, final Object instance, final JPAStructuredType st)
       throws ODataJPAProcessorException, ODataJPAInvocationTargetException {
-    final Method[] methods = instance.getClass().getMethods();
-    for (final Method meth : methods) {
-      if (meth.getName().substring(0, 3).equals("set")) {
-        final String attributeName = meth.getName().substring(3, 4).toLowerCase(Locale.ENGLISH) + meth.getName()
-            .substring(4);
-        if (jpaAttributes.containsKey(attributeName)) {
-          final Object value = jpaAttributes.get(attributeName);
-          if (!(value instanceof Map<?, ?>) && !(value instanceof JPARequestEntity)) {
+    final JPAAccessorPlan plan = JPAAccessorPlan.of(instance.getClass());
+    for (final Entry<String, Object> jpaAttribute : jpaAttributes.entrySet()) {
+      final String attributeName = jpaAttribute.getKey();
+      final Object value = jpaAttribute.getValue();
+      if (!(value instanceof Map<?, ?>) && !(value instanceof JPARequestEntity)) {
+        for (final Setter setter : plan.getSetters(attributeName)) {
+          try {
+            if (value == null || value.getClass() == setter.getParameterType()) {
+              setter.set(instance, value);
+            }
+          } catch (final IllegalArgumentException e) {
+            throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+          } catch (final InvocationTargetException e) {
             try {
-              final Class<?>[] parameters = meth.getParameterTypes();
-              if (parameters.length == 1 && (value == null || value.getClass() == parameters[0])) {
-                meth.invoke(instance, value);
-              }
-            } catch (IllegalAccessException | IllegalArgumentException e) {
-              throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
-            } catch (final InvocationTargetException e) {
-              try {
-                throw new ODataJPAInvocationTargetException(e.getCause(),
-                    st.getExternalName() + JPAPath.PATH_SEPARATOR + st.getAttribute(attributeName)
-                        .orElseThrow(() -> new ODataJPAProcessorException(
-                            ATTRIBUTE_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR, attributeName))
-                        .getExternalName());
-              } catch (final ODataJPAModelException e1) {
-                throw new ODataJPAProcessorException(e1, HttpStatusCode.INTERNAL_SERVER_ERROR);
-              }
+              throw new ODataJPAInvocationTargetException(e.getCause(),
+                  st.getExternalName() + JPAPath.PATH_SEPARATOR + st.getAttribute(attributeName)
+                      .orElseThrow(() -> new ODataJPAProcessorException(
+                          ATTRIBUTE_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR, attributeName))
+                      .getExternalName());
+            } catch (final ODataJPAModelException e1) {
+              throw new ODataJPAProcessorException(e1, HttpStatusCode.INTERNAL_SERVER_ERROR);
             }
           }
         }
@@ -217,17 +214,12 @@ public final class JPAModifyUtil {
   public void setAttributesDeep(final Map<String, Object> jpaAttributes, final Object instance,
       final JPAStructuredType st) throws ODataJPAProcessorException, ODataJPAInvocationTargetException {
 
-    final Method[] methods = instance.getClass().getMethods();
-    for (final Method meth : methods) {
-      if (meth.getName().substring(0, 3).equals("set")) {
-        final String attributeName = meth.getName().substring(3, 4).toLowerCase() + meth.getName().substring(4);
-        if (jpaAttributes.containsKey(attributeName)) {
-          final Object value = jpaAttributes.get(attributeName);
-          final Class<?>[] parameters = meth.getParameterTypes();
-          if (!(value instanceof JPARequestEntity) && parameters.length == 1) {
-            setAttributeDeep(instance, st, meth, attributeName, value, parameters);
-          }
-        }
+    final JPAAccessorPlan plan = JPAAccessorPlan.of(instance.getClass());
+    for (final Entry<String, Object> jpaAttribute : jpaAttributes.entrySet()) {
+      final Object value = jpaAttribute.getValue();
+      if (!(value instanceof JPARequestEntity)) {
+        for (final Setter setter : plan.getSetters(jpaAttribute.getKey()))
+          setAttributeDeep(instance, st, setter, jpaAttribute.getKey(), value);
       }
     }
   }
@@ -247,8 +239,7 @@ public final class JPAModifyUtil {
         setAttribute(newInstance, joinColumn.getRightPath().getLeaf(), getAttribute(parentInstance, joinColumn
             .getLeftPath().getLeaf()));
       }
-    } catch (ODataJPAModelException | NoSuchMethodException | IllegalAccessException | IllegalArgumentException
-        | InvocationTargetException e) {
+    } catch (ODataJPAModelException | IllegalArgumentException | InvocationTargetException e) {
       throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
     }
   }
@@ -287,16 +278,13 @@ public final class JPAModifyUtil {
     Object source = sourceInstance;
     for (final JPAElement pathItem : pathInfo.getPath()) {
       if (pathItem != pathInfo.getLeaf()) {
-        final String methodSuffix = buildMethodNameSuffix(pathItem);
-        final Method getter = source.getClass().getMethod("get" + methodSuffix);
-        Object next = getter.invoke(source);
+        Object next = getAttribute(source, pathItem);
         if (next == null) {
           try {
             final Constructor<?> constructor = ((JPAAttribute) pathItem).getStructuredType().getTypeClass()
                 .getConstructor();
             next = constructor.newInstance();
-            final Method setter = source.getClass().getMethod("set" + methodSuffix, next.getClass());
-            setter.invoke(source, next);
+            setAttribute(source, pathItem, next);
           } catch (ODataJPAModelException | InstantiationException e) {
             throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
           }
@@ -317,14 +305,14 @@ public final class JPAModifyUtil {
    * @throws IllegalAccessException
    * @throws InvocationTargetException
    */
-  private Object getAttribute(final Object instance, final JPAElement attribute) throws NoSuchMethodException,
-      ODataJPAProcessorException, IllegalAccessException, InvocationTargetException {
+  private Object getAttribute(final Object instance, final JPAElement attribute) throws ODataJPAProcessorException,
+      InvocationTargetException {
 
-    final Method getter = instance.getClass().getMethod("get" + buildMethodNameSuffix(attribute));
+    final Getter getter = JPAAccessorPlan.of(instance.getClass()).getGetter("get" + buildMethodNameSuffix(attribute));
     if (getter == null)
       throw new ODataJPAProcessorException(MessageKeys.GETTER_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR,
           buildMethodNameSuffix(attribute), instance.getClass().getName());
-    return getter.invoke(instance);
+    return getter.get(instance);
   }
 
   private void handleInvocationTargetException(final JPAStructuredType st, final String attributeName,
@@ -355,44 +343,43 @@ public final class JPAModifyUtil {
    * @param instance
    * @param attribute
    * @return
-   * @throws NoSuchMethodException
-   * @throws IllegalAccessException
    * @throws InvocationTargetException
    */
-  private Object readCurrentState(final Object instance, final JPAElement attribute) throws NoSuchMethodException,
-      IllegalAccessException, InvocationTargetException {
+  private Object readCurrentState(final Object instance, final JPAElement attribute)
+      throws InvocationTargetException {
 
-    final Method getter = instance.getClass().getMethod("get" + buildMethodNameSuffix(attribute));
+    final Getter getter = JPAAccessorPlan.of(instance.getClass()).getGetter("get" + buildMethodNameSuffix(attribute));
     if (getter == null)
       return null;
-    return getter.invoke(instance);
+    return getter.get(instance);
   }
 
   private void setAttribute(final Object instance, final JPAElement attribute, final Object value)
-      throws NoSuchMethodException, ODataJPAProcessorException, IllegalAccessException, InvocationTargetException {
+      throws ODataJPAProcessorException, InvocationTargetException {
 
-    final Method setter = instance.getClass().getMethod("set" + buildMethodNameSuffix(attribute), value.getClass());
+    final Setter setter = JPAAccessorPlan.of(instance.getClass()).getSetter(buildSetterName(attribute), value
+        .getClass());
     if (setter == null)
       throw new ODataJPAProcessorException(MessageKeys.SETTER_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR,
           buildMethodNameSuffix(attribute), instance.getClass().getName(), value.getClass().getName());
-    setter.invoke(instance, value);
+    setter.set(instance, value);
   }
 
-  private void setAttributeDeep(final Object instance, final JPAStructuredType st, final Method method,
-      final String attributeName, final Object value, final Class<?>[] parameters) throws ODataJPAProcessorException,
+  private void setAttributeDeep(final Object instance, final JPAStructuredType st, final Setter setter,
+      final String attributeName, final Object value) throws ODataJPAProcessorException,
       ODataJPAInvocationTargetException {
     try {
       final JPAAttribute attribute = st.getAttribute(attributeName).orElseThrow(
           () -> new ODataJPAProcessorException(ATTRIBUTE_NOT_FOUND,
               HttpStatusCode.INTERNAL_SERVER_ERROR, attributeName));
       if (!attribute.isComplex() || value == null) {
-        if (value == null || parameters[0].isAssignableFrom(value.getClass())) {
-          method.invoke(instance, value);
+        if (value == null || setter.getParameterType().isAssignableFrom(value.getClass())) {
+          setter.set(instance, value);
         }
       } else if (attribute.isCollection()) {
-        setEmbeddedCollectionAttributeDeep(instance, st, method, value, parameters, attribute);
+        setEmbeddedCollectionAttributeDeep(instance, st, setter, value, attribute);
       } else {
-        setEmbeddedAttributeDeep(instance, st, method, value, parameters, attribute);
+        setEmbeddedAttributeDeep(instance, st, setter, value, attribute);
       }
     } catch (IllegalAccessException | IllegalArgumentException | ODataJPAModelException
         | NoSuchMethodException | SecurityException | InstantiationException e) {
@@ -403,15 +390,15 @@ public final class JPAModifyUtil {
   }
 
   @SuppressWarnings("unchecked")
-  private void setEmbeddedAttributeDeep(final Object instance, final JPAStructuredType st, final Method meth,
-      final Object value, final Class<?>[] parameters, final JPAAttribute attribute)
+  private void setEmbeddedAttributeDeep(final Object instance, final JPAStructuredType st, final Setter setter,
+      final Object value, final JPAAttribute attribute)
       throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException,
       ODataJPAModelException, ODataJPAProcessorException, ODataJPAInvocationTargetException {
 
     Object embedded = readCurrentState(instance, attribute);
     if (embedded == null) {
-      embedded = createInstance(parameters[0]);
-      meth.invoke(instance, embedded);
+      embedded = createInstance(setter.getParameterType());
+      setter.set(instance, embedded);
     }
     if (embedded != null) {
       if (this.st == null)
@@ -424,20 +411,20 @@ public final class JPAModifyUtil {
   }
 
   @SuppressWarnings("unchecked")
-  private void setEmbeddedCollectionAttributeDeep(final Object instance, final JPAStructuredType st, final Method method,
-      final Object value, final Class<?>[] parameters, final JPAAttribute attribute)
+  private void setEmbeddedCollectionAttributeDeep(final Object instance, final JPAStructuredType st,
+      final Setter setter, final Object value, final JPAAttribute attribute)
       throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException,
       ODataJPAModelException, ODataJPAProcessorException, ODataJPAInvocationTargetException {
 
     Collection<Object> embedded = (Collection<Object>) readCurrentState(instance, attribute);
     if (embedded == null) {
       // List; Set; Queue
-      if (parameters[0].isAssignableFrom(List.class)) {
+      if (setter.getParameterType().isAssignableFrom(List.class)) {
         embedded = (Collection<Object>) createInstance(ArrayList.class);
       } else {
-        embedded = (Collection<Object>) createInstance(parameters[0]);
+        embedded = (Collection<Object>) createInstance(setter.getParameterType());
       }
-      method.invoke(instance, embedded);
+      setter.set(instance, embedded);
     }
     if (embedded != null) {
       if (this.st == null)
@@ -456,28 +443,23 @@ public final class JPAModifyUtil {
 
   @SuppressWarnings("unchecked")
   private <T> void setLink(final Object sourceInstance, final T targetInstance, final JPAAssociationAttribute attribute)
-      throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, ODataJPAProcessorException {
-
-    final String methodSuffix = attribute.getInternalName().substring(0, 1).toUpperCase() + attribute.getInternalName()
-        .substring(1);
+      throws InvocationTargetException, ODataJPAProcessorException {
 
     if (attribute.isCollection()) {
-      final Method getter = sourceInstance.getClass().getMethod("get" + methodSuffix);
-      ((Collection<T>) getter.invoke(sourceInstance)).add(targetInstance);
+      ((Collection<T>) getAttribute(sourceInstance, attribute)).add(targetInstance);
     } else {
-      Method setter = null;
+      final JPAAccessorPlan plan = JPAAccessorPlan.of(sourceInstance.getClass());
+      final String setterName = buildSetterName(attribute);
+      Setter setter = null;
       Class<?> clazz = targetInstance.getClass();
       while (clazz != null && setter == null) {
-        try {
-          setter = sourceInstance.getClass().getMethod("set" + methodSuffix, clazz);
-        } catch (final NoSuchMethodException e) {
-          clazz = clazz.getSuperclass();
-        }
+        setter = plan.getSetter(setterName, clazz);
+        clazz = clazz.getSuperclass();
       }
       if (setter == null)
-        throw new ODataJPAProcessorException(MessageKeys.SETTER_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR, "set"
-            + methodSuffix, sourceInstance.getClass().getName(), targetInstance.getClass().getName());
-      setter.invoke(sourceInstance, targetInstance);
+        throw new ODataJPAProcessorException(MessageKeys.SETTER_NOT_FOUND, HttpStatusCode.INTERNAL_SERVER_ERROR,
+            setterName, sourceInstance.getClass().getName(), targetInstance.getClass().getName());
+      setter.set(sourceInstance, targetInstance);
     }
   }
 }
@@ -7,14 +7,22 @@ import static com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorExcep
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 
 import org.apache.olingo.commons.api.data.ComplexValue;
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.EntityIterator;
 import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.edm.EdmBindingTarget;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
@@ -27,6 +35,7 @@ import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.ODataResponse;
 import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.serializer.SerializerResult;
+import org.apache.olingo.server.api.serializer.SerializerStreamResult;
 import org.apache.olingo.server.api.uri.UriInfoResource;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.apache.olingo.server.api.uri.UriResourceKind;
@@ -36,7 +45,11 @@ import org.apache.olingo.server.api.uri.queryoption.SystemQueryOptionKind;
 
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAnnotatable;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.api.JPAODataAllocationAccount;
+import com.sap.olingo.jpa.processor.core.api.JPAODataCountEstimation;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPage;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives.CountStrategy;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger.JPARuntimeMeasurement;
 import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
@@ -44,18 +57,17 @@ import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPANotImplementedException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
-import com.sap.olingo.jpa.processor.core.query.JPAAbstractExpandQuery;
 import com.sap.olingo.jpa.processor.core.query.JPACollectionItemInfo;
-import com.sap.olingo.jpa.processor.core.query.JPACollectionJoinQuery;
 import com.sap.olingo.jpa.processor.core.query.JPAConvertibleResult;
 import com.sap.olingo.jpa.processor.core.query.JPAExpandItemInfo;
 import com.sap.olingo.jpa.processor.core.query.JPAExpandItemInfoFactory;
-import com.sap.olingo.jpa.processor.core.query.JPAExpandQueryFactory;
 import com.sap.olingo.jpa.processor.core.query.JPAExpandQueryResult;
 import com.sap.olingo.jpa.processor.core.query.JPAJoinQuery;
 import com.sap.olingo.jpa.processor.core.query.JPAKeyBoundary;
 import com.sap.olingo.jpa.processor.core.query.JPANavigationPropertyInfo;
+import com.sap.olingo.jpa.processor.core.query.JPAStreamQueryResult;
 import com.sap.olingo.jpa.processor.core.query.Utility;
+import com.sap.olingo.jpa.processor.core.serializer.JPAStreamSerializer;
 
 public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestProcessor {
   private final ServiceMetadata serviceMetadata;
@@ -77,7 +89,10 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
   public <K extends Comparable<K>> void retrieveData(final ODataRequest request, final ODataResponse response,
       final ContentType responseFormat) throws ODataException {
 
-    try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "retrieveData")) {
+    try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "retrieveData");
+        JPARequestEvent requestEvent = new JPARequestEvent(uriInfo)) {
+      requestContext.getAllocationAccount().ifPresent(account -> account.setTarget(() -> JPARequestEvent.shapeOf(
+          uriInfo)));
 
       checkRequestSupported();
       // Create a JPQL Query and execute it
@@ -87,30 +102,44 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
       } catch (final ODataException e) {
         throw new ODataJPAProcessorException(QUERY_PREPARATION_ERROR, HttpStatusCode.INTERNAL_SERVER_ERROR, e);
       }
+      if (isStreamingPossible(query)) {
+        retrieveDataStreamed(request, response, responseFormat, query);
+        return;
+      }
 
-      final JPAConvertibleResult result = query.execute();
-      // Read Expand and Collection
-      final Optional<JPAKeyBoundary> keyBoundary = result.getKeyBoundary(requestContext, query.getNavigationInfo(),
-          page);
       final JPAExpandWatchDog watchDog = new JPAExpandWatchDog(determineTargetEntitySet(requestContext));
       watchDog.watch(uriInfo.getExpandOption(), uriInfo.getUriResourceParts());
-      result.putChildren(readExpandEntities(request.getAllHeaders(), query.getNavigationInfo(), uriInfo, keyBoundary,
-          watchDog));
-      // Convert tuple result into an OData Result
-      EntityCollection entityCollection;
-      try (JPARuntimeMeasurement converterMeasurement = debugger.newMeasurement(this, "convertResult")) {
-        entityCollection = result.asEntityCollection(new JPATupleChildConverter(sd, odata.createUriHelper(),
-            serviceMetadata, requestContext)).get(ROOT_RESULT_KEY);
-      } catch (final ODataApplicationException e) {
-        throw new ODataJPAProcessorException(QUERY_RESULT_CONV_ERROR, HttpStatusCode.INTERNAL_SERVER_ERROR, e);
+      joinToOneExpands(query, watchDog);
+      final FutureTask<Count> countTask = prepareCount(query);
+      final EntityCollection entityCollection;
+      try {
+        final JPAConvertibleResult result = query.execute();
+        // Read Expand and Collection
+        final Optional<JPAKeyBoundary> keyBoundary = result.getKeyBoundary(requestContext, query.getNavigationInfo(),
+            page);
+        result.putChildren(readExpandEntities(request.getAllHeaders(), query.getNavigationInfo(), uriInfo, keyBoundary,
+            watchDog, query.getInlineExpandResults()));
+        // Convert tuple result into an OData Result
+        try (JPARuntimeMeasurement converterMeasurement = debugger.newMeasurement(this, "convertResult");
+            JPAConversionEvent conversionEvent = new JPAConversionEvent(uriInfo)) {
+          entityCollection = result.asEntityCollection(new JPATupleChildConverter(sd, odata.createUriHelper(),
+              serviceMetadata, requestContext)).get(ROOT_RESULT_KEY);
+          conversionEvent.rowCount = entityCollection.getEntities().size();
+        } catch (final ODataApplicationException e) {
+          throw new ODataJPAProcessorException(QUERY_RESULT_CONV_ERROR, HttpStatusCode.INTERNAL_SERVER_ERROR, e);
+        }
+        requestEvent.rowCount = entityCollection.getEntities().size();
+        // Set Next Link
+        entityCollection.setNext(buildNextLink(determineSkipToken(query, result, entityCollection.getEntities())));
+        // Count results if requested
+        if (isCountRequested())
+          entityCollection.setCount(determineCount(query, countTask).asInteger(response));
+      } catch (final ODataException | RuntimeException e) {
+        // Do not keep the parallel count query running, as its result is not needed anymore
+        if (countTask != null)
+          countTask.cancel(true);
+        throw e;
       }
-      // Set Next Link
-      entityCollection.setNext(buildNextLink(page));
-      // Count results if requested
-      final CountOption countOption = uriInfo.getCountOption();
-      if (countOption != null && countOption.getValue())
-        entityCollection.setCount(new JPAJoinQuery(odata, requestContext)
-            .countResults().intValue());
 
       /*
        * See part 1:
@@ -144,7 +173,9 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
         response.setStatusCode(HttpStatusCode.NOT_FOUND.getStatusCode());
       // 200 OK indicates that either a result was found or that the a Entity Collection query had no result
       else if (entityCollection.getEntities() != null) {
-        try (JPARuntimeMeasurement serializerMeasurement = debugger.newMeasurement(this, "serialize")) {
+        try (JPARuntimeMeasurement serializerMeasurement = debugger.newMeasurement(this, "serialize");
+            JPASerializationEvent serializationEvent = new JPASerializationEvent(uriInfo)) {
+          serializationEvent.rowCount = entityCollection.getEntities().size();
           final SerializerResult serializerResult = serializer.serialize(request, entityCollection);
           createSuccessResponse(response, responseFormat, serializerResult);
         }
@@ -156,20 +187,201 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
     }
   }
 
+  /**
+   * In case requested, the to-one $expand items of the first level are handed over to the root query, so they can be
+   * read together with the root entities.
+   */
+  private void joinToOneExpands(final JPAJoinQuery query, final JPAExpandWatchDog watchDog) throws ODataException {
+    if (requestContext.getQueryDirectives().useJoinForToOneExpand() && watchDog.getRemainingLevels() > 0) {
+      final List<JPAExpandItemInfo> itemInfoList = new JPAExpandItemInfoFactory()
+          .buildExpandItemInfo(sd, uriInfo, query.getNavigationInfo())
+          .stream()
+          .filter(info -> !watchDog.getNonExpandableProperties().contains(info.getExpandAssociation().getAlias()))
+          .toList();
+      query.joinToOneExpands(itemInfoList);
+    }
+  }
+
+  /**
+   * Reads the expand and collection results first, as they are buffered anyhow, and afterwards hands over the stream
+   * of the root query to the serializer. As the serializer requests entity by entity, only one row of the root query
+   * has to be kept in memory.
+   * <p>
+   * The rows are read, converted and serialized when the response content is written, which is after the request has
+   * been processed. Therefore the row count of the request event stays -1. The conversion event covers the whole
+   * streaming and gets the row count, when the last row has been read.
+   */
+  private void retrieveDataStreamed(final ODataRequest request, final ODataResponse response,
+      final ContentType responseFormat, final JPAJoinQuery query) throws ODataException {
+
+    final JPAExpandWatchDog watchDog = new JPAExpandWatchDog(determineTargetEntitySet(requestContext));
+    watchDog.watch(uriInfo.getExpandOption(), uriInfo.getUriResourceParts());
+    final Map<JPAAssociationPath, JPAExpandResult> children = readExpandEntities(request.getAllHeaders(), query
+        .getNavigationInfo(), uriInfo, Optional.empty(), watchDog, Collections.emptyMap());
+    // Count before the stream is opened, so the count query does not run in parallel to an open cursor
+    final Integer count = isCountRequested()
+        ? count(new JPAJoinQuery(odata, requestContext)).asInteger(response)
+        : null;
+
+    final JPAStreamQueryResult result = query.executeStreamed();
+    result.putChildren(children);
+    final JPAConversionEvent conversionEvent = new JPAConversionEvent(uriInfo);
+    final EntityIterator entities;
+    // The rows are converted while they are serialized, so only the children are converted here
+    try (JPARuntimeMeasurement converterMeasurement = debugger.newMeasurement(this, "convertChildren")) {
+      entities = new JPACountingEntityIterator(result.asEntityIterator(new JPATupleChildConverter(sd, odata
+          .createUriHelper(), serviceMetadata, requestContext)), conversionEvent);
+    } catch (final ODataApplicationException e) {
+      conversionEvent.close();
+      throw new ODataJPAProcessorException(QUERY_RESULT_CONV_ERROR, HttpStatusCode.INTERNAL_SERVER_ERROR, e);
+    } catch (final RuntimeException e) {
+      conversionEvent.close();
+      throw e;
+    }
+    entities.setNext(buildNextLink(page != null ? page.skipToken() : null));
+    entities.setCount(count);
+    try (JPARuntimeMeasurement serializerMeasurement = debugger.newMeasurement(this, "serialize");
+        JPASerializationEvent serializationEvent = new JPASerializationEvent(uriInfo)) {
+      final SerializerStreamResult serializerResult = ((JPAStreamSerializer) serializer).serialize(request, entities);
+      createSuccessResponse(response, responseFormat, serializerResult);
+    }
+  }
+
+  /**
+   * Streaming is possible if it is requested via the query directives, the serializer supports streaming, no key set
+   * page is requested and the $expand and collection property queries do not need the key boundary of the root
+   * result. The key boundary requires to read the complete root result before the children can be read. The
+   * serializer only supports streaming for entity collections.
+   */
+  private boolean isStreamingPossible(final JPAJoinQuery query) throws ODataJPAProcessorException {
+    if (!requestContext.getQueryDirectives().useStreaming()
+        || !(serializer instanceof JPAStreamSerializer)
+        || (page != null && page.keyset() != null))
+      return false;
+    final boolean restrictedPage = uriInfo.getTopOption() != null
+        || uriInfo.getSkipOption() != null
+        || (page != null && (page.skip() != 0 || page.top() != Integer.MAX_VALUE));
+    try {
+      return !restrictedPage
+          || (uriInfo.getExpandOption() == null && query.getJpaEntity().getCollectionAttributesPath().isEmpty());
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private boolean isCountRequested() {
+    final CountOption countOption = uriInfo.getCountOption();
+    return countOption != null && countOption.getValue();
+  }
+
+  /**
+   * Prepares answering $count=true according to the count strategy of the query directives: either the count is
+   * requested from the page query as window function or a count query is started in parallel to the page query. The
+   * parallel count query requires an expand executor and an entity manager factory, as it needs an own entity
+   * manager. It gets cancelled if reading the page fails.
+   * @return The count query running in parallel. Null if no parallel count query was started
+   */
+  private FutureTask<Count> prepareCount(final JPAJoinQuery query) throws ODataException {
+    if (!isCountRequested())
+      return null;
+    final CountStrategy strategy = requestContext.getQueryDirectives().countStrategy();
+    if (strategy == CountStrategy.WINDOW_FUNCTION) {
+      query.countWithResult();
+    } else if (strategy == CountStrategy.PARALLEL_QUERY) {
+      final Optional<Executor> executor = requestContext.getExpandExecutor();
+      final Optional<? extends EntityManagerFactory> emf = requestContext.getEntityManagerFactory();
+      if (executor.isPresent() && emf.isPresent()) {
+        final Thread caller = Thread.currentThread();
+        final FutureTask<Count> countTask = new FutureTask<>(() -> countWithOwnEntityManager(emf.get(), caller));
+        try {
+          executor.get().execute(countTask);
+        } catch (final RejectedExecutionException e) {
+          countTask.run();
+        }
+        return countTask;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * The count is taken from the parallel count query, or from the page query if it was read as window function. In
+   * case the page is empty, e.g. as $skip exceeds the number of entities, the page does not provide a count, so it is
+   * determined by a separate count query.
+   */
+  private Count determineCount(final JPAJoinQuery query, final FutureTask<Count> countTask) throws ODataException {
+    if (countTask != null) {
+      try {
+        return countTask.get();
+      } catch (final ExecutionException e) {
+        if (e.getCause() instanceof final ODataException odataException)
+          throw odataException;
+        if (e.getCause() instanceof final RuntimeException runtimeException)
+          throw runtimeException;
+        throw new ODataJPAProcessorException(e.getCause(), HttpStatusCode.INTERNAL_SERVER_ERROR);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ODataJPAProcessorException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+      }
+    }
+    final Optional<Long> inlineCount = query.getInlineCount();
+    if (inlineCount.isPresent())
+      return new Count(inlineCount.get(), false);
+    return count(new JPAJoinQuery(odata, requestContext));
+  }
+
+  private Count count(final JPAJoinQuery countQuery) throws ODataException {
+    final Long count = countQuery.countResults();
+    return new Count(count, countQuery.isCountEstimated());
+  }
+
+  /**
+   * The memory allocated by the count query, if executed by another thread, is added to the allocation account of the
+   * request.
+   */
+  private Count countWithOwnEntityManager(final EntityManagerFactory emf, final Thread caller) throws ODataException {
+    final long allocatedAtStart = Thread.currentThread() != caller
+        ? JPAODataAllocationAccount.currentThreadAllocatedBytes()
+        : -1L;
+    final EntityManager em = emf.createEntityManager();
+    try {
+      return count(new JPAJoinQuery(odata, new JPAODataInternalRequestContext(requestContext, em)));
+    } finally {
+      em.close();
+      requestContext.getAllocationAccount().ifPresent(account -> account.addSince(allocatedAtStart));
+    }
+  }
+
   private void checkRequestSupported() throws ODataJPAProcessException {
     if (uriInfo.getApplyOption() != null)
       throw new ODataJPANotImplementedException("$apply");
   }
 
-  private URI buildNextLink(final JPAODataPage page) throws ODataJPAProcessorException {
-    if (page != null && page.skipToken() != null) {
+  /**
+   * In case the page has a key set position, the skip token is created from the sort values of the last entity of the
+   * page. A page that is not full is the last one.
+   */
+  private Object determineSkipToken(final JPAJoinQuery query, final JPAConvertibleResult result,
+      final List<Entity> entities) throws ODataApplicationException {
+    if (page == null)
+      return null;
+    if (page.keyset() != null) {
+      if (entities.isEmpty() || entities.size() < page.top())
+        return null;
+      return page.keyset().next(page.top(), result.getLastValues(odata, query.getKeysetPaths())).asSkipToken();
+    }
+    return page.skipToken();
+  }
+
+  private URI buildNextLink(final Object skipToken) throws ODataJPAProcessorException {
+    if (skipToken != null) {
       try {
-        if (page.skipToken() instanceof String)
+        if (skipToken instanceof String)
           return new URI(Utility.determineBindingTarget(uriInfo.getUriResourceParts()).getName() + "?"
-              + SystemQueryOptionKind.SKIPTOKEN.toString() + "='" + page.skipToken() + "'");
+              + SystemQueryOptionKind.SKIPTOKEN.toString() + "='" + skipToken + "'");
         else
           return new URI(Utility.determineBindingTarget(uriInfo.getUriResourceParts()).getName() + "?"
-              + SystemQueryOptionKind.SKIPTOKEN.toString() + "=" + page.skipToken().toString());
+              + SystemQueryOptionKind.SKIPTOKEN.toString() + "=" + skipToken.toString());
       } catch (final URISyntaxException e) {
         throw new ODataJPAProcessorException(ODATA_MAXPAGESIZE_NOT_A_NUMBER, HttpStatusCode.INTERNAL_SERVER_ERROR, e);
       }
@@ -266,18 +478,20 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
    * @param parentHops
    * @param uriResourceInfo
    * @param parentWhere
+   * @param inlineResults Results of expand items that have been read already together with the parent
    * @return
    * @throws ODataException
    */
   private Map<JPAAssociationPath, JPAExpandResult> readExpandEntities(final Map<String, List<String>> headers,
       final List<JPANavigationPropertyInfo> parentHops, final UriInfoResource uriResourceInfo,
-      final Optional<JPAKeyBoundary> keyBoundary, final JPAExpandWatchDog watchDog) throws ODataException {
+      final Optional<JPAKeyBoundary> keyBoundary, final JPAExpandWatchDog watchDog,
+      final Map<JPAAssociationPath, JPAExpandResult> inlineResults) throws ODataException {
 
     try (JPARuntimeMeasurement expandMeasurement = debugger.newMeasurement(this, "readExpandEntities")) {
 
-      final JPAExpandQueryFactory factory = new JPAExpandQueryFactory(odata, requestContext, cb);
-      final Map<JPAAssociationPath, JPAExpandResult> allExpResults = new HashMap<>();
-      if (watchDog.getRemainingLevels() > 0) {
+      final boolean levelRemaining = watchDog.getRemainingLevels() > 0;
+      List<JPAExpandItemInfo> expandItems = Collections.emptyList();
+      if (levelRemaining) {
         // x/a?$expand=b/c($expand=d,e/f)&$filter=...&$top=3&$orderBy=...
         // x?$expand=*(levels=3)
         // For performance reasons the expand query should only return results for the results of the higher-level
@@ -291,26 +505,28 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
 
         final List<JPAExpandItemInfo> itemInfoList = new JPAExpandItemInfoFactory()
             .buildExpandItemInfo(sd, uriResourceInfo, parentHops);
-        for (final JPAExpandItemInfo item : watchDog.filter(itemInfoList)) {
-          final JPAAbstractExpandQuery expandQuery = factory.createQuery(item, keyBoundary);
-          final JPAExpandQueryResult expandResult = expandQuery.execute();
-          if (expandResult.getNoResults() > 0)
-            // Only go to the next hop if the current one has a result
-            expandResult.putChildren(readExpandEntities(headers, item.getHops(), item.getUriInfo(), keyBoundary,
-                watchDog));
-          allExpResults.put(item.getExpandAssociation(), expandResult);
-        }
-        watchDog.levelProcessed();
+        expandItems = watchDog.filter(itemInfoList);
       }
       // process collection attributes
       final List<JPACollectionItemInfo> collectionInfoList = new JPAExpandItemInfoFactory()
           .buildCollectionItemInfo(sd, uriResourceInfo, parentHops, requestContext.getGroupsProvider());
-      for (final JPACollectionItemInfo item : collectionInfoList) {
-        final JPACollectionJoinQuery collectionQuery = new JPACollectionJoinQuery(odata, item,
-            new JPAODataInternalRequestContext(item.getUriInfo(), requestContext, headers), keyBoundary);
-        final JPAExpandResult expandResult = collectionQuery.execute();
-        allExpResults.put(item.getExpandAssociation(), expandResult);
+      // The queries of one level do not depend on each other, so they are read together, if possible in parallel
+      final List<JPAExpandItemInfo> itemsToRead = expandItems.stream()
+          .filter(item -> !inlineResults.containsKey(item.getExpandAssociation()))
+          .toList();
+      final Map<JPAAssociationPath, JPAExpandResult> allExpResults = new JPAExpandLevelReader(odata, requestContext,
+          cb).read(headers, itemsToRead, collectionInfoList, keyBoundary);
+      allExpResults.putAll(inlineResults);
+      for (final JPAExpandItemInfo item : expandItems) {
+        final JPAExpandQueryResult expandResult = (JPAExpandQueryResult) allExpResults.get(item
+            .getExpandAssociation());
+        if (expandResult.getNoResults() > 0)
+          // Only go to the next hop if the current one has a result
+          expandResult.putChildren(readExpandEntities(headers, item.getHops(), item.getUriInfo(), keyBoundary,
+              watchDog, Collections.emptyMap()));
       }
+      if (levelRemaining)
+        watchDog.levelProcessed();
       return allExpResults;
     }
   }
@@ -325,4 +541,22 @@ public final class JPANavigationRequestProcessor extends JPAAbstractGetRequestPr
           .map(JPAAnnotatable.class::cast);
     return Optional.empty();
   }
+
+  /**
+   * Number of entities requested via $count=true.
+   * @param value
+   * @param estimated True if the count was not read from the database, see {@link JPAODataCountEstimation}
+   */
+  private record Count(long value, boolean estimated) {
+
+    /**
+     * @return The count as taken by the entity collection. In case the count is estimated, this is signaled by a
+     * response header.
+     */
+    Integer asInteger(final ODataResponse response) {
+      if (estimated)
+        response.setHeader(JPAODataCountEstimation.ESTIMATED_COUNT_HEADER, "true");
+      return (int) value;
+    }
+  }
 }
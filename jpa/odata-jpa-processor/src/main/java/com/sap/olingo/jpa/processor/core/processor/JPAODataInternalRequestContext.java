@@ -10,11 +10,13 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.server.api.uri.UriInfo;
@@ -29,11 +31,15 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.processor.core.api.JPAAbstractCUDRequestHandler;
 import com.sap.olingo.jpa.processor.core.api.JPACUDRequestHandler;
+import com.sap.olingo.jpa.processor.core.api.JPAODataAllocationAccount;
 import com.sap.olingo.jpa.processor.core.api.JPAODataClaimProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataCountEstimation;
 import com.sap.olingo.jpa.processor.core.api.JPAODataDatabaseProcessor;
 import com.sap.olingo.jpa.processor.core.api.JPAODataDefaultTransactionFactory;
 import com.sap.olingo.jpa.processor.core.api.JPAODataGroupProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetricsSink;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPage;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContext;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAODataServiceContext;
@@ -44,6 +50,7 @@ import com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseOperations;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAIllegalAccessException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
 import com.sap.olingo.jpa.processor.core.query.ExpressionUtility;
+import com.sap.olingo.jpa.processor.core.query.JPAQueryPlanCache;
 import com.sap.olingo.jpa.processor.core.serializer.JPASerializer;
 
 public final class JPAODataInternalRequestContext implements JPAODataRequestContextAccess,
@@ -66,6 +73,13 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
   private JPAODataDatabaseProcessor dbProcessor;
   private Optional<JPAEdmProvider> edmProvider;
   private JPAODataDatabaseOperations operationConverter;
+  private JPAODataQueryDirectives queryDirectives;
+  private Optional<Executor> expandExecutor;
+  private Optional<? extends EntityManagerFactory> emf;
+  private Optional<JPAODataMetricsSink> metricsSink;
+  private JPAODataAllocationAccount allocationAccount;
+  private Optional<JPAODataCountEstimation> countEstimation;
+  private Optional<JPAQueryPlanCache> queryPlanCache;
 
   public JPAODataInternalRequestContext(@Nonnull final JPAODataRequestContext requestContext,
       @Nonnull final JPAODataSessionContextAccess sessionContext) {
@@ -111,6 +125,26 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
     setJPAODataPage(page);
   }
 
+  /**
+   * Copy constructor switching the entity manager. Used for queries that are executed in parallel to the request's
+   * entity manager.
+   * @param context
+   * @param em
+   * @throws ODataJPAProcessorException
+   */
+  JPAODataInternalRequestContext(final JPAODataRequestContextAccess context, @Nonnull final EntityManager em)
+      throws ODataJPAProcessorException {
+
+    copyContextValues(context);
+    this.em = Objects.requireNonNull(em);
+    this.cudRequestHandler = this.cudRequestHandler == null ? new JPADefaultCUDRequestHandler()
+        : this.cudRequestHandler;
+    this.uriInfo = context.getUriInfo();
+    this.header = new JPAHttpHeaderHashMap(context.getHeader());
+    this.customParameter = new JPARequestParameterHashMap(context.getRequestParameter());
+    this.hookFactory = new JPAHookFactory(em, this.header, customParameter);
+  }
+
   JPAODataInternalRequestContext(final UriInfoResource uriInfo, @Nullable final JPASerializer serializer,
       final JPAODataRequestContextAccess context, final Map<String, List<String>> header)
       throws ODataJPAProcessorException {
@@ -254,6 +288,36 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
     return operationConverter;
   }
 
+  @Override
+  public JPAODataQueryDirectives getQueryDirectives() {
+    return queryDirectives != null ? queryDirectives : JPAODataQueryDirectives.DEFAULT;
+  }
+
+  @Override
+  public Optional<Executor> getExpandExecutor() {
+    return expandExecutor != null ? expandExecutor : Optional.empty();
+  }
+
+  @Override
+  public Optional<? extends EntityManagerFactory> getEntityManagerFactory() {
+    return emf != null ? emf : Optional.empty();
+  }
+
+  @Override
+  public Optional<JPAODataAllocationAccount> getAllocationAccount() {
+    return Optional.ofNullable(allocationAccount);
+  }
+
+  @Override
+  public Optional<JPAODataCountEstimation> getCountEstimation() {
+    return countEstimation != null ? countEstimation : Optional.empty();
+  }
+
+  @Override
+  public Optional<JPAQueryPlanCache> getQueryPlanCache() {
+    return queryPlanCache != null ? queryPlanCache : Optional.empty();
+  }
+
   private void copyContextValues(final JPAODataRequestContextAccess context)
       throws ODataJPAProcessorException {
     this.em = context.getEntityManager();
@@ -267,6 +331,14 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
     this.dbProcessor = context.getDatabaseProcessor();
     this.edmProvider = Optional.ofNullable(context.getEdmProvider());
     this.operationConverter = context.getOperationConverter();
+    this.queryDirectives = context.getQueryDirectives();
+    this.expandExecutor = context.getExpandExecutor();
+    this.emf = context.getEntityManagerFactory();
+    this.metricsSink = context instanceof final JPAODataInternalRequestContext internalContext
+        ? internalContext.metricsSink : Optional.empty();
+    this.allocationAccount = context.getAllocationAccount().orElseGet(JPAODataAllocationAccount::new);
+    this.countEstimation = context.getCountEstimation();
+    this.queryPlanCache = context.getQueryPlanCache();
   }
 
   private void copyRequestContext(@Nonnull final JPAODataRequestContext requestContext,
@@ -284,7 +356,14 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
         : new JPARequestParameterHashMap();
     dbProcessor = sessionContext.getDatabaseProcessor();
     operationConverter = sessionContext.getOperationConverter();
+    queryDirectives = sessionContext.getQueryDirectives();
+    expandExecutor = sessionContext.getExpandExecutor();
+    emf = sessionContext.getEntityManagerFactory();
+    metricsSink = sessionContext.getMetricsSink();
+    allocationAccount = new JPAODataAllocationAccount();
+    countEstimation = sessionContext.getCountEstimation();
     edmProvider = determineEdmProvider(sessionContext, em);
+    queryPlanCache = edmProvider.flatMap(sessionContext::getQueryPlanCache);
   }
 
   private Optional<JPAEdmProvider> determineEdmProvider(final JPAODataSessionContextAccess sessionContext,
@@ -311,6 +390,18 @@ public final class JPAODataInternalRequestContext implements JPAODataRequestCont
       debugger = new JPACoreDebugger(debugSupport.isUserAuthorized());
       debugSupport.addDebugger(debugger);
     }
+    if (metricsSink != null && metricsSink.isPresent())
+      debugger = new JPAMetricsDebugger(debugger, metricsSink.get(), this::determineMetricsTarget);
+  }
+
+  /**
+   * The runtime is collected per first segment of the resource path, which is the entity set, singleton or operation
+   * import of the request.
+   */
+  private String determineMetricsTarget() {
+    if (uriInfo == null || uriInfo.getUriResourceParts().isEmpty())
+      return "";
+    return uriInfo.getUriResourceParts().get(0).getSegmentValue();
   }
 
   private static class JPADefaultCUDRequestHandler extends JPAAbstractCUDRequestHandler {
@@ -133,12 +133,12 @@ public final class JPAProcessorFactory {
     if (serverDrivenPaging(uriInfo)) {
       final String skipToken = skipToken(uriInfo);
       if (skipToken != null && !skipToken.isEmpty()) {
-        page = sessionContext.getPagingProvider().getNextPage(skipToken);
+        page = sessionContext.getPagingProvider().getNextPage(skipToken, odata, serviceMetadata);
         if (page == null)
           throw new ODataJPAProcessorException(QUERY_SERVER_DRIVEN_PAGING_GONE, HttpStatusCode.GONE, skipToken);
       } else {
         final JPACountQuery countQuery = new JPAJoinQuery(odata, new JPAODataInternalRequestContext(uriInfo,
-            requestContext, headers));
+            requestContext, headers)).asExactCountQuery();
         final Integer preferredPageSize = getPreferredPageSize(headers);
         final JPAODataPage firstPage = sessionContext.getPagingProvider().getFirstPage(uriInfo, preferredPageSize,
             countQuery, requestContext.getEntityManager());
@@ -0,0 +1,78 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+import org.apache.olingo.server.api.uri.UriResourceNavigation;
+import org.apache.olingo.server.api.uri.queryoption.SystemQueryOption;
+
+/**
+ * Java Flight Recorder event for a read request of entities. The URI shape is only determined if the event gets
+ * recorded. See {@link JPAAbstractProcessingEvent}.
+ */
+@Name("com.sap.olingo.jpa.Request")
+@Label("OData Request")
+@Category({ "Olingo JPA", "Request" })
+@Description("Read request processed by the JPA processor")
+@StackTrace(false)
+@Threshold("10 ms")
+final class JPARequestEvent extends JPAAbstractProcessingEvent {
+
+  @Label("URI Shape")
+  @Description("Resource path without key values, followed by the names of the system query options")
+  String uriShape;
+
+  JPARequestEvent(final UriInfoResource uriInfo) {
+    super(uriInfo);
+  }
+
+  @Override
+  void collectDetails() {
+    uriShape = shapeOf(uriInfo);
+  }
+
+  /**
+   * Creates a representation of the request that does not contain values, so requests of the same kind get the same
+   * shape, e.g. <code>Organizations(...)/Roles?$filter&$top</code>.
+   */
+  static String shapeOf(final UriInfoResource uriInfo) {
+    if (uriInfo == null)
+      return "";
+    final StringBuilder shape = new StringBuilder();
+    for (final UriResource part : uriInfo.getUriResourceParts()) {
+      if (!shape.isEmpty())
+        shape.append('/');
+      shape.append(part.getSegmentValue());
+      if (hasKeyPredicates(part))
+        shape.append("(...)");
+    }
+    final String options = String.join("&", Stream.of(uriInfo.getFilterOption(), uriInfo.getSearchOption(),
+        uriInfo.getApplyOption(), uriInfo.getExpandOption(), uriInfo.getSelectOption(), uriInfo.getOrderByOption(),
+        uriInfo.getSkipOption(), uriInfo.getTopOption(), uriInfo.getCountOption(), uriInfo.getSkipTokenOption())
+        .filter(Objects::nonNull)
+        .map(SystemQueryOption::getKind)
+        .map(Object::toString)
+        .toList());
+    if (!options.isEmpty())
+      shape.append('?').append(options);
+    return shape.toString();
+  }
+
+  private static boolean hasKeyPredicates(final UriResource part) {
+    if (part instanceof final UriResourceEntitySet entitySet)
+      return !entitySet.getKeyPredicates().isEmpty();
+    if (part instanceof final UriResourceNavigation navigation)
+      return !navigation.getKeyPredicates().isEmpty();
+    return false;
+  }
+}
@@ -0,0 +1,27 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import org.apache.olingo.server.api.uri.UriInfoResource;
+
+/**
+ * Java Flight Recorder event for the serialization of the OData entities into the response. See
+ * {@link JPAAbstractProcessingEvent}.
+ */
+@Name("com.sap.olingo.jpa.Serialization")
+@Label("OData Serialization")
+@Category({ "Olingo JPA", "Request" })
+@Description("Serialization of the OData entities into the response")
+@StackTrace(false)
+@Threshold("10 ms")
+final class JPASerializationEvent extends JPAAbstractProcessingEvent {
+
+  JPASerializationEvent(final UriInfoResource uriInfo) {
+    super(uriInfo);
+  }
+}
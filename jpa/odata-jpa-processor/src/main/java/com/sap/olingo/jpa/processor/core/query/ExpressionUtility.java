@@ -152,6 +152,34 @@ public final class ExpressionUtility {
     }
   }
 
+  /**
+   * Converts the value of an attribute into its OData string representation. It is the counterpart of
+   * {@link #convertValueOnAttribute(OData, JPAAttribute, String, Boolean)} called with <code>isUri</code> = false.
+   * @param odata
+   * @param attribute
+   * @param value
+   * @return
+   * @throws ODataJPAFilterException
+   */
+  public static String convertValueToString(final OData odata, final JPAAttribute attribute, final Object value)
+      throws ODataJPAFilterException {
+
+    try {
+      final CsdlProperty edmProperty = (CsdlProperty) attribute.getProperty();
+      final EdmPrimitiveType edmType = odata.createPrimitiveTypeInstance(attribute.getEdmType());
+      Object edmValue = value;
+      // Converter
+      if (attribute.getConverter() != null) {
+        final AttributeConverter<Object, Object> dbConverter = attribute.getConverter();
+        edmValue = dbConverter.convertToDatabaseColumn(value);
+      }
+      return edmType.valueToString(edmValue, edmProperty.isNullable(), edmProperty.getMaxLength(),
+          edmProperty.getPrecision(), edmProperty.getScale(), true);
+    } catch (EdmPrimitiveTypeException | ODataJPAModelException e) {
+      throw new ODataJPAFilterException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
   public static Object convertValueOnFacet(final OData odata, final JPAParameterFacet returnType, final String value)
       throws ODataJPAFilterException {
     try {
@@ -1,7 +1,6 @@
 package com.sap.olingo.jpa.processor.core.query;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.joining;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -32,6 +31,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAException;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
 
 public abstract class JPAAbstractExpandQuery extends JPAAbstractJoinQuery {
@@ -78,22 +78,17 @@ public abstract class JPAAbstractExpandQuery extends JPAAbstractJoinQuery {
     }
   }
 
-  protected String buildConcatenatedKey(final Tuple row, final JPAAssociationPath association)
+  /**
+   * Creates the reader of the keys of the result rows. Without join table the keys are taken from the join columns of
+   * the target, otherwise from the join columns of the source selected from the join table.
+   */
+  protected JPAResultKey.Reader createKeyReader(final JPAAssociationPath association)
       throws ODataJPAModelException {
 
-    if (!association.hasJoinTable()) {
-      final List<JPAPath> joinColumns = association.getRightColumnsList();
-      return joinColumns.stream()
-          .map(c -> (row.get(c
-              .getAlias()))
-                  .toString())
-          .collect(joining(JPAPath.PATH_SEPARATOR));
-    } else {
-      final List<JPAPath> joinColumns = association.getLeftColumnsList();
-      return joinColumns.stream()
-          .map(c -> (row.get(association.getAlias() + ALIAS_SEPARATOR + c.getAlias())).toString())
-          .collect(joining(JPAPath.PATH_SEPARATOR));
-    }
+    if (!association.hasJoinTable())
+      return JPAResultKey.reader("", association.getRightColumnsList(), association.getLeftColumnsList());
+    return JPAResultKey.reader(association.getAlias() + ALIAS_SEPARATOR, association.getLeftColumnsList(),
+        association.getLeftColumnsList());
   }
 
   protected List<Order> createOrderByJoinCondition(final JPAAssociationPath associationPath)
@@ -143,7 +138,7 @@ public abstract class JPAAbstractExpandQuery extends JPAAbstractJoinQuery {
     return groupBy;
   }
 
-  abstract Map<String, Long> count() throws ODataApplicationException;
+  abstract Map<JPAResultKey, Long> count() throws ODataApplicationException;
 
   protected boolean countRequested(final JPANavigationPropertyInfo lastInfo) {
     if (lastInfo.getUriInfo() == null)
@@ -170,16 +165,17 @@ public abstract class JPAAbstractExpandQuery extends JPAAbstractJoinQuery {
     return selections;
   }
 
-  protected Map<String, Long> convertCountResult(final List<Tuple> intermediateResult) throws ODataJPAQueryException {
-    final Map<String, Long> result = new HashMap<>();
-    for (final Tuple row : intermediateResult) {
-      try {
-        final String actualKey = buildConcatenatedKey(row, association);
+  protected Map<JPAResultKey, Long> convertCountResult(final List<Tuple> intermediateResult)
+      throws ODataJPAQueryException {
+    final Map<JPAResultKey, Long> result = new HashMap<>();
+    try {
+      final JPAResultKey.Reader keyReader = createKeyReader(association);
+      for (final Tuple row : intermediateResult) {
         final Number count = (Number) row.get(COUNT_COLUMN_NAME);
-        result.put(actualKey, count.longValue());
-      } catch (final ODataJPAModelException e) {
-        throw new ODataJPAQueryException(e, HttpStatusCode.BAD_REQUEST);
+        result.put(keyReader.read(row), count.longValue());
       }
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, HttpStatusCode.BAD_REQUEST);
     }
     return result;
   }
@@ -41,11 +41,13 @@ import org.apache.olingo.server.api.uri.UriParameter;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.apache.olingo.server.api.uri.UriResourceKind;
 import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
 import org.apache.olingo.server.api.uri.queryoption.SelectItem;
 import org.apache.olingo.server.api.uri.queryoption.SelectOption;
 import org.apache.olingo.server.api.uri.queryoption.SkipOption;
 import org.apache.olingo.server.api.uri.queryoption.TopOption;
 import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
 
 import com.sap.olingo.jpa.metadata.core.edm.annotation.EdmQueryExtensionProvider;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationAttribute;
@@ -250,6 +252,61 @@ public abstract class JPAAbstractJoinQuery extends JPAAbstractQuery implements J
     return null;
   }
 
+  /**
+   * Creates the condition of a page read via key set paging: only entities sorted after the last entity of the previous
+   * page are selected. For the sort order (o1 desc, k1 asc) and the last values (v1, v2) this is <code>o1 < v1 OR (o1 =
+   * v1 AND k1 > v2)</code>, which matches the order created by the {@link JPAOrderByBuilder}.
+   * @return Null if the page does not start after a key set position
+   * @throws ODataApplicationException
+   */
+  protected jakarta.persistence.criteria.Expression<Boolean> createKeysetBoundary() throws ODataApplicationException {
+
+    if (!startsAfterKeysetPosition())
+      return null;
+    final List<KeysetElement> elements = determineKeysetOrder();
+    final List<String> lastValues = page.keyset().lastValues();
+    if (elements.size() != lastValues.size())
+      throw new ODataJPAQueryException(ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_INVALID_VALUE,
+          BAD_REQUEST, lastValues.toString(), "$skiptoken");
+    return createBoundaryAfter(elements, lastValues);
+  }
+
+  /**
+   * @return True if the page is read via key set paging and starts after the last entity of a previous page
+   */
+  protected boolean startsAfterKeysetPosition() {
+    return page != null && page.keyset() != null && !page.keyset().lastValues().isEmpty();
+  }
+
+  /**
+   * Determines the sort order key set paging is based on: the $orderby properties followed by the key attributes not
+   * part of $orderby.
+   * @return Empty list if an $orderby item is not a property path, e.g. <code>Roles/$count</code>
+   * @throws ODataApplicationException
+   */
+  protected List<KeysetElement> determineKeysetOrder() throws ODataApplicationException {
+    final List<KeysetElement> elements = new ArrayList<>();
+    try {
+      if (uriResource.getOrderByOption() != null) {
+        for (final OrderByItem item : uriResource.getOrderByOption().getOrders()) {
+          if (!(item.getExpression() instanceof final Member member))
+            return Collections.emptyList();
+          final JPAPath path = jpaEntity.getPath(member.getResourcePath().getUriResourceParts().stream()
+              .map(UriResource::getSegmentValue)
+              .collect(Collectors.joining(JPAPath.PATH_SEPARATOR)));
+          if (path == null)
+            return Collections.emptyList();
+          addKeysetElement(elements, path, item.isDescending());
+        }
+      }
+      for (final JPAPath key : jpaEntity.getKeyPath())
+        addKeysetElement(elements, key, false);
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, INTERNAL_SERVER_ERROR);
+    }
+    return elements;
+  }
+
   /**
    *
    * @param orderByTarget
@@ -441,8 +498,11 @@ public abstract class JPAAbstractJoinQuery extends JPAAbstractQuery implements J
     }
   }
 
+  /**
+   * A page that starts after a key set position is already behind the entities skipped via $skip.
+   */
   private void addSkip(final TypedQuery<Tuple> typedQuery) throws ODataJPAQueryException {
-    final SkipOption skipOption = uriResource.getSkipOption();
+    final SkipOption skipOption = startsAfterKeysetPosition() ? null : uriResource.getSkipOption();
     if (skipOption != null || page != null) {
       int skipNumber = skipOption != null ? skipOption.getValue() : page.skip();
       skipNumber = skipOption != null && page != null ? Math.max(skipOption.getValue(), page.skip()) : skipNumber;
@@ -679,6 +739,35 @@ public abstract class JPAAbstractJoinQuery extends JPAAbstractQuery implements J
     return cb.and(lowerExpression, upperExpression);
   }
 
+  @SuppressWarnings("unchecked")
+  private <Y extends Comparable<? super Y>> jakarta.persistence.criteria.Expression<Boolean> createBoundaryAfter(
+      final List<KeysetElement> elements, final List<String> lastValues) throws ODataApplicationException {
+
+    jakarta.persistence.criteria.Expression<Boolean> whereCondition = null;
+    jakarta.persistence.criteria.Expression<Boolean> equalPrefix = null;
+    for (int i = 0; i < elements.size(); i++) {
+      final KeysetElement element = elements.get(i);
+      final Path<Y> path = (Path<Y>) ExpressionUtility.<Comparable<?>> convertToCriteriaPath(target,
+          element.path().getPath());
+      final Y lastValue = (Y) ExpressionUtility.convertValueOnAttribute(odata, element.path().getLeaf(), lastValues
+          .get(i), false);
+      final jakarta.persistence.criteria.Expression<Boolean> afterValue = element.descending()
+          ? cb.lessThan(path, lastValue)
+          : cb.greaterThan(path, lastValue);
+      final jakarta.persistence.criteria.Expression<Boolean> afterFragment = equalPrefix == null
+          ? afterValue
+          : cb.and(equalPrefix, afterValue);
+      whereCondition = whereCondition == null ? afterFragment : cb.or(whereCondition, afterFragment);
+      equalPrefix = equalPrefix == null ? cb.equal(path, lastValue) : cb.and(equalPrefix, cb.equal(path, lastValue));
+    }
+    return whereCondition;
+  }
+
+  private void addKeysetElement(final List<KeysetElement> elements, final JPAPath path, final boolean descending) {
+    if (elements.stream().noneMatch(element -> element.path().equals(path)))
+      elements.add(new KeysetElement(path, descending));
+  }
+
   private void createFromClauseCollectionsJoins(final HashMap<String, From<?, ?>> joinTables)
       throws ODataJPAQueryException, ODataJPAProcessorException {
 
@@ -831,4 +920,9 @@ public abstract class JPAAbstractJoinQuery extends JPAAbstractQuery implements J
     }
     return collection;
   }
+
+  /**
+   * Property key set paging sorts by.
+   */
+  protected record KeysetElement(JPAPath path, boolean descending) {}
 }
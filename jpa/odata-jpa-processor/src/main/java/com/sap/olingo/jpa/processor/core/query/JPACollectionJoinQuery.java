@@ -2,7 +2,6 @@ package com.sap.olingo.jpa.processor.core.query;
 
 import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_FILTER_ERROR;
 import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_INVALID_SELECTION_PATH;
-import static java.util.stream.Collectors.joining;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.BAD_REQUEST;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.INTERNAL_SERVER_ERROR;
 
@@ -38,6 +37,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger.JPARuntimeMeasurement;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
 
 public class JPACollectionJoinQuery extends JPAAbstractJoinQuery {
@@ -64,7 +64,7 @@ public class JPACollectionJoinQuery extends JPAAbstractJoinQuery {
       try (JPARuntimeMeasurement resultMeasurement = debugger.newMeasurement(this, "getResultList")) {
         intermediateResult = tupleQuery.getResultList();
       }
-      final Map<String, List<Tuple>> result = convertResult(intermediateResult, association, 0, Long.MAX_VALUE);
+      final Map<JPAResultKey, List<Tuple>> result = convertResult(intermediateResult, association, 0, Long.MAX_VALUE);
       return new JPACollectionQueryResult(result, new HashMap<>(1), jpaEntity, this.association,
           requestedSelection.joinedRequested());
     } catch (final JPANoSelectionException e) {
@@ -164,21 +164,22 @@ public class JPACollectionJoinQuery extends JPAAbstractJoinQuery {
    * @return
    * @throws ODataApplicationException
    */
-  Map<String, List<Tuple>> convertResult(final List<Tuple> intermediateResult, final JPAAssociationPath associationPath,
-      final long skip, final long top) throws ODataApplicationException {
-    String joinKey = "";
+  Map<JPAResultKey, List<Tuple>> convertResult(final List<Tuple> intermediateResult,
+      final JPAAssociationPath associationPath, final long skip, final long top) throws ODataApplicationException {
+    JPAResultKey joinKey = null;
     long skipped = 0;
     long taken = 0;
 
     List<Tuple> subResult = null;
-    final Map<String, List<Tuple>> convertedResult = new HashMap<>();
+    final Map<JPAResultKey, List<Tuple>> convertedResult = new HashMap<>();
+    final JPAResultKey.Reader keyReader;
+    try {
+      keyReader = createKeyReader(associationPath);
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, BAD_REQUEST);
+    }
     for (final Tuple row : intermediateResult) {
-      String actualKey;
-      try {
-        actualKey = buildConcatenatedKey(row, associationPath);
-      } catch (final ODataJPAModelException e) {
-        throw new ODataJPAQueryException(e, BAD_REQUEST);
-      }
+      final JPAResultKey actualKey = keyReader.read(row);
 
       if (!actualKey.equals(joinKey)) {
         subResult = new ArrayList<>();
@@ -196,20 +197,13 @@ public class JPACollectionJoinQuery extends JPAAbstractJoinQuery {
     return convertedResult;
   }
 
-  private String buildConcatenatedKey(final Tuple row, final JPAAssociationPath associationPath)
+  private JPAResultKey.Reader createKeyReader(final JPAAssociationPath associationPath)
       throws ODataJPAModelException {
 
-    if (!associationPath.hasJoinTable()) {
-      final List<JPAPath> joinColumns = associationPath.getRightColumnsList();
-      return joinColumns.stream()
-          .map(column -> (row.get(column.getAlias())).toString())
-          .collect(joining(JPAPath.PATH_SEPARATOR));
-    } else {
-      final List<JPAPath> joinColumns = associationPath.getLeftColumnsList();
-      return joinColumns.stream()
-          .map(column -> (row.get(association.getAlias() + ALIAS_SEPARATOR + column.getAlias())).toString())
-          .collect(joining(JPAPath.PATH_SEPARATOR));
-    }
+    if (!associationPath.hasJoinTable())
+      return JPAResultKey.reader("", associationPath.getRightColumnsList(), associationPath.getLeftColumnsList());
+    return JPAResultKey.reader(association.getAlias() + ALIAS_SEPARATOR, associationPath.getLeftColumnsList(),
+        associationPath.getLeftColumnsList());
   }
 
   private List<Order> createOrderByJoinCondition(final JPAAssociationPath associationPath)
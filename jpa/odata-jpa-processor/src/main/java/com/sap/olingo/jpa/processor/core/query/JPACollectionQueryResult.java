@@ -20,15 +20,16 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.processor.core.converter.JPACollectionResult;
 import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
 
 public class JPACollectionQueryResult implements JPACollectionResult, JPAConvertibleResult {
-  private static final Map<String, List<Tuple>> EMPTY_RESULT;
+  private static final Map<JPAResultKey, List<Tuple>> EMPTY_RESULT;
 
   private final Map<JPAAssociationPath, JPAExpandResult> childrenResult;
-  private final Map<String, List<Tuple>> jpaResult;
-  private Map<String, List<Object>> collectionResult;
-  private final Map<String, Long> counts;
+  private final Map<JPAResultKey, List<Tuple>> jpaResult;
+  private Map<JPAResultKey, List<Object>> collectionResult;
+  private final Map<JPAResultKey, Long> counts;
   private final JPAEntityType jpaEntityType;
   private final JPAAssociationPath association;
   private final Collection<JPAPath> requestedSelection;
@@ -44,7 +45,7 @@ public class JPACollectionQueryResult implements JPACollectionResult, JPAConvert
    * @see JPATupleChildConverter
    * @return
    */
-  private static Map<String, List<Tuple>> putEmptyResult() {
+  private static Map<JPAResultKey, List<Tuple>> putEmptyResult() {
     EMPTY_RESULT.put(ROOT_RESULT_KEY, Collections.emptyList());
     return EMPTY_RESULT;
   }
@@ -55,7 +56,7 @@ public class JPACollectionQueryResult implements JPACollectionResult, JPAConvert
     this(putEmptyResult(), Collections.emptyMap(), jpaEntityType, association, selectionPath);
   }
 
-  public JPACollectionQueryResult(final Map<String, List<Tuple>> result, final Map<String, Long> counts,
+  public JPACollectionQueryResult(final Map<JPAResultKey, List<Tuple>> result, final Map<JPAResultKey, Long> counts,
       final JPAEntityType jpaEntityType, final JPAAssociationPath association,
       final Collection<JPAPath> selectionPath) {
     super();
@@ -68,10 +69,10 @@ public class JPACollectionQueryResult implements JPACollectionResult, JPAConvert
   }
 
   @Override
-  public Map<String, EntityCollection> asEntityCollection(final JPATupleChildConverter converter)
+  public Map<JPAResultKey, EntityCollection> asEntityCollection(final JPATupleChildConverter converter)
       throws ODataApplicationException {
     this.collectionResult = converter.getCollectionResult(this, requestedSelection);
-    final Map<String, EntityCollection> result = new HashMap<>(1);
+    final Map<JPAResultKey, EntityCollection> result = new HashMap<>(1);
     final EntityCollection collection = new EntityCollection();
     final Entity odataEntity = new Entity();
     final JPAAttribute leaf = (JPAAttribute) association.getPath().get(association.getPath().size() - 1);
@@ -109,12 +110,12 @@ public class JPACollectionQueryResult implements JPACollectionResult, JPAConvert
   }
 
   @Override
-  public Long getCount(final String key) {
+  public Long getCount(final JPAResultKey key) {
     return counts != null ? counts.get(key) : null;
   }
 
   @Override
-  public EntityCollection getEntityCollection(final String key) {
+  public EntityCollection getEntityCollection(final JPAResultKey key) {
     // Not needed yet. Collections with navigation properties not supported
     return new EntityCollection();
   }
@@ -125,17 +126,17 @@ public class JPACollectionQueryResult implements JPACollectionResult, JPAConvert
   }
 
   @Override
-  public List<Object> getPropertyCollection(final String key) {
+  public List<Object> getPropertyCollection(final JPAResultKey key) {
     return collectionResult.containsKey(key) ? collectionResult.get(key) : Collections.emptyList();
   }
 
   @Override
-  public List<Tuple> getResult(final String key) {
+  public List<Tuple> getResult(final JPAResultKey key) {
     return jpaResult.get(key);
   }
 
   @Override
-  public Map<String, List<Tuple>> getResults() {
+  public Map<JPAResultKey, List<Tuple>> getResults() {
     return jpaResult;
   }
 
@@ -5,12 +5,15 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataApplicationException;
 
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPage;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
@@ -22,7 +25,7 @@ public interface JPAConvertibleResult {
    * @return
    * @throws ODataApplicationException
    */
-  Map<String, EntityCollection> asEntityCollection(final JPATupleChildConverter converter)
+  Map<JPAResultKey, EntityCollection> asEntityCollection(final JPATupleChildConverter converter)
       throws ODataApplicationException;
 
   void putChildren(final Map<JPAAssociationPath, JPAExpandResult> childResults) throws ODataApplicationException;
@@ -33,7 +36,7 @@ public interface JPAConvertibleResult {
    * @return
    * @throws ODataApplicationException
    */
-  EntityCollection getEntityCollection(final String key) throws ODataApplicationException;
+  EntityCollection getEntityCollection(final JPAResultKey key) throws ODataApplicationException;
 
   /**
    * Returns a key pair if the query had $top and/or $skip and the key of the entity implements {@link Comparable}.
@@ -49,4 +52,16 @@ public interface JPAConvertibleResult {
 
     return Optional.empty();
   }
+
+  /**
+   * Returns the values of the last entity of the root result in their OData string representation. It is used to
+   * determine where the next page of a key set paging starts.
+   * @param odata
+   * @param paths Properties the result is sorted by
+   * @return Empty list if the result is empty or the values can not be determined
+   * @throws ODataJPAProcessException
+   */
+  default List<String> getLastValues(final OData odata, final List<JPAPath> paths) throws ODataJPAProcessException {
+    return List.of();
+  }
 }
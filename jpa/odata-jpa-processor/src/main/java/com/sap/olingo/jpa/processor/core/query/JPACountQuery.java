@@ -13,4 +13,12 @@ public interface JPACountQuery {
    */
   Long countResults() throws ODataApplicationException;
 
+  /**
+   * @return True if the last count was not read from the database, but estimated or taken from a cache, see
+   * {@link com.sap.olingo.jpa.processor.core.api.JPAODataCountEstimation JPAODataCountEstimation}
+   */
+  default boolean isCountEstimated() {
+    return false;
+  }
+
 }
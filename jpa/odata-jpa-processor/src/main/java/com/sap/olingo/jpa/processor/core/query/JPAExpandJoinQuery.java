@@ -18,7 +18,9 @@ import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
 
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.commons.api.http.HttpStatusCode;
@@ -27,11 +29,16 @@ import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
 
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAElement;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.cb.ProcessorCriteriaBuilder;
+import com.sap.olingo.jpa.processor.cb.ProcessorSubquery;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger.JPARuntimeMeasurement;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
 
 /**
@@ -57,6 +64,7 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandQuery {
 
   private final Optional<JPAKeyBoundary> keyBoundary;
   private JPAQueryCreationResult tupleQuery;
+  private boolean pagingInQuery;
 
   public JPAExpandJoinQuery(final OData odata, final JPAInlineItemInfo item,
       final JPAODataRequestContextAccess requestContext, final Optional<JPAKeyBoundary> keyBoundary)
@@ -82,7 +90,10 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandQuery {
    * the first/least/max row per group in SQL</a>. Often databases offer the option to use <code>ROW_NUMBER</code>
    * together with <code>OVER ... ORDER BY</code> see e.g. <a
    * href="http://www.sqltutorial.org/sql-window-functions/sql-row_number/">SQL ROW_NUMBER</a>.
-   * Unfortunately this is not supported by JPA.
+   * This is not supported by JPA, but by <i>odata-jpa-processor-cb</i>. If the expand is sorted by key only, the
+   * position of a row within its parent is determined by such a row number or, if the processor criteria builder is
+   * not used, by counting the preceding siblings, see {@link #createPagingWhere()}. Otherwise all rows are read and
+   * the requested ones are taken.
    * @return query result
    * @throws ODataApplicationException
    */
@@ -95,9 +106,10 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandQuery {
       try (JPARuntimeMeasurement resultMeasurement = debugger.newMeasurement(tupleQuery, "getResultList")) {
         intermediateResult = tupleQuery.query().getResultList();
       }
-      // Simplest solution for the top/skip problem. Read all and throw away, what is not requested
-      final Map<String, List<Tuple>> result = convertResult(intermediateResult, association, determineSkip(),
-          determineTop());
+      // If the database could not restrict the result, read all and throw away, what is not requested
+      final Map<JPAResultKey, List<Tuple>> result = pagingInQuery
+          ? convertResult(intermediateResult, association, 0, Long.MAX_VALUE)
+          : convertResult(intermediateResult, association, determineSkip(), determineTop());
       return new JPAExpandQueryResult(result, count(), jpaEntity, tupleQuery.selection().joinedRequested());
     } catch (final JPANoSelectionException e) {
       return new JPAExpandQueryResult(emptyMap(), emptyMap(), this.jpaEntity, emptyList());
@@ -178,21 +190,22 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandQuery {
    * @return
    * @throws ODataApplicationException
    */
-  Map<String, List<Tuple>> convertResult(final List<Tuple> intermediateResult, final JPAAssociationPath associationPath,
-      final long skip, final long top) throws ODataApplicationException {
-    String joinKey = "";
+  Map<JPAResultKey, List<Tuple>> convertResult(final List<Tuple> intermediateResult,
+      final JPAAssociationPath associationPath, final long skip, final long top) throws ODataApplicationException {
+    JPAResultKey joinKey = null;
     long skipped = 0;
     long taken = 0;
 
     List<Tuple> subResult = null;
-    final Map<String, List<Tuple>> convertedResult = new HashMap<>();
+    final Map<JPAResultKey, List<Tuple>> convertedResult = new HashMap<>();
+    final JPAResultKey.Reader keyReader;
+    try {
+      keyReader = createKeyReader(associationPath);
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, HttpStatusCode.BAD_REQUEST);
+    }
     for (final Tuple row : intermediateResult) {
-      String actualKey;
-      try {
-        actualKey = buildConcatenatedKey(row, associationPath);
-      } catch (final ODataJPAModelException e) {
-        throw new ODataJPAQueryException(e, HttpStatusCode.BAD_REQUEST);
-      }
+      final JPAResultKey actualKey = keyReader.read(row);
 
       if (!actualKey.equals(joinKey)) {
         subResult = new ArrayList<>();
@@ -211,7 +224,7 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandQuery {
   }
 
   @Override
-  final Map<String, Long> count() throws ODataApplicationException {
+  final Map<JPAResultKey, Long> count() throws ODataApplicationException {
 
     try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "count")) {
       final JPAExpandJoinCountQuery countQuery = new JPAExpandJoinCountQuery(odata, requestContext, jpaEntity,
@@ -231,7 +244,8 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandQuery {
           cq, lastInfo);
       // TODO handle Join Column is ignored
       cq.multiselect(createSelectClause(joinTables, selectionPath.joinedPersistent(), target, groups));
-      final jakarta.persistence.criteria.Expression<Boolean> whereClause = createWhere();
+      final jakarta.persistence.criteria.Expression<Boolean> whereClause = addWhereClause(createWhere(),
+          createPagingWhere());
       if (whereClause != null)
         cq.where(whereClause);
 
@@ -262,6 +276,132 @@ public final class JPAExpandJoinQuery extends JPAAbstractExpandQuery {
     }
   }
 
+  /**
+   * Restricts the result to the requested $skip and $top per parent. The position of a row is given by its row number
+   * within the parent:
+   *
+   * <pre>
+   * {@code
+   * WHERE (t.id) IN (SELECT n.id FROM (SELECT s.id, ROW_NUMBER() OVER(PARTITION BY s.parentId ORDER BY s.id)
+   *     rowNumber FROM Child s) n WHERE n.rowNumber > skip AND n.rowNumber <= skip + top)
+   * }
+   * </pre>
+   *
+   * Window functions are only available with <i>odata-jpa-processor-cb</i>. Otherwise the position is given by the
+   * number of siblings with a smaller key:
+   *
+   * <pre>
+   * {@code
+   * WHERE (SELECT COUNT(s) FROM Child s WHERE s.parentId = t.parentId AND s.id < t.id) < skip + top
+   * }
+   * </pre>
+   *
+   * As the sibling count grows quadratic with the number of children per parent, it is only a fallback. Both are only
+   * possible if the expand is ordered by the key and the siblings are not restricted by a $filter, $search or a
+   * protection.
+   * @return null if the paging can not be done by the database
+   */
+  private Expression<Boolean> createPagingWhere() throws ODataApplicationException {
+
+    try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "createPagingWhere")) {
+      if (!isPagingInQueryPossible())
+        return null;
+      pagingInQuery = true;
+      if (cb instanceof ProcessorCriteriaBuilder)
+        return createRowNumberWhere();
+      return createSiblingCountWhere();
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Expression<Boolean> createRowNumberWhere() throws ODataJPAModelException {
+
+    final long skip = determineSkip();
+    final long top = determineTop();
+    if (skip == 0 && top == Long.MAX_VALUE)
+      return null;
+    final List<JPAPath> keyPath = jpaEntity.getKeyPath();
+    final ProcessorSubquery<?> numbered = (ProcessorSubquery<?>) cq.subquery(Object.class);
+    final Root<?> sibling = numbered.from(jpaEntity.getTypeClass());
+    final List<Selection<?>> numberedSelections = new ArrayList<>(keyPath.size() + 1);
+    final List<Order> keyOrder = new ArrayList<>(keyPath.size());
+    for (final JPAPath key : keyPath) {
+      final Path<?> path = ExpressionUtility.convertToCriteriaPath(sibling, key.getPath());
+      path.alias(key.getAlias());
+      numberedSelections.add(path);
+      keyOrder.add(cb.asc(path));
+    }
+    numberedSelections.add(((ProcessorCriteriaBuilder) cb).rowNumber()
+        .orderBy(keyOrder)
+        .partitionBy(ExpressionUtility.convertToCriteriaPaths(sibling, association.getRightColumnsList()))
+        .alias(ROW_NUMBER_COLUMN_NAME));
+    numbered.multiselect(numberedSelections);
+
+    final ProcessorSubquery<?> page = (ProcessorSubquery<?>) cq.subquery(Object.class);
+    final Root<?> row = page.from(numbered);
+    final List<Selection<?>> pageSelections = new ArrayList<>(keyPath.size());
+    for (final JPAPath key : keyPath)
+      pageSelections.add(row.get(key.getAlias()));
+    page.multiselect(pageSelections);
+    final Expression<? extends Number> rowNumber = row.get(ROW_NUMBER_COLUMN_NAME);
+    final Expression<Boolean> lowerBoundary = skip > 0 ? cb.gt(rowNumber, skip) : null;
+    page.where(top == Long.MAX_VALUE ? lowerBoundary : addWhereClause(lowerBoundary, cb.le(rowNumber, skip + top)));
+    return ((ProcessorCriteriaBuilder) cb).in(ExpressionUtility.convertToCriteriaPaths(target, keyPath),
+        (Subquery<List<Comparable<?>>>) page);
+  }
+
+  private Expression<Boolean> createSiblingCountWhere() throws ODataJPAModelException {
+    final Subquery<Long> position = cq.subquery(Long.class);
+    final Root<?> sibling = position.from(jpaEntity.getTypeClass());
+    Expression<Boolean> siblingCondition = null;
+    for (final JPAPath column : association.getRightColumnsList()) {
+      siblingCondition = addWhereClause(siblingCondition, cb.equal(
+          ExpressionUtility.convertToCriteriaPath(sibling, column.getPath()),
+          ExpressionUtility.convertToCriteriaPath(target, column.getPath())));
+    }
+    position.select(cb.count(sibling));
+    position.where(addWhereClause(siblingCondition, createKeyLessThan(sibling)));
+
+    final long skip = determineSkip();
+    final long top = determineTop();
+    // EclipseLink does not support BETWEEN for sub queries
+    final Expression<Boolean> lowerBoundary = skip > 0 ? cb.ge(position, skip) : null;
+    if (top == Long.MAX_VALUE)
+      return lowerBoundary;
+    return addWhereClause(lowerBoundary, cb.lt(position, skip + top));
+  }
+
+  private boolean isPagingInQueryPossible() throws ODataJPAModelException {
+    return (uriResource.getTopOption() != null || uriResource.getSkipOption() != null)
+        && uriResource.getOrderByOption() == null
+        && uriResource.getFilterOption() == null
+        && uriResource.getSearchOption() == null
+        && !association.hasJoinTable()
+        && jpaEntity.getProtections().isEmpty();
+  }
+
+  /**
+   * Creates the lexicographic comparison of the keys in the sequence used by the order by:<br>
+   * {@code s.k1 < t.k1 OR (s.k1 = t.k1 AND s.k2 < t.k2) OR ...}
+   */
+  @SuppressWarnings("unchecked")
+  private <Y extends Comparable<? super Y>> Expression<Boolean> createKeyLessThan(final From<?, ?> sibling)
+      throws ODataJPAModelException {
+
+    Expression<Boolean> lessThan = null;
+    Expression<Boolean> equalPrefix = null;
+    for (final JPAAttribute keyElement : jpaEntity.getKey()) {
+      final List<JPAElement> keyPath = jpaEntity.getPath(keyElement.getExternalName()).getPath();
+      final Path<Y> siblingKey = (Path<Y>) ExpressionUtility.<Comparable<?>> convertToCriteriaPath(sibling, keyPath);
+      final Path<Y> targetKey = (Path<Y>) ExpressionUtility.<Comparable<?>> convertToCriteriaPath(target, keyPath);
+      lessThan = orWhereClause(lessThan, addWhereClause(equalPrefix, cb.lessThan(siblingKey, targetKey)));
+      equalPrefix = addWhereClause(equalPrefix, cb.equal(siblingKey, targetKey));
+    }
+    return lessThan;
+  }
+
   private jakarta.persistence.criteria.Expression<Boolean> createExpandWhere() throws ODataApplicationException {
 
     jakarta.persistence.criteria.Expression<Boolean> whereCondition = null;
@@ -1,5 +1,6 @@
 package com.sap.olingo.jpa.processor.core.query;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,6 +17,7 @@ import jakarta.persistence.Tuple;
 
 import org.apache.olingo.commons.api.data.EntityCollection;
 import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.uri.queryoption.SelectItem;
 import org.apache.olingo.server.api.uri.queryoption.SelectOption;
@@ -28,6 +30,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelExcept
 import com.sap.olingo.jpa.processor.core.api.JPAODataPage;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
@@ -40,11 +43,11 @@ import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
  *
  */
 public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertibleResult {
-  private static final Map<String, List<Tuple>> EMPTY_RESULT;
+  private static final Map<JPAResultKey, List<Tuple>> EMPTY_RESULT;
   private final Map<JPAAssociationPath, JPAExpandResult> childrenResult;
-  private final Map<String, List<Tuple>> jpaResult;
-  private Map<String, EntityCollection> odataResult;
-  private final Map<String, Long> counts;
+  private final Map<JPAResultKey, List<Tuple>> jpaResult;
+  private Map<JPAResultKey, EntityCollection> odataResult;
+  private final Map<JPAResultKey, Long> counts;
   private final JPAEntityType jpaEntityType;
   private final Collection<JPAPath> requestedSelection;
 
@@ -59,7 +62,7 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
    * @see JPATupleChildConverter
    * @return
    */
-  private static Map<String, List<Tuple>> putEmptyResult() {
+  private static Map<JPAResultKey, List<Tuple>> putEmptyResult() {
     EMPTY_RESULT.put(ROOT_RESULT_KEY, Collections.emptyList());
     return EMPTY_RESULT;
   }
@@ -68,7 +71,7 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
     this(putEmptyResult(), Collections.emptyMap(), jpaEntityType, selectionPath);
   }
 
-  public JPAExpandQueryResult(final Map<String, List<Tuple>> result, final Map<String, Long> counts,
+  public JPAExpandQueryResult(final Map<JPAResultKey, List<Tuple>> result, final Map<JPAResultKey, Long> counts,
       @Nonnull final JPAEntityType jpaEntityType, final Collection<JPAPath> selectionPath) {
 
     Objects.requireNonNull(jpaEntityType);
@@ -80,7 +83,7 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
   }
 
   @Override
-  public Map<String, EntityCollection> asEntityCollection(final JPATupleChildConverter converter)
+  public Map<JPAResultKey, EntityCollection> asEntityCollection(final JPATupleChildConverter converter)
       throws ODataApplicationException {
 
     convert(new JPATupleChildConverter(converter));
@@ -118,7 +121,7 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
    * @see org.apache.org.jpa.processor.core.converter.JPAExpandResult#getCount()
    */
   @Override
-  public Long getCount(final String key) {
+  public Long getCount(final JPAResultKey key) {
     return counts != null ? counts.get(key) : null;
   }
 
@@ -138,7 +141,7 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
 
   public long getNoResultsDeep() {
     long count = 0;
-    for (final Entry<String, List<Tuple>> result : jpaResult.entrySet()) {
+    for (final Entry<JPAResultKey, List<Tuple>> result : jpaResult.entrySet()) {
       count += result.getValue().size();
     }
     return count;
@@ -150,7 +153,7 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
    * @see org.apache.org.jpa.processor.core.converter.JPAExpandResult#getResult(java.lang.String)
    */
   @Override
-  public List<Tuple> getResult(final String key) {
+  public List<Tuple> getResult(final JPAResultKey key) {
     return jpaResult.get(key);
   }
 
@@ -177,7 +180,7 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
   }
 
   @Override
-  public Map<String, List<Tuple>> getResults() {
+  public Map<JPAResultKey, List<Tuple>> getResults() {
     return jpaResult;
   }
 
@@ -187,7 +190,7 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
    * @return
    */
   @Override
-  public EntityCollection getEntityCollection(final String key) {
+  public EntityCollection getEntityCollection(final JPAResultKey key) {
     return odataResult.containsKey(key) ? odataResult.get(key) : new EntityCollection();
   }
 
@@ -215,6 +218,18 @@ public final class JPAExpandQueryResult implements JPAExpandResult, JPAConvertib
     return JPAConvertibleResult.super.getKeyBoundary(requestContext, hops, page);
   }
 
+  @Override
+  public List<String> getLastValues(final OData odata, final List<JPAPath> paths) throws ODataJPAProcessException {
+    final List<Tuple> rootResult = jpaResult.get(ROOT_RESULT_KEY);
+    if (rootResult == null || rootResult.isEmpty())
+      return JPAConvertibleResult.super.getLastValues(odata, paths);
+    final Tuple last = rootResult.get(rootResult.size() - 1);
+    final List<String> lastValues = new ArrayList<>(paths.size());
+    for (final JPAPath path : paths)
+      lastValues.add(ExpressionUtility.convertValueToString(odata, path.getLeaf(), last.get(path.getAlias())));
+    return lastValues;
+  }
+
   private boolean collectionPropertyRequested(final JPAODataRequestContextAccess requestContext)
       throws ODataJPAModelException {
     if (!jpaEntityType.getCollectionAttributesPath().isEmpty()) {
@@ -45,6 +45,7 @@ import com.sap.olingo.jpa.processor.cb.ProcessorCriteriaQuery;
 import com.sap.olingo.jpa.processor.cb.ProcessorSubquery;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger.JPARuntimeMeasurement;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
 
 /**
@@ -68,7 +69,7 @@ public class JPAExpandSubQuery extends JPAAbstractExpandQuery {
     try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "execute")) {
       final JPAQueryCreationResult tupleQuery = createTupleQuery();
       final List<Tuple> intermediateResult = tupleQuery.query().getResultList();
-      final Map<String, List<Tuple>> result = convertResult(intermediateResult);
+      final Map<JPAResultKey, List<Tuple>> result = convertResult(intermediateResult);
       return new JPAExpandQueryResult(result, count(), jpaEntity, tupleQuery.selection().joinedRequested());
     } catch (final JPANoSelectionException e) {
       return new JPAExpandQueryResult(emptyMap(), emptyMap(), this.jpaEntity, emptyList());
@@ -155,7 +156,7 @@ public class JPAExpandSubQuery extends JPAAbstractExpandQuery {
   }
 
   @Override
-  final Map<String, Long> count() throws ODataApplicationException {
+  final Map<JPAResultKey, Long> count() throws ODataApplicationException {
 
     try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "count")) {
       final JPAExpandSubCountQuery countQuery = new JPAExpandSubCountQuery(odata, requestContext, jpaEntity,
@@ -169,24 +170,25 @@ public class JPAExpandSubQuery extends JPAAbstractExpandQuery {
   Subquery<Object> linkSubQueries(final LinkedList<JPAAbstractQuery> hops) throws ODataApplicationException {
     Subquery<Object> subQuery = null;
     while (!hops.isEmpty() && hops.getFirst() instanceof JPAAbstractSubQuery) {
-      final JPAAbstractSubQuery hop = (JPAAbstractSubQuery) hops.pop();
-      subQuery = hop.getSubQuery(subQuery, null, Collections.emptyList());
+      final JPAAbstractSubQuery hop = (JPAAbstractSubQuery) hops.pop();
+      subQuery = hop.getSubQuery(subQuery, null, Collections.emptyList());
     }
     return subQuery;
   }
 
-  private Map<String, List<Tuple>> convertResult(final List<Tuple> intermediateResult)
+  private Map<JPAResultKey, List<Tuple>> convertResult(final List<Tuple> intermediateResult)
       throws ODataApplicationException {
-    String joinKey = "";
+    JPAResultKey joinKey = null;
     List<Tuple> subResult = null;
-    final Map<String, List<Tuple>> convertedResult = new HashMap<>();
+    final Map<JPAResultKey, List<Tuple>> convertedResult = new HashMap<>();
+    final JPAResultKey.Reader keyReader;
+    try {
+      keyReader = createKeyReader(association);
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, BAD_REQUEST);
+    }
     for (final Tuple row : intermediateResult) {
-      String actualKey;
-      try {
-        actualKey = buildConcatenatedKey(row, association);
-      } catch (final ODataJPAModelException e) {
-        throw new ODataJPAQueryException(e, BAD_REQUEST);
-      }
+      final JPAResultKey actualKey = keyReader.read(row);
       if (!actualKey.equals(joinKey)) {
         subResult = new ArrayList<>();
         convertedResult.put(actualKey, subResult);
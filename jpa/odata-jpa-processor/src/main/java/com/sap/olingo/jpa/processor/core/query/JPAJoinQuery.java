@@ -4,12 +4,15 @@ import static com.sap.olingo.jpa.processor.core.converter.JPAExpandResult.ROOT_R
 import static com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException.MessageKeys.QUERY_PREPARATION_ENTITY_UNKNOWN;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.INTERNAL_SERVER_ERROR;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
@@ -19,11 +22,14 @@ import jakarta.persistence.criteria.AbstractQuery;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Selection;
 
 import org.apache.olingo.commons.api.edm.EdmBindingTarget;
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.api.uri.UriInfoResource;
 import org.apache.olingo.server.api.uri.UriResource;
 
@@ -33,11 +39,21 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPACollectionAttribute;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.cb.ProcessorCriteriaBuilder;
+import com.sap.olingo.jpa.processor.core.api.JPAODataCountEstimation;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger.JPARuntimeMeasurement;
+import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
 
 public class JPAJoinQuery extends JPAAbstractJoinQuery implements JPACountQuery {
+  private final List<JPAToOneExpandJoin> toOneExpandJoins = new ArrayList<>();
+  private final Map<JPAAssociationPath, JPAExpandResult> inlineExpandResults = new HashMap<>();
+  private boolean countWithResult;
+  private Optional<Long> inlineCount = Optional.empty();
+  private boolean countEstimated;
 
   private static List<JPANavigationPropertyInfo> determineNavigationInfo(
       final JPAServiceDocument sd, final UriInfoResource uriResource) throws ODataException {
@@ -96,8 +112,100 @@ public class JPAJoinQuery extends JPAAbstractJoinQuery implements JPACountQuery
      * .../Organizations/$count
      * .../Organizations('3')/Roles/$count
      */
+    return countResults(true);
+  }
+
+  /**
+   * Paging providers need the exact number of entities to determine the end of the list, so they get a count query
+   * that ignores the {@link JPAODataCountEstimation}. An estimated count is only used to answer $count.
+   * @return Count query that always reads the number of entities from the database
+   */
+  public JPACountQuery asExactCountQuery() {
+    return () -> countResults(false);
+  }
+
+  private Long countResults(final boolean estimationAllowed) throws ODataApplicationException {
     try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "countResults")) {
       new JPACountWatchDog(entitySet.map(JPAAnnotatable.class::cast)).watch(this.uriResource);
+      countEstimated = false;
+      final Optional<JPAODataCountEstimation> estimation = requestContext.getCountEstimation();
+      if (estimationAllowed && estimation.isPresent() && isCountEstimationPossible(estimation.get()))
+        return countApproximately(estimation.get());
+      return countExactly();
+    }
+  }
+
+  @Override
+  public boolean isCountEstimated() {
+    return countEstimated;
+  }
+
+  /**
+   * An unrestricted count is taken from the statistics of the database. Statistics are table based, so they are not
+   * used for derived types, which may share the table with other types. In case the database provides no statistics,
+   * or the count is restricted by $filter or $search, a cached count is used. Only a count that has been read from
+   * the database is exact.
+   */
+  private Long countApproximately(final JPAODataCountEstimation estimation) throws ODataApplicationException {
+    if (uriResource.getFilterOption() == null && uriResource.getSearchOption() == null
+        && jpaEntity.getBaseType() == null
+        && requestContext.getDatabaseProcessor() != null) {
+      final Optional<Long> estimate = requestContext.getDatabaseProcessor().estimateRowCount(em, jpaEntity);
+      if (estimate.isPresent()) {
+        countEstimated = true;
+        return estimate.get();
+      }
+    }
+    final String key = buildCountCacheKey();
+    final Optional<Long> cachedCount = estimation.getCachedCount(key);
+    if (cachedCount.isPresent()) {
+      countEstimated = true;
+      return cachedCount.get();
+    }
+    final Long count = countExactly();
+    estimation.putCachedCount(key, count);
+    return count;
+  }
+
+  /**
+   * Counts are only estimated for an entity set as such, e.g. .../Organizations/$count, and not for navigations. In
+   * addition the entity type must not be protected and must not have a query extension, as they restrict the count
+   * per request.
+   */
+  private boolean isCountEstimationPossible(final JPAODataCountEstimation estimation)
+      throws ODataApplicationException {
+    try {
+      return navigationInfo.size() == 1
+          && Utility.determineKeyPredicates(uriResource.getUriResourceParts().get(0)).isEmpty()
+          && estimation.isEstimated(Utility.determineBindingTarget(uriResource.getUriResourceParts()).getName())
+          && jpaEntity.getProtections().isEmpty()
+          && requestContext.getQueryEnhancement(jpaEntity).isEmpty();
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  /**
+   * The key contains $filter and $search as given in the request. As $filter may refer to parameter aliases, e.g.
+   * <code>$filter=Name eq @n&@n='A'</code>, the values of the aliases are part of the key as well.
+   */
+  String buildCountCacheKey() {
+    final List<String> options = new ArrayList<>();
+    if (uriResource.getFilterOption() != null)
+      options.add("$filter=" + uriResource.getFilterOption().getText());
+    if (uriResource.getSearchOption() != null)
+      options.add("$search=" + uriResource.getSearchOption().getText());
+    if (uriResource instanceof final UriInfo uriInfo && uriInfo.getAliases() != null)
+      uriInfo.getAliases().stream()
+          .map(alias -> alias.getName() + "=" + alias.getText())
+          .sorted()
+          .forEach(options::add);
+    final String name = Utility.determineBindingTarget(uriResource.getUriResourceParts()).getName();
+    return options.isEmpty() ? name : name + "?" + String.join("&", options);
+  }
+
+  private Long countExactly() throws ODataApplicationException {
+    try {
       final CriteriaQuery<Number> countQuery = cb.createQuery(Number.class);
       createFromClause(Collections.emptyList(), Collections.emptyList(), countQuery, lastInfo);
       final jakarta.persistence.criteria.Expression<Boolean> whereClause = createWhere();
@@ -113,40 +221,162 @@ public class JPAJoinQuery extends JPAAbstractJoinQuery implements JPACountQuery
   @Override
   public JPAConvertibleResult execute() throws ODataApplicationException {
     // Pre-process URI parameter, so they can be used at different places
-    final SelectionPathInfo<JPAPath> selectionPath = buildSelectionPathList(this.uriResource);
+    final SelectionPathInfo<JPAPath> selectionPath = determineSelectionPath();
     try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "execute")) {
-      final List<JPAAssociationPath> orderByNavigationAttributes = extractOrderByNavigationAttributes(uriResource
-          .getOrderByOption());
-      final Map<String, From<?, ?>> joinTables = createFromClause(orderByNavigationAttributes,
-          selectionPath.joinedPersistent(), cq, lastInfo);
-
-      cq.multiselect(createSelectClause(joinTables, selectionPath.joinedPersistent(), target, groups))
-          .distinct(determineDistinct());
-
-      final jakarta.persistence.criteria.Expression<Boolean> whereClause = createWhere();
-      if (whereClause != null)
-        cq.where(whereClause);
-
-      cq.orderBy(createOrderByBuilder().createOrderByList(joinTables, uriResource, page));
-
-      if (!orderByNavigationAttributes.isEmpty())
-        cq.groupBy(createGroupBy(joinTables, root, selectionPath.joinedPersistent()));
-
-      final TypedQuery<Tuple> typedQuery = em.createQuery(cq);
-      addTopSkip(typedQuery);
-
-      final HashMap<String, List<Tuple>> result = new HashMap<>(1);
+      final TypedQuery<Tuple> typedQuery = createTypedQuery(selectionPath);
+      final HashMap<JPAResultKey, List<Tuple>> result = new HashMap<>(1);
       List<Tuple> intermediateResult;
       try (JPARuntimeMeasurement resultMeasurement = debugger.newMeasurement(this, "getResultList")) {
         intermediateResult = typedQuery.getResultList();
       }
+      if (countWithResult && !intermediateResult.isEmpty())
+        inlineCount = Optional.of(((Number) intermediateResult.get(0).get(COUNT_COLUMN_NAME)).longValue());
+      for (final JPAToOneExpandJoin expandJoin : toOneExpandJoins)
+        inlineExpandResults.put(expandJoin.getAssociation(), expandJoin.createResult(intermediateResult));
       result.put(ROOT_RESULT_KEY, intermediateResult);
       return returnResult(selectionPath.joinedRequested(), result);
     } catch (final JPANoSelectionException e) {
+      for (final JPAToOneExpandJoin expandJoin : toOneExpandJoins)
+        inlineExpandResults.put(expandJoin.getAssociation(), expandJoin.createEmptyResult());
+      if (countWithResult)
+        inlineCount = Optional.of(0L);
       return returnEmptyResult(selectionPath.joinedRequested());
     }
   }
 
+  /**
+   * Reads the given to-one $expand items together with the result of this query via a LEFT JOIN, as long as they do
+   * not restrict the expanded entities. Needs to be called before {@link #execute()}. The expand results are provided
+   * by {@link #getInlineExpandResults()}.
+   * @param expandItems Expand items of the first level
+   * @return Expand items read by this query
+   * @throws ODataException
+   */
+  public List<JPAExpandItemInfo> joinToOneExpands(final List<JPAExpandItemInfo> expandItems) throws ODataException {
+    if (!extractOrderByNavigationAttributes(uriResource.getOrderByOption()).isEmpty()
+        || (lastInfo.getAssociationPath() != null
+            && lastInfo.getAssociationPath().getLeaf() instanceof JPACollectionAttribute))
+      return Collections.emptyList();
+    for (final JPAExpandItemInfo item : expandItems) {
+      JPAToOneExpandJoin.create(odata, requestContext, item, jpaEntity, groups).ifPresent(toOneExpandJoins::add);
+    }
+    return toOneExpandJoins.stream()
+        .map(JPAToOneExpandJoin::getItem)
+        .toList();
+  }
+
+  /**
+   * Requests to read the number of entities matching the request together with the page, via the window function
+   * <code>COUNT(*) OVER()</code>. This is only possible with the processor criteria builder and if the page query
+   * neither uses DISTINCT or GROUP BY, nor starts after a key set position, nor reads a collection property. Needs to
+   * be called before {@link #execute()}. The count is provided by {@link #getInlineCount()}.
+   * @return True if the count is read together with the page
+   * @throws ODataApplicationException
+   */
+  public boolean countWithResult() throws ODataApplicationException {
+    countWithResult = cb instanceof ProcessorCriteriaBuilder
+        && !determineDistinct()
+        && !startsAfterKeysetPosition()
+        && extractOrderByNavigationAttributes(uriResource.getOrderByOption()).isEmpty()
+        && !(lastInfo.getAssociationPath() != null
+            && lastInfo.getAssociationPath().getLeaf() instanceof JPACollectionAttribute);
+    if (countWithResult)
+      new JPACountWatchDog(entitySet.map(JPAAnnotatable.class::cast)).watch(this.uriResource);
+    return countWithResult;
+  }
+
+  /**
+   * @return Number of entities matching the request, read together with the page. Empty if not requested via
+   * {@link #countWithResult()} or if the page was empty, as in this case no row carries the count
+   */
+  public Optional<Long> getInlineCount() {
+    return inlineCount;
+  }
+
+  /**
+   * Provides the properties that identify the position of an entity in a result read via key set paging, see
+   * {@link #determineKeysetOrder()}. Their values are only available if they are selected.
+   * @return Empty list if the page has no key set position, or if not all sort properties are selected
+   * @throws ODataApplicationException
+   */
+  public List<JPAPath> getKeysetPaths() throws ODataApplicationException {
+    if (page == null || page.keyset() == null)
+      return Collections.emptyList();
+    final Set<JPAPath> selection = determineSelectionPath().joinedPersistent();
+    final List<JPAPath> paths = determineKeysetOrder().stream()
+        .map(KeysetElement::path)
+        .toList();
+    return selection.containsAll(paths) ? paths : Collections.emptyList();
+  }
+
+  /**
+   * @return Results of the $expand items read together with this query
+   */
+  public Map<JPAAssociationPath, JPAExpandResult> getInlineExpandResults() {
+    return inlineExpandResults;
+  }
+
+  /**
+   * Executes the query like {@link #execute()}, but reads the result via {@link TypedQuery#getResultStream()}. The rows
+   * are not buffered, but converted and serialized one by one. This is only possible for entity collections, which are
+   * not restricted to a collection attribute.
+   * @return
+   * @throws ODataApplicationException
+   */
+  public JPAStreamQueryResult executeStreamed() throws ODataApplicationException {
+    final SelectionPathInfo<JPAPath> selectionPath = determineSelectionPath();
+    try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "executeStreamed")) {
+      final TypedQuery<Tuple> typedQuery = createTypedQuery(selectionPath);
+      return new JPAStreamQueryResult(typedQuery.getResultStream(), determineODataTargetEntityType(requestContext),
+          selectionPath.joinedRequested());
+    } catch (final JPANoSelectionException e) {
+      return new JPAStreamQueryResult(Stream.empty(), jpaEntity, selectionPath.joinedRequested());
+    }
+  }
+
+  private SelectionPathInfo<JPAPath> determineSelectionPath() throws ODataApplicationException {
+    try (JPARuntimeMeasurement measurement = debugger.newMeasurement(this, "determineSelectionPath")) {
+      final Optional<JPAQueryPlanCache> planCache = requestContext.getQueryPlanCache();
+      return planCache.isPresent()
+          ? planCache.get().getSelection(jpaEntity, uriResource, this::buildSelectionPathList)
+          : buildSelectionPathList(uriResource);
+    }
+  }
+
+  private TypedQuery<Tuple> createTypedQuery(final SelectionPathInfo<JPAPath> selectionPath)
+      throws ODataApplicationException, JPANoSelectionException {
+
+    final List<JPAAssociationPath> orderByNavigationAttributes = extractOrderByNavigationAttributes(uriResource
+        .getOrderByOption());
+    final Map<String, From<?, ?>> joinTables = createFromClause(orderByNavigationAttributes,
+        selectionPath.joinedPersistent(), cq, lastInfo);
+
+    final List<Selection<?>> selections = createSelectClause(joinTables, selectionPath.joinedPersistent(), target,
+        groups);
+    for (final JPAToOneExpandJoin expandJoin : toOneExpandJoins) {
+      final JPAAssociationPath association = expandJoin.getAssociation();
+      selections.addAll(expandJoin.createSelectClause(createJoinFromPath(association.getAlias(), association
+          .getPath(), target, JoinType.LEFT)));
+    }
+    if (countWithResult)
+      selections.add(((ProcessorCriteriaBuilder) cb).rowCount().alias(COUNT_COLUMN_NAME));
+    cq.multiselect(selections).distinct(determineDistinct());
+
+    final jakarta.persistence.criteria.Expression<Boolean> whereClause = addWhereClause(createWhere(),
+        createKeysetBoundary());
+    if (whereClause != null)
+      cq.where(whereClause);
+
+    cq.orderBy(createOrderByBuilder().createOrderByList(joinTables, uriResource, page));
+
+    if (!orderByNavigationAttributes.isEmpty())
+      cq.groupBy(createGroupBy(joinTables, root, selectionPath.joinedPersistent()));
+
+    final TypedQuery<Tuple> typedQuery = em.createQuery(cq);
+    addTopSkip(typedQuery);
+    return typedQuery;
+  }
+
   private JPAOrderByBuilder createOrderByBuilder() throws ODataJPAQueryException {
     if (entitySet.isPresent())
       return new JPAOrderByBuilder(entitySet.get(), jpaEntity, target, cb, groups);
@@ -186,7 +416,7 @@ public class JPAJoinQuery extends JPAAbstractJoinQuery implements JPACountQuery
   }
 
   private JPAConvertibleResult returnResult(@Nonnull final Collection<JPAPath> selectionPath,
-      final HashMap<String, List<Tuple>> result) throws ODataApplicationException {
+      final HashMap<JPAResultKey, List<Tuple>> result) throws ODataApplicationException {
     final JPAEntityType odataEntityType = determineODataTargetEntityType(requestContext);
     if (lastInfo.getAssociationPath() != null
         && (lastInfo.getAssociationPath().getLeaf() instanceof JPACollectionAttribute))
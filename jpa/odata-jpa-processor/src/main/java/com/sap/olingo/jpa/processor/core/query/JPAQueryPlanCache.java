@@ -0,0 +1,141 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourcePartTyped;
+import org.apache.olingo.server.api.uri.queryoption.ExpandItem;
+import org.apache.olingo.server.api.uri.queryoption.ExpandOption;
+import org.apache.olingo.server.api.uri.queryoption.LevelsExpandOption;
+import org.apache.olingo.server.api.uri.queryoption.SystemQueryOption;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+
+/**
+ * Bounded cache of query plans, evicting the least recently used plan. A plan contains the parts of a query, that only
+ * depend on the metadata and the shape of the request, but not on key values, filter literals or the user: the
+ * selected, required and transient paths.
+ * <p>
+ * The shape of a request is made of the target entity type, the resource path without key predicates, the text of
+ * $select and the structure of $expand. The structure of $expand contains the expanded paths, $levels and the nested
+ * $select and $expand, but not nested options like $filter, $top or $skip, which do not change the plan. The criteria
+ * query itself can not be cached, as it is bound to the criteria builder of the request. Requests without the text of
+ * a used $select or without a segment value, e.g. built by an application, are not cached.
+ * <p>
+ * The plans refer to the entity types of a service document. So a cache belongs to an EDM provider and is dropped
+ * together with the service metadata, see
+ * {@link com.sap.olingo.jpa.processor.core.api.JPAODataServiceContext#invalidateServiceMetadata()
+ * JPAODataServiceContext#invalidateServiceMetadata()}.
+ */
+public final class JPAQueryPlanCache {
+  static final int DEFAULT_MAX_SIZE = 1000;
+
+  private final Map<PlanKey, SelectionPathInfo<JPAPath>> plans;
+
+  public JPAQueryPlanCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  JPAQueryPlanCache(final int maxSize) {
+    this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<PlanKey, SelectionPathInfo<JPAPath>> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  SelectionPathInfo<JPAPath> getSelection(@Nonnull final JPAEntityType et, @Nonnull final UriInfoResource uriResource,
+      @Nonnull final SelectionBuilder builder) throws ODataApplicationException {
+
+    final Optional<PlanKey> key = createKey(et, uriResource);
+    if (key.isEmpty())
+      return builder.build(uriResource);
+    synchronized (plans) {
+      final SelectionPathInfo<JPAPath> plan = plans.get(key.get());
+      if (plan != null)
+        return plan;
+    }
+    // The plan is built outside of the lock. Concurrent requests may build it twice, in this case the first one is kept
+    final SelectionPathInfo<JPAPath> newPlan = builder.build(uriResource).freeze();
+    synchronized (plans) {
+      final SelectionPathInfo<JPAPath> existing = plans.putIfAbsent(key.get(), newPlan);
+      return existing != null ? existing : newPlan;
+    }
+  }
+
+  int size() {
+    synchronized (plans) {
+      return plans.size();
+    }
+  }
+
+  private Optional<PlanKey> createKey(final JPAEntityType et, final UriInfoResource uriResource) {
+    final StringBuilder shape = new StringBuilder();
+    if (!appendPath(shape, uriResource.getUriResourceParts())
+        || !appendOption(shape.append("?$select="), uriResource.getSelectOption())
+        || !appendExpand(shape.append("&$expand="), uriResource.getExpandOption()))
+      return Optional.empty();
+    return Optional.of(new PlanKey(et, shape.toString()));
+  }
+
+  private boolean appendPath(final StringBuilder shape, final List<UriResource> parts) {
+    for (final UriResource part : parts) {
+      final String segment = part instanceof final UriResourcePartTyped typed ? typed.toString(true) : part
+          .getSegmentValue();
+      if (segment == null)
+        return false;
+      shape.append(part.getKind()).append(':').append(segment).append('/');
+    }
+    return true;
+  }
+
+  private boolean appendExpand(final StringBuilder shape, final ExpandOption expandOption) {
+    if (expandOption != null) {
+      shape.append('(');
+      for (final ExpandItem item : expandOption.getExpandItems()) {
+        if (item.isStar())
+          shape.append('*');
+        else if (item.getResourcePath() == null || !appendPath(shape, item.getResourcePath().getUriResourceParts()))
+          return false;
+        if (item.isRef())
+          shape.append("$ref");
+        final LevelsExpandOption levels = item.getLevelsOption();
+        if (levels != null)
+          shape.append(";$levels=").append(levels.isMax() ? "max" : Integer.toString(levels.getValue()));
+        if (!appendOption(shape.append(";$select="), item.getSelectOption())
+            || !appendExpand(shape.append(";$expand="), item.getExpandOption()))
+          return false;
+        shape.append(',');
+      }
+      shape.append(')');
+    }
+    return true;
+  }
+
+  private boolean appendOption(final StringBuilder shape, final SystemQueryOption option) {
+    if (option != null) {
+      if (option.getText() == null)
+        return false;
+      shape.append(option.getText());
+    }
+    return true;
+  }
+
+  @FunctionalInterface
+  interface SelectionBuilder {
+    SelectionPathInfo<JPAPath> build(final UriInfoResource uriResource) throws ODataApplicationException;
+  }
+
+  private record PlanKey(JPAEntityType et, String shape) {}
+}
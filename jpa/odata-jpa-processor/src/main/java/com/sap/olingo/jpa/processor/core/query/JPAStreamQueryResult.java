@@ -0,0 +1,115 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
+
+import jakarta.persistence.Tuple;
+
+import org.apache.olingo.commons.api.data.EntityIterator;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.ODataApplicationException;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
+import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
+
+/**
+ * Result of a query, which rows are read via a stream. Other than {@link JPAExpandQueryResult} the rows are not
+ * buffered. They are converted one by one, when the serializer requests the next entity. The results of $expand and of
+ * collection properties are still buffered and have to be put as children before the conversion starts.
+ */
+public final class JPAStreamQueryResult implements JPAExpandResult {
+  private final Map<JPAAssociationPath, JPAExpandResult> childrenResult;
+  private final Stream<Tuple> rows;
+  private final JPAEntityType jpaEntityType;
+  private final Collection<JPAPath> requestedSelection;
+
+  public JPAStreamQueryResult(@Nonnull final Stream<Tuple> rows, @Nonnull final JPAEntityType jpaEntityType,
+      final Collection<JPAPath> selectionPath) {
+
+    this.childrenResult = new HashMap<>();
+    this.rows = Objects.requireNonNull(rows);
+    this.jpaEntityType = Objects.requireNonNull(jpaEntityType);
+    this.requestedSelection = selectionPath;
+  }
+
+  /**
+   * Converts the children and provides an iterator that converts the rows while they are read.
+   * @param converter
+   * @return
+   * @throws ODataApplicationException
+   */
+  public EntityIterator asEntityIterator(final JPATupleChildConverter converter) throws ODataApplicationException {
+    final JPATupleChildConverter rootConverter = new JPATupleChildConverter(converter);
+    convert(rootConverter);
+    return rootConverter.getResult(this, rows, requestedSelection);
+  }
+
+  @Override
+  public void convert(final JPATupleChildConverter converter) throws ODataApplicationException {
+    for (final Entry<JPAAssociationPath, JPAExpandResult> childResult : childrenResult.entrySet()) {
+      childResult.getValue().convert(converter);
+    }
+  }
+
+  @Override
+  public JPAExpandResult getChild(final JPAAssociationPath associationPath) {
+    return childrenResult.get(associationPath);
+  }
+
+  @Override
+  public Map<JPAAssociationPath, JPAExpandResult> getChildren() {
+    return childrenResult;
+  }
+
+  @Override
+  public Long getCount(final JPAResultKey key) {
+    return null;
+  }
+
+  @Override
+  public JPAEntityType getEntityType() {
+    return jpaEntityType;
+  }
+
+  /**
+   * The rows of a stream result are not buffered, so no rows can be returned
+   */
+  @Override
+  public List<Tuple> getResult(final JPAResultKey key) {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public Map<JPAResultKey, List<Tuple>> getResults() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public boolean hasCount() {
+    return false;
+  }
+
+  public void putChildren(final Map<JPAAssociationPath, JPAExpandResult> childResults)
+      throws ODataApplicationException {
+
+    for (final JPAAssociationPath child : childResults.keySet()) {
+      if (childrenResult.get(child) != null)
+        throw new ODataJPAQueryException(ODataJPAQueryException.MessageKeys.QUERY_RESULT_EXPAND_ERROR,
+            HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+    childrenResult.putAll(childResults);
+  }
+}
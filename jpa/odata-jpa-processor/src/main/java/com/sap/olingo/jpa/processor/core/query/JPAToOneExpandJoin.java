@@ -0,0 +1,198 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Selection;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriInfoResource;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPADescriptionAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
+import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
+import com.sap.olingo.jpa.processor.core.converter.JPATuple;
+import com.sap.olingo.jpa.processor.core.exception.ODataJPAQueryException;
+
+/**
+ * Reads a to-one $expand together with its parent via a LEFT JOIN. The columns of the expanded entity are added to the
+ * select clause of the parent query using the alias of the association as prefix. After the parent query has been
+ * executed, each row is split up into the parent and the expanded entity, so the result can be converted like the
+ * result of an own expand query.
+ * <p>
+ * Only expands without own query options, that restrict or order the result, are read this way. The join columns of
+ * the expanded entity have to cover its key, so that a parent row matches at most one expanded entity. Expanded
+ * entities that are protected, have a query enhancement or require a description join are read by an own query.
+ */
+final class JPAToOneExpandJoin {
+  private final JPAExpandItemInfo item;
+  private final JPAAssociationPath association;
+  private final SelectionPathInfo<JPAPath> selection;
+  private final List<JPAPath> selectedPath;
+  private final List<JPAPath> rightColumns;
+  private final List<JPAPath> checkedPath;
+  private final String aliasPrefix;
+
+  /**
+   * Checks if the expand item can be read by the query of the parent.
+   * @param odata
+   * @param requestContext
+   * @param item
+   * @param parentType Entity type of the parent query result
+   * @param groups Field groups of the user
+   * @return
+   * @throws ODataException
+   */
+  static Optional<JPAToOneExpandJoin> create(final OData odata, final JPAODataRequestContextAccess requestContext,
+      final JPAExpandItemInfo item, final JPAEntityType parentType, final List<String> groups) throws ODataException {
+
+    if (!isCandidate(requestContext, item, parentType))
+      return Optional.empty();
+    final SelectionPathInfo<JPAPath> selection = new JPAExpandJoinQuery(odata, item, requestContext, Optional.empty())
+        .buildSelectionPathList(item.getUriInfo());
+    for (final JPAPath path : selection.joinedPersistent()) {
+      if (path.getLeaf() instanceof JPADescriptionAttribute)
+        return Optional.empty();
+    }
+    return Optional.of(new JPAToOneExpandJoin(item, selection, groups));
+  }
+
+  private static boolean isCandidate(final JPAODataRequestContextAccess requestContext, final JPAExpandItemInfo item,
+      final JPAEntityType parentType) throws ODataException {
+
+    final JPAAssociationPath association = item.getExpandAssociation();
+    final UriInfoResource uriInfo = item.getUriInfo();
+    return !association.isCollection()
+        && !association.hasJoinTable()
+        && association.getPath().size() == 1
+        && association.getSourceType() == parentType
+        && association.getTargetType() == item.getEntityType()
+        && uriInfo.getFilterOption() == null
+        && uriInfo.getOrderByOption() == null
+        && uriInfo.getTopOption() == null
+        && uriInfo.getSkipOption() == null
+        && uriInfo.getSearchOption() == null
+        && (uriInfo.getCountOption() == null || !uriInfo.getCountOption().getValue())
+        && item.getEntityType().getProtections().isEmpty()
+        && requestContext.getQueryEnhancement(item.getEntityType()).isEmpty()
+        && coversKey(association, item.getEntityType());
+  }
+
+  /**
+   * Checks if the join columns of the expanded entity contain all its key attributes. Unique constraints are not part
+   * of the metadata, so join columns that are not the key lead to an own query.
+   */
+  static boolean coversKey(final JPAAssociationPath association, final JPAEntityType targetType)
+      throws ODataJPAModelException {
+    final Set<JPAAttribute> joinAttributes = association.getRightColumnsList().stream()
+        .map(JPAPath::getLeaf)
+        .collect(Collectors.toSet());
+    return joinAttributes.containsAll(targetType.getKey());
+  }
+
+  /**
+   * The join columns of the expanded entity are needed to find out if a parent has a related entity. In case they are
+   * not part of the field groups of the user, they are selected in addition, but not handed over into the result.
+   */
+  JPAToOneExpandJoin(final JPAExpandItemInfo item, final SelectionPathInfo<JPAPath> selection,
+      final List<String> groups) throws ODataJPAModelException {
+    this.item = item;
+    this.association = item.getExpandAssociation();
+    this.selection = selection;
+    this.selectedPath = selection.joinedPersistent().stream()
+        .filter(path -> path.isPartOfGroups(groups))
+        .toList();
+    this.rightColumns = association.getRightColumnsList();
+    this.checkedPath = rightColumns.stream()
+        .filter(column -> !selectedPath.contains(column))
+        .toList();
+    this.aliasPrefix = association.getAlias() + JPAAbstractJoinQuery.ALIAS_SEPARATOR;
+  }
+
+  JPAExpandItemInfo getItem() {
+    return item;
+  }
+
+  JPAAssociationPath getAssociation() {
+    return association;
+  }
+
+  /**
+   * Creates the selections of the expanded entity.
+   * @param join LEFT JOIN from the parent to the expanded entity
+   */
+  List<Selection<?>> createSelectClause(final From<?, ?> join) {
+    final List<Selection<?>> selections = new ArrayList<>(selectedPath.size() + checkedPath.size());
+    for (final JPAPath jpaPath : selectedPath)
+      selections.add(createSelection(join, jpaPath));
+    for (final JPAPath jpaPath : checkedPath)
+      selections.add(createSelection(join, jpaPath));
+    return selections;
+  }
+
+  /**
+   * Splits the expanded entity from the rows of the parent. The result uses the same key as an expand query: a
+   * {@link JPAResultKey} made of the values of the join columns of the parent.
+   * @param parentRows
+   * @return
+   * @throws ODataApplicationException
+   */
+  JPAExpandQueryResult createResult(final List<Tuple> parentRows) throws ODataApplicationException {
+    try {
+      final JPAResultKey.Reader keyReader = JPAResultKey.reader("", association.getLeftColumnsList(), rightColumns);
+      final Map<JPAResultKey, List<Tuple>> result = new HashMap<>();
+      for (final Tuple parentRow : parentRows) {
+        final JPATuple row = new JPATuple();
+        for (final JPAPath jpaPath : selectedPath)
+          row.addElement(jpaPath.getAlias(), jpaPath.getLeaf().getType(), parentRow.get(aliasPrefix + jpaPath
+              .getAlias()));
+        // Different parents may point to the same entity, which is returned only once per key
+        if (isFound(parentRow))
+          result.computeIfAbsent(keyReader.read(parentRow), key -> new ArrayList<>(List.of(row)));
+      }
+      return new JPAExpandQueryResult(result, Collections.emptyMap(), item.getEntityType(), selection
+          .joinedRequested());
+    } catch (final ODataJPAModelException e) {
+      throw new ODataJPAQueryException(e, HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  JPAExpandQueryResult createEmptyResult() {
+    return new JPAExpandQueryResult(new HashMap<>(), Collections.emptyMap(), item.getEntityType(), selection
+        .joinedRequested());
+  }
+
+  private Selection<?> createSelection(final From<?, ?> join, final JPAPath jpaPath) {
+    final Path<?> path = ExpressionUtility.convertToCriteriaPath(join, jpaPath.getPath());
+    path.alias(aliasPrefix + jpaPath.getAlias());
+    return path;
+  }
+
+  /**
+   * No matching row for a LEFT JOIN results in null for all columns
+   */
+  private boolean isFound(final Tuple parentRow) {
+    for (final JPAPath column : rightColumns) {
+      if (parentRow.get(aliasPrefix + column.getAlias()) == null)
+        return false;
+    }
+    return true;
+  }
+}
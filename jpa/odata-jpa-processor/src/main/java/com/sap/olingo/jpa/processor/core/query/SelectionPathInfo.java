@@ -45,6 +45,19 @@ class SelectionPathInfo<T> {
     this.transientSelections = new HashSet<>();
   }
 
+  /**
+   * Creates a copy that can be shared between requests. The sets of the copy can not be changed and the joined sets
+   * are created up front.
+   */
+  SelectionPathInfo<T> freeze() {
+    final SelectionPathInfo<T> frozen = new SelectionPathInfo<>(Collections.unmodifiableSet(new HashSet<>(
+        odataSelections)), Collections.unmodifiableSet(new HashSet<>(requiredSelections)), Collections
+            .unmodifiableSet(new HashSet<>(transientSelections)));
+    frozen.joinedPersistent = Collections.unmodifiableSet(joinedPersistent());
+    frozen.joinedRequested = Collections.unmodifiableSet(joinedRequested());
+    return frozen;
+  }
+
   Set<T> getODataSelections() {
     return odataSelections;
   }
@@ -5,6 +5,7 @@ import java.net.URISyntaxException;
 import org.apache.olingo.commons.api.data.Annotatable;
 import org.apache.olingo.commons.api.data.ContextURL;
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.EntityIterator;
 import org.apache.olingo.commons.api.edm.EdmBindingTarget;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.edm.EdmType;
@@ -16,6 +17,7 @@ import org.apache.olingo.server.api.serializer.EntityCollectionSerializerOptions
 import org.apache.olingo.server.api.serializer.ODataSerializer;
 import org.apache.olingo.server.api.serializer.SerializerException;
 import org.apache.olingo.server.api.serializer.SerializerResult;
+import org.apache.olingo.server.api.serializer.SerializerStreamResult;
 import org.apache.olingo.server.api.uri.UriHelper;
 import org.apache.olingo.server.api.uri.UriInfo;
 
@@ -23,7 +25,7 @@ import com.sap.olingo.jpa.processor.core.api.JPAODataSessionContextAccess;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPASerializerException;
 import com.sap.olingo.jpa.processor.core.query.Utility;
 
-final class JPASerializeEntityCollection implements JPAOperationSerializer {
+final class JPASerializeEntityCollection implements JPAOperationSerializer, JPAStreamSerializer {
   private final ServiceMetadata serviceMetadata;
   private final UriInfo uriInfo;
   private final UriHelper uriHelper;
@@ -47,6 +49,21 @@ final class JPASerializeEntityCollection implements JPAOperationSerializer {
       throws SerializerException, ODataJPASerializerException {
 
     final EdmBindingTarget targetEdmBindingTarget = Utility.determineBindingTarget(uriInfo.getUriResourceParts());
+    return serializer.entityCollection(this.serviceMetadata, targetEdmBindingTarget.getEntityType(), result,
+        createSerializerOptions(request, targetEdmBindingTarget));
+  }
+
+  @Override
+  public SerializerStreamResult serialize(final ODataRequest request, final EntityIterator result)
+      throws SerializerException, ODataJPASerializerException {
+
+    final EdmBindingTarget targetEdmBindingTarget = Utility.determineBindingTarget(uriInfo.getUriResourceParts());
+    return serializer.entityCollectionStreamed(this.serviceMetadata, targetEdmBindingTarget.getEntityType(), result,
+        createSerializerOptions(request, targetEdmBindingTarget));
+  }
+
+  private EntityCollectionSerializerOptions createSerializerOptions(final ODataRequest request,
+      final EdmBindingTarget targetEdmBindingTarget) throws SerializerException, ODataJPASerializerException {
 
     final String selectList = uriHelper.buildContextURLSelectList(targetEdmBindingTarget.getEntityType(),
         uriInfo.getExpandOption(), uriInfo.getSelectOption());
@@ -63,16 +80,13 @@ final class JPASerializeEntityCollection implements JPAOperationSerializer {
     }
 
     final String id = request.getRawBaseUri() + "/" + targetEdmBindingTarget.getEntityType().getName();
-    final EntityCollectionSerializerOptions opts = EntityCollectionSerializerOptions.with()
+    return EntityCollectionSerializerOptions.with()
         .contextURL(contextUrl)
         .id(id)
         .count(uriInfo.getCountOption())
         .select(uriInfo.getSelectOption())
         .expand(uriInfo.getExpandOption())
         .build();
-
-    return serializer.entityCollection(this.serviceMetadata, targetEdmBindingTarget.getEntityType(), result, opts);
-
   }
 
   @Override
@@ -0,0 +1,59 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JPAODataAllocationAccountTest {
+  private JPAODataAllocationAccount cut;
+
+  @BeforeEach
+  void setup() {
+    cut = new JPAODataAllocationAccount();
+  }
+
+  @Test
+  void testAddSinceCountsAllocationOfCurrentThread() {
+    assumeTrue(JPAODataAllocationAccount.isSupported());
+    final long start = JPAODataAllocationAccount.currentThreadAllocatedBytes();
+    final List<byte[]> buffer = new ArrayList<>();
+    for (int i = 0; i < 10; i++)
+      buffer.add(new byte[10_000]);
+
+    cut.addSince(start);
+    assertEquals(10, buffer.size());
+    assertTrue(cut.getAllocatedBytes() >= 100_000);
+  }
+
+  @Test
+  void testAddSinceIgnoresNotMeasuredStart() {
+    cut.addSince(-1L);
+
+    assertEquals(0, cut.getAllocatedBytes());
+  }
+
+  @Test
+  void testFirstTargetKept() {
+    cut.setTarget(() -> "$batch");
+    cut.setTarget(() -> "Organizations");
+
+    assertEquals("$batch", cut.getTarget().get());
+  }
+
+  @Test
+  void testResetClearsAccount() {
+    cut.setTarget(() -> "Organizations");
+    cut.addSince(JPAODataAllocationAccount.currentThreadAllocatedBytes());
+    cut.reset();
+
+    assertFalse(cut.getTarget().isPresent());
+    assertEquals(0, cut.getAllocatedBytes());
+  }
+}
@@ -6,9 +6,13 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
+import jakarta.persistence.EntityManagerFactory;
+
 import org.apache.olingo.commons.api.edmx.EdmxReference;
 
 import com.sap.olingo.jpa.metadata.api.JPAEdmProvider;
@@ -24,9 +28,19 @@ public class JPAODataContextAccessDouble implements JPAODataSessionContextAccess
   private final String[] packageNames;
   private final JPAODataPagingProvider pagingProvider;
   private final AnnotationProvider annotationProvider;
+  private final JPAODataQueryDirectives directives;
+  private final Optional<EntityManagerFactory> emf;
+  private final Optional<Executor> expandExecutor;
 
   public JPAODataContextAccessDouble(final JPAEdmProvider edmProvider, final DataSource ds,
       final JPAODataPagingProvider provider, final AnnotationProvider annotationProvider, final String... packages) {
+    this(edmProvider, ds, provider, annotationProvider, JPAODataQueryDirectives.DEFAULT, null, null, packages);
+  }
+
+  public JPAODataContextAccessDouble(final JPAEdmProvider edmProvider, final DataSource ds,
+      final JPAODataPagingProvider provider, final AnnotationProvider annotationProvider,
+      final JPAODataQueryDirectives directives, final EntityManagerFactory emf, final Executor expandExecutor,
+      final String... packages) {
     super();
     this.edmProvider = edmProvider;
     this.ds = ds;
@@ -34,6 +48,9 @@ public class JPAODataContextAccessDouble implements JPAODataSessionContextAccess
     this.packageNames = packages;
     this.pagingProvider = provider;
     this.annotationProvider = annotationProvider;
+    this.directives = directives;
+    this.emf = Optional.ofNullable(emf);
+    this.expandExecutor = Optional.ofNullable(expandExecutor);
   }
 
   @Override
@@ -76,4 +93,19 @@ public class JPAODataContextAccessDouble implements JPAODataSessionContextAccess
   public List<AnnotationProvider> getAnnotationProvider() {
     return Collections.singletonList(annotationProvider);
   }
+
+  @Override
+  public JPAODataQueryDirectives getQueryDirectives() {
+    return directives;
+  }
+
+  @Override
+  public Optional<EntityManagerFactory> getEntityManagerFactory() {
+    return emf;
+  }
+
+  @Override
+  public Optional<Executor> getExpandExecutor() {
+    return expandExecutor;
+  }
 }
@@ -0,0 +1,129 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JPAODataInMemoryPagingStateStoreTest {
+  private AtomicLong now;
+  private JPAODataInMemoryPagingStateStore<String> cut;
+
+  @BeforeEach
+  void setup() {
+    now = new AtomicLong(1000L);
+    cut = new JPAODataInMemoryPagingStateStore<>(2, Duration.ofSeconds(10), now::get);
+  }
+
+  @Test
+  void testGetReturnsStoredState() {
+    cut.put("A", "First");
+
+    assertEquals("First", cut.get("A").get());
+    assertEquals(1, cut.getStatistics().hits());
+  }
+
+  @Test
+  void testGetReturnsEmptyForUnknownKey() {
+    assertFalse(cut.get("A").isPresent());
+    assertEquals(1, cut.getStatistics().misses());
+  }
+
+  @Test
+  void testRemoveDeletesState() {
+    cut.put("A", "First");
+    cut.remove("A");
+
+    assertFalse(cut.get("A").isPresent());
+    assertEquals(0, cut.size());
+  }
+
+  @Test
+  void testLeastRecentlyUsedEvicted() {
+    cut.put("A", "First");
+    cut.put("B", "Second");
+    cut.get("A");
+    cut.put("C", "Third");
+
+    assertTrue(cut.get("A").isPresent());
+    assertFalse(cut.get("B").isPresent());
+    assertTrue(cut.get("C").isPresent());
+    assertEquals(1, cut.getStatistics().evictions());
+    assertEquals(2, cut.getStatistics().size());
+  }
+
+  @Test
+  void testReplaceDoesNotEvict() {
+    cut.put("A", "First");
+    cut.put("B", "Second");
+    cut.put("A", "Third");
+
+    assertEquals("Third", cut.get("A").get());
+    assertTrue(cut.get("B").isPresent());
+    assertEquals(0, cut.getStatistics().evictions());
+  }
+
+  @Test
+  void testStateExpiresAfterTimeToLive() {
+    cut.put("A", "First");
+    now.addAndGet(9999L);
+    assertTrue(cut.get("A").isPresent());
+    now.addAndGet(1L);
+
+    assertFalse(cut.get("A").isPresent());
+    assertEquals(1, cut.getStatistics().expirations());
+    assertEquals(0, cut.size());
+  }
+
+  @Test
+  void testStateDoesNotExpireWithoutTimeToLive() {
+    cut = new JPAODataInMemoryPagingStateStore<>(2, null, now::get);
+    cut.put("A", "First");
+    now.set(Long.MAX_VALUE - 1);
+
+    assertTrue(cut.get("A").isPresent());
+  }
+
+  @Test
+  void testThrowsExceptionOnSizeZero() {
+    assertThrows(IllegalArgumentException.class, () -> new JPAODataInMemoryPagingStateStore<>(0, null));
+  }
+
+  @Test
+  void testLargeStoreKeepsSizeLimitInParallel() throws InterruptedException, ExecutionException {
+    final int maxSize = JPAODataInMemoryPagingStateStore.MIN_SEGMENT_SIZE * 4;
+    final JPAODataInMemoryPagingStateStore<Integer> store = new JPAODataInMemoryPagingStateStore<>(maxSize, null);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> results = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        final int offset = thread * 1000;
+        results.add(executor.submit(() -> {
+          for (int i = 0; i < 1000; i++) {
+            store.put(String.valueOf(offset + i), i);
+            store.get(String.valueOf(offset + i));
+          }
+        }));
+      }
+      for (final Future<?> result : results)
+        result.get();
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(maxSize, store.size());
+    assertEquals(4000, store.getStatistics().hits() + store.getStatistics().misses());
+    assertEquals(4000 - maxSize, store.getStatistics().evictions());
+  }
+}
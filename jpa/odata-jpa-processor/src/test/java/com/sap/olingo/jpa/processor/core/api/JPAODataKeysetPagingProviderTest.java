@@ -0,0 +1,230 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.core.uri.parser.Parser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.metadata.api.JPAEdmProvider;
+import com.sap.olingo.jpa.processor.core.query.JPACountQuery;
+import com.sap.olingo.jpa.processor.core.util.TestBase;
+
+class JPAODataKeysetPagingProviderTest extends TestBase {
+  private static final byte[] SECRET = "Test secret".getBytes(StandardCharsets.UTF_8);
+  private JPACountQuery countQuery;
+  private JPAODataKeysetPagingProvider cut;
+  private OData odata;
+  private ServiceMetadata serviceMetadata;
+
+  @BeforeEach
+  void setup() throws ODataException {
+    odata = OData.newInstance();
+    serviceMetadata = odata.createServiceMetadata(new JPAEdmProvider(PUNIT_NAME, emf, null, enumPackages),
+        new ArrayList<>());
+    countQuery = mock(JPACountQuery.class);
+    cut = new JPAODataKeysetPagingProvider(Map.of("Organizations", 5), SECRET);
+  }
+
+  @Test
+  void testFirstPageHasKeysetWithoutLastValues() throws ODataException {
+    final UriInfo info = parse("Organizations", null);
+    final JPAODataPage act = cut.getFirstPage(info, null, countQuery, null);
+
+    assertEquals(0, act.skip());
+    assertEquals(5, act.top());
+    assertNull(act.skipToken());
+    assertNotNull(act.keyset());
+    assertTrue(act.keyset().lastValues().isEmpty());
+    assertEquals(info, act.uriInfo());
+    verifyNoInteractions(countQuery);
+  }
+
+  @Test
+  void testFirstPageRespectsMaxPageSizeHeader() throws ODataException {
+    final JPAODataPage act = cut.getFirstPage(parse("Organizations", null), 3, countQuery, null);
+
+    assertEquals(3, act.top());
+  }
+
+  @Test
+  void testReturnNullIfEntitySetIsUnknown() throws ODataException {
+    assertNull(cut.getFirstPage(parse("Persons", null), null, countQuery, null));
+  }
+
+  @Test
+  void testNextPageStartsAfterLastValues() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", null), 3, countQuery, null);
+
+    final JPAODataPage act = cut.getNextPage(nextSkipToken(first, List.of("5")), odata, serviceMetadata);
+
+    assertEquals(0, act.skip());
+    assertEquals(3, act.top());
+    assertEquals(3, act.keyset().skip());
+    assertEquals(List.of("5"), act.keyset().lastValues());
+    assertEquals("Organizations", act.uriInfo().getUriResourceParts().get(0).getSegmentValue());
+  }
+
+  @Test
+  void testNextPageRestoresRequest() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", "$filter=Name1 eq @n&@n='Fifth Org.'"
+        + "&$select=ID,Name1&$count=true&$expand=Roles&$orderby=ID desc"), null, countQuery, null);
+
+    final UriInfo act = cut.getNextPage(nextSkipToken(first, List.of("5")), odata, serviceMetadata).uriInfo();
+
+    assertEquals("Name1 eq @n", act.getFilterOption().getText());
+    assertEquals("'Fifth Org.'", act.getAliases().get(0).getText());
+    assertEquals("ID,Name1", act.getSelectOption().getText());
+    assertTrue(act.getCountOption().getValue());
+    assertEquals("Roles", act.getExpandOption().getText());
+    assertEquals("ID desc", act.getOrderByOption().getText());
+  }
+
+  @Test
+  void testNextPageRestoresNavigation() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations('3')/Roles", null), null, countQuery, null);
+
+    final JPAODataPage act = cut.getNextPage(nextSkipToken(first, List.of()), odata, serviceMetadata);
+
+    assertEquals(5, act.skip());
+    assertEquals(2, act.uriInfo().getUriResourceParts().size());
+    assertEquals("Roles", act.uriInfo().getUriResourceParts().get(1).getSegmentValue());
+  }
+
+  @Test
+  void testNextPageStartsAfterLastValuesIfOrderByNotNullable() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", "$orderby=Type desc"), null, countQuery,
+        null);
+
+    final JPAODataPage act = cut.getNextPage(nextSkipToken(first, List.of("2", "5")), odata, serviceMetadata);
+
+    assertEquals(0, act.skip());
+    assertEquals(List.of("2", "5"), act.keyset().lastValues());
+  }
+
+  @Test
+  void testNextPageUsesSkipIfOrderByNullable() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", "$orderby=Name1"), null, countQuery, null);
+
+    final JPAODataPage act = cut.getNextPage(nextSkipToken(first, List.of("Hugo", "5")), odata, serviceMetadata);
+
+    assertEquals(5, act.skip());
+    assertEquals(5, act.top());
+    assertTrue(act.keyset().lastValues().isEmpty());
+  }
+
+  @Test
+  void testNextPageUsesSkipIfOrderByNotSelected() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", "$orderby=Type&$select=Name1"), null,
+        countQuery, null);
+
+    final JPAODataPage act = cut.getNextPage(nextSkipToken(first, List.of("5")), odata, serviceMetadata);
+
+    assertEquals(5, act.skip());
+    assertTrue(act.keyset().lastValues().isEmpty());
+  }
+
+  @Test
+  void testFirstPageRespectsSkipOfUriIfKeysetUsed() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", "$skip=2"), null, countQuery, null);
+    assertEquals(2, first.skip());
+    assertEquals(5, first.top());
+
+    final JPAODataPage act = cut.getNextPage(nextSkipToken(first, List.of("7")), odata, serviceMetadata);
+    assertEquals(0, act.skip());
+    assertEquals(7, act.keyset().skip());
+    assertEquals(List.of("7"), act.keyset().lastValues());
+  }
+
+  @Test
+  void testRespectTopSkipOfUri() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", "$skip=2&$top=7"), null, countQuery, null);
+    assertEquals(2, first.skip());
+    assertEquals(5, first.top());
+    assertNotNull(first.keyset());
+
+    final JPAODataPage act = cut.getNextPage(nextSkipToken(first, List.of()), odata, serviceMetadata);
+    assertEquals(7, act.skip());
+    assertEquals(2, act.top());
+    assertNull(act.keyset());
+  }
+
+  @Test
+  void testSkipTokenAcceptedByProviderWithSameSecret() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", null), null, countQuery, null);
+    final JPAODataKeysetPagingProvider other = new JPAODataKeysetPagingProvider(Map.of("Organizations", 5), SECRET);
+
+    assertNotNull(other.getNextPage(nextSkipToken(first, List.of("5")), odata, serviceMetadata));
+  }
+
+  @Test
+  void testReturnNullIfSecretDiffers() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", null), null, countQuery, null);
+    final JPAODataKeysetPagingProvider other = new JPAODataKeysetPagingProvider(Map.of("Organizations", 5));
+
+    assertNull(other.getNextPage(nextSkipToken(first, List.of("5")), odata, serviceMetadata));
+  }
+
+  @Test
+  void testReturnNullIfSkipTokenModified() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", null), null, countQuery, null);
+    final String skipToken = nextSkipToken(first, List.of("5"));
+    final String unsigned = skipToken.substring(0, skipToken.lastIndexOf('.'));
+    final String modifiedPosition = new JPAODataKeyset(first.keyset().queryId(), 50, List.of("5")).asSkipToken()
+        + skipToken.substring(skipToken.lastIndexOf('.'));
+
+    assertNull(cut.getNextPage(unsigned, odata, serviceMetadata));
+    assertNull(cut.getNextPage(modifiedPosition, odata, serviceMetadata));
+    assertNull(cut.getNextPage(unsigned + ".", odata, serviceMetadata));
+    assertNull(cut.getNextPage(unsigned + ".*", odata, serviceMetadata));
+  }
+
+  @Test
+  void testReturnNullOnUnknownSkipToken() {
+    assertNull(cut.getNextPage("'Hugo'", odata, serviceMetadata));
+    assertNull(cut.getNextPage(new JPAODataKeyset("123", 5, List.of()).asSkipToken(), odata, serviceMetadata));
+  }
+
+  @Test
+  void testReturnNullWithoutMetadata() throws ODataException {
+    final JPAODataPage first = cut.getFirstPage(parse("Organizations", null), null, countQuery, null);
+
+    assertNull(cut.getNextPage(nextSkipToken(first, List.of("5"))));
+  }
+
+  @Test
+  void testSkipTokenRoundTrip() {
+    final JPAODataKeyset keyset = new JPAODataKeyset("abc", 10, List.of("a.b'c", "ÄÖÜ", ""));
+
+    assertEquals(keyset, JPAODataKeyset.fromSkipToken("'" + keyset.asSkipToken() + "'").get());
+  }
+
+  @Test
+  void testSkipTokenNotCreatedFromKeyset() {
+    assertTrue(JPAODataKeyset.fromSkipToken("xyz").isEmpty());
+    assertTrue(JPAODataKeyset.fromSkipToken("xyz.-1").isEmpty());
+    assertTrue(JPAODataKeyset.fromSkipToken("xyz.1.*").isEmpty());
+  }
+
+  private UriInfo parse(final String path, final String query) throws ODataException {
+    return new Parser(serviceMetadata.getEdm(), odata).parseUri(path, query, null, null);
+  }
+
+  private String nextSkipToken(final JPAODataPage page, final List<String> lastValues) {
+    return "'" + page.keyset().next(page.top(), lastValues).asSkipToken() + "'";
+  }
+}
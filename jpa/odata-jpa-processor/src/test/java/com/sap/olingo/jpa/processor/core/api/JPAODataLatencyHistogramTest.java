@@ -0,0 +1,72 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JPAODataLatencyHistogramTest {
+  private JPAODataLatencyHistogram cut;
+
+  @BeforeEach
+  void setup() {
+    cut = new JPAODataLatencyHistogram();
+  }
+
+  @Test
+  void testEmptySnapshot() {
+    final JPAODataLatencyHistogram.Snapshot act = cut.snapshot();
+
+    assertEquals(0, act.count());
+    assertEquals(0.0, act.mean());
+    assertEquals(0, act.max());
+    assertEquals(0, act.p99());
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = { 0L, 1L, 15L, 16L, 17L, 1000L, 123_456_789L, Long.MAX_VALUE })
+  void testValueWithinBucket(final long value) {
+    final int bucket = JPAODataLatencyHistogram.bucketOf(value);
+
+    assertTrue(JPAODataLatencyHistogram.highestValueOf(bucket) >= value);
+    if (bucket > 0)
+      assertTrue(JPAODataLatencyHistogram.highestValueOf(bucket - 1) < value);
+  }
+
+  @Test
+  void testBucketWidthLimited() {
+    final long value = 1_000_000L;
+    final long highest = JPAODataLatencyHistogram.highestValueOf(JPAODataLatencyHistogram.bucketOf(value));
+
+    assertTrue(highest - value <= value / 16);
+  }
+
+  @Test
+  void testPercentiles() {
+    for (long i = 1; i <= 100; i++)
+      cut.record(i * 1000);
+
+    final JPAODataLatencyHistogram.Snapshot act = cut.snapshot();
+    assertEquals(100, act.count());
+    assertEquals(50_500.0, act.mean());
+    assertEquals(100_000, act.max());
+    assertBetween(50_000, act.p50());
+    assertBetween(90_000, act.p90());
+    assertBetween(99_000, act.p99());
+  }
+
+  @Test
+  void testNegativeValueCountedAsZero() {
+    cut.record(-5);
+
+    assertEquals(1, cut.snapshot().count());
+    assertEquals(0, cut.snapshot().max());
+  }
+
+  private void assertBetween(final long expected, final long actual) {
+    assertTrue(actual >= expected && actual <= expected + expected / 16, () -> "Unexpected value " + actual);
+  }
+}
@@ -0,0 +1,67 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JPAODataLatencyMetricsTest {
+  private JPAODataLatencyMetrics cut;
+
+  @BeforeEach
+  void setup() {
+    cut = new JPAODataLatencyMetrics();
+  }
+
+  @Test
+  void testRecordPerEntitySetAndPhase() {
+    cut.record("Persons", "execute", 1000L);
+    cut.record("Persons", "execute", 3000L);
+    cut.record("Persons", "serialize", 500L);
+    cut.record("Organizations", "execute", 2000L);
+
+    final Map<String, Map<String, JPAODataLatencyHistogram.Snapshot>> act = cut.snapshot();
+    assertEquals(List.of("Organizations", "Persons"), List.copyOf(act.keySet()));
+    assertEquals(List.of("execute", "serialize"), List.copyOf(act.get("Persons").keySet()));
+    assertEquals(2, act.get("Persons").get("execute").count());
+    assertEquals(3000L, act.get("Persons").get("execute").max());
+    assertEquals(1, act.get("Organizations").get("execute").count());
+  }
+
+  @Test
+  void testRecordAllocationPerEntitySetAndPhase() {
+    cut.recordAllocation("Persons", "convertResult", 2048L);
+    cut.recordAllocation("Persons", "convertResult", 4096L);
+
+    final Map<String, Map<String, JPAODataLatencyHistogram.Snapshot>> act = cut.allocationSnapshot();
+    assertEquals(2, act.get("Persons").get("convertResult").count());
+    assertEquals(4096L, act.get("Persons").get("convertResult").max());
+    assertTrue(cut.snapshot().isEmpty());
+  }
+
+  @Test
+  void testRecordRequestAllocationPerShape() {
+    cut.recordRequestAllocation("Persons?$expand", 10_000L);
+    cut.recordRequestAllocation("Persons", 1_000L);
+
+    final Map<String, JPAODataLatencyHistogram.Snapshot> act = cut.requestAllocationSnapshot();
+    assertEquals(List.of("Persons", "Persons?$expand"), List.copyOf(act.keySet()));
+    assertEquals(10_000L, act.get("Persons?$expand").max());
+  }
+
+  @Test
+  void testResetRemovesFigures() {
+    cut.record("Persons", "execute", 1000L);
+    cut.recordAllocation("Persons", "execute", 1000L);
+    cut.recordRequestAllocation("Persons", 1000L);
+    cut.reset();
+
+    assertTrue(cut.snapshot().isEmpty());
+    assertTrue(cut.allocationSnapshot().isEmpty());
+    assertTrue(cut.requestAllocationSnapshot().isEmpty());
+  }
+}
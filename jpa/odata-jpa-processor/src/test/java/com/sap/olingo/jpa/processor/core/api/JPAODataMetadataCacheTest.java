@@ -0,0 +1,142 @@
+package com.sap.olingo.jpa.processor.core.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.commons.api.format.ContentType;
+import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.commons.api.http.HttpMethod;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataRequest;
+import org.apache.olingo.server.api.ODataResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.metadata.api.JPAEdmProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetadataCache.Document;
+import com.sap.olingo.jpa.processor.core.util.TestBase;
+import com.sap.olingo.jpa.processor.core.util.matcher.InputStreamMatcher;
+
+class JPAODataMetadataCacheTest extends TestBase {
+  private JPAODataMetadataCache cut;
+  private OData odata;
+  private ODataRequest request;
+  private ODataResponse response;
+
+  @BeforeEach
+  void setup() throws ODataException {
+    odata = OData.newInstance();
+    final JPAEdmProvider edmProvider = new JPAEdmProvider(PUNIT_NAME, emf, null, enumPackages);
+    cut = new JPAODataMetadataCache(odata.createServiceMetadata(edmProvider, new ArrayList<>()));
+    request = mock(ODataRequest.class);
+    response = mock(ODataResponse.class);
+    when(request.getMethod()).thenReturn(HttpMethod.GET);
+  }
+
+  @Test
+  void checkMetadataDocumentSerializedOnce() throws ODataException {
+    final Document act = cut.getMetadataDocument(odata, ContentType.APPLICATION_XML);
+    assertSame(act, cut.getMetadataDocument(odata, ContentType.APPLICATION_XML));
+  }
+
+  @Test
+  void checkServiceDocumentPerContentType() throws ODataException {
+    final Document xml = cut.getServiceDocument(odata, ContentType.APPLICATION_XML, null);
+    final Document json = cut.getServiceDocument(odata, ContentType.APPLICATION_JSON, null);
+    assertNotEquals(xml.getETag(), json.getETag());
+  }
+
+  @Test
+  void checkETagIsStrong() throws ODataException {
+    final String act = cut.getMetadataDocument(odata, ContentType.APPLICATION_XML).getETag();
+    assertTrue(act.startsWith("\""));
+    assertTrue(act.endsWith("\""));
+  }
+
+  @Test
+  void checkServiceDocumentPerUri() throws ODataException {
+    final Document relative = cut.getServiceDocument(odata, ContentType.APPLICATION_JSON, null);
+    final Document absolute = cut.getServiceDocument(odata, ContentType.APPLICATION_JSON, "http://localhost:8080/test");
+    assertSame(relative, cut.getServiceDocument(odata, ContentType.APPLICATION_JSON, null));
+    assertNotEquals(relative.getETag(), absolute.getETag());
+  }
+
+  @Test
+  void checkServiceDocumentWithUriNotCached() throws ODataException {
+    final String uri = "http://localhost:8080/test";
+    final Document first = cut.getServiceDocument(odata, ContentType.APPLICATION_JSON, uri);
+    final Document second = cut.getServiceDocument(odata, ContentType.APPLICATION_JSON, uri);
+    assertNotSame(first, second);
+    assertEquals(first.getETag(), second.getETag());
+  }
+
+  @Test
+  void checkMetadataDocumentIgnoresIrrelevantParameter() throws ODataException {
+    final Document act = cut.getMetadataDocument(odata, ContentType.APPLICATION_XML);
+    assertSame(act, cut.getMetadataDocument(odata, ContentType.create(ContentType.APPLICATION_XML, "foo", "bar")));
+  }
+
+  @Test
+  void checkWriteDocumentProvidesContentAndETag() throws ODataException {
+    final Document document = cut.getMetadataDocument(odata, ContentType.APPLICATION_XML);
+    JPAODataMetadataCache.writeDocument(odata, request, response, document, ContentType.APPLICATION_XML);
+
+    verify(response).setStatusCode(HttpStatusCode.OK.getStatusCode());
+    verify(response).setHeader(HttpHeader.ETAG, document.getETag());
+    verify(response).setContent(argThat(new InputStreamMatcher("<edmx:Edmx")));
+  }
+
+  @Test
+  void checkWriteDocumentReturnsNotModifiedOnMatchingETag() throws ODataException {
+    final Document document = cut.getMetadataDocument(odata, ContentType.APPLICATION_XML);
+    when(request.getHeaders(HttpHeader.IF_NONE_MATCH)).thenReturn(List.of(document.getETag()));
+    JPAODataMetadataCache.writeDocument(odata, request, response, document, ContentType.APPLICATION_XML);
+
+    verify(response).setStatusCode(HttpStatusCode.NOT_MODIFIED.getStatusCode());
+    verify(response, never()).setContent(any());
+  }
+
+  @Test
+  void checkWriteDocumentProvidesContentOnOtherETag() throws ODataException {
+    final Document document = cut.getMetadataDocument(odata, ContentType.APPLICATION_XML);
+    when(request.getHeaders(HttpHeader.IF_NONE_MATCH)).thenReturn(Collections.singletonList("\"0\""));
+    JPAODataMetadataCache.writeDocument(odata, request, response, document, ContentType.APPLICATION_XML);
+
+    verify(response).setStatusCode(HttpStatusCode.OK.getStatusCode());
+  }
+
+  @Test
+  void checkWriteDocumentWithoutContentOnHead() throws ODataException {
+    final Document document = cut.getMetadataDocument(odata, ContentType.APPLICATION_XML);
+    when(request.getMethod()).thenReturn(HttpMethod.HEAD);
+    JPAODataMetadataCache.writeDocument(odata, request, response, document, ContentType.APPLICATION_XML);
+
+    verify(response).setStatusCode(HttpStatusCode.OK.getStatusCode());
+    verify(response, never()).setContent(any());
+  }
+
+  @Test
+  void checkMetadataProcessorUsesCache() throws ODataException {
+    final JPAODataMetadataProcessor processor = new JPAODataMetadataProcessor(cut);
+    processor.init(odata, cut.getServiceMetadata());
+    processor.readMetadata(request, response, null, ContentType.APPLICATION_XML);
+
+    verify(response).setHeader(HttpHeader.ETAG, cut.getMetadataDocument(odata, ContentType.APPLICATION_XML)
+        .getETag());
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -16,8 +17,10 @@ import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.apache.olingo.commons.api.ex.ODataException;
+import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataHttpHandler;
+import org.apache.olingo.server.api.ServiceMetadata;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -144,6 +147,63 @@ class JPAODataRequestHandlerTest extends TestBase {
     verify(handler, times(1)).process(argThat(new HttpRequestMatcher()), any());
   }
 
+  @Test
+  void testServiceMetadataCreatedOncePerEdmProvider() throws ODataException {
+    final OData odata = mock(OData.class);
+    final ODataHttpHandler handler = mock(ODataHttpHandler.class);
+    final ServiceMetadata serviceMetadata = mock(ServiceMetadata.class);
+    when(odata.createHandler(any())).thenReturn(handler);
+    when(odata.createServiceMetadata(any(), any())).thenReturn(serviceMetadata);
+    final JPAODataSessionContextAccess context = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .build();
+    new JPAODataRequestHandler(context, odata).process(request, response);
+    new JPAODataRequestHandler(context, odata).process(request, response);
+
+    verify(odata, times(1)).createServiceMetadata(any(), any());
+    verify(odata, times(2)).createHandler(serviceMetadata);
+  }
+
+  @Test
+  void testServiceMetadataCreatedAgainAfterInvalidation() throws ODataException {
+    final OData odata = mock(OData.class);
+    final ODataHttpHandler handler = mock(ODataHttpHandler.class);
+    when(odata.createHandler(any())).thenReturn(handler);
+    when(odata.createServiceMetadata(any(), any())).thenReturn(mock(ServiceMetadata.class));
+    final JPAODataServiceContext context = (JPAODataServiceContext) JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .build();
+    new JPAODataRequestHandler(context, odata).process(request, response);
+    context.invalidateServiceMetadata();
+    new JPAODataRequestHandler(context, odata).process(request, response);
+
+    verify(odata, times(2)).createServiceMetadata(any(), any());
+  }
+
+  @Test
+  void testMetadataRequestWithMatchingETagReturnsNotModified() throws ODataException, IOException {
+    final String url = "http://localhost:8080/Test/Olingo.svc/$metadata?$format=xml";
+    final JPAODataSessionContextAccess context = JPAODataServiceContext.with()
+        .setDataSource(dataSource)
+        .setPUnit(PUNIT_NAME)
+        .setTypePackage(enumPackages)
+        .build();
+    request = IntegrationTestHelper.getRequestMock(url);
+    new JPAODataRequestHandler(context).process(request, response);
+    assertEquals(200, getStatus());
+    final ArgumentCaptor<String> eTag = ArgumentCaptor.forClass(String.class);
+    verify(response).addHeader(eq(HttpHeader.ETAG), eTag.capture());
+
+    createHeaders();
+    addHeader(HttpHeader.IF_NONE_MATCH, eTag.getValue());
+    request = IntegrationTestHelper.getRequestMock(url, new StringBuilder(), headers);
+    response = IntegrationTestHelper.getResponseMock();
+    new JPAODataRequestHandler(context).process(request, response);
+    assertEquals(304, getStatus());
+  }
+
   public static class HttpRequestMatcher implements ArgumentMatcher<javax.servlet.http.HttpServletRequest> {
     @Override
     public boolean matches(final javax.servlet.http.HttpServletRequest argument) {
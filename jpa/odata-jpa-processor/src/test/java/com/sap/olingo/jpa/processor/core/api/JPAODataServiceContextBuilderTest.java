@@ -3,6 +3,8 @@ package com.sap.olingo.jpa.processor.core.api;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -39,9 +41,11 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.IntermediateNavigat
 import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.IntermediatePropertyAccess;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.extension.IntermediateReferenceList;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.impl.JPADefaultEdmNameBuilder;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives.CountStrategy;
 import com.sap.olingo.jpa.processor.core.api.example.JPAExamplePagingProvider;
 import com.sap.olingo.jpa.processor.core.database.JPADefaultDatabaseProcessor;
 import com.sap.olingo.jpa.processor.core.database.JPAODataDatabaseOperations;
+import com.sap.olingo.jpa.processor.core.query.JPAQueryPlanCache;
 import com.sap.olingo.jpa.processor.core.testmodel.DataSourceHelper;
 
 class JPAODataServiceContextBuilderTest {
@@ -304,6 +308,61 @@ class JPAODataServiceContextBuilderTest {
     assertFalse(cut.useAbsoluteContextURL());
   }
 
+  @Test
+  void checkReturnsDefaultQueryDirectivesIfNotProvided() throws ODataException {
+
+    cut = JPAODataServiceContext.with()
+        .setDataSource(ds)
+        .setPUnit(PUNIT_NAME)
+        .build();
+
+    assertEquals(JPAODataQueryDirectives.DEFAULT, cut.getQueryDirectives());
+  }
+
+  @Test
+  void checkReturnsQueryDirectivesWithStreaming() throws ODataException {
+
+    cut = JPAODataServiceContext.with()
+        .setDataSource(ds)
+        .setPUnit(PUNIT_NAME)
+        .useQueryDirectives()
+        .useStreaming(true)
+        .build()
+        .build();
+
+    assertTrue(cut.getQueryDirectives().useStreaming());
+  }
+
+  @Test
+  void checkReturnsQueryDirectivesWithJoinForToOneExpand() throws ODataException {
+
+    cut = JPAODataServiceContext.with()
+        .setDataSource(ds)
+        .setPUnit(PUNIT_NAME)
+        .useQueryDirectives()
+        .useJoinForToOneExpand(true)
+        .build()
+        .build();
+
+    assertTrue(cut.getQueryDirectives().useJoinForToOneExpand());
+    assertFalse(cut.getQueryDirectives().useStreaming());
+  }
+
+  @Test
+  void checkReturnsQueryDirectivesWithCountStrategy() throws ODataException {
+
+    cut = JPAODataServiceContext.with()
+        .setDataSource(ds)
+        .setPUnit(PUNIT_NAME)
+        .useQueryDirectives()
+        .useCountStrategy(CountStrategy.WINDOW_FUNCTION)
+        .build()
+        .build();
+
+    assertEquals(CountStrategy.WINDOW_FUNCTION, cut.getQueryDirectives().countStrategy());
+    assertEquals(CountStrategy.SEPARATE_QUERY, JPAODataQueryDirectives.DEFAULT.countStrategy());
+  }
+
   @Test
   void checkReturnsEmptyAnnotationProviderList() throws ODataException {
 
@@ -334,6 +393,33 @@ class JPAODataServiceContextBuilderTest {
     assertTrue(cut.getAnnotationProvider().contains(provider2));
   }
 
+  @Test
+  void checkQueryPlanCachePerEdmProvider() throws ODataException {
+    final JPAEdmProvider provider1 = mock(JPAEdmProvider.class);
+    final JPAEdmProvider provider2 = mock(JPAEdmProvider.class);
+    cut = JPAODataServiceContext.with()
+        .setDataSource(ds)
+        .setPUnit(PUNIT_NAME)
+        .build();
+
+    final JPAQueryPlanCache act = cut.getQueryPlanCache(provider1).get();
+    assertSame(act, cut.getQueryPlanCache(provider1).get());
+    assertNotSame(act, cut.getQueryPlanCache(provider2).get());
+  }
+
+  @Test
+  void checkQueryPlanCacheDroppedOnInvalidateServiceMetadata() throws ODataException {
+    final JPAEdmProvider provider = mock(JPAEdmProvider.class);
+    cut = JPAODataServiceContext.with()
+        .setDataSource(ds)
+        .setPUnit(PUNIT_NAME)
+        .build();
+
+    final JPAQueryPlanCache act = cut.getQueryPlanCache(provider).get();
+    ((JPAODataServiceContext) cut).invalidateServiceMetadata();
+    assertNotSame(act, cut.getQueryPlanCache(provider).get());
+  }
+
   private class TestEdmPostProcessor implements JPAEdmMetadataPostProcessor {
 
     @Override
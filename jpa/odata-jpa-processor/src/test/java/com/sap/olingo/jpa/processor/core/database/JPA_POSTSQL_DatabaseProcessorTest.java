@@ -2,7 +2,12 @@ package com.sap.olingo.jpa.processor.core.database;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -40,4 +45,27 @@ class JPA_POSTSQL_DatabaseProcessorTest extends JPA_XXX_DatabaseProcessorTest {
     assertEquals(HttpStatusCode.NOT_IMPLEMENTED.getStatusCode(), act.getStatusCode());
 
   }
+
+  @Test
+  void testEstimateRowCountFromStatistics() throws ODataApplicationException {
+    final JPAEntityType entityType = mock(JPAEntityType.class);
+    when(entityType.getTableName()).thenReturn("\"OLINGO\".\"BusinessPartner\"");
+    when(em.createNativeQuery("SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(?1)"))
+        .thenReturn(functionQuery);
+    when(functionQuery.getResultList()).thenReturn(List.of(123456789L));
+
+    assertEquals(123456789L, cut.estimateRowCount(em, entityType).get());
+    verify(functionQuery).setParameter(1, "\"OLINGO\".\"BusinessPartner\"");
+  }
+
+  @Test
+  void testEstimateRowCountEmptyIfTableNeverAnalyzed() throws ODataApplicationException {
+    final JPAEntityType entityType = mock(JPAEntityType.class);
+    when(entityType.getTableName()).thenReturn("\"OLINGO\".\"BusinessPartner\"");
+    when(em.createNativeQuery("SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(?1)"))
+        .thenReturn(functionQuery);
+    when(functionQuery.getResultList()).thenReturn(List.of(-1L));
+
+    assertTrue(cut.estimateRowCount(em, entityType).isEmpty());
+  }
 }
@@ -27,6 +27,7 @@ import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAODataSessionContextAccess;
 import com.sap.olingo.jpa.processor.core.converter.JPACollectionResult;
 import com.sap.olingo.jpa.processor.core.converter.JPAExpandResult;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
 import com.sap.olingo.jpa.processor.core.processor.JPAODataInternalRequestContext;
 import com.sap.olingo.jpa.processor.core.util.ServiceMetadataDouble;
@@ -68,7 +69,7 @@ public abstract class TestJPACreateResult extends TestBase {
 
     createCutGetResultSimpleEntity();
 
-    final List<Tuple> act = cut.getResult("root");
+    final List<Tuple> act = cut.getResult(JPAExpandResult.ROOT_RESULT_KEY);
 
     assertNotNull(act);
     assertEquals(1, act.size());
@@ -81,7 +82,7 @@ public abstract class TestJPACreateResult extends TestBase {
 
     createCutGetResultEntityWithTransient();
 
-    final List<Tuple> act = cut.getResult("root");
+    final List<Tuple> act = cut.getResult(JPAExpandResult.ROOT_RESULT_KEY);
 
     assertNotNull(act);
     assertEquals(1, act.size());
@@ -94,7 +95,7 @@ public abstract class TestJPACreateResult extends TestBase {
 
     createCutGetResultWithOneLevelEmbedded();
 
-    final List<Tuple> act = cut.getResult("root");
+    final List<Tuple> act = cut.getResult(JPAExpandResult.ROOT_RESULT_KEY);
 
     assertNotNull(act);
     assertEquals(1, act.size());
@@ -107,7 +108,7 @@ public abstract class TestJPACreateResult extends TestBase {
 
     createCutGetResultWithTwoLevelEmbedded();
 
-    final List<Tuple> act = cut.getResult("root");
+    final List<Tuple> act = cut.getResult(JPAExpandResult.ROOT_RESULT_KEY);
     assertNotNull(act);
     assertEquals(1, act.size());
     assertEquals("01", act.get(0).get("ID"));
@@ -122,7 +123,7 @@ public abstract class TestJPACreateResult extends TestBase {
     assertEquals(1, act.size());
     for (final JPAAssociationPath actPath : act.keySet()) {
       assertEquals("Children", actPath.getAlias());
-      final List<Tuple> subResult = act.get(actPath).getResult("Eurostat/NUTS1/BE2");
+      final List<Tuple> subResult = act.get(actPath).getResult(JPAResultKey.of("Eurostat", "NUTS1", "BE2"));
       assertEquals(1, subResult.size());
     }
   }
@@ -131,7 +132,7 @@ public abstract class TestJPACreateResult extends TestBase {
   public void testGetResultWithDescriptionProperty() throws ODataJPAModelException, ODataApplicationException {
 
     createCutGetResultWithDescriptionProperty();
-    final List<Tuple> act = cut.getResult("root");
+    final List<Tuple> act = cut.getResult(JPAExpandResult.ROOT_RESULT_KEY);
     assertEquals(1, act.size());
     final Tuple actResult = act.get(0);
     assertEquals(7L, actResult.get("ETag"));
@@ -146,7 +147,7 @@ public abstract class TestJPACreateResult extends TestBase {
     assertEquals(1, act.size());
     for (final JPAAssociationPath actPath : act.keySet()) {
       assertEquals("Children", actPath.getAlias());
-      final List<Tuple> subResult = act.get(actPath).getResult("Eurostat/NUTS1/BE2");
+      final List<Tuple> subResult = act.get(actPath).getResult(JPAResultKey.of("Eurostat", "NUTS1", "BE2"));
       assertEquals(2, subResult.size());
     }
   }
@@ -156,7 +157,7 @@ public abstract class TestJPACreateResult extends TestBase {
     createCutGetResultEntityWithSimpleCollection();
 
     final Map<JPAAssociationPath, JPAExpandResult> act = cut.getChildren();
-    assertDoesNotContain(cut.getResult("root"), "Comment");
+    assertDoesNotContain(cut.getResult(JPAExpandResult.ROOT_RESULT_KEY), "Comment");
     assertNotNull(act);
     assertFalse(act.isEmpty());
     for (final Entry<JPAAssociationPath, JPAExpandResult> entity : act.entrySet()) {
@@ -177,7 +178,7 @@ public abstract class TestJPACreateResult extends TestBase {
     createCutGetResultEntityWithComplexCollection();
 
     final Map<JPAAssociationPath, JPAExpandResult> act = cut.getChildren();
-    assertDoesNotContain(cut.getResult("root"), "InhouseAddress");
+    assertDoesNotContain(cut.getResult(JPAExpandResult.ROOT_RESULT_KEY), "InhouseAddress");
     assertNotNull(act);
     assertFalse(act.isEmpty());
     for (final Entry<JPAAssociationPath, JPAExpandResult> entity : act.entrySet()) {
@@ -199,7 +200,7 @@ public abstract class TestJPACreateResult extends TestBase {
 
     final Map<JPAAssociationPath, JPAExpandResult> act = cut.getChildren();
     boolean found = false;
-    assertDoesNotContain(cut.getResult("root"), "Complex/Address");
+    assertDoesNotContain(cut.getResult(JPAExpandResult.ROOT_RESULT_KEY), "Complex/Address");
     assertNotNull(act);
     assertFalse(act.isEmpty());
     for (final Entry<JPAAssociationPath, JPAExpandResult> entity : act.entrySet()) {
@@ -226,7 +227,7 @@ public abstract class TestJPACreateResult extends TestBase {
 
     final Map<JPAAssociationPath, JPAExpandResult> act = cut.getChildren();
     boolean found = false;
-    assertDoesNotContain(cut.getResult("root"), "Nested");
+    assertDoesNotContain(cut.getResult(JPAExpandResult.ROOT_RESULT_KEY), "Nested");
     assertNotNull(act);
     assertFalse(act.isEmpty());
     for (final Entry<JPAAssociationPath, JPAExpandResult> entity : act.entrySet()) {
@@ -253,7 +254,7 @@ public abstract class TestJPACreateResult extends TestBase {
 
     final Map<JPAAssociationPath, JPAExpandResult> act = cut.getChildren();
     boolean found = false;
-    assertDoesNotContain(cut.getResult("root"), "FirstLevel/SecondLevel/Address");
+    assertDoesNotContain(cut.getResult(JPAExpandResult.ROOT_RESULT_KEY), "FirstLevel/SecondLevel/Address");
     assertNotNull(act);
     assertFalse(act.isEmpty());
     for (final Entry<JPAAssociationPath, JPAExpandResult> entity : act.entrySet()) {
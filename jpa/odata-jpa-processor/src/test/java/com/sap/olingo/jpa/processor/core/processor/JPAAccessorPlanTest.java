@@ -0,0 +1,210 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.processor.JPAAccessorPlan.Getter;
+import com.sap.olingo.jpa.processor.core.processor.JPAAccessorPlan.Setter;
+import com.sap.olingo.jpa.processor.core.testmodel.Organization;
+
+class JPAAccessorPlanTest {
+  private JPAAccessorPlan cut;
+
+  @BeforeEach
+  void setup() {
+    cut = JPAAccessorPlan.of(AccessorTestObject.class);
+  }
+
+  @Test
+  void checkPlanCreatedOncePerClass() {
+    assertSame(cut, JPAAccessorPlan.of(AccessorTestObject.class));
+  }
+
+  @Test
+  void checkGetterReturnsValue() throws InvocationTargetException {
+    final AccessorTestObject instance = new AccessorTestObject();
+    instance.setName("Test");
+    final Getter getter = cut.getGetter("getName");
+
+    assertNotNull(getter);
+    assertEquals("getName", getter.getName());
+    assertEquals("Test", getter.get(instance));
+  }
+
+  @Test
+  void checkGetterReturnsBoxedPrimitive() throws InvocationTargetException {
+    final AccessorTestObject instance = new AccessorTestObject();
+    instance.setCount(5);
+
+    assertEquals(5, cut.getGetter("getCount").get(instance));
+  }
+
+  @Test
+  void checkGetterOfSuperclassFound() throws InvocationTargetException {
+    final Organization organization = new Organization();
+    organization.setID("1");
+
+    assertEquals("1", JPAAccessorPlan.of(Organization.class).getGetter("getID").get(organization));
+  }
+
+  @Test
+  void checkGetterReturnsNullIfUnknown() {
+    assertNull(cut.getGetter("getUnknown"));
+    assertNull(cut.getGetter("setName"));
+    assertNull(cut.getGetter("getStatic"));
+  }
+
+  @Test
+  void checkGetterWrapsException() {
+    final AccessorTestObject instance = new AccessorTestObject();
+    final Getter getter = cut.getGetter("getFailing");
+
+    final InvocationTargetException act = assertThrows(InvocationTargetException.class, () -> getter.get(instance));
+    assertInstanceOf(IllegalStateException.class, act.getCause());
+  }
+
+  @Test
+  void checkSetterSetsValue() throws InvocationTargetException {
+    final AccessorTestObject instance = new AccessorTestObject();
+    final List<Setter> setters = cut.getSetters("name");
+
+    assertEquals(1, setters.size());
+    assertEquals(String.class, setters.get(0).getParameterType());
+    setters.get(0).set(instance, "Test");
+    assertEquals("Test", instance.getName());
+  }
+
+  @Test
+  void checkSetterSetsNull() throws InvocationTargetException {
+    final AccessorTestObject instance = new AccessorTestObject();
+    instance.setName("Test");
+    cut.getSetters("name").get(0).set(instance, null);
+
+    assertNull(instance.getName());
+  }
+
+  @Test
+  void checkSetterDerivesAttributeNameFromMethodName() {
+    assertEquals(1, cut.getSetters("aBCClass").size());
+    assertTrue(cut.getSetters("ABCClass").isEmpty());
+  }
+
+  @Test
+  void checkSetterReturnsAllOverloaded() {
+    final Set<Class<?>> act = cut.getSetters("value").stream()
+        .map(Setter::getParameterType)
+        .collect(Collectors.toSet());
+
+    assertEquals(Set.of(String.class, Integer.class), act);
+  }
+
+  @Test
+  void checkSetterReturnsEmptyListIfUnknown() {
+    assertTrue(cut.getSetters("unknown").isEmpty());
+    assertTrue(cut.getSetters("static").isEmpty());
+    assertTrue(cut.getSetters("up").isEmpty());
+  }
+
+  @Test
+  void checkSetterByNameAndParameterType() {
+    assertEquals(Integer.class, cut.getSetter("setValue", Integer.class).getParameterType());
+    assertEquals("setABCClass", cut.getSetter("setABCClass", Integer.class).getName());
+    assertNull(cut.getSetter("setValue", Object.class));
+    assertNull(cut.getSetter("setUnknown", String.class));
+    assertNull(cut.getSetter("getName", String.class));
+  }
+
+  @Test
+  void checkSetterRejectsNullForPrimitive() {
+    final AccessorTestObject instance = new AccessorTestObject();
+    final Setter setter = cut.getSetters("count").get(0);
+
+    assertThrows(IllegalArgumentException.class, () -> setter.set(instance, null));
+  }
+
+  @Test
+  void checkSetterWrapsException() {
+    final AccessorTestObject instance = new AccessorTestObject();
+    final Setter setter = cut.getSetters("failing").get(0);
+
+    final InvocationTargetException act = assertThrows(InvocationTargetException.class, () -> setter.set(instance,
+        "Test"));
+    assertInstanceOf(IllegalStateException.class, act.getCause());
+  }
+
+  public static class AccessorTestObject {
+    private String name;
+    private int count;
+    private Object value;
+    private Integer abcClass;
+
+    public static String getStatic() {
+      return "";
+    }
+
+    public static void setStatic(final String value) {
+      // Not needed
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(final String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(final int count) {
+      this.count = count;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+
+    public void setValue(final String value) {
+      this.value = value;
+    }
+
+    public void setValue(final Integer value) {
+      this.value = value;
+    }
+
+    public Integer getABCClass() {
+      return abcClass;
+    }
+
+    public void setABCClass(final Integer abcClass) {
+      this.abcClass = abcClass;
+    }
+
+    public void setUp() {
+      // Not a setter
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException();
+    }
+
+    public void setFailing(final String value) {
+      throw new IllegalStateException(value);
+    }
+  }
+}
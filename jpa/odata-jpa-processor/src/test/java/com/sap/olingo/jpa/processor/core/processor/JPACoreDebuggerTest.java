@@ -3,6 +3,7 @@ package com.sap.olingo.jpa.processor.core.processor;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.sap.olingo.jpa.processor.core.api.JPAODataAllocationAccount;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger.JPARuntimeMeasurement;
 
 class JPACoreDebuggerTest {
@@ -92,6 +94,19 @@ class JPACoreDebuggerTest {
     assertEquals(cutDebugOn.getClass().getName(), act.getClassName());
   }
 
+  @Test
+  void testMeasurementContainsAllocatedBytes() {
+    assumeTrue(JPAODataAllocationAccount.isSupported());
+    final List<byte[]> buffer = new ArrayList<>();
+    try (JPARuntimeMeasurement measurement = cutDebugOn.newMeasurement(cutDebugOn, "firstTest")) {
+      buffer.add(new byte[100_000]);
+    }
+    final JPACoreDebugger.Measurement act = (JPACoreDebugger.Measurement) cutDebugOn.getRuntimeInformation().get(0);
+    assertEquals(1, buffer.size());
+    assertTrue(act.getAllocatedBytes() >= 100_000);
+    assertTrue(cutDebugOn.hasMemoryInformation());
+  }
+
   @Test
   void testRuntimeMeasurementEmptyAfterStopWhenOff() throws InterruptedException {
     System.setErr(printOut);
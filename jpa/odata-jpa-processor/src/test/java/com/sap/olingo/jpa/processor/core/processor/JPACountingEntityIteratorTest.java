@@ -0,0 +1,79 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.EntityIterator;
+import org.apache.olingo.commons.api.ex.ODataRuntimeException;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JPACountingEntityIteratorTest {
+  private JPAConversionEvent conversionEvent;
+
+  @BeforeEach
+  void setup() {
+    conversionEvent = new JPAConversionEvent(mock(UriInfo.class));
+  }
+
+  @Test
+  void testRowCountSetAfterLastEntity() {
+    final JPACountingEntityIterator cut = new JPACountingEntityIterator(createIterator(new Entity(), new Entity()),
+        conversionEvent);
+
+    int act = 0;
+    while (cut.hasNext()) {
+      cut.next();
+      assertEquals(JPAAbstractProcessingEvent.UNKNOWN, conversionEvent.rowCount);
+      act++;
+    }
+    assertEquals(2, act);
+    assertEquals(2, cut.getRowCount());
+    assertEquals(2, conversionEvent.rowCount);
+    assertFalse(cut.hasNext());
+  }
+
+  @Test
+  void testRowCountZeroForEmptyResult() {
+    final JPACountingEntityIterator cut = new JPACountingEntityIterator(createIterator(), conversionEvent);
+
+    assertFalse(cut.hasNext());
+    assertEquals(0, conversionEvent.rowCount);
+  }
+
+  @Test
+  void testRowCountUnknownIfConversionFails() {
+    final EntityIterator entities = mock(EntityIterator.class);
+    when(entities.hasNext()).thenReturn(true);
+    when(entities.next()).thenThrow(ODataRuntimeException.class);
+    final JPACountingEntityIterator cut = new JPACountingEntityIterator(entities, conversionEvent);
+
+    assertTrue(cut.hasNext());
+    assertThrows(ODataRuntimeException.class, cut::next);
+    assertEquals(JPAAbstractProcessingEvent.UNKNOWN, conversionEvent.rowCount);
+  }
+
+  private static EntityIterator createIterator(final Entity... entities) {
+    final Iterator<Entity> iterator = List.of(entities).iterator();
+    return new EntityIterator() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public Entity next() {
+        return iterator.next();
+      }
+    };
+  }
+}
@@ -1,6 +1,8 @@
 package com.sap.olingo.jpa.processor.core.processor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -17,6 +19,7 @@ import org.apache.olingo.server.api.debug.RuntimeMeasurement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.sap.olingo.jpa.processor.core.api.JPAODataAllocationAccount;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
 
 class JPADebugSupportWrapperTest {
@@ -66,6 +69,27 @@ class JPADebugSupportWrapperTest {
 
   }
 
+  @Test
+  void testCreateDebugResponseAddsAllocation() {
+    assumeTrue(JPAODataAllocationAccount.isSupported());
+    final DebugInformation debugInfo = mock(DebugInformation.class);
+    final JPAServiceDebugger debugger = mock(JPAServiceDebugger.class);
+    cut.addDebugger(debugger);
+    final JPACoreDebugger.Measurement measurement = new JPACoreDebugger.Measurement(this, "execute");
+    measurement.close();
+    final List<RuntimeMeasurement> debugInfoList = new ArrayList<>();
+
+    when(debugInfo.getRuntimeInformation()).thenReturn(debugInfoList);
+    when(debugger.getRuntimeInformation()).thenReturn(List.of(measurement));
+
+    cut.createDebugResponse(DEBUG_FORMAT, debugInfo);
+
+    assertEquals(1, debugInfoList.size());
+    assertTrue(debugInfoList.get(0).getMethodName().startsWith("execute [allocated kb: "));
+    assertEquals(measurement.getTimeStarted(), debugInfoList.get(0).getTimeStarted());
+    assertEquals(measurement.getTimeStopped(), debugInfoList.get(0).getTimeStopped());
+  }
+
   private RuntimeMeasurement newRuntimeMeasurement() {
     final RuntimeMeasurement r = new RuntimeMeasurement();
     r.setTimeStarted(System.nanoTime());
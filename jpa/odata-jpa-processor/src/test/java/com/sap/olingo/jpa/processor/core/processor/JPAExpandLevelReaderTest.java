@@ -0,0 +1,99 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper.normalize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper;
+import com.sap.olingo.jpa.processor.core.util.TestBase;
+
+class JPAExpandLevelReaderTest extends TestBase {
+  private static ExecutorService executor;
+
+  @BeforeAll
+  static void setupExecutor() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterAll
+  static void shutdownExecutor() {
+    executor.shutdown();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "Organizations?$expand=Roles,SupportEngineers",
+      "Organizations?$expand=Roles,SupportEngineers&$top=3&$orderby=ID",
+      "Organizations('3')?$expand=Roles,SupportEngineers",
+      "Persons?$select=ID,InhouseAddress&$expand=Roles,SupportedOrganizations($expand=Roles)",
+      "AdministrativeDivisions?$filter=CodeID eq 'NUTS1'&$expand=Children($expand=Children),Parent",
+      "Collections?$expand=*" })
+  void testParallelResultEqualsSequentialResult(final String url) throws IOException, ODataException {
+
+    final IntegrationTestHelper sequential = new IntegrationTestHelper(emf, url);
+    sequential.assertStatus(200);
+    final IntegrationTestHelper parallel = new IntegrationTestHelper(emf, url, executor);
+    parallel.assertStatus(200);
+
+    assertEquals(normalize(sequential.getValue()), normalize(parallel.getValue()));
+  }
+
+  @Test
+  void testExecutorUsedForSiblingQueries() throws IOException, ODataException {
+    final AtomicInteger noTasks = new AtomicInteger();
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "Organizations('3')?$select=ID&$expand=Roles,SupportEngineers", task -> {
+          noTasks.incrementAndGet();
+          executor.execute(task);
+        });
+    helper.assertStatus(200);
+    assertEquals(3, helper.getValue().get("Roles").size());
+    assertEquals(2, noTasks.get());
+  }
+
+  @Test
+  void testSingleExpandNotExecutedInParallel() throws IOException, ODataException {
+    final AtomicInteger noTasks = new AtomicInteger();
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "Organizations('3')?$select=ID&$expand=Roles", task -> {
+          noTasks.incrementAndGet();
+          executor.execute(task);
+        });
+    helper.assertStatus(200);
+    assertEquals(0, noTasks.get());
+  }
+
+  @Test
+  void testRejectedTaskExecutedByCaller() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "Organizations('3')?$expand=Roles,SupportEngineers", task -> {
+          throw new RejectedExecutionException();
+        });
+    helper.assertStatus(200);
+    assertEquals(3, helper.getValue().get("Roles").size());
+  }
+
+  @Test
+  void testErrorOfParallelQueryReturned() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "Organizations?$expand=Roles($filter=Undefined eq 1),SupportEngineers", executor);
+    assertTrue(helper.getStatus() >= 400);
+  }
+}
@@ -0,0 +1,69 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataAllocationAccount;
+import com.sap.olingo.jpa.processor.core.api.JPAODataMetricsSink;
+import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
+import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger.JPARuntimeMeasurement;
+
+class JPAMetricsDebuggerTest {
+  private JPAServiceDebugger debugger;
+  private JPAODataMetricsSink sink;
+  private JPARuntimeMeasurement measurement;
+  private JPAMetricsDebugger cut;
+
+  @BeforeEach
+  void setup() {
+    debugger = mock(JPAServiceDebugger.class);
+    sink = mock(JPAODataMetricsSink.class);
+    measurement = mock(JPARuntimeMeasurement.class);
+    when(debugger.newMeasurement(this, "execute")).thenReturn(measurement);
+    when(debugger.newMeasurement(this, "createWhere")).thenReturn(measurement);
+    cut = new JPAMetricsDebugger(debugger, sink, () -> "Persons");
+  }
+
+  @Test
+  void testPhaseRecorded() throws Exception {
+    try (JPARuntimeMeasurement act = cut.newMeasurement(this, "execute")) {}
+
+    verify(measurement).close();
+    verify(sink).record(eq("Persons"), eq("execute"), anyLong());
+  }
+
+  @Test
+  void testPhaseAllocationRecorded() throws Exception {
+    assumeTrue(JPAODataAllocationAccount.isSupported());
+    try (JPARuntimeMeasurement act = cut.newMeasurement(this, "execute")) {}
+
+    verify(sink).recordAllocation(eq("Persons"), eq("execute"), anyLong());
+  }
+
+  @Test
+  void testOtherMeasurementNotRecorded() throws Exception {
+    try (JPARuntimeMeasurement act = cut.newMeasurement(this, "createWhere")) {}
+
+    verify(measurement).close();
+    verify(sink, never()).record(anyString(), anyString(), anyLong());
+    verify(sink, never()).recordAllocation(anyString(), anyString(), anyLong());
+  }
+
+  @Test
+  void testDebugForwarded() {
+    cut.debug(this, "Test %s", "Hallo");
+    cut.getRuntimeInformation();
+
+    verify(debugger).debug(this, "Test %s", "Hallo");
+    verify(debugger).getRuntimeInformation();
+  }
+}
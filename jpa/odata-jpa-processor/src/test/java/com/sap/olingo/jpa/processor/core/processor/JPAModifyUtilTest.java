@@ -8,7 +8,6 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import java.lang.reflect.Method;
 import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -30,6 +29,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelExcept
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAInvocationTargetException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessorException;
+import com.sap.olingo.jpa.processor.core.processor.JPAAccessorPlan.Setter;
 import com.sap.olingo.jpa.processor.core.testmodel.AdministrativeDivisionKey;
 import com.sap.olingo.jpa.processor.core.testmodel.BusinessPartner;
 import com.sap.olingo.jpa.processor.core.testmodel.BusinessPartnerRole;
@@ -380,12 +380,12 @@ class JPAModifyUtilTest extends TestBase {
     final List<JPAAttribute> attributes = Arrays.asList(org.getAttribute("creationDateTime").get(),
         org.getAttribute("country").get());
 
-    final Map<JPAAttribute, Method> act = cut.buildSetterList(org.getTypeClass(), attributes);
+    final Map<JPAAttribute, Setter> act = cut.buildSetterList(org.getTypeClass(), attributes);
 
     assertEquals(2, act.size());
     assertNotNull(act.get(org.getAttribute("creationDateTime").get()));
     assertNotNull(act.get(org.getAttribute("country").get()));
-    assertEquals(LocalDateTime.class, act.get(org.getAttribute("creationDateTime").get()).getParameterTypes()[0]);
+    assertEquals(LocalDateTime.class, act.get(org.getAttribute("creationDateTime").get()).getParameterType());
   }
 
   @Test
@@ -396,12 +396,12 @@ class JPAModifyUtilTest extends TestBase {
     final List<JPAAttribute> attributes = Arrays.asList(country.getAttribute("code").get(),
         country.getAttribute("name").get());
 
-    final Map<JPAAttribute, Method> act = cut.buildSetterList(country.getTypeClass(), attributes);
+    final Map<JPAAttribute, Setter> act = cut.buildSetterList(country.getTypeClass(), attributes);
 
     assertEquals(2, act.size());
     assertNotNull(act.get(country.getAttribute("code").get()));
     assertNull(act.get(country.getAttribute("name").get()));
-    assertEquals(String.class, act.get(country.getAttribute("code").get()).getParameterTypes()[0]);
+    assertEquals(String.class, act.get(country.getAttribute("code").get()).getParameterType());
   }
 
   private JPAEntityType createSingleKeyEntityType() throws ODataJPAModelException {
@@ -0,0 +1,67 @@
+package com.sap.olingo.jpa.processor.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriParameter;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+import org.apache.olingo.server.api.uri.UriResourceNavigation;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.SystemQueryOptionKind;
+import org.apache.olingo.server.api.uri.queryoption.TopOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JPARequestEventTest {
+  private UriInfo uriInfo;
+  private UriResourceEntitySet entitySet;
+
+  @BeforeEach
+  void setup() {
+    uriInfo = mock(UriInfo.class);
+    entitySet = mock(UriResourceEntitySet.class);
+    when(entitySet.getSegmentValue()).thenReturn("Organizations");
+    when(uriInfo.getUriResourceParts()).thenReturn(List.of(entitySet));
+  }
+
+  @Test
+  void testShapeOfEntitySet() {
+    assertEquals("Organizations", JPARequestEvent.shapeOf(uriInfo));
+    assertEquals("Organizations", JPARequestEvent.targetOf(uriInfo));
+  }
+
+  @Test
+  void testShapeOfNavigationHidesKeys() {
+    final UriResourceNavigation navigation = mock(UriResourceNavigation.class);
+    when(navigation.getSegmentValue()).thenReturn("Roles");
+    when(entitySet.getKeyPredicates()).thenReturn(List.of(mock(UriParameter.class)));
+    when(uriInfo.getUriResourceParts()).thenReturn(List.of(entitySet, navigation));
+
+    assertEquals("Organizations(...)/Roles", JPARequestEvent.shapeOf(uriInfo));
+    assertEquals("Organizations", JPARequestEvent.targetOf(uriInfo));
+  }
+
+  @Test
+  void testShapeOfContainsOptionNames() {
+    final FilterOption filter = mock(FilterOption.class);
+    final TopOption top = mock(TopOption.class);
+    when(filter.getKind()).thenReturn(SystemQueryOptionKind.FILTER);
+    when(top.getKind()).thenReturn(SystemQueryOptionKind.TOP);
+    when(uriInfo.getFilterOption()).thenReturn(filter);
+    when(uriInfo.getTopOption()).thenReturn(top);
+
+    assertEquals("Organizations?$filter&$top", JPARequestEvent.shapeOf(uriInfo));
+  }
+
+  @Test
+  void testTargetOfEmptyPath() {
+    when(uriInfo.getUriResourceParts()).thenReturn(List.of());
+
+    assertEquals("", JPARequestEvent.targetOf(uriInfo));
+    assertEquals("", JPARequestEvent.targetOf(null));
+  }
+}
@@ -3,6 +3,7 @@ package com.sap.olingo.jpa.processor.core.query;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -13,6 +14,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.criteria.Expression;
 
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
@@ -25,6 +27,8 @@ import org.apache.olingo.server.api.uri.UriParameter;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.apache.olingo.server.api.uri.UriResourceEntitySet;
 import org.apache.olingo.server.api.uri.UriResourceNavigation;
+import org.apache.olingo.server.api.uri.queryoption.SkipOption;
+import org.apache.olingo.server.api.uri.queryoption.TopOption;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -32,9 +36,11 @@ import com.sap.olingo.jpa.metadata.api.JPAHttpHeaderMap;
 import com.sap.olingo.jpa.metadata.api.JPARequestParameterMap;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAServiceDocument;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAServiceDebugger;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.database.JPADefaultDatabaseProcessor;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAKeyPairException;
 import com.sap.olingo.jpa.processor.core.util.TestBase;
@@ -169,6 +175,99 @@ class JPAExpandJoinQueryTest extends TestBase {
     assertFalse(cut.getSQLString().isEmpty());
   }
 
+  @Test
+  void testTopPerParentRestrictedByDatabase() throws ODataException {
+    // .../Organizations?$expand=Roles($top=1)&$format=json
+    final JPAInlineItemInfo item = createOrgExpandRoles(null, null);
+    final TopOption top = mock(TopOption.class);
+    when(top.getValue()).thenReturn(1);
+    when(item.getUriInfo().getTopOption()).thenReturn(top);
+
+    cut = new JPAExpandJoinQuery(OData.newInstance(), item, requestContext, Optional.empty());
+    final JPAExpandQueryResult act = cut.execute();
+    assertTrue(cut.getSQLString().contains("COUNT("));
+    assertEquals(4, act.getNoResults());
+    assertEquals(4, act.getNoResultsDeep());
+    assertEquals("A", act.getResult(JPAResultKey.of("3")).get(0).get("RoleCategory"));
+  }
+
+  @Test
+  void testSkipAndTopPerParentRestrictedByDatabase() throws ODataException {
+    // .../Organizations?$expand=Roles($skip=1;$top=1)&$format=json
+    final JPAInlineItemInfo item = createOrgExpandRoles(null, null);
+    final TopOption top = mock(TopOption.class);
+    final SkipOption skip = mock(SkipOption.class);
+    when(top.getValue()).thenReturn(1);
+    when(skip.getValue()).thenReturn(1);
+    when(item.getUriInfo().getTopOption()).thenReturn(top);
+    when(item.getUriInfo().getSkipOption()).thenReturn(skip);
+
+    cut = new JPAExpandJoinQuery(OData.newInstance(), item, requestContext, Optional.empty());
+    final JPAExpandQueryResult act = cut.execute();
+    assertTrue(cut.getSQLString().contains("COUNT("));
+    assertEquals(2, act.getNoResultsDeep());
+    assertEquals("B", act.getResult(JPAResultKey.of("3")).get(0).get("RoleCategory"));
+    assertEquals("C", act.getResult(JPAResultKey.of("2")).get(0).get("RoleCategory"));
+  }
+
+  @Test
+  void testSkipAndTopPerParentRestrictedByRowNumber() throws ODataException {
+    // .../Organizations?$expand=Roles($skip=1;$top=1)&$format=json
+    final Optional<EntityManager> processorEm = createProcessorEntityManager();
+    assumeTrue(processorEm.isPresent());
+    when(requestContext.getEntityManager()).thenReturn(processorEm.get());
+    final JPAInlineItemInfo item = createOrgExpandRoles(null, null);
+    final TopOption top = mock(TopOption.class);
+    final SkipOption skip = mock(SkipOption.class);
+    when(top.getValue()).thenReturn(1);
+    when(skip.getValue()).thenReturn(1);
+    when(item.getUriInfo().getTopOption()).thenReturn(top);
+    when(item.getUriInfo().getSkipOption()).thenReturn(skip);
+
+    cut = new JPAExpandJoinQuery(OData.newInstance(), item, requestContext, Optional.empty());
+    final JPAExpandQueryResult act = cut.execute();
+    assertEquals(2, act.getNoResultsDeep());
+    assertEquals("B", act.getResult(JPAResultKey.of("3")).get(0).get("RoleCategory"));
+    assertEquals("C", act.getResult(JPAResultKey.of("2")).get(0).get("RoleCategory"));
+  }
+
+  @Test
+  void testSkipPerParentRestrictedByDatabaseCompoundKey() throws ODataException {
+    // .../AdministrativeDivisions?$expand=Children($skip=1)&$format=json
+    final JPAInlineItemInfo item = createAdminDivExpandChildren(null, null);
+    final SkipOption skip = mock(SkipOption.class);
+    when(skip.getValue()).thenReturn(1);
+    when(item.getUriInfo().getSkipOption()).thenReturn(skip);
+    setComplexKey("Eurostat", "NUTS1", "BE2");
+
+    cut = new JPAExpandJoinQuery(OData.newInstance(), item, requestContext, adminBoundary);
+    final JPAExpandQueryResult act = cut.execute();
+    assertTrue(cut.getSQLString().contains("COUNT("));
+    assertEquals(1, act.getNoResults());
+    assertEquals(4, act.getNoResultsDeep());
+    assertEquals("BE22", act.getResult(JPAResultKey.of("Eurostat", "NUTS1", "BE2")).get(0).get("DivisionCode"));
+  }
+
+  @Test
+  void testNoSubQueryWithoutTopAndSkip() throws ODataException {
+    // .../Organizations?$expand=Roles&$format=json
+    final JPAInlineItemInfo item = createOrgExpandRoles(null, null);
+    cut = new JPAExpandJoinQuery(OData.newInstance(), item, requestContext, Optional.empty());
+    cut.execute();
+    assertFalse(cut.getSQLString().contains("COUNT("));
+  }
+
+  private Optional<EntityManager> createProcessorEntityManager() {
+    try {
+      final Class<?> wrapperClass = Class.forName("com.sap.olingo.jpa.processor.cb.api.EntityManagerFactoryWrapper");
+      final EntityManagerFactory wrapper = (EntityManagerFactory) wrapperClass.getConstructor(
+          EntityManagerFactory.class, JPAServiceDocument.class).newInstance(emf, helper.sd);
+      return Optional.of(wrapper.createEntityManager());
+    } catch (final ReflectiveOperationException e) {
+      return Optional.empty();
+    }
+  }
+
   private JPAInlineItemInfo createAdminDivExpandChildren(final List<UriParameter> keyPredicates,
       final Expression<Boolean> expression)
       throws ODataJPAModelException, ODataApplicationException {
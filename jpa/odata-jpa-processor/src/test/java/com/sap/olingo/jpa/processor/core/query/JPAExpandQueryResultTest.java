@@ -1,5 +1,6 @@
 package com.sap.olingo.jpa.processor.core.query;
 
+import static com.sap.olingo.jpa.processor.core.converter.JPAExpandResult.ROOT_RESULT_KEY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -32,6 +33,7 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelException;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPage;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAProcessException;
 import com.sap.olingo.jpa.processor.core.util.TestBase;
 import com.sap.olingo.jpa.processor.core.util.TestHelper;
@@ -45,7 +47,7 @@ class JPAExpandQueryResultTest extends TestBase {
   private ExpandOption expand;
   private JPAODataRequestContextAccess requestContext;
   private TestHelper helper;
-  private final HashMap<String, List<Tuple>> queryResult = new HashMap<>(1);
+  private final HashMap<JPAResultKey, List<Tuple>> queryResult = new HashMap<>(1);
   private final List<Tuple> tuples = new ArrayList<>();
   private JPAEntityType et;
   private List<JPANavigationPropertyInfo> hops;
@@ -68,7 +70,7 @@ class JPAExpandQueryResultTest extends TestBase {
     expand = mock(ExpandOption.class);
     page = new JPAODataPage(null, 0, Integer.MAX_VALUE, hop1);
     when(requestContext.getUriInfo()).thenReturn(uriInfo);
-    queryResult.put("root", tuples);
+    queryResult.put(ROOT_RESULT_KEY, tuples);
   }
 
   @Test
@@ -119,7 +121,7 @@ class JPAExpandQueryResultTest extends TestBase {
   @Test
   void checkGetKeyBoundaryEmptyBoundaryNoResult() throws ODataJPAModelException, ODataJPAProcessException {
 
-    queryResult.put("root", Collections.emptyList());
+    queryResult.put(ROOT_RESULT_KEY, Collections.emptyList());
 
     cut = new JPAExpandQueryResult(queryResult, null, helper.getJPAEntityType("Organizations"),
         Collections.emptyList());
@@ -6,9 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -17,6 +25,9 @@ import jakarta.persistence.criteria.Expression;
 
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.queryoption.AliasQueryOption;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.SearchOption;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +36,8 @@ import com.sap.olingo.jpa.metadata.api.JPAHttpHeaderMap;
 import com.sap.olingo.jpa.metadata.api.JPARequestParameterMap;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAStructuredType;
 import com.sap.olingo.jpa.metadata.core.edm.mapper.impl.JPADefaultEdmNameBuilder;
+import com.sap.olingo.jpa.processor.core.api.JPAODataCountEstimation;
+import com.sap.olingo.jpa.processor.core.api.JPAODataDatabaseProcessor;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.database.JPADefaultDatabaseProcessor;
 import com.sap.olingo.jpa.processor.core.exception.ODataJPAIllegalAccessException;
@@ -99,6 +112,124 @@ class JPAJoinQueryTest extends TestQueryBase {
     assertEquals(5L, act);
   }
 
+  @Test
+  void testCountResultsTakenFromDatabaseStatistics() throws ODataApplicationException {
+    final JPAODataDatabaseProcessor dbProcessor = mock(JPAODataDatabaseProcessor.class);
+    when(localContext.getDatabaseProcessor()).thenReturn(dbProcessor);
+    when(localContext.getCountEstimation()).thenReturn(Optional.of(new JPAODataCountEstimation(Set.of(
+        "BusinessPartners"), Duration.ofMinutes(1))));
+    when(dbProcessor.estimateRowCount(any(), any())).thenReturn(Optional.of(123456789L));
+
+    assertEquals(123456789L, ((JPAJoinQuery) cut).countResults());
+    assertTrue(((JPAJoinQuery) cut).isCountEstimated());
+    verify(em, never()).createQuery(any(CriteriaQuery.class));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void testCountResultsTakenFromCacheWithoutStatistics() throws ODataApplicationException {
+    final TypedQuery<Long> typedQuery = mock(TypedQuery.class);
+    final Expression<Long> countExpression = mock(Expression.class);
+    final JPAODataDatabaseProcessor dbProcessor = mock(JPAODataDatabaseProcessor.class);
+    when(localContext.getDatabaseProcessor()).thenReturn(dbProcessor);
+    when(localContext.getCountEstimation()).thenReturn(Optional.of(new JPAODataCountEstimation(Set.of(
+        "BusinessPartners"), Duration.ofMinutes(1))));
+    when(dbProcessor.estimateRowCount(any(), any())).thenReturn(Optional.empty());
+    when(cb.createQuery(any())).thenReturn(cq);
+    doReturn(countExpression).when(cb).count(any());
+    when(em.createQuery(any(CriteriaQuery.class))).thenReturn(typedQuery);
+    when(typedQuery.getSingleResult()).thenReturn(5L);
+
+    assertEquals(5L, ((JPAJoinQuery) cut).countResults());
+    assertFalse(((JPAJoinQuery) cut).isCountEstimated());
+    assertEquals(5L, ((JPAJoinQuery) cut).countResults());
+    assertTrue(((JPAJoinQuery) cut).isCountEstimated());
+    verify(typedQuery, times(1)).getSingleResult();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void testCountResultsExactIfEntitySetNotEstimated() throws ODataApplicationException {
+    final TypedQuery<Long> typedQuery = mock(TypedQuery.class);
+    final Expression<Long> countExpression = mock(Expression.class);
+    final JPAODataDatabaseProcessor dbProcessor = mock(JPAODataDatabaseProcessor.class);
+    when(localContext.getDatabaseProcessor()).thenReturn(dbProcessor);
+    when(localContext.getCountEstimation()).thenReturn(Optional.of(new JPAODataCountEstimation(Set.of(
+        "Organizations"), Duration.ofMinutes(1))));
+    when(cb.createQuery(any())).thenReturn(cq);
+    doReturn(countExpression).when(cb).count(any());
+    when(em.createQuery(any(CriteriaQuery.class))).thenReturn(typedQuery);
+    when(typedQuery.getSingleResult()).thenReturn(5L);
+
+    assertEquals(5L, ((JPAJoinQuery) cut).countResults());
+    assertFalse(((JPAJoinQuery) cut).isCountEstimated());
+    verify(dbProcessor, never()).estimateRowCount(any(), any());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void testExactCountQueryIgnoresDatabaseStatisticsAndCache() throws ODataApplicationException {
+    final TypedQuery<Long> typedQuery = mock(TypedQuery.class);
+    final Expression<Long> countExpression = mock(Expression.class);
+    final JPAODataDatabaseProcessor dbProcessor = mock(JPAODataDatabaseProcessor.class);
+    when(localContext.getDatabaseProcessor()).thenReturn(dbProcessor);
+    when(localContext.getCountEstimation()).thenReturn(Optional.of(new JPAODataCountEstimation(Set.of(
+        "BusinessPartners"), Duration.ofMinutes(1))));
+    when(dbProcessor.estimateRowCount(any(), any())).thenReturn(Optional.of(123456789L));
+    when(cb.createQuery(any())).thenReturn(cq);
+    doReturn(countExpression).when(cb).count(any());
+    when(em.createQuery(any(CriteriaQuery.class))).thenReturn(typedQuery);
+    when(typedQuery.getSingleResult()).thenReturn(5L, 6L);
+
+    final JPACountQuery act = ((JPAJoinQuery) cut).asExactCountQuery();
+    assertEquals(5L, act.countResults());
+    assertEquals(6L, act.countResults());
+    verify(dbProcessor, never()).estimateRowCount(any(), any());
+  }
+
+  @Test
+  void testCountCacheKeyWithoutOptions() {
+    assertEquals("BusinessPartners", ((JPAJoinQuery) cut).buildCountCacheKey());
+  }
+
+  @Test
+  void testCountCacheKeyWithSearchOnly() {
+    final SearchOption search = mock(SearchOption.class);
+    when(search.getText()).thenReturn("Willi");
+    when(uriInfo.getSearchOption()).thenReturn(search);
+
+    assertEquals("BusinessPartners?$search=Willi", ((JPAJoinQuery) cut).buildCountCacheKey());
+  }
+
+  @Test
+  void testCountCacheKeyContainsAliasValues() {
+    final FilterOption filter = mock(FilterOption.class);
+    final AliasQueryOption first = createAlias("@n", "'A'");
+    final AliasQueryOption second = createAlias("@c", "'DE'");
+    when(filter.getText()).thenReturn("Name1 eq @n and Country eq @c");
+    when(uriInfo.getFilterOption()).thenReturn(filter);
+    when(uriInfo.getAliases()).thenReturn(List.of(first, second));
+
+    assertEquals("BusinessPartners?$filter=Name1 eq @n and Country eq @c&@c='DE'&@n='A'",
+        ((JPAJoinQuery) cut).buildCountCacheKey());
+    when(first.getText()).thenReturn("'B'");
+    assertEquals("BusinessPartners?$filter=Name1 eq @n and Country eq @c&@c='DE'&@n='B'",
+        ((JPAJoinQuery) cut).buildCountCacheKey());
+  }
+
+  private AliasQueryOption createAlias(final String name, final String text) {
+    final AliasQueryOption alias = mock(AliasQueryOption.class);
+    when(alias.getName()).thenReturn(name);
+    when(alias.getText()).thenReturn(text);
+    return alias;
+  }
+
+  @Test
+  void testCountWithResultNotPossibleWithoutProcessorCriteriaBuilder() throws ODataApplicationException {
+    assertFalse(((JPAJoinQuery) cut).countWithResult());
+    assertTrue(((JPAJoinQuery) cut).getInlineCount().isEmpty());
+  }
+
   @Test
   void testDerivedTypeRequestedTrueTwoLevels() {
 
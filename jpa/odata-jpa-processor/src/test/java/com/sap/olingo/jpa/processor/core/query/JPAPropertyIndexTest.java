@@ -0,0 +1,55 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.converter.JPAPropertyIndex;
+
+class JPAPropertyIndexTest {
+  private List<Property> properties;
+  private JPAPropertyIndex cut;
+
+  @BeforeEach
+  void setup() {
+    properties = new ArrayList<>();
+    properties.add(new Property(null, "ID", ValueType.PRIMITIVE, "1"));
+    cut = new JPAPropertyIndex(properties);
+  }
+
+  @Test
+  void testGetReturnsExistingProperty() {
+    assertSame(properties.get(0), cut.get("ID"));
+    assertTrue(cut.contains("ID"));
+  }
+
+  @Test
+  void testGetReturnsNullForUnknownProperty() {
+    assertNull(cut.get("Name1"));
+    assertFalse(cut.contains("Name1"));
+  }
+
+  @Test
+  void testGetFindsPropertyAddedAfterCreation() {
+    assertFalse(cut.contains("Name1"));
+    final Property name = new Property(null, "Name1", ValueType.PRIMITIVE, "Willi");
+    properties.add(name);
+    assertSame(name, cut.get("Name1"));
+  }
+
+  @Test
+  void testGetReturnsFirstPropertyWithName() {
+    final Property first = properties.get(0);
+    properties.add(new Property(null, "ID", ValueType.PRIMITIVE, "2"));
+    assertSame(first, cut.get("ID"));
+  }
+}
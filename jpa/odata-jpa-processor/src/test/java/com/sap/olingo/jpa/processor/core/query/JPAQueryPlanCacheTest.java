@@ -0,0 +1,220 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+import org.apache.olingo.server.api.uri.UriResourceKind;
+import org.apache.olingo.server.api.uri.UriResourceNavigation;
+import org.apache.olingo.server.api.uri.queryoption.ExpandItem;
+import org.apache.olingo.server.api.uri.queryoption.ExpandOption;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.SelectOption;
+import org.apache.olingo.server.api.uri.queryoption.TopOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+
+class JPAQueryPlanCacheTest {
+  private JPAQueryPlanCache cut;
+  private JPAEntityType et;
+  private List<UriInfoResource> builderCalls;
+
+  @BeforeEach
+  void setup() {
+    cut = new JPAQueryPlanCache(2);
+    et = mock(JPAEntityType.class);
+    builderCalls = new ArrayList<>();
+  }
+
+  @Test
+  void testSelectionBuildOnceForSameShape() throws ODataApplicationException {
+    final SelectionPathInfo<JPAPath> first = cut.getSelection(et, createUriResource("ID", null), this::build);
+    final SelectionPathInfo<JPAPath> second = cut.getSelection(et, createUriResource("ID", null), this::build);
+
+    assertSame(first, second);
+    assertEquals(1, builderCalls.size());
+  }
+
+  @Test
+  void testSelectionBuildForDifferentSelect() throws ODataApplicationException {
+    cut.getSelection(et, createUriResource("ID", null), this::build);
+    cut.getSelection(et, createUriResource("ID,Name1", null), this::build);
+
+    assertEquals(2, builderCalls.size());
+  }
+
+  @Test
+  void testSelectionBuildForDifferentExpand() throws ODataApplicationException {
+    cut.getSelection(et, createUriResource(null, "Roles"), this::build);
+    cut.getSelection(et, createUriResource(null, "Roles,Address"), this::build);
+    cut.getSelection(et, createUriResource(null, "Roles"), this::build);
+
+    assertEquals(2, builderCalls.size());
+  }
+
+  @Test
+  void testSelectionBuildOnceForDifferentNestedFilterAndTop() throws ODataApplicationException {
+    final UriInfoResource first = createUriResource(null, null);
+    final UriInfoResource second = createUriResource(null, null);
+    final ExpandItem firstItem = createExpandItem("Roles");
+    final ExpandItem secondItem = createExpandItem("Roles");
+    final FilterOption filter = mock(FilterOption.class);
+    final TopOption top = mock(TopOption.class);
+    when(filter.getText()).thenReturn("RoleCategory eq 'A'");
+    when(top.getValue()).thenReturn(2);
+    when(secondItem.getFilterOption()).thenReturn(filter);
+    when(secondItem.getTopOption()).thenReturn(top);
+    setExpandItems(first, firstItem);
+    setExpandItems(second, secondItem);
+
+    assertSame(cut.getSelection(et, first, this::build), cut.getSelection(et, second, this::build));
+    assertEquals(1, builderCalls.size());
+  }
+
+  @Test
+  void testSelectionBuildForDifferentNestedSelect() throws ODataApplicationException {
+    final UriInfoResource first = createUriResource(null, null);
+    final UriInfoResource second = createUriResource(null, null);
+    final ExpandItem firstItem = createExpandItem("Roles");
+    final ExpandItem secondItem = createExpandItem("Roles");
+    final SelectOption select = mock(SelectOption.class);
+    when(select.getText()).thenReturn("RoleCategory");
+    when(secondItem.getSelectOption()).thenReturn(select);
+    setExpandItems(first, firstItem);
+    setExpandItems(second, secondItem);
+
+    cut.getSelection(et, first, this::build);
+    cut.getSelection(et, second, this::build);
+    assertEquals(2, builderCalls.size());
+  }
+
+  @Test
+  void testSelectionBuildForDifferentNestedExpand() throws ODataApplicationException {
+    final UriInfoResource first = createUriResource(null, "Roles");
+    final UriInfoResource second = createUriResource(null, null);
+    final ExpandItem item = createExpandItem("Roles");
+    final ExpandOption nested = mock(ExpandOption.class);
+    final List<ExpandItem> nestedItems = List.of(createExpandItem("BusinessPartner"));
+    when(nested.getExpandItems()).thenReturn(nestedItems);
+    when(item.getExpandOption()).thenReturn(nested);
+    setExpandItems(second, item);
+
+    cut.getSelection(et, first, this::build);
+    cut.getSelection(et, second, this::build);
+    assertEquals(2, builderCalls.size());
+  }
+
+  @Test
+  void testSelectionBuildForDifferentEntityType() throws ODataApplicationException {
+    cut.getSelection(et, createUriResource("ID", null), this::build);
+    cut.getSelection(mock(JPAEntityType.class), createUriResource("ID", null), this::build);
+
+    assertEquals(2, builderCalls.size());
+  }
+
+  @Test
+  void testSelectionNotCachedWithoutOptionText() throws ODataApplicationException {
+    final UriInfoResource uriResource = createUriResource(null, null);
+    when(uriResource.getSelectOption()).thenReturn(mock(SelectOption.class));
+    final SelectionPathInfo<JPAPath> first = cut.getSelection(et, uriResource, this::build);
+    final SelectionPathInfo<JPAPath> second = cut.getSelection(et, uriResource, this::build);
+
+    assertNotSame(first, second);
+    assertEquals(2, builderCalls.size());
+    assertEquals(0, cut.size());
+  }
+
+  @Test
+  void testSelectionNotCachedWithoutSegmentText() throws ODataApplicationException {
+    final UriInfoResource uriResource = mock(UriInfoResource.class);
+    when(uriResource.getUriResourceParts()).thenReturn(Collections.singletonList(mock(UriResource.class)));
+    cut.getSelection(et, uriResource, this::build);
+
+    assertEquals(0, cut.size());
+  }
+
+  @Test
+  void testCachedSelectionIsFrozen() throws ODataApplicationException {
+    final SelectionPathInfo<JPAPath> act = cut.getSelection(et, createUriResource("ID", null), this::build);
+    final JPAPath path = mock(JPAPath.class);
+    assertThrows(UnsupportedOperationException.class, () -> act.getODataSelections().add(path));
+  }
+
+  @Test
+  void testCacheSizeLimited() throws ODataApplicationException {
+    cut.getSelection(et, createUriResource("ID", null), this::build);
+    cut.getSelection(et, createUriResource("Name1", null), this::build);
+    cut.getSelection(et, createUriResource("Name2", null), this::build);
+
+    assertEquals(2, cut.size());
+  }
+
+  @Test
+  void testLeastRecentlyUsedPlanEvicted() throws ODataApplicationException {
+    final SelectionPathInfo<JPAPath> first = cut.getSelection(et, createUriResource("ID", null), this::build);
+    cut.getSelection(et, createUriResource("Name1", null), this::build);
+    cut.getSelection(et, createUriResource("ID", null), this::build);
+    cut.getSelection(et, createUriResource("Name2", null), this::build);
+
+    assertSame(first, cut.getSelection(et, createUriResource("ID", null), this::build));
+    cut.getSelection(et, createUriResource("Name1", null), this::build);
+    assertEquals(4, builderCalls.size());
+  }
+
+  private SelectionPathInfo<JPAPath> build(final UriInfoResource uriResource) {
+    builderCalls.add(uriResource);
+    return new SelectionPathInfo<>();
+  }
+
+  private UriInfoResource createUriResource(final String select, final String expand) {
+    final UriInfoResource uriResource = mock(UriInfoResource.class);
+    final UriResourceEntitySet entitySet = mock(UriResourceEntitySet.class);
+    when(entitySet.getKind()).thenReturn(UriResourceKind.entitySet);
+    when(entitySet.toString(true)).thenReturn("Organizations");
+    when(uriResource.getUriResourceParts()).thenReturn(Collections.singletonList(entitySet));
+    if (select != null) {
+      final SelectOption selectOption = mock(SelectOption.class);
+      when(selectOption.getText()).thenReturn(select);
+      when(uriResource.getSelectOption()).thenReturn(selectOption);
+    }
+    if (expand != null) {
+      final List<ExpandItem> items = new ArrayList<>();
+      for (final String navigation : expand.split(","))
+        items.add(createExpandItem(navigation));
+      setExpandItems(uriResource, items.toArray(new ExpandItem[0]));
+    }
+    return uriResource;
+  }
+
+  private static void setExpandItems(final UriInfoResource uriResource, final ExpandItem... items) {
+    final ExpandOption expandOption = mock(ExpandOption.class);
+    final List<ExpandItem> expandItems = List.of(items);
+    when(expandOption.getExpandItems()).thenReturn(expandItems);
+    when(uriResource.getExpandOption()).thenReturn(expandOption);
+  }
+
+  private static ExpandItem createExpandItem(final String navigation) {
+    final ExpandItem item = mock(ExpandItem.class);
+    final UriInfoResource resourcePath = mock(UriInfoResource.class);
+    final UriResourceNavigation navigationPart = mock(UriResourceNavigation.class);
+    when(navigationPart.getKind()).thenReturn(UriResourceKind.navigationProperty);
+    when(navigationPart.toString(true)).thenReturn(navigation);
+    when(resourcePath.getUriResourceParts()).thenReturn(Collections.singletonList(navigationPart));
+    when(item.getResourcePath()).thenReturn(resourcePath);
+    return item;
+  }
+}
@@ -0,0 +1,166 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
+
+class JPAResultKeyTest {
+
+  @Test
+  void testEqualsForSameValues() {
+    final JPAResultKey first = JPAResultKey.of("Eurostat", "NUTS1", "BE2");
+    final JPAResultKey second = JPAResultKey.of("Eurostat", "NUTS1", "BE2");
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+  }
+
+  @Test
+  void testNotEqualsForDifferentSequence() {
+    assertNotEquals(JPAResultKey.of("A", "B"), JPAResultKey.of("B", "A"));
+  }
+
+  @Test
+  void testNotEqualsForDifferentValuesWithSameString() {
+    assertNotEquals(JPAResultKey.of("A/B"), JPAResultKey.of("A", "B"));
+  }
+
+  @Test
+  void testEqualsForIntegralNumbersOfDifferentType() {
+    assertEquals(JPAResultKey.of(Integer.valueOf(10)), JPAResultKey.of(Long.valueOf(10)));
+    assertEquals(JPAResultKey.of(Short.valueOf((short) 10)), JPAResultKey.of(Long.valueOf(10)));
+  }
+
+  @Test
+  void testEqualsForDecimalAndIntegralNumber() {
+    assertEquals(JPAResultKey.of(new BigDecimal("10")), JPAResultKey.of(Long.valueOf(10)));
+    assertEquals(JPAResultKey.of(new BigDecimal("10.00")), JPAResultKey.of(Integer.valueOf(10)));
+    assertEquals(JPAResultKey.of(BigInteger.TEN), JPAResultKey.of(Long.valueOf(10)));
+    assertNotEquals(JPAResultKey.of(new BigDecimal("10.5")), JPAResultKey.of(Long.valueOf(10)));
+  }
+
+  @Test
+  void testNotEqualsForStringAndNumberWithoutReader() {
+    assertNotEquals(JPAResultKey.of("10"), JPAResultKey.of(Long.valueOf(10)));
+  }
+
+  @Test
+  void testReaderComparesStringAndNumberColumnAsString() {
+    final JPAPath parentColumn = createPath("Code", String.class);
+    final JPAPath childColumn = createPath("Code", Long.class);
+    final Tuple parentRow = mock(Tuple.class);
+    final Tuple childRow = mock(Tuple.class);
+    when(parentRow.get("Code")).thenReturn("10");
+    when(childRow.get("Code")).thenReturn(Long.valueOf(10));
+
+    assertEquals(JPAResultKey.reader("", List.of(parentColumn), List.of(childColumn)).read(parentRow),
+        JPAResultKey.reader("", List.of(childColumn), List.of(parentColumn)).read(childRow));
+  }
+
+  @Test
+  void testReaderKeepsNumbersOfMixedCompoundKey() {
+    final UUID id = UUID.randomUUID();
+    final List<JPAPath> parentColumns = List.of(createPath("CodePublisher", String.class),
+        createPath("Level", int.class), createPath("Value", BigDecimal.class), createPath("ID", UUID.class));
+    final List<JPAPath> childColumns = List.of(createPath("CodePublisher", String.class),
+        createPath("Level", Long.class), createPath("Value", Long.class), createPath("ID", String.class));
+    final Tuple parentRow = mock(Tuple.class);
+    final Tuple childRow = mock(Tuple.class);
+    when(parentRow.get("CodePublisher")).thenReturn("Eurostat");
+    when(parentRow.get("Level")).thenReturn(Integer.valueOf(1));
+    when(parentRow.get("Value")).thenReturn(new BigDecimal("2.0"));
+    when(parentRow.get("ID")).thenReturn(id);
+    when(childRow.get("CodePublisher")).thenReturn("Eurostat");
+    when(childRow.get("Level")).thenReturn(Long.valueOf(1));
+    when(childRow.get("Value")).thenReturn(Long.valueOf(2));
+    when(childRow.get("ID")).thenReturn(id.toString());
+
+    final JPAResultKey parent = JPAResultKey.reader("", parentColumns, childColumns).read(parentRow);
+    final JPAResultKey child = JPAResultKey.reader("", childColumns, parentColumns).read(childRow);
+    assertEquals(parent, child);
+    assertEquals(parent.hashCode(), child.hashCode());
+    assertEquals("Eurostat/1/2/" + id, parent.toString());
+  }
+
+  @Test
+  void testEqualsForByteArrayContent() {
+    assertEquals(JPAResultKey.of(new byte[] { 1, 2 }), JPAResultKey.of(new byte[] { 1, 2 }));
+  }
+
+  @Test
+  void testEqualsWithNullValue() {
+    assertEquals(JPAResultKey.of("A", null), JPAResultKey.of("A", null));
+  }
+
+  @Test
+  void testToStringConcatenatesValues() {
+    assertEquals("Eurostat/NUTS1/BE2", JPAResultKey.of("Eurostat", "NUTS1", "BE2").toString());
+  }
+
+  @Test
+  void testReaderCreatesKeyFromAliases() {
+    final Tuple row = mock(Tuple.class);
+    final List<JPAPath> columns = List.of(createPath("CodeID", String.class), createPath("DivisionCode",
+        String.class));
+    when(row.get("CodeID")).thenReturn("NUTS1");
+    when(row.get("DivisionCode")).thenReturn("BE2");
+    when(row.get("Parent.CodeID")).thenReturn("NUTS2");
+    when(row.get("Parent.DivisionCode")).thenReturn("BE25");
+
+    assertEquals(JPAResultKey.of("NUTS1", "BE2"), JPAResultKey.reader("", columns, columns).read(row));
+    assertEquals(JPAResultKey.of("NUTS2", "BE25"), JPAResultKey.reader("Parent.", columns, columns).read(row));
+  }
+
+  @Test
+  void testReaderCreatesKeyFromPositions() {
+    final Tuple row = mock(Tuple.class);
+    final List<JPAPath> columns = List.of(createPath("CodeID", String.class), createPath("DivisionCode",
+        String.class));
+    final List<TupleElement<?>> elements = List.of(createElement("Name"), createElement("DivisionCode"),
+        createElement("CodeID"));
+    when(row.getElements()).thenReturn(elements);
+    when(row.toArray()).thenReturn(new Object[] { "Brussels", "BE2", "NUTS1" });
+    when(row.get(1)).thenReturn("BE2");
+    when(row.get(2)).thenReturn("NUTS1");
+
+    final JPAResultKey.Reader reader = JPAResultKey.reader("", columns, columns);
+    assertEquals(JPAResultKey.of("NUTS1", "BE2"), reader.read(row));
+    assertEquals(JPAResultKey.of("NUTS1", "BE2"), reader.read(row));
+    verify(row, times(1)).getElements();
+    verify(row, never()).get(anyString());
+  }
+
+  private static JPAPath createPath(final String alias, final Class<?> type) {
+    final JPAPath path = mock(JPAPath.class);
+    final JPAAttribute leaf = mock(JPAAttribute.class);
+    when(path.getAlias()).thenReturn(alias);
+    when(path.getLeaf()).thenReturn(leaf);
+    doReturn(type).when(leaf).getType();
+    return path;
+  }
+
+  private static TupleElement<?> createElement(final String alias) {
+    final TupleElement<?> element = mock(TupleElement.class);
+    when(element.getAlias()).thenReturn(alias);
+    return element;
+  }
+}
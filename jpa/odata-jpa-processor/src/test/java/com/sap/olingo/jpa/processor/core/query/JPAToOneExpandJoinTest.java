@@ -0,0 +1,130 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.Tuple;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAssociationPath;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAAttribute;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAEntityType;
+import com.sap.olingo.jpa.metadata.core.edm.mapper.api.JPAPath;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
+import com.sap.olingo.jpa.processor.core.converter.JPATuple;
+
+class JPAToOneExpandJoinTest {
+  private JPAExpandItemInfo item;
+  private JPAPath parentId;
+  private JPAPath targetId;
+  private JPAPath name;
+  private JPAPath groupedId;
+
+  @BeforeEach
+  void setup() throws ODataException {
+    item = mock(JPAExpandItemInfo.class);
+    parentId = createPath("ParentID", false);
+    targetId = createPath("ID", true);
+    name = createPath("Name", true);
+    groupedId = createPath("GroupedID", false);
+    when(item.getEntityType()).thenReturn(mock(JPAEntityType.class));
+  }
+
+  @Test
+  void testCreateResultContainsFoundEntity() throws ODataException {
+    final JPAToOneExpandJoin cut = createJoin(targetId);
+    final List<Tuple> parentRows = List.of(createRow("1", "Target/ID", "10", "Target/Name", "Ten"));
+
+    final List<Tuple> act = cut.createResult(parentRows).getResult(JPAResultKey.of("1"));
+
+    assertEquals(1, act.size());
+    assertEquals("10", act.get(0).get("ID"));
+    assertEquals("Ten", act.get(0).get("Name"));
+  }
+
+  @Test
+  void testCreateResultIgnoresParentWithoutEntity() throws ODataException {
+    final JPAToOneExpandJoin cut = createJoin(targetId);
+    final List<Tuple> parentRows = List.of(createRow("1", "Target/ID", null, "Target/Name", null));
+
+    assertTrue(cut.createResult(parentRows).getResults().isEmpty());
+  }
+
+  @Test
+  void testCreateResultFindsEntityIfJoinColumnNotPartOfGroups() throws ODataException {
+    final JPAToOneExpandJoin cut = createJoin(groupedId);
+    final List<Tuple> parentRows = List.of(createRow("1", "Target/GroupedID", "10", "Target/Name", "Ten"));
+
+    final List<Tuple> act = cut.createResult(parentRows).getResult(JPAResultKey.of("1"));
+
+    assertEquals(1, act.size());
+    assertEquals("Ten", act.get(0).get("Name"));
+    assertNull(act.get(0).get("GroupedID"));
+  }
+
+  @Test
+  void testCoversKeyIfJoinColumnsContainKey() throws ODataException {
+    final JPAEntityType target = item.getEntityType();
+    final JPAAssociationPath association = mock(JPAAssociationPath.class);
+    final List<JPAAttribute> key = List.of(targetId.getLeaf());
+    when(target.getKey()).thenReturn(key);
+    when(association.getRightColumnsList()).thenReturn(List.of(targetId));
+
+    assertTrue(JPAToOneExpandJoin.coversKey(association, target));
+  }
+
+  @Test
+  void testCoversKeyNotIfJoinColumnsNotContainKey() throws ODataException {
+    final JPAEntityType target = item.getEntityType();
+    final JPAAssociationPath association = mock(JPAAssociationPath.class);
+    final List<JPAAttribute> key = List.of(targetId.getLeaf(), groupedId.getLeaf());
+    when(target.getKey()).thenReturn(key);
+    when(association.getRightColumnsList()).thenReturn(List.of(targetId));
+
+    assertFalse(JPAToOneExpandJoin.coversKey(association, target));
+    when(association.getRightColumnsList()).thenReturn(List.of(name));
+    assertFalse(JPAToOneExpandJoin.coversKey(association, target));
+  }
+
+  private JPAToOneExpandJoin createJoin(final JPAPath rightColumn) throws ODataException {
+    final JPAAssociationPath association = mock(JPAAssociationPath.class);
+    when(association.getAlias()).thenReturn("Target");
+    when(association.getLeftColumnsList()).thenReturn(List.of(parentId));
+    when(association.getRightColumnsList()).thenReturn(List.of(rightColumn));
+    when(item.getExpandAssociation()).thenReturn(association);
+    final SelectionPathInfo<JPAPath> selection = new SelectionPathInfo<>(Set.of(targetId, name, groupedId),
+        Collections.emptySet(), Collections.emptySet());
+    return new JPAToOneExpandJoin(item, selection, Collections.emptyList());
+  }
+
+  private JPAPath createPath(final String alias, final boolean partOfGroups) {
+    final JPAPath path = mock(JPAPath.class);
+    final JPAAttribute attribute = mock(JPAAttribute.class);
+    when(path.getAlias()).thenReturn(alias);
+    when(path.getLeaf()).thenReturn(attribute);
+    when(path.isPartOfGroups(any())).thenReturn(partOfGroups);
+    when(attribute.getType()).thenAnswer(invocation -> String.class);
+    return path;
+  }
+
+  private Tuple createRow(final String parentKey, final String idAlias, final String id, final String nameAlias,
+      final String nameValue) {
+    final JPATuple row = new JPATuple();
+    row.addElement("ParentID", String.class, parentKey);
+    row.addElement(idAlias, String.class, id);
+    row.addElement(nameAlias, String.class, nameValue);
+    return row;
+  }
+}
@@ -0,0 +1,172 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives.CountStrategy;
+import com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper;
+import com.sap.olingo.jpa.processor.core.util.TestBase;
+
+class TestJPAQueryCountStrategy extends TestBase {
+  private static final JPAODataQueryDirectives WINDOW_FUNCTION = new JPAODataQueryDirectives(false, false,
+      CountStrategy.WINDOW_FUNCTION);
+  private static final JPAODataQueryDirectives PARALLEL_QUERY = new JPAODataQueryDirectives(false, false,
+      CountStrategy.PARALLEL_QUERY);
+  private static final String SQL_QUERY_EVENT = "com.sap.olingo.jpa.SqlQuery";
+  private static final String WINDOW_COUNT = "COUNT(*) OVER()";
+  private static final Pattern COUNT_QUERY = Pattern.compile("^SELECT\\s+COUNT\\(");
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "Organizations?$count=true",
+      "Organizations?$count=true&$top=3&$skip=2&$orderby=ID",
+      "Organizations?$count=true&$skip=100",
+      "Organizations?$count=true&$filter=Address/Region eq 'US-CA'",
+      "Organizations?$count=true&$expand=Roles($count=true)&$orderby=Roles/$count desc,ID",
+      "Organizations('3')/Roles?$count=true",
+      "AdministrativeDivisions?$top=10&$count=true&$orderby=DivisionCode,CodeID" })
+  void testWindowFunctionCountEqualsCountQuery(final String url) throws IOException, ODataException {
+
+    final IntegrationTestHelper query = new IntegrationTestHelper(emf, url);
+    query.assertStatus(200);
+    final IntegrationTestHelper window = new IntegrationTestHelper(emf, url, WINDOW_FUNCTION);
+    window.assertStatus(200);
+
+    assertEquals(query.getValue(), window.getValue());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "Organizations?$count=true",
+      "Organizations?$count=true&$top=3&$skip=2&$orderby=ID",
+      "Organizations?$count=true&$filter=Address/Region eq 'US-CA'",
+      "Organizations('3')/Roles?$count=true",
+      "AdministrativeDivisions?$top=10&$count=true&$orderby=DivisionCode,CodeID" })
+  void testWindowFunctionCountReadWithPage(final String url) throws IOException, ODataException {
+    assumeProcessorCriteriaBuilder();
+
+    final List<String> act = recordSql(url, WINDOW_FUNCTION);
+
+    assertTrue(act.stream().anyMatch(sql -> sql.contains(WINDOW_COUNT)), () -> act.toString());
+    assertTrue(act.stream().noneMatch(sql -> COUNT_QUERY.matcher(sql).find()), () -> act.toString());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "Organizations?$count=true&$skip=100",
+      "Organizations?$count=true&$expand=Roles($count=true)&$orderby=Roles/$count desc,ID" })
+  void testWindowFunctionCountFallsBackToCountQuery(final String url) throws IOException, ODataException {
+    assumeProcessorCriteriaBuilder();
+
+    final List<String> act = recordSql(url, WINDOW_FUNCTION);
+
+    assertTrue(act.stream().anyMatch(sql -> COUNT_QUERY.matcher(sql).find()), () -> act.toString());
+  }
+
+  @Test
+  void testWindowFunctionCountWithToOneExpandJoin() throws IOException, ODataException {
+    final String url = "AdministrativeDivisions?$filter=CodeID eq 'NUTS2'&$count=true&$top=5&$expand=Parent"
+        + "&$orderby=DivisionCode";
+
+    final IntegrationTestHelper query = new IntegrationTestHelper(emf, url);
+    query.assertStatus(200);
+    final IntegrationTestHelper window = new IntegrationTestHelper(emf, url, new JPAODataQueryDirectives(false, true,
+        CountStrategy.WINDOW_FUNCTION));
+    window.assertStatus(200);
+
+    assertEquals(query.getValue(), window.getValue());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "Organizations?$count=true",
+      "Organizations?$count=true&$top=3&$skip=2&$orderby=ID",
+      "Organizations?$count=true&$filter=Address/Region eq 'US-CA'" })
+  void testParallelCountEqualsCountQuery(final String url) throws IOException, ODataException {
+    final List<Runnable> tasks = new ArrayList<>();
+    final Executor executor = task -> {
+      tasks.add(task);
+      task.run();
+    };
+
+    final IntegrationTestHelper query = new IntegrationTestHelper(emf, url);
+    query.assertStatus(200);
+    final IntegrationTestHelper parallel = new IntegrationTestHelper(emf, null, url, null, null, null, null, null,
+        null, null, PARALLEL_QUERY, executor);
+    parallel.assertStatus(200);
+
+    assertEquals(query.getValue(), parallel.getValue());
+    assertEquals(1, tasks.size());
+  }
+
+  @Test
+  void testParallelCountFallsBackWithoutExecutor() throws IOException, ODataException {
+    final String url = "Organizations?$count=true&$top=3";
+
+    final IntegrationTestHelper query = new IntegrationTestHelper(emf, url);
+    query.assertStatus(200);
+    final IntegrationTestHelper parallel = new IntegrationTestHelper(emf, url, PARALLEL_QUERY);
+    parallel.assertStatus(200);
+
+    assertEquals(query.getValue(), parallel.getValue());
+  }
+
+  @Test
+  void testNoCountWithoutCountOption() throws IOException, ODataException {
+
+    final IntegrationTestHelper window = new IntegrationTestHelper(emf, "Organizations?$top=3", WINDOW_FUNCTION);
+    window.assertStatus(200);
+
+    assertFalse(window.getValue().has("@odata.count"));
+  }
+
+  private static void assumeProcessorCriteriaBuilder() {
+    try {
+      Class.forName("com.sap.olingo.jpa.processor.cb.api.EntityManagerFactoryWrapper");
+    } catch (final ClassNotFoundException e) {
+      assumeTrue(false, "Window function requires the processor criteria builder");
+    }
+  }
+
+  /**
+   * @return The SQL statements executed while processing the request, taken from the SQL query events of the
+   * processor criteria builder
+   */
+  private List<String> recordSql(final String url, final JPAODataQueryDirectives directives) throws IOException,
+      ODataException {
+    final Path file = Files.createTempFile("CountStrategy", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(SQL_QUERY_EVENT).withThreshold(Duration.ZERO);
+      recording.start();
+      new IntegrationTestHelper(emf, url, directives).assertStatus(200);
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file).stream()
+          .filter(event -> SQL_QUERY_EVENT.equals(event.getEventType().getName()))
+          .map(event -> event.getString("sql"))
+          .toList();
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
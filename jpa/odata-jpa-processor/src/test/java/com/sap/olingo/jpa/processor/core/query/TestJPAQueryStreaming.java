@@ -0,0 +1,74 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
+import com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper;
+import com.sap.olingo.jpa.processor.core.util.TestBase;
+
+class TestJPAQueryStreaming extends TestBase {
+  private static final JPAODataQueryDirectives STREAMING = new JPAODataQueryDirectives(true, false);
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "Organizations",
+      "Organizations?$orderby=Name1 desc",
+      "Organizations?$count=true",
+      "Organizations?$filter=Address/Region eq 'US-CA'",
+      "Organizations?$select=ID,Name1",
+      "Organizations?$top=3&$skip=2",
+      "Organizations?$expand=Roles",
+      "Organizations?$expand=Roles&$top=3",
+      "Organizations?$select=ID,Comment",
+      "Organizations?$select=ID,Comment&$top=3",
+      "Organizations?$expand=Roles($count=true)",
+      "AdministrativeDivisions?$top=10&$count=true",
+      "AdministrativeDivisions?$filter=CodeID eq 'NUTS1'&$expand=Children" })
+  void testStreamedResultEqualsBufferedResult(final String url) throws IOException, ODataException {
+
+    final IntegrationTestHelper buffered = new IntegrationTestHelper(emf, url);
+    buffered.assertStatus(200);
+    final IntegrationTestHelper streamed = new IntegrationTestHelper(emf, url, STREAMING);
+    streamed.assertStatus(200);
+
+    final ObjectNode exp = buffered.getValue();
+    final ObjectNode act = streamed.getValue();
+    assertEquals(exp, act);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "Organizations?$format=application/xml",
+      "Organizations?$expand=Roles&$format=application/xml" })
+  void testStreamedXmlResultEqualsBufferedResult(final String url) throws IOException, ODataException {
+
+    final IntegrationTestHelper buffered = new IntegrationTestHelper(emf, url);
+    buffered.assertStatus(200);
+    final IntegrationTestHelper streamed = new IntegrationTestHelper(emf, url, STREAMING);
+    streamed.assertStatus(200);
+
+    assertEquals(buffered.getRawResult().replaceAll("<a:updated>.*?</a:updated>", ""),
+        streamed.getRawResult().replaceAll("<a:updated>.*?</a:updated>", ""));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "Organizations('3')/Roles",
+      "Persons('99')/Roles" })
+  void testStreamedNavigationEqualsBufferedResult(final String url) throws IOException, ODataException {
+
+    final IntegrationTestHelper buffered = new IntegrationTestHelper(emf, url);
+    buffered.assertStatus(200);
+    final IntegrationTestHelper streamed = new IntegrationTestHelper(emf, url, STREAMING);
+    streamed.assertStatus(200);
+
+    assertEquals(buffered.getValue(), streamed.getValue());
+  }
+}
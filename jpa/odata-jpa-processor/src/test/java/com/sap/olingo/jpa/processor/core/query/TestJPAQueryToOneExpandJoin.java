@@ -0,0 +1,79 @@
+package com.sap.olingo.jpa.processor.core.query;
+
+import static com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper.normalize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.apache.olingo.commons.api.ex.ODataException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
+import com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper;
+import com.sap.olingo.jpa.processor.core.util.TestBase;
+
+class TestJPAQueryToOneExpandJoin extends TestBase {
+  private static final JPAODataQueryDirectives JOIN = new JPAODataQueryDirectives(false, true);
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "AdministrativeDivisions?$expand=Parent",
+      "AdministrativeDivisions?$filter=Parent/DivisionCode eq 'BE2'&$expand=Parent",
+      "AdministrativeDivisions?$filter=CodeID eq 'NUTS2'&$expand=Parent($select=Area)",
+      "AdministrativeDivisions?$filter=CodeID eq 'NUTS2'&$top=3&$skip=1&$orderby=DivisionCode&$expand=Parent",
+      "AdministrativeDivisions?$filter=CodeID eq 'NUTS1'&$expand=Children($expand=Children),Parent",
+      "AdministrativeDivisions(DivisionCode='BE25',CodeID='NUTS2',CodePublisher='Eurostat')?$expand=Parent",
+      "AdministrativeDivisions(DivisionCode='BE25',CodeID='NUTS2',CodePublisher='Eurostat')"
+          + "?$expand=Parent($expand=Parent($expand=Parent))",
+      "AdministrativeDivisions(DivisionCode='BE253',CodeID='NUTS3',CodePublisher='Eurostat')"
+          + "?$expand=Parent($expand=Children)",
+      "AdministrativeDivisions(DivisionCode='BE241',CodeID='NUTS3',CodePublisher='Eurostat')"
+          + "?$expand=Parent($levels=max)",
+      "AdministrativeDivisions(DivisionCode='BE32',CodeID='NUTS2',CodePublisher='Eurostat')?$expand=*",
+      "BusinessPartnerRoles?$expand=BusinessPartner/com.sap.olingo.jpa.Person",
+      "AssociationOneToOneSources?$expand=DefaultTarget",
+      "Organizations('3')?$expand=AdministrativeInformation/Created/User",
+      "Teams?$expand=Member($select=FullName)&$orderby=ID" })
+  void testJoinResultEqualsQueryResult(final String url) throws IOException, ODataException {
+
+    final IntegrationTestHelper query = new IntegrationTestHelper(emf, url);
+    query.assertStatus(200);
+    final IntegrationTestHelper join = new IntegrationTestHelper(emf, url, JOIN);
+    join.assertStatus(200);
+
+    assertEquals(normalize(query.getValue()), normalize(join.getValue()));
+  }
+
+  @Test
+  void testToOneExpandReadWithParent() throws IOException, ODataException {
+    final List<Runnable> tasks = new ArrayList<>();
+    final Executor executor = tasks::add;
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf, null,
+        "AdministrativeDivisions?$filter=CodeID eq 'NUTS2'&$expand=Parent,Children", null, null, null, null, null,
+        null, null, JOIN, executor);
+    helper.assertStatus(200);
+    // Only Children is read by an own query, so nothing is executed in parallel
+    assertTrue(tasks.isEmpty());
+    final ArrayNode divisions = helper.getValues();
+    assertTrue(divisions.size() > 0);
+    divisions.forEach(division -> assertEquals(division.get("ParentDivisionCode").asText(), division.get("Parent")
+        .get("DivisionCode").asText()));
+  }
+
+  @Test
+  void testToOneExpandWithoutTargetReturnsNull() throws IOException, ODataException {
+
+    final IntegrationTestHelper helper = new IntegrationTestHelper(emf,
+        "AdministrativeDivisions(DivisionCode='BE2',CodeID='NUTS1',CodePublisher='Eurostat')?$expand=Parent", JOIN);
+    helper.assertStatus(200);
+    assertTrue(helper.getValue().get("Parent") == null || helper.getValue().get("Parent").isNull());
+  }
+}
@@ -4,16 +4,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
@@ -42,6 +45,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.sap.olingo.jpa.processor.core.api.JPAClaimsPair;
 import com.sap.olingo.jpa.processor.core.api.JPAODataClaimsProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataKeysetPagingProvider;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPage;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPagingProvider;
 import com.sap.olingo.jpa.processor.core.util.IntegrationTestHelper;
@@ -59,7 +63,7 @@ class TestJPAServerDrivenPaging extends TestBase {
   @Test
   void testReturnsGoneIfPagingProviderReturnsNullForSkiptoken() throws IOException, ODataException {
     final JPAODataPagingProvider provider = mock(JPAODataPagingProvider.class);
-    when(provider.getNextPage("xyz")).thenReturn(null);
+    when(provider.getNextPage(eq("xyz"), any(), any())).thenReturn(null);
     final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "Organizations?$skiptoken=xyz", provider);
     helper.assertStatus(410);
 
@@ -116,7 +120,7 @@ class TestJPAServerDrivenPaging extends TestBase {
     final UriInfo uriInfo = buildUriInfo();
 
     final JPAODataPagingProvider provider = mock(JPAODataPagingProvider.class);
-    when(provider.getNextPage("xyz")).thenReturn(new JPAODataPage(uriInfo, 5, 5, null));
+    when(provider.getNextPage(eq("xyz"), any(), any())).thenReturn(new JPAODataPage(uriInfo, 5, 5, null));
 
     final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "Organizations?$skiptoken=xyz", provider);
     helper.assertStatus(200);
@@ -258,7 +262,7 @@ class TestJPAServerDrivenPaging extends TestBase {
     when(provider.getFirstPage(any(), any(), any(), any())).thenAnswer(i -> new JPAODataPage((UriInfo) i
         .getArguments()[0], 0, 5, "Hugo"));
 
-    when(provider.getNextPage("'Hugo'")).thenReturn(new JPAODataPage(uriInfo, 5, 5, "Willi"));
+    when(provider.getNextPage(eq("'Hugo'"), any(), any())).thenReturn(new JPAODataPage(uriInfo, 5, 5, "Willi"));
     final IntegrationTestHelper helper = new IntegrationTestHelper(emf, "Organizations?$orderby=ID desc&$select=ID",
         provider);
     helper.assertStatus(200);
@@ -271,6 +275,111 @@ class TestJPAServerDrivenPaging extends TestBase {
 
   }
 
+  @Test
+  void testKeysetPagingReadsAllPages() throws IOException, ODataException {
+    final JPAODataPagingProvider provider = new JPAODataKeysetPagingProvider(Map.of("Organizations", 4));
+    final List<String> act = new ArrayList<>();
+    String nextLink = "Organizations";
+    int pages = 0;
+    while (nextLink != null) {
+      final IntegrationTestHelper helper = new IntegrationTestHelper(emf, nextLink, provider);
+      helper.assertStatus(200);
+      helper.getValues().forEach(org -> act.add(org.get("ID").asText()));
+      nextLink = helper.getValue().has("@odata.nextLink") ? helper.getValue().get("@odata.nextLink").asText() : null;
+      pages++;
+    }
+    assertEquals(3, pages);
+    assertEquals(Arrays.asList("1", "10", "2", "3", "4", "5", "6", "7", "8", "9"), act);
+  }
+
+  @Test
+  void testKeysetPagingRespectsFilterAndCount() throws IOException, ODataException {
+    final JPAODataPagingProvider provider = new JPAODataKeysetPagingProvider(Map.of("Organizations", 2));
+    final IntegrationTestHelper first = new IntegrationTestHelper(emf,
+        "Organizations?$filter=Address/Region eq 'US-CA'&$count=true", provider);
+    first.assertStatus(200);
+    assertEquals(2, first.getValues().size());
+    assertEquals(3, first.getValue().get("@odata.count").asInt());
+
+    final IntegrationTestHelper act = new IntegrationTestHelper(emf, first.getValue().get("@odata.nextLink")
+        .asText(), provider);
+    act.assertStatus(200);
+    assertEquals(1, act.getValues().size());
+    assertEquals(3, act.getValue().get("@odata.count").asInt());
+    assertNull(act.getValue().get("@odata.nextLink"));
+  }
+
+  @Test
+  void testKeysetPagingWithOrderByDescending() throws IOException, ODataException {
+    final JPAODataPagingProvider provider = new JPAODataKeysetPagingProvider(Map.of("Organizations", 6));
+    final IntegrationTestHelper first = new IntegrationTestHelper(emf, "Organizations?$orderby=ID desc", provider);
+    first.assertStatus(200);
+    assertEquals(6, first.getValues().size());
+    assertEquals("9", first.getValues().get(0).get("ID").asText());
+
+    final IntegrationTestHelper act = new IntegrationTestHelper(emf, first.getValue().get("@odata.nextLink")
+        .asText(), provider);
+    act.assertStatus(200);
+    assertEquals(4, act.getValues().size());
+    assertEquals("3", act.getValues().get(0).get("ID").asText());
+    assertNull(act.getValue().get("@odata.nextLink"));
+  }
+
+  @Test
+  void testKeysetPagingWithOrderByAndSkipReadsAllPages() throws IOException, ODataException {
+    final JPAODataPagingProvider provider = new JPAODataKeysetPagingProvider(Map.of("BusinessPartners", 4));
+    final List<String> act = readAllPages("BusinessPartners?$orderby=Type desc&$select=ID,Type&$skip=2", provider);
+
+    assertEquals(Arrays.asList("2", "3", "4", "5", "6", "7", "8", "9", "97", "98", "99"), act);
+  }
+
+  @Test
+  void testKeysetPagingWithNullableOrderByReadsAllPages() throws IOException, ODataException {
+    final JPAODataPagingProvider provider = new JPAODataKeysetPagingProvider(Map.of("Organizations", 4));
+    final List<String> act = readAllPages("Organizations?$orderby=Name1 desc", provider);
+
+    assertEquals(Arrays.asList("3", "10", "6", "7", "2", "9", "4", "1", "5", "8"), act);
+  }
+
+  @Test
+  void testKeysetPagingNextLinkAnsweredByOtherNodeWithSameSecret() throws IOException, ODataException {
+    final byte[] secret = "Secret of all nodes".getBytes(StandardCharsets.UTF_8);
+    final IntegrationTestHelper first = new IntegrationTestHelper(emf, "Organizations?$orderby=ID desc&$select=ID",
+        new JPAODataKeysetPagingProvider(Map.of("Organizations", 6), secret));
+    first.assertStatus(200);
+
+    final IntegrationTestHelper act = new IntegrationTestHelper(emf, first.getValue().get("@odata.nextLink")
+        .asText(), new JPAODataKeysetPagingProvider(Map.of("Organizations", 6), secret));
+    act.assertStatus(200);
+    assertEquals(4, act.getValues().size());
+    assertEquals("3", act.getValues().get(0).get("ID").asText());
+    assertNull(act.getValues().get(0).get("Name1"));
+  }
+
+  @Test
+  void testKeysetPagingReturnsGoneIfSecretDiffers() throws IOException, ODataException {
+    final IntegrationTestHelper first = new IntegrationTestHelper(emf, "Organizations",
+        new JPAODataKeysetPagingProvider(Map.of("Organizations", 6)));
+    first.assertStatus(200);
+
+    final IntegrationTestHelper act = new IntegrationTestHelper(emf, first.getValue().get("@odata.nextLink")
+        .asText(), new JPAODataKeysetPagingProvider(Map.of("Organizations", 6)));
+    act.assertStatus(410);
+  }
+
+  private List<String> readAllPages(final String firstLink, final JPAODataPagingProvider provider)
+      throws IOException, ODataException {
+    final List<String> ids = new ArrayList<>();
+    String nextLink = firstLink;
+    while (nextLink != null) {
+      final IntegrationTestHelper helper = new IntegrationTestHelper(emf, nextLink, provider);
+      helper.assertStatus(200);
+      helper.getValues().forEach(entity -> ids.add(entity.get("ID").asText()));
+      nextLink = helper.getValue().has("@odata.nextLink") ? helper.getValue().get("@odata.nextLink").asText() : null;
+    }
+    return ids;
+  }
+
   private UriInfo buildUriInfo() throws EdmPrimitiveTypeException {
     final UriInfo uriInfo = mock(UriInfo.class);
     final UriResourceEntitySet uriEs = mock(UriResourceEntitySet.class);
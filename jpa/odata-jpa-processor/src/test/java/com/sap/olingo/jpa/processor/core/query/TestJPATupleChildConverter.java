@@ -3,9 +3,15 @@ package com.sap.olingo.jpa.processor.core.query;
 import static com.sap.olingo.jpa.processor.core.converter.JPAExpandResult.ROOT_RESULT_KEY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,6 +35,8 @@ import com.sap.olingo.jpa.metadata.core.edm.mapper.exception.ODataJPAModelExcept
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContext;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContextAccess;
 import com.sap.olingo.jpa.processor.core.api.JPAODataSessionContextAccess;
+import com.sap.olingo.jpa.processor.core.converter.JPAResultKey;
+import com.sap.olingo.jpa.processor.core.converter.JPATuple;
 import com.sap.olingo.jpa.processor.core.converter.JPATupleChildConverter;
 import com.sap.olingo.jpa.processor.core.processor.JPAODataInternalRequestContext;
 import com.sap.olingo.jpa.processor.core.util.ServiceMetadataDouble;
@@ -44,7 +52,7 @@ class TestJPATupleChildConverter extends TestBase {
   private List<Tuple> jpaQueryResult;
   private UriHelperDouble uriHelper;
   private Map<String, String> keyPredicates;
-  private final HashMap<String, List<Tuple>> queryResult = new HashMap<>(1);
+  private final HashMap<JPAResultKey, List<Tuple>> queryResult = new HashMap<>(1);
   private JPAODataRequestContextAccess requestContext;
   private JPAODataRequestContext context;
   private JPAODataSessionContextAccess sessionContext;
@@ -141,6 +149,48 @@ class TestJPATupleChildConverter extends TestBase {
     assertEquals("Willi", act.getEntities().get(0).getProperty("Name1").getValue().toString());
   }
 
+  @Test
+  void checkConvertsSelectionViaColumnPosition() throws ODataApplicationException, ODataJPAModelException {
+    final JPAEntityType et = helper.getJPAEntityType("Organizations");
+    final List<JPAPath> selection = Arrays.asList(et.getPath("ID"), et.getPath("Name1"));
+    final List<Tuple> rows = new ArrayList<>();
+    for (final String id : Arrays.asList("1", "2")) {
+      final HashMap<String, Object> result = new HashMap<>();
+      result.put("ID", id);
+      result.put("Name1", "Name " + id);
+      final Tuple row = spy(new TupleDouble(result));
+      rows.add(row);
+      jpaQueryResult.add(row);
+      keyPredicates.put(id, "Organizations('" + id + "')");
+    }
+
+    final EntityCollection act = cut.getResult(new JPAExpandQueryResult(queryResult, null, et, Collections
+        .emptyList()), selection).get(ROOT_RESULT_KEY);
+    assertEquals(2, act.getEntities().size());
+    assertEquals("Name 1", act.getEntities().get(0).getProperty("Name1").getValue());
+    assertEquals("Name 2", act.getEntities().get(1).getProperty("Name1").getValue());
+    for (final Tuple row : rows) {
+      verify(row, never()).get("Name1");
+      verify(row, atLeastOnce()).get(anyInt());
+    }
+  }
+
+  @Test
+  void checkConvertsSelectionViaAliasIfTupleNotPositional() throws ODataApplicationException,
+      ODataJPAModelException {
+    final JPAEntityType et = helper.getJPAEntityType("Organizations");
+    final List<JPAPath> selection = Arrays.asList(et.getPath("ID"), et.getPath("Name1"));
+    final JPATuple row = new JPATuple();
+    row.addElement("ID", String.class, "1");
+    row.addElement("Name1", String.class, "Willi");
+    jpaQueryResult.add(row);
+    keyPredicates.put("1", "Organizations('1')");
+
+    final EntityCollection act = cut.getResult(new JPAExpandQueryResult(queryResult, null, et, Collections
+        .emptyList()), selection).get(ROOT_RESULT_KEY);
+    assertEquals("Willi", act.getEntities().get(0).getProperty("Name1").getValue());
+  }
+
   @Test
   void checkConvertsOneResultsTwoElementsSelectionWithEtag() throws ODataApplicationException,
       ODataJPAModelException {
@@ -290,8 +340,8 @@ class TestJPATupleChildConverter extends TestBase {
   void checkConvertMediaStreamStaticMime() throws ODataJPAModelException, NumberFormatException,
       ODataApplicationException {
 
-    final HashMap<String, List<Tuple>> result = new HashMap<>(1);
-    result.put("root", jpaQueryResult);
+    final HashMap<JPAResultKey, List<Tuple>> result = new HashMap<>(1);
+    result.put(ROOT_RESULT_KEY, jpaQueryResult);
 
     cut = new JPATupleChildConverter(helper.sd, uriHelper, new ServiceMetadataDouble(nameBuilder, "PersonImage"),
         requestContext);
@@ -313,8 +363,8 @@ class TestJPATupleChildConverter extends TestBase {
   void checkConvertMediaStreamDynamicMime() throws ODataJPAModelException, NumberFormatException,
       ODataApplicationException {
 
-    final HashMap<String, List<Tuple>> result = new HashMap<>(1);
-    result.put("root", jpaQueryResult);
+    final HashMap<JPAResultKey, List<Tuple>> result = new HashMap<>(1);
+    result.put(ROOT_RESULT_KEY, jpaQueryResult);
 
     cut = new JPATupleChildConverter(helper.sd, uriHelper, new ServiceMetadataDouble(nameBuilder,
         "OrganizationImage"), requestContext);
@@ -2,6 +2,7 @@ package com.sap.olingo.jpa.processor.core.query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -87,4 +88,31 @@ class TestSelectionPathInfo {
     assertNotNull(cut);
     assertEquals(exp, cut.joinedRequested());
   }
+
+  @Test
+  void testFreezeKeepsContent() {
+    final Set<Integer> first = new HashSet<>(Arrays.asList(1, 3));
+    final Set<Integer> second = new HashSet<>(Arrays.asList(1, 4));
+    final Set<Integer> third = new HashSet<>(Arrays.asList(7));
+
+    cut = new SelectionPathInfo<>(first, second, third).freeze();
+    assertEquals(first, cut.getODataSelections());
+    assertEquals(second, cut.getRequiredSelections());
+    assertEquals(third, cut.getTransientSelections());
+    assertEquals(new HashSet<>(Arrays.asList(1, 3, 4)), cut.joinedPersistent());
+    assertEquals(new HashSet<>(Arrays.asList(1, 3, 7)), cut.joinedRequested());
+  }
+
+  @Test
+  void testFreezeCreatesUnmodifiableSets() {
+    final Set<Integer> first = new HashSet<>(Arrays.asList(1, 3));
+
+    cut = new SelectionPathInfo<>(first, null, null).freeze();
+    first.add(5);
+    assertEquals(2, cut.getODataSelections().size());
+    final Set<Integer> selections = cut.getODataSelections();
+    final Set<Integer> persistent = cut.joinedPersistent();
+    assertThrows(UnsupportedOperationException.class, () -> selections.add(5));
+    assertThrows(UnsupportedOperationException.class, () -> persistent.add(5));
+  }
 }
@@ -13,11 +13,13 @@ import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nonnull;
 import javax.sql.DataSource;
@@ -42,6 +44,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.ValueNode;
 import com.sap.olingo.jpa.metadata.api.JPAEdmProvider;
@@ -53,6 +56,7 @@ import com.sap.olingo.jpa.processor.core.api.JPAODataClaimsProvider;
 import com.sap.olingo.jpa.processor.core.api.JPAODataContextAccessDouble;
 import com.sap.olingo.jpa.processor.core.api.JPAODataGroupProvider;
 import com.sap.olingo.jpa.processor.core.api.JPAODataPagingProvider;
+import com.sap.olingo.jpa.processor.core.api.JPAODataQueryDirectives;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestContext;
 import com.sap.olingo.jpa.processor.core.api.JPAODataRequestProcessor;
 import com.sap.olingo.jpa.processor.core.api.JPAODataSessionContextAccess;
@@ -138,11 +142,31 @@ public class IntegrationTestHelper {
     this(localEmf, dataSource, urlPath, requestBody, functionPackage, provider, null, null, null, null);
   }
 
+  public IntegrationTestHelper(final EntityManagerFactory localEmf, final String urlPath,
+      final JPAODataQueryDirectives directives) throws IOException, ODataException {
+    this(localEmf, null, urlPath, null, null, null, null, null, null, null, directives, null);
+  }
+
+  public IntegrationTestHelper(final EntityManagerFactory localEmf, final String urlPath,
+      final Executor expandExecutor) throws IOException, ODataException {
+    this(localEmf, null, urlPath, null, null, null, null, null, null, null, JPAODataQueryDirectives.DEFAULT,
+        expandExecutor);
+  }
+
   public IntegrationTestHelper(final EntityManagerFactory localEmf, final DataSource dataSource, final String urlPath,
       final StringBuffer requestBody, final String functionPackage, final JPAODataPagingProvider pagingProvider,
       final Map<String, List<String>> headers, final JPAODataClaimsProvider claims, final JPAODataGroupProvider groups,
       final AnnotationProvider annotationsProvider)
       throws IOException, ODataException {
+    this(localEmf, dataSource, urlPath, requestBody, functionPackage, pagingProvider, headers, claims, groups,
+        annotationsProvider, JPAODataQueryDirectives.DEFAULT, null);
+  }
+
+  public IntegrationTestHelper(final EntityManagerFactory localEmf, final DataSource dataSource, final String urlPath,
+      final StringBuffer requestBody, final String functionPackage, final JPAODataPagingProvider pagingProvider,
+      final Map<String, List<String>> headers, final JPAODataClaimsProvider claims, final JPAODataGroupProvider groups,
+      final AnnotationProvider annotationsProvider, final JPAODataQueryDirectives directives,
+      final Executor expandExecutor) throws IOException, ODataException {
 
     super();
     final OData odata = OData.newInstance();
@@ -156,10 +180,11 @@ public class IntegrationTestHelper {
     final JPAEdmProvider edmProvider = new JPAEdmProvider(PUNIT_NAME, localEmf, null, packages,
         annotationsProvider == null ? Collections.emptyList() : Collections.singletonList(annotationsProvider));
 
-    final EntityManager em = createEmfWrapper(localEmf, edmProvider).createEntityManager();
+    final EntityManagerFactory emfWrapper = createEmfWrapper(localEmf, edmProvider);
+    final EntityManager em = emfWrapper.createEntityManager();
 
     final JPAODataSessionContextAccess sessionContext = new JPAODataContextAccessDouble(edmProvider, dataSource,
-        pagingProvider, annotationsProvider, functionPackage);
+        pagingProvider, annotationsProvider, directives, emfWrapper, expandExecutor, functionPackage);
 
     final ODataHttpHandler handler = odata.createHandler(odata.createServiceMetadata(sessionContext.getEdmProvider(),
         new ArrayList<>()));
@@ -343,6 +368,25 @@ public class IntegrationTestHelper {
 
   }
 
+  /**
+   * Sorts the elements of all arrays, so results can be compared that were read without $orderby. The sequence of the
+   * entities is not defined in that case.
+   */
+  public static JsonNode normalize(final JsonNode node) {
+    if (node instanceof final ArrayNode array) {
+      final List<JsonNode> elements = new ArrayList<>();
+      array.forEach(element -> elements.add(normalize(element)));
+      elements.sort(Comparator.comparing(JsonNode::toString));
+      return JsonNodeFactory.instance.arrayNode().addAll(elements);
+    }
+    if (node instanceof final ObjectNode object) {
+      final ObjectNode result = JsonNodeFactory.instance.objectNode();
+      object.fields().forEachRemaining(field -> result.set(field.getKey(), normalize(field.getValue())));
+      return result;
+    }
+    return node;
+  }
+
   @SuppressWarnings("unchecked")
   private EntityManagerFactory createEmfWrapper(@Nonnull final EntityManagerFactory emf,
       @Nonnull final JPAEdmProvider jpaEdm) throws ODataException {
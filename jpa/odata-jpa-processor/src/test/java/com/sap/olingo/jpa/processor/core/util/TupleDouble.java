@@ -27,7 +27,7 @@ public class TupleDouble implements Tuple {
 
   @Override
   public Object get(final int i) {
-    return null;
+    return toArray()[i];
   }
 
   @Override
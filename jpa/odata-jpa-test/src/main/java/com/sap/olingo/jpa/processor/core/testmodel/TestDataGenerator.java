@@ -0,0 +1,409 @@
+package com.sap.olingo.jpa.processor.core.testmodel;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+/**
+ * Generates a synthetic data set for the test model and bulk-loads it via JDBC batches. The data set is determined
+ * by the seed, so the same configuration always creates the same rows. It contains:
+ * <ul>
+ * <li>A hierarchy of administrative divisions, one root per country, with descriptions in all languages</li>
+ * <li>Business partners with roles and comments, which are located in a region of the first hierarchy level</li>
+ * </ul>
+ * The number of children of a division, of roles and of comments as well as the region of a business partner follow
+ * a Zipf distribution. A skew of 0 results in a uniform distribution, the higher the skew the more values are
+ * concentrated on small numbers or a few regions.
+ * <p>
+ * The rows use own keys: divisions are published by {@value #CODE_PUBLISHER} with code ids {@value #CODE_ID_PREFIX}0,
+ * {@value #CODE_ID_PREFIX}1, ... and the ids of business partners start with {@value #ID_PREFIX}. So they can be
+ * added to a database that has been filled by the Flyway scripts. Each executed batch gets committed.
+ */
+public final class TestDataGenerator {
+  public static final String CODE_PUBLISHER = "Synthetic";
+  public static final String CODE_ID_PREFIX = "LEVEL";
+  public static final String ID_PREFIX = "S";
+
+  private static final String BUSINESS_PARTNER = "BusinessPartner";
+  private static final String BUSINESS_PARTNER_ROLE = "BusinessPartnerRole";
+  private static final String COMMENT = "Comment";
+  private static final String ADMINISTRATIVE_DIVISION = "AdministrativeDivision";
+  private static final String ADMINISTRATIVE_DIVISION_DESCRIPTION = "AdministrativeDivisionDescription";
+
+  private static final String DB_SCHEMA = "\"OLINGO\".";
+  private static final String[] COUNTRIES = { "DEU", "USA", "BEL", "CHE", "FRA", "GBR", "ITA", "ESP" };
+  private static final String[] ROLES = { "A", "B", "C", "D", "E", "X", "Y", "Z" };
+  private static final String[] SYLLABLES = { "ba", "ber", "burg", "da", "den", "dorf", "el", "en", "fa", "gen",
+      "hau", "heim", "in", "ka", "lin", "ma", "mer", "nau", "ni", "on", "ra", "ren", "sa", "see", "sen", "ta",
+      "tal", "ter", "wald", "we" };
+  private static final String[] WORDS = { "order", "delivery", "invoice", "contact", "late", "complete", "partial",
+      "request", "quality", "price", "customer", "supplier", "open", "closed", "urgent", "review" };
+  private static final String CREATED_BY = "99";
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2016, 1, 20, 9, 21, 23);
+  private static final double PERSON_SHARE = 0.3;
+  private static final int MAX_AREA = 100_000;
+  private static final long MAX_POPULATION = 100_000_000L;
+
+  private final long seed;
+  private final int noBusinessPartners;
+  private final int maxRolesPerPartner;
+  private final int maxCommentsPerPartner;
+  private final int divisionLevels;
+  private final int maxChildrenPerDivision;
+  private final List<String> languages;
+  private final double skew;
+  private final int batchSize;
+
+  public static Builder with() {
+    return new Builder();
+  }
+
+  private TestDataGenerator(final Builder builder) {
+    this.seed = builder.seed;
+    this.noBusinessPartners = builder.noBusinessPartners;
+    this.maxRolesPerPartner = Math.min(builder.maxRolesPerPartner, ROLES.length);
+    this.maxCommentsPerPartner = builder.maxCommentsPerPartner;
+    this.divisionLevels = builder.divisionLevels;
+    this.maxChildrenPerDivision = builder.maxChildrenPerDivision;
+    this.languages = builder.languages;
+    this.skew = builder.skew;
+    this.batchSize = builder.batchSize;
+  }
+
+  /**
+   * Generates the data set and inserts it into the database of the data source. The tables have to exist already,
+   * see {@link DataSourceHelper}.
+   * @param dataSource
+   * @return Number of inserted rows per table name
+   * @throws SQLException
+   */
+  public Map<String, Integer> generate(final DataSource dataSource) throws SQLException {
+    final SplittableRandom random = new SplittableRandom(seed);
+    final Map<String, Integer> rows = new LinkedHashMap<>();
+    try (Connection connection = dataSource.getConnection()) {
+      final boolean autoCommit = connection.getAutoCommit();
+      connection.setAutoCommit(false);
+      try {
+        final List<Division> regions = generateDivisions(connection, random, rows);
+        generateBusinessPartners(connection, random, regions, rows);
+      } catch (final SQLException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(autoCommit);
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * Inserts the division hierarchy level by level and returns the divisions of the first level below the roots, or
+   * the roots if there is only one level.
+   */
+  private List<Division> generateDivisions(final Connection connection, final SplittableRandom random,
+      final Map<String, Integer> rows) throws SQLException {
+
+    final ZipfDistribution children = new ZipfDistribution(maxChildrenPerDivision, skew);
+    List<Division> regions;
+    try (BatchWriter divisions = new BatchWriter(connection, ADMINISTRATIVE_DIVISION, rows, "CodePublisher",
+        "CodeID", "DivisionCode", "CountryISOCode", "ParentCodeID", "ParentDivisionCode", "AlternativeCode", "Area",
+        "Population");
+        BatchWriter descriptions = new BatchWriter(connection, ADMINISTRATIVE_DIVISION_DESCRIPTION, rows,
+            "CodePublisher", "CodeID", "DivisionCode", "LanguageISO", "Name")) {
+
+      List<Division> parents = new ArrayList<>(COUNTRIES.length);
+      for (final String country : COUNTRIES) {
+        final Division root = new Division(CODE_ID_PREFIX + 0, country, country);
+        writeDivision(divisions, descriptions, random, root, null, 0);
+        parents.add(root);
+      }
+      regions = parents;
+      for (int level = 1; level < divisionLevels; level++) {
+        final List<Division> next = new ArrayList<>(parents.size() * maxChildrenPerDivision);
+        int index = 0;
+        for (final Division parent : parents) {
+          final int noChildren = children.sample(random) + 1;
+          for (int i = 0; i < noChildren; i++) {
+            final Division child = new Division(CODE_ID_PREFIX + level, "D" + Integer.toString(index++,
+                Character.MAX_RADIX).toUpperCase(), parent.country);
+            writeDivision(divisions, descriptions, random, child, parent, level);
+            next.add(child);
+          }
+        }
+        if (level == 1)
+          regions = next;
+        parents = next;
+      }
+    }
+    return regions;
+  }
+
+  private void writeDivision(final BatchWriter divisions, final BatchWriter descriptions,
+      final SplittableRandom random, final Division division, final Division parent, final int level)
+      throws SQLException {
+
+    final long population = random.nextLong(1, MAX_POPULATION >> Math.min(level * 3, 20));
+    divisions.add(CODE_PUBLISHER, division.codeID, division.code, division.country,
+        parent == null ? null : parent.codeID, parent == null ? null : parent.code,
+        random.nextInt(4) == 0 ? division.code.toLowerCase() : null,
+        random.nextInt(1, MAX_AREA >> Math.min(level * 2, 12)), population);
+    for (final String language : languages)
+      descriptions.add(CODE_PUBLISHER, division.codeID, division.code, language, createName(random, 2, 4));
+  }
+
+  private void generateBusinessPartners(final Connection connection, final SplittableRandom random,
+      final List<Division> regions, final Map<String, Integer> rows) throws SQLException {
+
+    final ZipfDistribution region = new ZipfDistribution(regions.size(), skew);
+    final ZipfDistribution roles = new ZipfDistribution(maxRolesPerPartner + 1, skew);
+    final ZipfDistribution comments = new ZipfDistribution(maxCommentsPerPartner + 1, skew);
+    final Timestamp createdAt = Timestamp.valueOf(CREATED_AT);
+    try (BatchWriter partners = new BatchWriter(connection, BUSINESS_PARTNER, rows, "ID", "ETag", "Type",
+        "CustomString1", "CustomNum1", "NameLine1", "NameLine2", "BirthDay", "Address.StreetName",
+        "Address.StreetNumber", "Address.City", "Address.PostalCode", "Address.RegionCodePublisher",
+        "Address.RegionCodeID", "Address.Region", "Address.Country", "CreatedBy", "CreatedAt", "UpdatedBy",
+        "UpdatedAt", "Country", "ABCClass");
+        BatchWriter partnerRoles = new BatchWriter(connection, BUSINESS_PARTNER_ROLE, rows, "BusinessPartnerID",
+            "BusinessPartnerRole", "Details");
+        BatchWriter partnerComments = new BatchWriter(connection, COMMENT, rows, "BusinessPartnerID", "Order",
+            "Text")) {
+
+      for (int i = 1; i <= noBusinessPartners; i++) {
+        final String id = ID_PREFIX + i;
+        final boolean isPerson = random.nextDouble() < PERSON_SHARE;
+        final Division location = regions.get(region.sample(random));
+        partners.add(id, 0L, isPerson ? "1" : "2",
+            createName(random, 1, 2),
+            random.nextInt(3) == 0 ? null : random.nextInt(1, 1_000_000) / 100.0,
+            isPerson ? capitalize(createName(random, 1, 3)) : capitalize(createName(random, 2, 4)) + " Org.",
+            isPerson ? capitalize(createName(random, 2, 4)) : "",
+            isPerson ? Date.valueOf(LocalDate.of(1940, 1, 1).plusDays(random.nextInt(25_000))) : null,
+            capitalize(createName(random, 2, 3)) + " Road",
+            Integer.toString(random.nextInt(1, 500)),
+            capitalize(createName(random, 2, 3)),
+            String.format("%05d", random.nextInt(100_000)),
+            CODE_PUBLISHER, location.codeID, location.code, location.country,
+            CREATED_BY, createdAt, CREATED_BY, Timestamp.valueOf(CREATED_AT.plusMinutes(random.nextInt(1_000_000))),
+            location.country, random.nextInt(4));
+
+        final int noRoles = roles.sample(random);
+        final int firstRole = random.nextInt(ROLES.length);
+        for (int r = 0; r < noRoles; r++)
+          partnerRoles.add(id, ROLES[(firstRole + r) % ROLES.length], random.nextInt(2) == 0 ? null : createText(
+              random, 3));
+
+        final int noComments = comments.sample(random);
+        for (int c = 1; c <= noComments; c++)
+          partnerComments.add(id, c, createText(random, 25));
+      }
+    }
+  }
+
+  private String createName(final SplittableRandom random, final int minSyllables, final int maxSyllables) {
+    final StringBuilder name = new StringBuilder();
+    final int noSyllables = random.nextInt(minSyllables, maxSyllables + 1);
+    for (int i = 0; i < noSyllables; i++)
+      name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+    return name.toString();
+  }
+
+  private String createText(final SplittableRandom random, final int maxWords) {
+    final StringBuilder text = new StringBuilder(capitalize(WORDS[random.nextInt(WORDS.length)]));
+    final int noWords = random.nextInt(maxWords);
+    for (int i = 0; i < noWords; i++)
+      text.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+    return text.append('.').toString();
+  }
+
+  private static String capitalize(final String value) {
+    return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+  }
+
+  private static record Division(String codeID, String code, String country) {}
+
+  /**
+   * Zipf distribution over 0 ... size - 1, where 0 is the most frequent value
+   */
+  private static class ZipfDistribution {
+    private final double[] cumulative;
+
+    ZipfDistribution(final int size, final double skew) {
+      cumulative = new double[Math.max(size, 1)];
+      double sum = 0.0;
+      for (int rank = 0; rank < cumulative.length; rank++) {
+        sum += 1.0 / Math.pow(rank + 1.0, skew);
+        cumulative[rank] = sum;
+      }
+      for (int rank = 0; rank < cumulative.length; rank++)
+        cumulative[rank] /= sum;
+    }
+
+    int sample(final SplittableRandom random) {
+      final int position = Arrays.binarySearch(cumulative, random.nextDouble());
+      return Math.min(position >= 0 ? position : -position - 1, cumulative.length - 1);
+    }
+  }
+
+  /**
+   * Inserts the rows of one table via JDBC batches. A batch is executed and committed as soon as it reaches the batch
+   * size, the remaining rows on close.
+   */
+  private class BatchWriter implements AutoCloseable {
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final String table;
+    private final Map<String, Integer> rows;
+    private int pending;
+    private int count;
+
+    BatchWriter(final Connection connection, final String table, final Map<String, Integer> rows,
+        final String... columns) throws SQLException {
+      this.connection = connection;
+      this.table = table;
+      this.rows = rows;
+      this.statement = connection.prepareStatement("INSERT INTO " + DB_SCHEMA + "\"" + table + "\" (\""
+          + String.join("\", \"", columns) + "\") VALUES (" + String.join(", ", Collections.nCopies(columns.length,
+              "?")) + ")");
+    }
+
+    void add(final Object... values) throws SQLException {
+      for (int i = 0; i < values.length; i++)
+        statement.setObject(i + 1, values[i]);
+      statement.addBatch();
+      count++;
+      if (++pending == batchSize)
+        flush();
+    }
+
+    private void flush() throws SQLException {
+      if (pending > 0) {
+        statement.executeBatch();
+        connection.commit();
+        pending = 0;
+      }
+    }
+
+    @Override
+    public void close() throws SQLException {
+      try {
+        flush();
+      } finally {
+        statement.close();
+        rows.merge(table, count, Integer::sum);
+      }
+    }
+  }
+
+  public static class Builder {
+    private long seed = 0L;
+    private int noBusinessPartners = 1_000;
+    private int maxRolesPerPartner = 3;
+    private int maxCommentsPerPartner = 5;
+    private int divisionLevels = 3;
+    private int maxChildrenPerDivision = 10;
+    private List<String> languages = Arrays.asList("de", "en", "fr");
+    private double skew = 1.0;
+    private int batchSize = 1_000;
+
+    public TestDataGenerator build() {
+      return new TestDataGenerator(this);
+    }
+
+    public Builder setSeed(final long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    /**
+     * Number of business partners. Default is 1000.
+     */
+    public Builder setBusinessPartners(final int noBusinessPartners) {
+      this.noBusinessPartners = requirePositiveOrZero(noBusinessPartners);
+      return this;
+    }
+
+    /**
+     * Maximum number of roles of a business partner. At most eight roles are possible. Default is 3.
+     */
+    public Builder setMaxRolesPerPartner(final int maxRolesPerPartner) {
+      this.maxRolesPerPartner = requirePositiveOrZero(maxRolesPerPartner);
+      return this;
+    }
+
+    /**
+     * Maximum number of comments of a business partner. Default is 5.
+     */
+    public Builder setMaxCommentsPerPartner(final int maxCommentsPerPartner) {
+      this.maxCommentsPerPartner = requirePositiveOrZero(maxCommentsPerPartner);
+      return this;
+    }
+
+    /**
+     * Number of levels of the division hierarchy including the root level. Default is 3.
+     */
+    public Builder setDivisionLevels(final int divisionLevels) {
+      this.divisionLevels = requirePositive(divisionLevels);
+      return this;
+    }
+
+    /**
+     * Maximum number of children of a division. Each division that is not on the lowest level has at least one
+     * child. Default is 10.
+     */
+    public Builder setMaxChildrenPerDivision(final int maxChildrenPerDivision) {
+      this.maxChildrenPerDivision = requirePositive(maxChildrenPerDivision);
+      return this;
+    }
+
+    /**
+     * ISO codes of the languages descriptions are created for. Default is de, en and fr.
+     */
+    public Builder setLanguages(final String... languages) {
+      this.languages = Arrays.asList(languages);
+      return this;
+    }
+
+    /**
+     * Exponent of the Zipf distributions. Default is 1.0.
+     */
+    public Builder setSkew(final double skew) {
+      if (skew < 0.0)
+        throw new IllegalArgumentException("Skew must not be negative");
+      this.skew = skew;
+      return this;
+    }
+
+    /**
+     * Number of rows per JDBC batch. Default is 1000.
+     */
+    public Builder setBatchSize(final int batchSize) {
+      this.batchSize = requirePositive(batchSize);
+      return this;
+    }
+
+    private static int requirePositive(final int value) {
+      if (value < 1)
+        throw new IllegalArgumentException("Value must be positive: " + value);
+      return value;
+    }
+
+    private static int requirePositiveOrZero(final int value) {
+      if (value < 0)
+        throw new IllegalArgumentException("Value must not be negative: " + value);
+      return value;
+    }
+  }
+}
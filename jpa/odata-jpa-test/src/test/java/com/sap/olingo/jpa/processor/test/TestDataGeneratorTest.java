@@ -0,0 +1,150 @@
+package com.sap.olingo.jpa.processor.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.sap.olingo.jpa.processor.core.testmodel.TestDataGenerator;
+
+class TestDataGeneratorTest {
+  private static final String HSQLDB_URL = "jdbc:hsqldb:mem:generator";
+  private static final String HSQLDB_OTHER_SEED_URL = "jdbc:hsqldb:mem:generatorOtherSeed";
+  private static final String H2_URL = "jdbc:h2:mem:generator;DB_CLOSE_DELAY=-1;MODE=MySQL";
+  private static final String DIVISIONS = "SELECT \"CodeID\", \"DivisionCode\", \"CountryISOCode\", \"ParentCodeID\", "
+      + "\"ParentDivisionCode\", \"Area\", \"Population\" FROM \"OLINGO\".\"AdministrativeDivision\" "
+      + "WHERE \"CodePublisher\" = 'Synthetic' ORDER BY \"CodeID\", \"DivisionCode\"";
+  private static final String PARTNERS = "SELECT \"ID\", \"Type\", \"NameLine1\", \"Address.RegionCodeID\", "
+      + "\"Address.Region\" FROM \"OLINGO\".\"BusinessPartner\" WHERE \"ID\" LIKE 'S%' ORDER BY \"ID\"";
+
+  private static DataSource hsqldb;
+  private static DataSource h2;
+  private static DataSource otherSeed;
+  private static Map<String, Integer> rows;
+
+  @BeforeAll
+  static void setupClass() throws SQLException {
+    hsqldb = createDataSource(HSQLDB_URL, null);
+    h2 = createDataSource(H2_URL, "default");
+    otherSeed = createDataSource(HSQLDB_OTHER_SEED_URL, null);
+
+    rows = createGenerator(42L).generate(hsqldb);
+    createGenerator(42L).generate(h2);
+    createGenerator(7L).generate(otherSeed);
+  }
+
+  @Test
+  void checkReturnsNumberOfInsertedRows() throws SQLException {
+    assertEquals(count(hsqldb, "SELECT COUNT(*) FROM \"OLINGO\".\"AdministrativeDivision\" "
+        + "WHERE \"CodePublisher\" = 'Synthetic'"), rows.get("AdministrativeDivision"));
+    assertEquals(count(hsqldb, "SELECT COUNT(*) FROM \"OLINGO\".\"AdministrativeDivisionDescription\" "
+        + "WHERE \"CodePublisher\" = 'Synthetic'"), rows.get("AdministrativeDivisionDescription"));
+    assertEquals(count(hsqldb, "SELECT COUNT(*) FROM \"OLINGO\".\"BusinessPartner\" WHERE \"ID\" LIKE 'S%'"),
+        rows.get("BusinessPartner"));
+    assertEquals(count(hsqldb, "SELECT COUNT(*) FROM \"OLINGO\".\"BusinessPartnerRole\" "
+        + "WHERE \"BusinessPartnerID\" LIKE 'S%'"), rows.get("BusinessPartnerRole"));
+    assertEquals(count(hsqldb, "SELECT COUNT(*) FROM \"OLINGO\".\"Comment\" WHERE \"BusinessPartnerID\" LIKE 'S%'"),
+        rows.get("Comment"));
+    assertEquals(200, rows.get("BusinessPartner"));
+    assertEquals(rows.get("AdministrativeDivision") * 2, rows.get("AdministrativeDivisionDescription"));
+  }
+
+  @Test
+  void checkCreatesHierarchyWithoutOrphans() throws SQLException {
+    assertEquals(0, count(hsqldb, "SELECT COUNT(*) FROM \"OLINGO\".\"AdministrativeDivision\" c "
+        + "WHERE c.\"CodePublisher\" = 'Synthetic' AND c.\"ParentCodeID\" IS NOT NULL AND NOT EXISTS ("
+        + "SELECT 1 FROM \"OLINGO\".\"AdministrativeDivision\" p WHERE p.\"CodePublisher\" = c.\"CodePublisher\" "
+        + "AND p.\"CodeID\" = c.\"ParentCodeID\" AND p.\"DivisionCode\" = c.\"ParentDivisionCode\")"));
+    assertEquals(0, count(hsqldb, "SELECT COUNT(*) FROM \"OLINGO\".\"AdministrativeDivision\" "
+        + "WHERE \"CodePublisher\" = 'Synthetic' AND \"CodeID\" = 'LEVEL0' AND \"ParentCodeID\" IS NOT NULL"));
+    assertTrue(count(hsqldb, "SELECT COUNT(*) FROM \"OLINGO\".\"AdministrativeDivision\" "
+        + "WHERE \"CodePublisher\" = 'Synthetic' AND \"CodeID\" = 'LEVEL2'") > 0);
+  }
+
+  @Test
+  void checkLocatesPartnerInExistingRegion() throws SQLException {
+    assertEquals(0, count(hsqldb, "SELECT COUNT(*) FROM \"OLINGO\".\"BusinessPartner\" b "
+        + "WHERE b.\"ID\" LIKE 'S%' AND NOT EXISTS (SELECT 1 FROM \"OLINGO\".\"AdministrativeDivision\" d "
+        + "WHERE d.\"CodePublisher\" = b.\"Address.RegionCodePublisher\" AND d.\"CodeID\" = b.\"Address.RegionCodeID\" "
+        + "AND d.\"DivisionCode\" = b.\"Address.Region\")"));
+  }
+
+  @Test
+  void checkSameSeedCreatesSameDataOnDifferentDatabases() throws SQLException {
+    final List<List<Object>> expected = read(hsqldb, DIVISIONS);
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, read(h2, DIVISIONS));
+    assertEquals(read(hsqldb, PARTNERS), read(h2, PARTNERS));
+  }
+
+  @Test
+  void checkOtherSeedCreatesOtherData() throws SQLException {
+    assertNotEquals(read(hsqldb, PARTNERS), read(otherSeed, PARTNERS));
+  }
+
+  @Test
+  void checkBuilderRejectsInvalidValues() {
+    final TestDataGenerator.Builder builder = TestDataGenerator.with();
+    assertThrows(IllegalArgumentException.class, () -> builder.setBusinessPartners(-1));
+    assertThrows(IllegalArgumentException.class, () -> builder.setDivisionLevels(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.setBatchSize(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.setSkew(-0.5));
+  }
+
+  private static TestDataGenerator createGenerator(final long seed) {
+    return TestDataGenerator.with()
+        .setSeed(seed)
+        .setBusinessPartners(200)
+        .setDivisionLevels(3)
+        .setMaxChildrenPerDivision(5)
+        .setLanguages("de", "en")
+        .setBatchSize(50)
+        .build();
+  }
+
+  private static DataSource createDataSource(final String url, final String user) {
+    final FluentConfiguration config = Flyway.configure()
+        .dataSource(url, user, null)
+        .schemas("OLINGO")
+        .createSchemas(true);
+    new Flyway(config).migrate();
+    return config.getDataSource();
+  }
+
+  private static int count(final DataSource dataSource, final String sql) throws SQLException {
+    return ((Number) read(dataSource, sql).get(0).get(0)).intValue();
+  }
+
+  private static List<List<Object>> read(final DataSource dataSource, final String sql) throws SQLException {
+    final List<List<Object>> result = new ArrayList<>();
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(sql)) {
+      final int columns = resultSet.getMetaData().getColumnCount();
+      while (resultSet.next()) {
+        final List<Object> row = new ArrayList<>(columns);
+        for (int i = 1; i <= columns; i++)
+          row.add(resultSet.getObject(i) instanceof final Number number ? number.longValue() : resultSet.getString(
+              i));
+        result.add(row);
+      }
+    }
+    return result;
+  }
+}